@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.common.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link Cache} under concurrent access. The {@code get} benchmarks only hit entries that are
+ * in the cache while the {@code computeIfAbsent} benchmarks draw keys from a key space twice the size of the cache, so
+ * that hits are mixed with loads and evictions. Keys follow a skewed distribution to model hot entries.
+ * <p>
+ * Compare implementations by running the benchmark against both revisions, e.g.
+ * {@code ./gradlew -p benchmarks run --args 'CacheBenchmark'}.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    private static final int NUMBER_OF_KEYS = 1 << 16;
+
+    @Param({ "1024", "65536" })
+    private int cacheSize;
+
+    private Cache<Integer, Integer> cache;
+
+    @Setup
+    public void setUp() {
+        cache = CacheBuilder.<Integer, Integer>builder().setMaximumWeight(cacheSize).build();
+        for (int i = 0; i < cacheSize; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    /**
+     * The keys accessed by a single benchmark thread
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+        private final int[] keys = new int[NUMBER_OF_KEYS];
+        private int index;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(Thread.currentThread().getId());
+            for (int i = 0; i < keys.length; i++) {
+                // squaring a uniform value skews the distribution towards the low keys
+                double value = random.nextDouble();
+                keys[i] = (int) (value * value * NUMBER_OF_KEYS);
+            }
+        }
+
+        int next(int bound) {
+            index = (index + 1) & (NUMBER_OF_KEYS - 1);
+            return keys[index] % bound;
+        }
+    }
+
+    private Integer get(Keys keys) {
+        return cache.get(keys.next(cacheSize));
+    }
+
+    private Integer computeIfAbsent(Keys keys) throws ExecutionException {
+        return cache.computeIfAbsent(keys.next(2 * cacheSize), k -> k);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer get_01(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer get_04(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer get_16(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer get_64(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer computeIfAbsent_01(Keys keys) throws ExecutionException {
+        return computeIfAbsent(keys);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer computeIfAbsent_04(Keys keys) throws ExecutionException {
+        return computeIfAbsent(keys);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer computeIfAbsent_16(Keys keys) throws ExecutionException {
+        return computeIfAbsent(keys);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer computeIfAbsent_64(Keys keys) throws ExecutionException {
+        return computeIfAbsent(keys);
+    }
+}
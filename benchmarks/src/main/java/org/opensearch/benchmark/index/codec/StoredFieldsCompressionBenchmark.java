@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.codec.CodecService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of fetching the stored fields of a random document of an index of web server logs written with each
+ * codec. The compression ratio of the stored fields of each codec is printed when the index is set up.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StoredFieldsCompressionBenchmark {
+
+    private static final String[] METHODS = { "GET", "GET", "GET", "POST", "PUT", "DELETE", "HEAD" };
+    private static final String[] PATHS = {
+        "/index.html",
+        "/api/v1/users",
+        "/api/v1/orders",
+        "/static/css/main.css",
+        "/static/js/app.js",
+        "/images/logo.png",
+        "/search",
+        "/login" };
+    private static final int[] STATUSES = { 200, 200, 200, 200, 301, 304, 404, 500 };
+    private static final String[] AGENTS = {
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/106.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/16.0 Safari/605.1.15",
+        "Mozilla/5.0 (X11; Linux x86_64; rv:105.0) Gecko/20100101 Firefox/105.0",
+        "curl/7.85.0" };
+
+    @Param({ "default", "best_compression", "lz4_high_compression" })
+    public String codec;
+
+    @Param({ "100000" })
+    public int numDocs;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private int[] docs;
+    private int index;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = new ByteBuffersDirectory();
+        final IndexWriterConfig config = new IndexWriterConfig().setCodec(
+            new CodecService(null, LogManager.getLogger(StoredFieldsCompressionBenchmark.class)).codec(codec)
+        );
+        final Random random = new Random(0);
+        long rawBytes = 0;
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            long timestamp = 1664582400000L;
+            for (int i = 0; i < numDocs; i++) {
+                timestamp += random.nextInt(100);
+                final String source = logLine(random, timestamp);
+                rawBytes += source.getBytes(StandardCharsets.UTF_8).length;
+                final Document document = new Document();
+                document.add(new StoredField("_source", source));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        long storedFieldsBytes = 0;
+        for (String file : directory.listAll()) {
+            if (file.endsWith(".fdt") || file.endsWith(".fdx") || file.endsWith(".fdm")) {
+                storedFieldsBytes += directory.fileLength(file);
+            }
+        }
+        System.out.println(
+            String.format(
+                Locale.ROOT,
+                "%ncodec [%s]: %d bytes of sources stored in %d bytes, ratio %.2f",
+                codec,
+                rawBytes,
+                storedFieldsBytes,
+                (double) rawBytes / storedFieldsBytes
+            )
+        );
+
+        reader = DirectoryReader.open(directory);
+        docs = new int[1 << 16];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = random.nextInt(numDocs);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public Document fetch() throws IOException {
+        return reader.document(docs[index++ & (docs.length - 1)]);
+    }
+
+    private static String logLine(Random random, long timestamp) {
+        return String.format(
+            Locale.ROOT,
+            "{\"@timestamp\":%d,\"client\":{\"ip\":\"10.%d.%d.%d\"},\"http\":{\"request\":{\"method\":\"%s\",\"path\":\"%s?id=%d\"},"
+                + "\"response\":{\"status_code\":%d,\"bytes\":%d}},\"user_agent\":\"%s\",\"message\":\"request served in %dms\"}",
+            timestamp,
+            random.nextInt(4),
+            random.nextInt(256),
+            random.nextInt(256),
+            METHODS[random.nextInt(METHODS.length)],
+            PATHS[random.nextInt(PATHS.length)],
+            random.nextInt(100000),
+            STATUSES[random.nextInt(STATUSES.length)],
+            random.nextInt(50000),
+            AGENTS[random.nextInt(AGENTS.length)],
+            random.nextInt(1000)
+        );
+    }
+}
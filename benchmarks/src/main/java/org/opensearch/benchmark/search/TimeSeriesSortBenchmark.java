@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of retrieving the latest logs of an index sorted by descending timestamp, as most dashboards over
+ * time-series data do, when segments are searched in the order of the reader or from the latest segment first.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TimeSeriesSortBenchmark {
+
+    private static final String TIMESTAMP = "@timestamp";
+    private static final String[] STATUSES = { "200", "200", "200", "200", "301", "304", "404", "500" };
+
+    @Param({ "reader", "timestamp" })
+    public String leafOrder;
+
+    @Param({ "match_all", "status" })
+    public String query;
+
+    @Param({ "1000000" })
+    public int numDocs;
+
+    @Param({ "50000" })
+    public int docsPerSegment;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private ContextIndexSearcher searcher;
+    private Query luceneQuery;
+    private Sort sort;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = new ByteBuffersDirectory();
+        final Sort indexSort = new Sort(new SortedNumericSortField(TIMESTAMP, SortField.Type.LONG, true, SortedNumericSelector.Type.MAX));
+        final IndexWriterConfig config = new IndexWriterConfig().setIndexSort(indexSort)
+            // keep one segment per time range, like an index of logs that is still written to
+            .setMergePolicy(NoMergePolicy.INSTANCE)
+            .setRAMBufferSizeMB(IndexWriterConfig.DISABLE_AUTO_FLUSH)
+            .setMaxBufferedDocs(docsPerSegment);
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            long timestamp = 1664582400000L;
+            for (int i = 0; i < numDocs; i++) {
+                timestamp += random.nextInt(100);
+                final Document document = new Document();
+                document.add(new LongPoint(TIMESTAMP, timestamp));
+                document.add(new SortedNumericDocValuesField(TIMESTAMP, timestamp));
+                document.add(new StringField("status", STATUSES[random.nextInt(STATUSES.length)], Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            null,
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            false,
+            null
+        );
+        if ("timestamp".equals(leafOrder)) {
+            searcher.setLeafOrder(TIMESTAMP, true);
+        }
+        luceneQuery = "status".equals(query) ? new TermQuery(new Term("status", "500")) : new MatchAllDocsQuery();
+        sort = new Sort(new SortedNumericSortField(TIMESTAMP, SortField.Type.LONG, true, SortedNumericSelector.Type.MAX));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public TopDocs latest() throws IOException {
+        // the default of track_total_hits
+        final TopFieldCollector collector = TopFieldCollector.create(sort, 10, 10_000);
+        searcher.search(luceneQuery, collector);
+        return collector.topDocs();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.DoubleArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares collecting the values of a numeric field one document at a time, like metrics aggregations do under a bucket
+ * aggregation, with collecting them in batches of documents, like top level metrics aggregations do.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class NumericMetricsCollectionBenchmark {
+
+    private static final String FIELD = "value";
+    private static final int BATCH_SIZE = 512;
+
+    @Param({ "sum", "avg", "min", "max", "stats" })
+    public String metric;
+
+    @Param({ "1000000" })
+    public int numDocs;
+
+    @Param({ "1", "3" })
+    public int maxValuesPerDoc;
+
+    private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+    private Directory directory;
+    private DirectoryReader reader;
+
+    private LongArray counts;
+    private DoubleArray sums;
+    private DoubleArray compensations;
+    private DoubleArray mins;
+    private DoubleArray maxes;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = new ByteBuffersDirectory();
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                final int numValues = maxValuesPerDoc == 1 ? 1 : random.nextInt(maxValuesPerDoc + 1);
+                for (int j = 0; j < numValues; j++) {
+                    final double value = random.nextInt(100_000) / 100d;
+                    document.add(new SortedNumericDocValuesField(FIELD, NumericUtils.doubleToSortableLong(value)));
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public double perDoc() throws IOException {
+        resetState();
+        final boolean needsSum = needsSum();
+        final boolean needsMinMax = needsMinMax();
+        for (int segment = 0; segment < reader.leaves().size(); segment++) {
+            final LeafReader leaf = reader.leaves().get(segment).reader();
+            final SortedNumericDoubleValues values = values(leaf);
+            final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+            for (int doc = 0; doc < leaf.maxDoc(); doc++) {
+                counts = bigArrays.grow(counts, 1);
+                sums = bigArrays.grow(sums, 1);
+                compensations = bigArrays.grow(compensations, 1);
+                if (values.advanceExact(doc)) {
+                    final int valueCount = values.docValueCount();
+                    counts.increment(0, valueCount);
+                    double min = mins.get(0);
+                    double max = maxes.get(0);
+                    kahanSummation.reset(sums.get(0), compensations.get(0));
+                    for (int i = 0; i < valueCount; i++) {
+                        final double value = values.nextValue();
+                        if (needsSum) {
+                            kahanSummation.add(value);
+                        }
+                        if (needsMinMax) {
+                            min = Math.min(min, value);
+                            max = Math.max(max, value);
+                        }
+                    }
+                    sums.set(0, kahanSummation.value());
+                    compensations.set(0, kahanSummation.delta());
+                    mins.set(0, min);
+                    maxes.set(0, max);
+                }
+            }
+        }
+        return result();
+    }
+
+    @Benchmark
+    public double batched() throws IOException {
+        resetState();
+        final boolean needsSum = needsSum();
+        final boolean needsMinMax = needsMinMax();
+        final int[] docs = new int[BATCH_SIZE];
+        double[] buffer = new double[BATCH_SIZE];
+        for (int segment = 0; segment < reader.leaves().size(); segment++) {
+            final LeafReader leaf = reader.leaves().get(segment).reader();
+            final SortedNumericDoubleValues values = values(leaf);
+            final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+            for (int start = 0; start < leaf.maxDoc(); start += BATCH_SIZE) {
+                final int count = Math.min(BATCH_SIZE, leaf.maxDoc() - start);
+                for (int i = 0; i < count; i++) {
+                    docs[i] = start + i;
+                }
+                counts = bigArrays.grow(counts, 1);
+                sums = bigArrays.grow(sums, 1);
+                compensations = bigArrays.grow(compensations, 1);
+                int numValues = 0;
+                for (int i = 0; i < count; i++) {
+                    if (values.advanceExact(docs[i])) {
+                        final int valueCount = values.docValueCount();
+                        buffer = ArrayUtil.grow(buffer, numValues + valueCount);
+                        for (int j = 0; j < valueCount; j++) {
+                            buffer[numValues++] = values.nextValue();
+                        }
+                    }
+                }
+                counts.increment(0, numValues);
+                if (needsMinMax) {
+                    double min = mins.get(0);
+                    double max = maxes.get(0);
+                    for (int i = 0; i < numValues; i++) {
+                        min = Math.min(min, buffer[i]);
+                        max = Math.max(max, buffer[i]);
+                    }
+                    mins.set(0, min);
+                    maxes.set(0, max);
+                }
+                if (needsSum) {
+                    kahanSummation.reset(sums.get(0), compensations.get(0));
+                    for (int i = 0; i < numValues; i++) {
+                        kahanSummation.add(buffer[i]);
+                    }
+                    sums.set(0, kahanSummation.value());
+                    compensations.set(0, kahanSummation.delta());
+                }
+            }
+        }
+        return result();
+    }
+
+    private static SortedNumericDoubleValues values(LeafReader leaf) throws IOException {
+        return FieldData.sortableLongBitsToDoubles(DocValues.getSortedNumeric(leaf, FIELD));
+    }
+
+    private boolean needsSum() {
+        return "min".equals(metric) == false && "max".equals(metric) == false;
+    }
+
+    private boolean needsMinMax() {
+        return "sum".equals(metric) == false && "avg".equals(metric) == false;
+    }
+
+    private void resetState() {
+        counts = bigArrays.newLongArray(1, true);
+        sums = bigArrays.newDoubleArray(1, true);
+        compensations = bigArrays.newDoubleArray(1, true);
+        mins = bigArrays.newDoubleArray(1, false);
+        mins.set(0, Double.POSITIVE_INFINITY);
+        maxes = bigArrays.newDoubleArray(1, false);
+        maxes.set(0, Double.NEGATIVE_INFINITY);
+    }
+
+    private double result() {
+        switch (metric) {
+            case "sum":
+                return sums.get(0);
+            case "avg":
+                return sums.get(0) / counts.get(0);
+            case "min":
+                return mins.get(0);
+            case "max":
+                return maxes.get(0);
+            default:
+                return sums.get(0) + mins.get(0) + maxes.get(0) + counts.get(0);
+        }
+    }
+}
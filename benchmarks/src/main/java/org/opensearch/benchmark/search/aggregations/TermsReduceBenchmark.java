@@ -60,9 +60,11 @@ import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -83,6 +85,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Collections.emptyList;
 
@@ -196,8 +199,31 @@ public class TermsReduceBenchmark {
     @Param({ "32", "512" })
     private int bufferSize;
 
+    /**
+     * Whether shard results are reduced in batches of {@link #bufferSize} or merged one at a time as they arrive.
+     */
+    @Param({ "batched", "streaming" })
+    private String mode;
+
+    /**
+     * Reports, next to the reduce time, the highest number of bytes that a reduction accounted for to the request circuit breaker
+     * at once. These are the estimates that the reduction reserves for buffered and partially reduced aggregations, not the heap
+     * that it actually uses.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BreakerCounters {
+        public long peakBreakerBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakBreakerBytes = 0;
+        }
+    }
+
     @Benchmark
-    public SearchPhaseController.ReducedQueryPhase reduceAggs(TermsList candidateList) throws Exception {
+    public SearchPhaseController.ReducedQueryPhase reduceAggs(TermsList candidateList, BreakerCounters counters) throws Exception {
+        final PeakTrackingCircuitBreaker circuitBreaker = new PeakTrackingCircuitBreaker();
         List<QuerySearchResult> shards = new ArrayList<>();
         for (int i = 0; i < candidateList.size(); i++) {
             QuerySearchResult result = new QuerySearchResult();
@@ -224,12 +250,14 @@ public class TermsReduceBenchmark {
         QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
             request,
             executor,
-            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            circuitBreaker,
             controller,
             SearchProgressListener.NOOP,
             namedWriteableRegistry,
             shards.size(),
-            exc -> {}
+            exc -> {},
+            "streaming".equals(mode),
+            -1
         );
         CountDownLatch latch = new CountDownLatch(shards.size());
         for (int i = 0; i < shards.size(); i++) {
@@ -238,6 +266,38 @@ public class TermsReduceBenchmark {
         latch.await();
         SearchPhaseController.ReducedQueryPhase phase = consumer.reduce();
         executor.shutdownNow();
+        counters.peakBreakerBytes = Math.max(counters.peakBreakerBytes, circuitBreaker.peak);
         return phase;
     }
+
+    /**
+     * Keeps track of the highest number of bytes that the reduction accounted for at once, without ever breaking.
+     */
+    private static class PeakTrackingCircuitBreaker extends NoopCircuitBreaker {
+        private final AtomicLong used = new AtomicLong();
+        private volatile long peak;
+
+        PeakTrackingCircuitBreaker() {
+            super(CircuitBreaker.REQUEST);
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) {
+            return addWithoutBreaking(bytes);
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            final long newUsed = used.addAndGet(bytes);
+            if (newUsed > peak) {
+                peak = newUsed;
+            }
+            return newUsed;
+        }
+
+        @Override
+        public long getUsed() {
+            return used.get();
+        }
+    }
 }
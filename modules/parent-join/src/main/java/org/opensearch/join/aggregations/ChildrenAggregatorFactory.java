@@ -113,6 +113,12 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the child documents are collected in a second pass over every segment of the shard, which slices would repeat
+        return false;
+    }
+
     @Override
     public String getStatsSubtype() {
         // Child Aggregation is registered in non-standard way, so it might return child's values type
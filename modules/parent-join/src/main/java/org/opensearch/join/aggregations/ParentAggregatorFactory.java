@@ -113,6 +113,12 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the parent documents are collected in a second pass over every segment of the shard, which slices would repeat
+        return false;
+    }
+
     @Override
     public String getStatsSubtype() {
         // Parent Aggregation is registered in non-standard way
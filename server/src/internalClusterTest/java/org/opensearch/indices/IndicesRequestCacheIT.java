@@ -46,6 +46,8 @@ import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.opensearch.search.rescore.QueryRescorerBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
 
@@ -518,6 +520,63 @@ public class IndicesRequestCacheIT extends OpenSearchIntegTestCase {
         assertCacheState(client, "index", 0, 4);
     }
 
+    public void testCacheTopHits() throws Exception {
+        Client client = client();
+        Settings settings = Settings.builder()
+            .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+            .put(IndicesRequestCache.INDEX_CACHE_REQUEST_TOP_HITS_ENABLED_SETTING.getKey(), true)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        assertAcked(client.admin().indices().prepareCreate("index").setMapping("s", "type=date").setSettings(settings).get());
+        indexRandom(
+            true,
+            client.prepareIndex("index").setId("1").setSource("s", "2016-03-19"),
+            client.prepareIndex("index").setId("2").setSource("s", "2016-03-20"),
+            client.prepareIndex("index").setId("3").setSource("s", "2016-03-21")
+        );
+        // Force merge the index to ensure there can be no background merges during the subsequent searches that would invalidate the cache
+        ForceMergeResponse forceMergeResponse = client.admin().indices().prepareForceMerge("index").setFlush(true).get();
+        OpenSearchAssertions.assertAllSuccessful(forceMergeResponse);
+        refresh();
+        ensureSearchable("index");
+        assertCacheState(client, "index", 0, 0);
+
+        for (int i = 0; i < 3; i++) {
+            final SearchResponse r = client.prepareSearch("index")
+                .setSize(2)
+                .setQuery(QueryBuilders.rangeQuery("s").gte("2016-03-20"))
+                .addSort("s", SortOrder.DESC)
+                .get();
+            OpenSearchAssertions.assertAllSuccessful(r);
+            assertThat(r.getHits().getTotalHits().value, equalTo(2L));
+            assertThat(r.getHits().getAt(0).getId(), equalTo("3"));
+            assertThat(r.getHits().getAt(1).getId(), equalTo("2"));
+            assertCacheState(client, "index", i, 1);
+        }
+
+        // rescored hits are not cached
+        final SearchResponse rescored = client.prepareSearch("index")
+            .setSize(2)
+            .setQuery(QueryBuilders.rangeQuery("s").gte("2016-03-20"))
+            .addRescorer(new QueryRescorerBuilder(QueryBuilders.matchAllQuery()))
+            .get();
+        OpenSearchAssertions.assertAllSuccessful(rescored);
+        assertCacheState(client, "index", 2, 1);
+
+        // a refresh that changes the reader invalidates the cached hits
+        client.prepareIndex("index").setId("4").setSource("s", "2016-03-22").get();
+        refresh();
+        final SearchResponse r = client.prepareSearch("index")
+            .setSize(2)
+            .setQuery(QueryBuilders.rangeQuery("s").gte("2016-03-20"))
+            .addSort("s", SortOrder.DESC)
+            .get();
+        assertThat(r.getHits().getTotalHits().value, equalTo(3L));
+        assertThat(r.getHits().getAt(0).getId(), equalTo("4"));
+        assertCacheState(client, "index", 2, 2);
+    }
+
     public void testCacheWithFilteredAlias() {
         Client client = client();
         Settings settings = Settings.builder()
@@ -36,7 +36,10 @@ import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -47,6 +50,7 @@ import org.opensearch.search.sort.SortOrder;
 import org.opensearch.transport.Transport;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,13 +71,24 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * The min/max values that shards of read-only indices report are cached, so that later requests with a range query on the
+ * same field skip these shards without a round trip when the range does not intersect the values of the shard.
+ * Shards also report the generation of their reader, which is used to look up the response of the request in the
+ * {@link SearchResponseCache} of the coordinating node before executing the query phase.
  *
  * @opensearch.internal
  */
 final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMatchResponse> {
 
+    private static final String SKIPPED_READER_GENERATION = "skipped";
+
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ShardFieldBoundsCache boundsCache;
+    private final SearchResponseCache.Request responseCacheRequest;
+    private final ActionListener<SearchResponse> listener;
+    private final ClusterState clusterState;
+    private final long nowInMillis;
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -90,7 +105,9 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         ClusterState clusterState,
         SearchTask task,
         Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
-        SearchResponse.Clusters clusters
+        SearchResponse.Clusters clusters,
+        ShardFieldBoundsCache boundsCache,
+        @Nullable SearchResponseCache.Request responseCacheRequest
     ) {
         // We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super(
@@ -114,6 +131,11 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.boundsCache = boundsCache;
+        this.responseCacheRequest = responseCacheRequest;
+        this.listener = listener;
+        this.clusterState = clusterState;
+        this.nowInMillis = timeProvider.getAbsoluteStartMillis();
     }
 
     @Override
@@ -127,20 +149,83 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
+        if (shard.getClusterAlias() != null) {
+            // the cluster state of remote clusters is unknown
+            getSearchTransport().sendCanMatch(
+                getConnection(shard.getClusterAlias(), shard.getNodeId()),
+                buildShardSearchRequest(shardIt),
+                getTask(),
+                listener
+            );
+            return;
+        }
+        final SearchSourceBuilder source = getRequest().source();
+        final boolean[] usesNow = new boolean[1];
+        if (SearchService.canRewriteToMatchNone(source)
+            && boundsCache.canSkip(clusterState, shardIt.shardId(), source.query(), () -> {
+                usesNow[0] = true;
+                return nowInMillis;
+            })) {
+            if (usesNow[0] == false) {
+                // the shard is skipped as long as the index metadata does not change, which is part of the key of cached responses
+                listener.onResponse(new CanMatchResponse(false, null, false, SKIPPED_READER_GENERATION));
+                return;
+            } else if (responseCacheRequest == null) {
+                listener.onResponse(new CanMatchResponse(false, null));
+                return;
+            }
+            // the skip only holds at the exact time of the request, while the shard decides with the time that cached responses
+            // are looked up with
+        }
+        final FieldSortBuilder fieldSort = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
         getSearchTransport().sendCanMatch(
             getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt),
             getTask(),
-            listener
+            ActionListener.delegateFailure(listener, (l, response) -> {
+                if (fieldSort != null
+                    && fieldSort.getNumericType() == null
+                    && response.estimatedMinAndMax() != null
+                    && response.hasLatestMinAndMax()) {
+                    boundsCache.put(clusterState, shardIt.shardId(), fieldSort.getFieldName(), response.estimatedMinAndMax());
+                }
+                l.onResponse(response);
+            })
         );
     }
 
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
-
+        if (responseCacheRequest != null) {
+            final SearchResponse cached = responseCacheRequest.get(readerGenerations((CanMatchSearchPhaseResults) results));
+            if (cached != null) {
+                return new SearchPhase("cached_response") {
+                    @Override
+                    public void run() {
+                        listener.onResponse(SearchResponseCache.withTook(cached, buildTookInMillis()));
+                    }
+                };
+            }
+        }
         return phaseFactory.apply(getIterator((CanMatchSearchPhaseResults) results, shardsIts));
     }
 
+    /**
+     * Returns the reader generations that the shards reported, or {@code null} if some shards did not report one.
+     */
+    private Map<ShardId, String> readerGenerations(CanMatchSearchPhaseResults results) {
+        final Map<ShardId, String> readerGenerations = new HashMap<>();
+        int i = 0;
+        for (SearchShardIterator iter : shardsIts) {
+            final String readerGeneration = results.readerGenerations[i++];
+            if (readerGeneration == null) {
+                return null;
+            }
+            readerGenerations.put(iter.shardId(), readerGeneration);
+        }
+        return readerGenerations;
+    }
+
     private GroupShardsIterator<SearchShardIterator> getIterator(
         CanMatchSearchPhaseResults results,
         GroupShardsIterator<SearchShardIterator> shardsIts
@@ -212,18 +297,20 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     private static final class CanMatchSearchPhaseResults extends SearchPhaseResults<CanMatchResponse> {
         private final FixedBitSet possibleMatches;
         private final MinAndMax<?>[] minAndMaxes;
+        private final String[] readerGenerations;
         private int numPossibleMatches;
 
         CanMatchSearchPhaseResults(int size) {
             super(size);
             possibleMatches = new FixedBitSet(size);
             minAndMaxes = new MinAndMax[size];
+            readerGenerations = new String[size];
         }
 
         @Override
         void consumeResult(CanMatchResponse result, Runnable next) {
             try {
-                consumeResult(result.getShardIndex(), result.canMatch(), result.estimatedMinAndMax());
+                consumeResult(result.getShardIndex(), result.canMatch(), result.estimatedMinAndMax(), result.readerGeneration());
             } finally {
                 next.run();
             }
@@ -237,15 +324,16 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         @Override
         void consumeShardFailure(int shardIndex) {
             // we have to carry over shard failures in order to account for them in the response.
-            consumeResult(shardIndex, true, null);
+            consumeResult(shardIndex, true, null, null);
         }
 
-        synchronized void consumeResult(int shardIndex, boolean canMatch, MinAndMax<?> minAndMax) {
+        synchronized void consumeResult(int shardIndex, boolean canMatch, MinAndMax<?> minAndMax, String readerGeneration) {
             if (canMatch) {
                 possibleMatches.set(shardIndex);
                 numPossibleMatches++;
             }
             minAndMaxes[shardIndex] = minAndMax;
+            readerGenerations[shardIndex] = readerGeneration;
         }
 
         synchronized int getNumPossibleMatches() {
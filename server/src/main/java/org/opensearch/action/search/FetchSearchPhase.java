@@ -51,6 +51,7 @@ import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 /**
@@ -135,6 +136,10 @@ final class FetchSearchPhase extends SearchPhase {
         final boolean isScrollSearch = context.getRequest().scroll() != null;
         final List<SearchPhaseResult> phaseResults = queryResults.asList();
         final SearchPhaseController.ReducedQueryPhase reducedQueryPhase = resultConsumer.reduce();
+        for (Map.Entry<Integer, Exception> excluded : resultConsumer.getExcludedResults().entrySet()) {
+            final SearchPhaseResult queryResult = queryResults.get(excluded.getKey());
+            context.onShardFailure(excluded.getKey(), queryResult.getSearchShardTarget(), excluded.getValue());
+        }
         final boolean queryAndFetchOptimization = queryResults.length() == 1;
         final Runnable finishPhase = () -> moveToNextPhase(
             searchPhaseController,
@@ -54,7 +54,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -66,6 +68,12 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * In streaming mode every shard result is merged into the running partial result as soon as it arrives instead of being
+ * buffered until the batched reduce size is reached, so that at most one shard result is held next to the partial result.
+ * The memory of each shard result is then added to the breaker with a check as it arrives, and if adding it would exceed the
+ * breaker or the optional hard limit of the consumer, this and all later shard results with aggregations are left out of the
+ * reduction when partial results are allowed, and their shards are reported as failed with the {@link CircuitBreakingException}.
  *
  * @opensearch.internal
  */
@@ -83,6 +91,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean streaming;
+    private final long maxReduceBytes;
+    private final boolean allowPartialResults;
 
     private final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -100,6 +111,39 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         NamedWriteableRegistry namedWriteableRegistry,
         int expectedResultSize,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            onPartialMergeFailure,
+            false,
+            -1
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, either in batches or as soon as they arrive in streaming mode.
+     *
+     * @param streaming      whether each shard result is merged as soon as it arrives
+     * @param maxReduceBytes the maximum memory that the streaming reduction may use, or -1 to only rely on the breaker
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> onPartialMergeFailure,
+        boolean streaming,
+        long maxReduceBytes
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -115,6 +159,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
+        this.streaming = streaming && (hasAggs || hasTopDocs);
+        this.maxReduceBytes = maxReduceBytes;
+        this.allowPartialResults = Boolean.FALSE.equals(request.allowPartialSearchResults()) == false;
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize) : expectedResultSize;
         this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
     }
@@ -160,7 +207,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             aggReduceContextBuilder,
             performFinalReduce
         );
-        if (hasAggs) {
+        if (hasAggs && reducePhase.aggregations != null) {
             // Update the circuit breaker to replace the estimation with the serialized size of the newly reduced result
             long finalSize = reducePhase.aggregations.getSerializedSize() - breakerSize;
             pendingMerges.addWithoutBreaking(finalSize);
@@ -213,13 +260,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastMerge != null) {
+            if (lastMerge != null && lastMerge.reducedAggs != null) {
                 aggsList.add(lastMerge.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
-                aggsList.add(result.consumeAggs().expand());
+                if (result.hasAggs()) {
+                    aggsList.add(result.consumeAggs().expand());
+                }
             }
-            newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
+            // in streaming mode a merge may only hold results without aggregations
+            newAggs = aggsList.isEmpty()
+                ? null
+                : InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
         } else {
             newAggs = null;
         }
@@ -234,14 +286,21 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
-        long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
-        return new MergeResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
+        long serializedSize = newAggs != null ? newAggs.getSerializedSize() : 0;
+        return new MergeResult(processedShards, newTopDocs, newAggs, serializedSize);
     }
 
     public int getNumReducePhases() {
         return pendingMerges.numReducePhases;
     }
 
+    @Override
+    Map<Integer, Exception> getExcludedResults() {
+        synchronized (pendingMerges) {
+            return new HashMap<>(pendingMerges.excludedResults);
+        }
+    }
+
     /**
      * Class representing pending merges
      *
@@ -265,6 +324,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile MergeResult mergeResult;
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
+        // the failure that made the remaining shard results with aggregations drop to stay within the memory limits
+        private volatile CircuitBreakingException truncated;
+        // the shard results that were dropped, by shard index
+        private final Map<Integer, Exception> excludedResults = new HashMap<>();
 
         PendingMerges(int batchReduceSize, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
@@ -341,7 +404,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         public void consume(QuerySearchResult result, Runnable next) {
             boolean executeNextImmediately = true;
             synchronized (this) {
-                if (hasFailure() || result.isNull()) {
+                if (streaming && hasFailure() == false && result.isNull() == false) {
+                    executeNextImmediately = consumeStreaming(result, next) == false;
+                } else if (hasFailure() || result.isNull()) {
                     result.consumeAll();
                     if (result.isNull()) {
                         SearchShardTarget target = result.getSearchShardTarget();
@@ -374,6 +439,68 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        /**
+         * Queues the merge of the given result into the running partial result, and returns whether the listener is
+         * called once the merge is done.
+         */
+        private boolean consumeStreaming(QuerySearchResult result, Runnable next) {
+            assert Thread.holdsLock(this);
+            long aggsSize = 0;
+            if (hasAggs && result.hasAggs()) {
+                if (truncated == null) {
+                    aggsSize = ramBytesUsedQueryResult(result);
+                    try {
+                        reserveStreaming(aggsSize);
+                    } catch (CircuitBreakingException e) {
+                        if (allowPartialResults == false) {
+                            result.consumeAll();
+                            onMergeFailure(e);
+                            return false;
+                        }
+                        logger.debug("leaving out the remaining shard results with aggregations: {}", e.getMessage());
+                        truncated = e;
+                    }
+                }
+                if (truncated != null) {
+                    // the whole result is left out so that its shard can be reported as failed
+                    result.consumeAll();
+                    excludedResults.put(result.getShardIndex(), truncated);
+                    return false;
+                }
+            }
+            final List<SearchShard> emptyResultsToMerge = new ArrayList<>(emptyResults);
+            emptyResults.clear();
+            queue.add(new MergeTask(new QuerySearchResult[] { result }, aggsSize, emptyResultsToMerge, next));
+            tryExecuteNext();
+            return true;
+        }
+
+        /**
+         * Adds the memory of a shard result to the breaker, along with the memory needed to merge it, unless this exceeds
+         * the breaker or the maximum memory of the reduction.
+         */
+        private void reserveStreaming(long aggsSize) {
+            final MergeResult lastMerge = mergeResult;
+            final long mergeSize = estimateRamBytesUsedForReduce((lastMerge != null ? lastMerge.estimatedSize : 0) + aggsSize);
+            if (maxReduceBytes >= 0 && circuitBreakerBytes + aggsSize + mergeSize > maxReduceBytes) {
+                throw new CircuitBreakingException(
+                    "[reduce] data for the aggregations of the shard results would be ["
+                        + (circuitBreakerBytes + aggsSize + mergeSize)
+                        + "], which is larger than the limit of ["
+                        + maxReduceBytes
+                        + "]",
+                    circuitBreakerBytes + aggsSize + mergeSize,
+                    maxReduceBytes,
+                    CircuitBreaker.Durability.TRANSIENT
+                );
+            }
+            // fails before anything is reserved if the merge would not fit either
+            circuitBreaker.addEstimateBytesAndMaybeBreak(aggsSize + mergeSize, "<reduce_aggs>");
+            circuitBreaker.addWithoutBreaking(-mergeSize);
+            circuitBreakerBytes += aggsSize;
+            maxAggsCurrentBufferSize = Math.max(maxAggsCurrentBufferSize, circuitBreakerBytes);
+        }
+
         private synchronized void onMergeFailure(Exception exc) {
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
@@ -493,11 +620,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (mergeResult != null) {
+            if (mergeResult != null && mergeResult.reducedAggs != null) {
                 aggsList.add(mergeResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
-                aggsList.add(result.consumeAggs().expand());
+                if (result.hasAggs()) {
+                    aggsList.add(result.consumeAggs().expand());
+                }
             }
             return aggsList;
         }
@@ -35,6 +35,8 @@ package org.opensearch.action.search;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.search.SearchPhaseResult;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -75,6 +77,14 @@ abstract class SearchPhaseResults<Result extends SearchPhaseResult> {
 
     void consumeShardFailure(int shardIndex) {}
 
+    /**
+     * Returns the reasons why the results of some shards were consumed but left out of the reduction, by shard index. These
+     * shards must be reported as failed.
+     */
+    Map<Integer, Exception> getExcludedResults() {
+        return Collections.emptyMap();
+    }
+
     AtomicArray<Result> getAtomicArray() {
         throw new UnsupportedOperationException();
     }
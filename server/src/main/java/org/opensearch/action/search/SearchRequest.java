@@ -116,6 +116,8 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
 
     private TimeValue cancelAfterTimeInterval;
 
+    private Boolean concurrentSegmentSearch;
+
     public SearchRequest() {
         this.localClusterAlias = null;
         this.absoluteStartMillis = DEFAULT_ABSOLUTE_START_MILLIS;
@@ -208,6 +210,7 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         this.absoluteStartMillis = absoluteStartMillis;
         this.finalReduce = finalReduce;
         this.cancelAfterTimeInterval = searchRequest.cancelAfterTimeInterval;
+        this.concurrentSegmentSearch = searchRequest.concurrentSegmentSearch;
     }
 
     /**
@@ -258,6 +261,10 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
             cancelAfterTimeInterval = in.readOptionalTimeValue();
         }
+
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            concurrentSegmentSearch = in.readOptionalBoolean();
+        }
     }
 
     @Override
@@ -295,6 +302,10 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
             out.writeOptionalTimeValue(cancelAfterTimeInterval);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeOptionalBoolean(concurrentSegmentSearch);
+        }
     }
 
     @Override
@@ -552,6 +563,19 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         return this.requestCache;
     }
 
+    /**
+     * Sets if the segments of each shard should be searched concurrently. By default (not set, or null, will default to the
+     * cluster level setting if concurrent segment search is enabled or not).
+     */
+    public SearchRequest concurrentSegmentSearch(Boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+        return this;
+    }
+
+    public Boolean concurrentSegmentSearch() {
+        return this.concurrentSegmentSearch;
+    }
+
     /**
      * Sets if this request should allow partial results. (If method is not called,
      * will default to the cluster level setting).
@@ -719,7 +743,8 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
             && Objects.equals(localClusterAlias, that.localClusterAlias)
             && absoluteStartMillis == that.absoluteStartMillis
             && ccsMinimizeRoundtrips == that.ccsMinimizeRoundtrips
-            && Objects.equals(cancelAfterTimeInterval, that.cancelAfterTimeInterval);
+            && Objects.equals(cancelAfterTimeInterval, that.cancelAfterTimeInterval)
+            && Objects.equals(concurrentSegmentSearch, that.concurrentSegmentSearch);
     }
 
     @Override
@@ -740,7 +765,8 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
             localClusterAlias,
             absoluteStartMillis,
             ccsMinimizeRoundtrips,
-            cancelAfterTimeInterval
+            cancelAfterTimeInterval,
+            concurrentSegmentSearch
         );
     }
 
@@ -781,6 +807,8 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
             + source
             + ", cancelAfterTimeInterval="
             + cancelAfterTimeInterval
+            + ", concurrentSegmentSearch="
+            + concurrentSegmentSearch
             + "}";
     }
 }
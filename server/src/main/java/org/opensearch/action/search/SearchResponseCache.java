@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.transport.InboundHandler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Caches on the coordinating node the responses of search requests, so that a request that is identical to a previous one does
+ * not fan out to the shards again as long as none of the shards refreshed in the meantime, which is common for the automatic
+ * refreshes of dashboards.
+ * <p>
+ * Shards report the generation of their reader, see {@link org.opensearch.search.SearchService#readerGeneration}, in their
+ * {@code can_match} responses, so a request that may be cached always goes through the {@code can_match} phase. Its response is
+ * looked up with the generations of all its shards, and is cached once the query phase confirms that every shard ran the request
+ * on the reader that it reported and that the request only depends on the content of these readers. A refresh that changes the
+ * documents of a shard changes its generation, so the entries of the previous generation are not used anymore and age out of the
+ * cache.
+ *
+ * @opensearch.internal
+ */
+final class SearchResponseCache {
+
+    private static final Logger logger = LogManager.getLogger(SearchResponseCache.class);
+
+    /**
+     * The transient headers that core puts in the thread context of a search request. Any other transient may be request scoped
+     * authentication that a plugin added, such as the user that it authenticated, and users may be allowed to see different
+     * documents and fields of the same indices, which the key of cached responses does not account for.
+     */
+    private static final Set<String> CORE_TRANSIENTS = Set.of(
+        ThreadContext.ACTION_ORIGIN_TRANSIENT_NAME,
+        TaskResourceTrackingService.TASK_ID,
+        InboundHandler.REMOTE_ADDRESS_TRANSIENT
+    );
+
+    private final Cache<Key, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final SearchPlugin.SearchResponseCachePredicate predicate;
+
+    SearchResponseCache(
+        long maxSizeInBytes,
+        NamedWriteableRegistry namedWriteableRegistry,
+        SearchPlugin.SearchResponseCachePredicate predicate
+    ) {
+        this.cache = maxSizeInBytes > 0
+            ? CacheBuilder.<Key, BytesReference>builder()
+                .setMaximumWeight(maxSizeInBytes)
+                .weigher((key, value) -> key.ramBytesUsed() + value.length())
+                .build()
+            : null;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns the request to look up and cache the response of the given search, or {@code null} if its response cannot be cached.
+     * Shards of indices that {@link IndicesRequestCache#INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING round now} report the generation
+     * of their reader for requests that use the rounded time, so that time is part of the key.
+     */
+    Request newRequest(
+        SearchRequest request,
+        ThreadContext threadContext,
+        ClusterState clusterState,
+        Collection<String> concreteIndices,
+        long nowInMillis
+    ) {
+        if (isEnabled() == false || canCache(request, threadContext) == false) {
+            return null;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeByte(request.searchType().id());
+            out.writeStringArray(request.indices());
+            request.indicesOptions().writeIndicesOptions(out);
+            out.writeOptionalString(request.routing());
+            out.writeOptionalWriteable(request.source());
+            out.writeOptionalBoolean(request.allowPartialSearchResults());
+            out.writeOptionalString(request.getLocalClusterAlias());
+            out.writeBoolean(request.isFinalReduce());
+            // the version of the metadata of the indices changes with their mappings and aliases, which may change the results
+            out.writeVInt(concreteIndices.size());
+            for (String index : concreteIndices) {
+                final IndexMetadata indexMetadata = clusterState.metadata().index(index);
+                if (indexMetadata == null) {
+                    return null;
+                }
+                out.writeString(indexMetadata.getIndexUUID());
+                out.writeVLong(indexMetadata.getVersion());
+                final long nowRounding = IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.get(indexMetadata.getSettings())
+                    .millis();
+                if (nowRounding > 0) {
+                    out.writeBoolean(true);
+                    out.writeLong(nowInMillis - Math.floorMod(nowInMillis, nowRounding));
+                } else {
+                    out.writeBoolean(false);
+                }
+            }
+            return new Request(out.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the given cached response with the time it took to serve it.
+     */
+    static SearchResponse withTook(SearchResponse cached, long tookInMillis) {
+        return new SearchResponse(
+            cached.getInternalResponse(),
+            null,
+            cached.getTotalShards(),
+            cached.getSuccessfulShards(),
+            cached.getSkippedShards(),
+            tookInMillis,
+            cached.getShardFailures(),
+            cached.getClusters()
+        );
+    }
+
+    /**
+     * Whether the response of the given request may be cached. Requests that carry transient headers that core does not set are
+     * not cached, since their response may depend on the user, and neither are requests with a {@code preference}, which may pin
+     * them to specific copies or nodes. Plugins may refuse more requests, see {@link SearchPlugin#getSearchResponseCachePredicates()}.
+     */
+    boolean canCache(SearchRequest request, ThreadContext threadContext) {
+        return request.searchType() == SearchType.QUERY_THEN_FETCH
+            && request.scroll() == null
+            && request.pointInTimeBuilder() == null
+            && request.preference() == null
+            && Boolean.FALSE.equals(request.requestCache()) == false
+            && (request.source() == null || request.source().profile() == false)
+            && CORE_TRANSIENTS.containsAll(threadContext.getTransientKeys())
+            && predicate.canCache(request, threadContext);
+    }
+
+    private SearchResponse get(Key key) {
+        final BytesReference bytes = cache.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return new SearchResponse(new NamedWriteableAwareStreamInput(bytes.streamInput(), namedWriteableRegistry));
+        } catch (IOException e) {
+            logger.warn("failed to read cached search response", e);
+            cache.invalidate(key);
+            return null;
+        }
+    }
+
+    private void put(Key key, SearchResponse response) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            cache.put(key, out.bytes());
+        } catch (IOException e) {
+            logger.warn("failed to cache search response", e);
+        }
+    }
+
+    /**
+     * Looks up and caches the response of a search request, across the phases of its execution.
+     *
+     * @opensearch.internal
+     */
+    final class Request {
+        private final BytesReference requestKey;
+        private volatile SortedMap<ShardId, String> readerGenerations;
+        private volatile boolean cacheable;
+
+        private Request(BytesReference requestKey) {
+            this.requestKey = requestKey;
+        }
+
+        /**
+         * Returns the cached response of the request for the given reader generations of its shards, or {@code null} if there is
+         * none. {@code null} generations mean that the generation of some shards is unknown, in which case the response of the
+         * request is not cached.
+         */
+        SearchResponse get(Map<ShardId, String> readerGenerations) {
+            if (readerGenerations == null) {
+                return null;
+            }
+            this.readerGenerations = new TreeMap<>(readerGenerations);
+            return SearchResponseCache.this.get(new Key(requestKey, this.readerGenerations));
+        }
+
+        /**
+         * Checks that the query phase ran on the reader generations that the {@code can_match} phase reported. Shards that the
+         * {@code can_match} phase skipped have no query result, their decision holds for the generation that they reported.
+         */
+        void onQueryResults(AtomicArray<SearchPhaseResult> queryResults, GroupShardsIterator<SearchShardIterator> shardIts) {
+            final Map<ShardId, String> generations = readerGenerations;
+            if (generations == null) {
+                return;
+            }
+            final Set<ShardId> queriedShards = new HashSet<>();
+            for (SearchPhaseResult result : queryResults.asList()) {
+                final ShardId shardId = result.getSearchShardTarget().getShardId();
+                final String generation = result.queryResult() != null ? result.queryResult().readerGeneration() : null;
+                if (generation == null || generation.equals(generations.get(shardId)) == false) {
+                    return;
+                }
+                queriedShards.add(shardId);
+            }
+            for (SearchShardIterator shardIt : shardIts) {
+                if (generations.containsKey(shardIt.shardId()) == false
+                    || (shardIt.skip() == false && queriedShards.contains(shardIt.shardId()) == false)) {
+                    return;
+                }
+            }
+            cacheable = true;
+        }
+
+        void onResponse(SearchResponse response) {
+            if (cacheable
+                && response.getFailedShards() == 0
+                && response.isTimedOut() == false
+                && response.getScrollId() == null
+                && response.pointInTimeId() == null) {
+                put(new Key(requestKey, readerGenerations), response);
+            }
+        }
+    }
+
+    /**
+     * A search request and the reader generations of its shards.
+     */
+    private static final class Key {
+        private final BytesReference requestKey;
+        private final SortedMap<ShardId, String> readerGenerations;
+
+        Key(BytesReference requestKey, SortedMap<ShardId, String> readerGenerations) {
+            this.requestKey = requestKey;
+            this.readerGenerations = readerGenerations;
+        }
+
+        long ramBytesUsed() {
+            long size = requestKey.length();
+            for (Map.Entry<ShardId, String> entry : readerGenerations.entrySet()) {
+                size += RamUsageEstimator.sizeOf(entry.getValue()) + RamUsageEstimator.shallowSizeOfInstance(ShardId.class);
+            }
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return requestKey.equals(key.requestKey) && readerGenerations.equals(key.readerGenerations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requestKey, readerGenerations);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.Strings;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.sort.MinAndMax;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches on the coordinating node the bounds of date fields on each shard, as learned from the {@code can_match} responses of
+ * searches that are sorted by these fields, so that later searches can skip shards whose bounds are disjoint from a range query
+ * on the same field without a round trip to the shard.
+ * <p>
+ * Bounds are only cached and used for shards of indices that are blocked for writes, which is the case of most indices of
+ * time-series data once they rolled over, and only if the shard reported them from a searcher that saw all the operations
+ * indexed on the shard. Each entry is tied to the version of the index metadata that it was learned with, so that it is not used
+ * anymore if the block is lifted in the meantime: the shard may get new documents then, and the entry is replaced the next time
+ * that a search sorted by the field reaches the shard.
+ *
+ * @opensearch.internal
+ */
+final class ShardFieldBoundsCache {
+
+    private final Cache<Key, Bounds> bounds;
+    private final Cache<Key, DateField> dateFields;
+
+    ShardFieldBoundsCache(int maxEntries) {
+        if (maxEntries > 0) {
+            this.bounds = CacheBuilder.<Key, Bounds>builder().setMaximumWeight(maxEntries).build();
+            this.dateFields = CacheBuilder.<Key, DateField>builder().setMaximumWeight(maxEntries).build();
+        } else {
+            this.bounds = null;
+            this.dateFields = null;
+        }
+    }
+
+    /**
+     * Records the bounds of the given field on a shard, as reported by the shard in a {@code can_match} response.
+     */
+    void put(ClusterState clusterState, ShardId shardId, String field, MinAndMax<?> minAndMax) {
+        if (bounds == null || minAndMax.getMin() instanceof Long == false) {
+            return;
+        }
+        final IndexMetadata indexMetadata = writeBlockedIndexMetadata(clusterState, shardId);
+        if (indexMetadata != null) {
+            bounds.put(
+                new Key(shardId, field),
+                new Bounds(indexMetadata.getVersion(), (Long) minAndMax.getMin(), (Long) minAndMax.getMax())
+            );
+        }
+    }
+
+    /**
+     * Returns whether the query can be proven not to match any document of the given shard from the cached bounds of the
+     * fields of its range queries.
+     */
+    boolean canSkip(ClusterState clusterState, ShardId shardId, QueryBuilder query, LongSupplier nowInMillis) {
+        if (bounds == null || query == null) {
+            return false;
+        }
+        final IndexMetadata indexMetadata = writeBlockedIndexMetadata(clusterState, shardId);
+        return indexMetadata != null && isDisjoint(indexMetadata, shardId, query, nowInMillis);
+    }
+
+    private boolean isDisjoint(IndexMetadata indexMetadata, ShardId shardId, QueryBuilder query, LongSupplier nowInMillis) {
+        if (query instanceof RangeQueryBuilder) {
+            return isDisjoint(indexMetadata, shardId, (RangeQueryBuilder) query, nowInMillis);
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return isDisjoint(indexMetadata, shardId, ((ConstantScoreQueryBuilder) query).innerQuery(), nowInMillis);
+        } else if (query instanceof BoolQueryBuilder) {
+            // a document has to match all required clauses
+            final BoolQueryBuilder boolQuery = (BoolQueryBuilder) query;
+            for (QueryBuilder clause : boolQuery.filter()) {
+                if (isDisjoint(indexMetadata, shardId, clause, nowInMillis)) {
+                    return true;
+                }
+            }
+            for (QueryBuilder clause : boolQuery.must()) {
+                if (isDisjoint(indexMetadata, shardId, clause, nowInMillis)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isDisjoint(IndexMetadata indexMetadata, ShardId shardId, RangeQueryBuilder query, LongSupplier nowInMillis) {
+        if (query.relation() != null) {
+            // only relevant to range fields
+            return false;
+        }
+        final Bounds shardBounds = bounds.get(new Key(shardId, query.fieldName()));
+        if (shardBounds == null || shardBounds.indexMetadataVersion != indexMetadata.getVersion()) {
+            return false;
+        }
+        final DateFieldMapper.DateFieldType fieldType = dateFieldType(indexMetadata, shardId, query.fieldName());
+        if (fieldType == null) {
+            return false;
+        }
+        try {
+            final DateMathParser forcedDateParser = Strings.hasText(query.format())
+                ? DateFormatter.forPattern(query.format()).toDateMathParser()
+                : null;
+            final ZoneId timeZone = query.timeZone() != null ? ZoneId.of(query.timeZone()) : null;
+            return fieldType.isFieldWithinRange(
+                shardBounds.min,
+                shardBounds.max,
+                query.from(),
+                query.to(),
+                query.includeLower(),
+                query.includeUpper(),
+                timeZone,
+                forcedDateParser,
+                nowInMillis
+            ) == MappedFieldType.Relation.DISJOINT;
+        } catch (RuntimeException e) {
+            // let the shard report invalid bounds
+            return false;
+        }
+    }
+
+    /**
+     * Returns the type of the given field if it is a date field, resolved from the mapping of the index since the coordinating
+     * node may not hold the index.
+     */
+    private DateFieldMapper.DateFieldType dateFieldType(IndexMetadata indexMetadata, ShardId shardId, String field) {
+        final Key key = new Key(new ShardId(shardId.getIndex(), 0), field);
+        DateField dateField = dateFields.get(key);
+        if (dateField == null || dateField.mappingVersion != indexMetadata.getMappingVersion()) {
+            dateField = new DateField(indexMetadata.getMappingVersion(), parseDateFieldType(indexMetadata.mapping(), field));
+            dateFields.put(key, dateField);
+        }
+        return dateField.fieldType;
+    }
+
+    @SuppressWarnings("unchecked")
+    static DateFieldMapper.DateFieldType parseDateFieldType(MappingMetadata mapping, String field) {
+        if (mapping == null) {
+            return null;
+        }
+        // walk down the object fields of the path of the field
+        Map<String, Object> properties = mapping.sourceAsMap();
+        for (String part : field.split("\\.")) {
+            final Object children = properties == null ? null : properties.get("properties");
+            if (children instanceof Map == false) {
+                return null;
+            }
+            final Object fieldMapping = ((Map<String, Object>) children).get(part);
+            properties = fieldMapping instanceof Map ? (Map<String, Object>) fieldMapping : null;
+        }
+        if (properties == null || properties.containsKey("locale") || Boolean.FALSE.equals(properties.get("index"))) {
+            return null;
+        }
+        final DateFieldMapper.Resolution resolution;
+        if (DateFieldMapper.CONTENT_TYPE.equals(properties.get("type"))) {
+            resolution = DateFieldMapper.Resolution.MILLISECONDS;
+        } else if (DateFieldMapper.DATE_NANOS_CONTENT_TYPE.equals(properties.get("type"))) {
+            resolution = DateFieldMapper.Resolution.NANOSECONDS;
+        } else {
+            return null;
+        }
+        final Object format = properties.get("format");
+        try {
+            final DateFormatter formatter = format != null
+                ? DateFormatter.forPattern(format.toString())
+                : DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER;
+            return new DateFieldMapper.DateFieldType(field, resolution, formatter);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static IndexMetadata writeBlockedIndexMetadata(ClusterState clusterState, ShardId shardId) {
+        final IndexMetadata indexMetadata = clusterState.metadata().index(shardId.getIndex());
+        if (indexMetadata == null || clusterState.blocks().indexBlocked(ClusterBlockLevel.WRITE, shardId.getIndexName()) == false) {
+            return null;
+        }
+        return indexMetadata;
+    }
+
+    /**
+     * A field of a shard.
+     */
+    private static final class Key {
+        private final ShardId shardId;
+        private final String field;
+
+        Key(ShardId shardId, String field) {
+            this.shardId = shardId;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return shardId.equals(key.shardId) && field.equals(key.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, field);
+        }
+    }
+
+    /**
+     * The bounds of a field on a shard, in the resolution of the field.
+     */
+    private static final class Bounds {
+        private final long indexMetadataVersion;
+        private final long min;
+        private final long max;
+
+        Bounds(long indexMetadataVersion, long min, long max) {
+            this.indexMetadataVersion = indexMetadataVersion;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * The type of a date field of an index, or {@code null} if the field is not a date field.
+     */
+    private static final class DateField {
+        private final long mappingVersion;
+        private final DateFieldMapper.DateFieldType fieldType;
+
+        DateField(long mappingVersion, DateFieldMapper.DateFieldType fieldType) {
+            this.mappingVersion = mappingVersion;
+            this.fieldType = fieldType;
+        }
+    }
+}
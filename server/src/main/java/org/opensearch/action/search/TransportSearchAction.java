@@ -64,6 +64,7 @@ import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.CountDown;
@@ -71,6 +72,7 @@ import org.opensearch.index.Index;
 import org.opensearch.index.query.Rewriteable;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
@@ -100,6 +102,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -143,6 +146,56 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether the coordinating node merges each shard result into the running partial result as soon as it arrives, on the
+     * {@link ThreadPool.Names#SEARCH_REDUCE} thread pool, rather than in batches of {@link SearchRequest#getBatchedReduceSize()}.
+     */
+    public static final Setting<Boolean> SEARCH_STREAMING_REDUCE_SETTING = Setting.boolSetting(
+        "search.streaming_reduce.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum memory that the streaming reduction of a search request may use on the coordinating node, on top of the
+     * request circuit breaker. Once it is reached the results of the remaining shards with aggregations are left out and these
+     * shards are reported as failed, unless the request does not allow partial results in which case it fails.
+     */
+    public static final Setting<ByteSizeValue> SEARCH_STREAMING_REDUCE_MAX_MEMORY_SETTING = Setting.memorySizeSetting(
+        "search.streaming_reduce.max_memory",
+        "-1",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of shard fields whose bounds the coordinating node caches to skip shards of read-only indices in the
+     * {@code can_match} phase without a round trip, or 0 to disable the cache.
+     */
+    public static final Setting<Integer> SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE_SETTING = Setting.intSetting(
+        "search.can_match.bounds_cache.size",
+        10_000,
+        0,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum memory that the coordinating node uses to cache the responses of search requests until the shards that they
+     * target refresh, or 0 to disable the cache. Responses are shared by all callers: requests whose thread context carries
+     * transient headers that core does not set, such as the user that a security plugin authenticated, are never cached, and
+     * plugins can refuse more requests through {@link SearchPlugin#getSearchResponseCachePredicates()}.
+     * <p>
+     * Cached responses are looked up with the reader generations that the shards report in the {@code can_match} phase, so
+     * enabling the cache makes every request that it may cache run the {@code can_match} phase, even requests that would skip it
+     * otherwise. This costs a round trip to the shards on a cache miss, in exchange for not querying them on a hit.
+     */
+    public static final Setting<ByteSizeValue> SEARCH_RESPONSE_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "search.response_cache.size",
+        "0%",
+        Property.NodeScope
+    );
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -152,6 +205,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final SearchService searchService;
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final NamedWriteableRegistry namedWriteableRegistry;
+    private final ShardFieldBoundsCache boundsCache;
+    private final SearchResponseCache responseCache;
     private final CircuitBreaker circuitBreaker;
 
     @Inject
@@ -166,7 +221,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         ClusterService clusterService,
         ActionFilters actionFilters,
         IndexNameExpressionResolver indexNameExpressionResolver,
-        NamedWriteableRegistry namedWriteableRegistry
+        NamedWriteableRegistry namedWriteableRegistry,
+        SearchPlugin.SearchResponseCachePredicate responseCachePredicate
     ) {
         super(SearchAction.NAME, transportService, actionFilters, (Writeable.Reader<SearchRequest>) SearchRequest::new);
         this.client = client;
@@ -180,6 +236,12 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchService = searchService;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.boundsCache = new ShardFieldBoundsCache(SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE_SETTING.get(clusterService.getSettings()));
+        this.responseCache = new SearchResponseCache(
+            SEARCH_RESPONSE_CACHE_SIZE_SETTING.get(clusterService.getSettings()).getBytes(),
+            namedWriteableRegistry,
+            responseCachePredicate
+        );
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -982,12 +1044,18 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             searchTransportService::getConnection
         );
         final Executor asyncSearchExecutor = asyncSearchExecutor(concreteLocalIndices, clusterState);
+        // the can_match phase reports the reader generations that cached responses are looked up with, see
+        // SEARCH_RESPONSE_CACHE_SIZE_SETTING for the cost of running it for every request that may be cached
         final boolean preFilterSearchShards = shouldPreFilterSearchShards(
             clusterState,
             searchRequest,
             concreteLocalIndices,
             localShardIterators.size() + remoteShardIterators.size()
-        );
+        )
+            || (responseCache.isEnabled()
+                && responseCache.canCache(searchRequest, threadPool.getThreadContext())
+                && remoteShardIterators.isEmpty()
+                && localShardIterators.isEmpty() == false);
         searchAsyncActionProvider.asyncSearchAction(
             task,
             searchRequest,
@@ -1104,8 +1172,75 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         boolean preFilter,
         ThreadPool threadPool,
         SearchResponse.Clusters clusters
+    ) {
+        return searchAsyncAction(
+            task,
+            searchRequest,
+            executor,
+            shardIterators,
+            timeProvider,
+            connectionLookup,
+            clusterState,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            listener,
+            preFilter,
+            threadPool,
+            clusters,
+            preFilter ? newResponseCacheRequest(searchRequest, clusterState, shardIterators, timeProvider) : null
+        );
+    }
+
+    private SearchResponseCache.Request newResponseCacheRequest(
+        SearchRequest searchRequest,
+        ClusterState clusterState,
+        GroupShardsIterator<SearchShardIterator> shardIterators,
+        SearchTimeProvider timeProvider
+    ) {
+        final Set<String> indices = new TreeSet<>();
+        for (SearchShardIterator shardIterator : shardIterators) {
+            if (shardIterator.getClusterAlias() != null) {
+                return null;
+            }
+            indices.add(shardIterator.shardId().getIndexName());
+        }
+        return responseCache.newRequest(
+            searchRequest,
+            threadPool.getThreadContext(),
+            clusterState,
+            indices,
+            timeProvider.getAbsoluteStartMillis()
+        );
+    }
+
+    private AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction(
+        SearchTask task,
+        SearchRequest searchRequest,
+        Executor executor,
+        GroupShardsIterator<SearchShardIterator> shardIterators,
+        SearchTimeProvider timeProvider,
+        BiFunction<String, String, Transport.Connection> connectionLookup,
+        ClusterState clusterState,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        ActionListener<SearchResponse> listener,
+        boolean preFilter,
+        ThreadPool threadPool,
+        SearchResponse.Clusters clusters,
+        @Nullable SearchResponseCache.Request responseCacheRequest
     ) {
         if (preFilter) {
+            final ActionListener<SearchResponse> cachingListener;
+            if (responseCacheRequest != null) {
+                cachingListener = ActionListener.delegateFailure(listener, (l, response) -> {
+                    responseCacheRequest.onResponse(response);
+                    l.onResponse(response);
+                });
+            } else {
+                cachingListener = listener;
+            }
             return new CanMatchPreFilterSearchPhase(
                 logger,
                 searchTransportService,
@@ -1132,10 +1267,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         aliasFilter,
                         concreteIndexBoosts,
                         indexRoutings,
-                        listener,
+                        cachingListener,
                         false,
                         threadPool,
-                        clusters
+                        clusters,
+                        responseCacheRequest
                     );
                     return new SearchPhase(action.getName()) {
                         @Override
@@ -1144,16 +1280,21 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         }
                     };
                 },
-                clusters
+                clusters,
+                boundsCache,
+                responseCacheRequest
             );
         } else {
+            final boolean streamingReduce = clusterService.getClusterSettings().get(SEARCH_STREAMING_REDUCE_SETTING);
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
-                executor,
+                streamingReduce ? threadPool.executor(ThreadPool.Names.SEARCH_REDUCE) : executor,
                 circuitBreaker,
                 task.getProgressListener(),
                 searchRequest,
                 shardIterators.size(),
-                exc -> cancelTask(task, exc)
+                exc -> cancelTask(task, exc),
+                streamingReduce,
+                clusterService.getClusterSettings().get(SEARCH_STREAMING_REDUCE_MAX_MEMORY_SETTING).getBytes()
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -1194,7 +1335,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         timeProvider,
                         clusterState,
                         task,
-                        clusters
+                        clusters,
+                        responseCacheRequest
                     );
                     break;
                 default:
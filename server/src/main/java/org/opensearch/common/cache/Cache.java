@@ -33,15 +33,17 @@
 package org.opensearch.common.cache;
 
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -59,23 +61,19 @@ import java.util.function.ToLongBiFunction;
  * accept reduced write performance in exchange for easy-to-understand code. Cache statistics for hits, misses and
  * evictions are exposed.
  * <p>
- * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by HashMaps.
- * Each segment is protected by a re-entrant read/write lock. The read/write locks permit multiple concurrent readers
- * without contention, and the segments gives us write throughput without impacting readers (so readers are blocked only
- * if they are reading a segment that a writer is writing to).
+ * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by concurrent
+ * maps. Each segment is protected by a re-entrant read/write lock that serializes compound mutations of the segment
+ * while lookups read the concurrent map without taking any lock, and the segments gives us write throughput without
+ * impacting readers.
  * <p>
  * The LRU functionality is backed by a single doubly-linked list chaining the entries in order of insertion. This
- * LRU list is protected by a lock that serializes all writes to it. There are opportunities for improvements
- * here if write throughput is a concern.
- * <ol>
- * <li>LRU list mutations could be inserted into a blocking queue that a single thread is reading from
- * and applying to the LRU list.</li>
- * <li>Promotions could be deferred for entries that were "recently" promoted.</li>
- * <li>Locks on the list could be taken per node being modified instead of globally.</li>
- * </ol>
+ * LRU list is protected by a lock that serializes all writes to it. Reads do not take that lock: hits are recorded
+ * in a striped, lossy read buffer that is drained into the LRU list in batches, either by the reader that fills a
+ * stripe if the lock is free or by the next writer before it evicts anything. Under heavy contention some reads may
+ * be dropped from the buffer, which makes the LRU order approximate but never affects the content of the cache.
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
- * invalidation) or an explicit call to {@link #refresh()}.
+ * invalidation), after a read buffer was drained, or after an explicit call to {@link #refresh()}.
  *
  * @param <K> The type of the keys
  * @param <V> The type of the values
@@ -199,7 +197,7 @@ public class Cache<K, V> {
     /**
      * A cache segment.
      * <p>
-     * A CacheSegment is backed by a HashMap and is protected by a read/write lock.
+     * A CacheSegment is backed by a concurrent map; lookups are lock-free while mutations are protected by a read/write lock.
      *
      * @param <K> the type of the keys
      * @param <V> the type of the values
@@ -210,10 +208,9 @@ public class Cache<K, V> {
         // read/write lock protecting mutations to the segment
         ReadWriteLock segmentLock = new ReentrantReadWriteLock();
 
-        ReleasableLock readLock = new ReleasableLock(segmentLock.readLock());
         ReleasableLock writeLock = new ReleasableLock(segmentLock.writeLock());
 
-        Map<K, CompletableFuture<Entry<K, V>>> map = new HashMap<>();
+        volatile Map<K, CompletableFuture<Entry<K, V>>> map = ConcurrentCollections.newConcurrentMap();
 
         SegmentStats segmentStats = new SegmentStats();
 
@@ -228,10 +225,7 @@ public class Cache<K, V> {
          * @return the entry if there was one, otherwise null
          */
         Entry<K, V> get(K key, long now, Predicate<Entry<K, V>> isExpired, Consumer<Entry<K, V>> onExpiration) {
-            CompletableFuture<Entry<K, V>> future;
-            try (ReleasableLock ignored = readLock.acquire()) {
-                future = map.get(key);
-            }
+            CompletableFuture<Entry<K, V>> future = map.get(key);
             if (future != null) {
                 Entry<K, V> entry;
                 try {
@@ -378,6 +372,9 @@ public class Cache<K, V> {
     // lock protecting mutations to the LRU list
     private final ReleasableLock lruLock = new ReleasableLock(new ReentrantLock());
 
+    // reads that still need to be applied to the LRU list
+    private final ReadBuffer<K, V> readBuffer = new ReadBuffer<>();
+
     /**
      * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
      *
@@ -394,11 +391,33 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            if (readBuffer.offer(entry)) {
+                tryDrainReadBuffer(now);
+            }
             return entry.value;
         }
     }
 
+    private void tryDrainReadBuffer(long now) {
+        // another thread holding the lock will either drain the buffer itself or let a later read do it
+        try (ReleasableLock locked = lruLock.tryAcquire()) {
+            if (locked != null) {
+                evict(now);
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        assert lruLock.isHeldByCurrentThread();
+
+        readBuffer.drain(entry -> {
+            // new entries are linked by the thread that loaded them, deleted entries must not be resurrected
+            if (entry.state == State.EXISTING) {
+                relinkAtHead(entry);
+            }
+        });
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
      * value using the given mapping function and enters it into this map unless null. The load method for a given key
@@ -571,7 +590,7 @@ public class Cache<K, V> {
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
                 h = head;
-                Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
+                Arrays.stream(segments).forEach(segment -> segment.map = ConcurrentCollections.newConcurrentMap());
                 Entry<K, V> current = head;
                 while (current != null) {
                     current.state = State.DELETED;
@@ -784,6 +803,8 @@ public class Cache<K, V> {
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
+        // apply the pending reads first so that recently read entries are not evicted
+        drainReadBuffer();
         while (tail != null && shouldPrune(tail, now)) {
             evictEntry(tail);
         }
@@ -892,4 +913,90 @@ public class Cache<K, V> {
     private CacheSegment<K, V> getCacheSegment(K key) {
         return segments[key.hashCode() & 0xff];
     }
+
+    /**
+     * A striped, lossy buffer recording the entries that were read. Each thread records its reads into the stripe that
+     * its id maps to, and a record is dropped if its stripe is full or another thread is recording into it at the same
+     * time. Stripes are only drained under the LRU lock.
+     *
+     * @opensearch.internal
+     */
+    private static final class ReadBuffer<K, V> {
+        static final int STRIPE_SIZE = 16;
+        static final int MAX_STRIPES = 64;
+
+        private final ReadBufferStripe<K, V>[] stripes;
+        private final int mask;
+
+        @SuppressWarnings("unchecked")
+        ReadBuffer() {
+            int numberOfStripes = 1;
+            while (numberOfStripes < MAX_STRIPES && numberOfStripes < Runtime.getRuntime().availableProcessors()) {
+                numberOfStripes <<= 1;
+            }
+            stripes = new ReadBufferStripe[numberOfStripes];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new ReadBufferStripe<>();
+            }
+            mask = numberOfStripes - 1;
+        }
+
+        /**
+         * Records a read of the given entry.
+         *
+         * @return whether the stripe the read was recorded into is full and should be drained
+         */
+        boolean offer(Entry<K, V> entry) {
+            return stripes[(int) (Thread.currentThread().getId() & mask)].offer(entry);
+        }
+
+        void drain(Consumer<Entry<K, V>> consumer) {
+            for (ReadBufferStripe<K, V> stripe : stripes) {
+                stripe.drain(consumer);
+            }
+        }
+    }
+
+    /**
+     * A bounded ring buffer with multiple producers and a single consumer.
+     *
+     * @opensearch.internal
+     */
+    private static final class ReadBufferStripe<K, V> {
+        private static final int MASK = ReadBuffer.STRIPE_SIZE - 1;
+
+        private final AtomicReferenceArray<Entry<K, V>> buffer = new AtomicReferenceArray<>(ReadBuffer.STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(Entry<K, V> entry) {
+            final long head = readCounter;
+            final long tail = writeCounter.get();
+            final long size = tail - head;
+            if (size >= ReadBuffer.STRIPE_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), entry);
+                return size + 1 >= ReadBuffer.STRIPE_SIZE;
+            }
+            return false;
+        }
+
+        void drain(Consumer<Entry<K, V>> consumer) {
+            long head = readCounter;
+            final long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                final int index = (int) (head & MASK);
+                final Entry<K, V> entry = buffer.get(index);
+                if (entry == null) {
+                    // the slot was claimed but the entry is not published yet, it will be drained next time
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(entry);
+            }
+            readCounter = head;
+        }
+    }
 }
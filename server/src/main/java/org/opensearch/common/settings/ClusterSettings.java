@@ -133,6 +133,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureSettings;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
@@ -344,6 +345,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.DEFAULT_SEARCH_TIMEOUT_SETTING,
                 SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
+                TransportSearchAction.SEARCH_STREAMING_REDUCE_SETTING,
+                TransportSearchAction.SEARCH_STREAMING_REDUCE_MAX_MEMORY_SETTING,
+                TransportSearchAction.SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE_SETTING,
+                TransportSearchAction.SEARCH_RESPONSE_CACHE_SIZE_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -442,6 +447,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
                 IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
                 IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+                IndicesRequestCache.INDICES_CACHE_OFF_HEAP_SIZE,
+                IndicesRequestCache.INDICES_CACHE_DISK_SIZE,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -471,6 +478,26 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.ALLOW_EXPENSIVE_QUERIES,
                 MultiBucketConsumerService.MAX_BUCKET_SETTING,
                 SearchService.LOW_LEVEL_CANCELLATION_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_SETTING,
+                SearchService.CONCURRENT_FETCH_SETTING,
+                SearchService.ADMISSION_CONTROL_MODE_SETTING,
+                SearchService.ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING,
+                SearchService.ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING,
+                SearchBackpressureSettings.SETTING_MODE,
+                SearchBackpressureSettings.SETTING_INTERVAL,
+                SearchBackpressureSettings.SETTING_NUM_SUCCESSIVE_BREACHES,
+                SearchBackpressureSettings.SETTING_CPU_THRESHOLD,
+                SearchBackpressureSettings.SETTING_HEAP_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_QUEUE_THRESHOLD,
+                SearchBackpressureSettings.SETTING_CANCELLATION_RATIO,
+                SearchBackpressureSettings.SETTING_CANCELLATION_RATE,
+                SearchBackpressureSettings.SETTING_CANCELLATION_BURST,
+                SearchBackpressureSettings.SETTING_SEARCH_SHARD_TASK_CPU_TIME_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_SHARD_TASK_HEAP_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_SHARD_TASK_ELAPSED_TIME_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_TASK_CPU_TIME_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_TASK_HEAP_THRESHOLD,
+                SearchBackpressureSettings.SETTING_SEARCH_TASK_ELAPSED_TIME_THRESHOLD,
                 SearchService.MAX_OPEN_SCROLL_CONTEXT,
                 SearchService.MAX_OPEN_PIT_CONTEXT,
                 SearchService.MAX_PIT_KEEPALIVE_SETTING,
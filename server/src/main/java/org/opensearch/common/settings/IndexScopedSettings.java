@@ -152,12 +152,15 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.MAX_SLICES_PER_SCROLL,
                 IndexSettings.MAX_SLICES_PER_PIT,
                 IndexSettings.MAX_REGEX_LENGTH_SETTING,
+                IndexSettings.TERMS_AGGREGATION_GLOBAL_ORDINALS_SETTING,
                 ShardsLimitAllocationDecider.INDEX_TOTAL_SHARDS_PER_NODE_SETTING,
                 IndexSettings.INDEX_GC_DELETES_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
                 IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+                IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING,
+                IndicesRequestCache.INDEX_CACHE_REQUEST_TOP_HITS_ENABLED_SETTING,
                 UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -166,7 +169,15 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING,
                 IndexSettings.INDEX_TRANSLOG_RETENTION_AGE_SETTING,
                 IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING,
+                IndexSettings.INDEX_TRANSLOG_MMAP_SETTING,
+                IndexSettings.INDEX_ID_BLOOM_FILTER_ENABLED_SETTING,
+                IndexSettings.INDEX_STAR_TREE_DIMENSIONS_SETTING,
+                IndexSettings.INDEX_STAR_TREE_METRICS_SETTING,
+                IndexSettings.INDEX_STAR_TREE_DATE_INTERVAL_SETTING,
+                IndexSettings.INDEX_STAR_TREE_MAX_LEAF_RECORDS_SETTING,
+                IndexSettings.INDEX_STAR_TREE_MAX_RECORDS_SETTING,
                 IndexSettings.INDEX_SEARCH_IDLE_AFTER,
+                IndexSettings.INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL,
                 IndexSettings.INDEX_SEARCH_THROTTLED,
                 IndexFieldDataService.INDEX_FIELDDATA_CACHE_KEY,
                 FieldMapper.IGNORE_MALFORMED_SETTING,
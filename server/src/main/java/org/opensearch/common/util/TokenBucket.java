@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket to limit the rate of operations: every operation takes tokens from the bucket, which is refilled at a constant
+ * rate as its clock advances, up to a maximum number of tokens.
+ * <p>
+ * The clock may measure anything that increases monotonically, such as the time in milliseconds, or the number of completed
+ * tasks to limit an operation to a ratio of them.
+ *
+ * @opensearch.internal
+ */
+public class TokenBucket {
+
+    private final LongSupplier clock;
+    private final double rate;
+    private final double burst;
+    private final AtomicReference<State> state;
+
+    /**
+     * @param clock the clock that the bucket is refilled with
+     * @param rate  the number of tokens added to the bucket per unit of the clock
+     * @param burst the maximum number of tokens in the bucket, which it starts with
+     */
+    public TokenBucket(LongSupplier clock, double rate, double burst) {
+        this(clock, rate, burst, burst);
+    }
+
+    /**
+     * @param clock         the clock that the bucket is refilled with
+     * @param rate          the number of tokens added to the bucket per unit of the clock
+     * @param burst         the maximum number of tokens in the bucket
+     * @param initialTokens the number of tokens the bucket starts with
+     */
+    public TokenBucket(LongSupplier clock, double rate, double burst, double initialTokens) {
+        if (rate <= 0.0) {
+            throw new IllegalArgumentException("rate must be greater than zero");
+        }
+        if (burst <= 0.0) {
+            throw new IllegalArgumentException("burst must be greater than zero");
+        }
+        this.clock = Objects.requireNonNull(clock);
+        this.rate = rate;
+        this.burst = burst;
+        this.state = new AtomicReference<>(new State(Math.min(initialTokens, burst), clock.getAsLong()));
+    }
+
+    /**
+     * Takes the given number of tokens from the bucket, and returns whether there were enough of them. The bucket is left unchanged
+     * if there were not enough tokens.
+     */
+    public boolean request(double n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("requested tokens must be greater than zero");
+        }
+        while (true) {
+            final State current = state.get();
+            final long now = clock.getAsLong();
+            final double tokens = tokens(current, now);
+            if (tokens < n) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - n, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket holds at least the given number of tokens, without taking them.
+     */
+    public boolean hasTokens(double n) {
+        return tokens(state.get(), clock.getAsLong()) >= n;
+    }
+
+    private double tokens(State current, long now) {
+        return Math.min(current.tokens + Math.max(0, now - current.lastRefilledAt) * rate, burst);
+    }
+
+    /**
+     * Takes a single token from the bucket, and returns whether there was one.
+     */
+    public boolean request() {
+        return request(1.0);
+    }
+
+    /**
+     * The number of tokens in the bucket and the time of the clock when it was last refilled.
+     */
+    private static final class State {
+        final double tokens;
+        final long lastRefilledAt;
+
+        State(double tokens, long lastRefilledAt) {
+            this.tokens = tokens;
+            this.lastRefilledAt = lastRefilledAt;
+        }
+    }
+}
@@ -415,6 +415,13 @@ public final class ThreadContext implements Writeable {
         threadLocal.set(threadLocal.get().putTransient(key, value));
     }
 
+    /**
+     * Returns the keys of the transient header objects of this context
+     */
+    public Set<String> getTransientKeys() {
+        return Collections.unmodifiableSet(threadLocal.get().transientHeaders.keySet());
+    }
+
     /**
      * Returns a transient header object or <code>null</code> if there is no header for the given key
      */
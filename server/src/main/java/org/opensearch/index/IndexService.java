@@ -607,6 +607,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                         // ignore
                     }
                 }
+                if (indexFieldData != null) {
+                    indexFieldData.clearShard(sId);
+                }
                 // call this before we close the store, so we can release resources for it
                 listener.afterIndexShardClosed(sId, indexShard, indexSettings);
             }
@@ -120,6 +120,19 @@ public final class IndexSettings {
         Property.IndexScope,
         Property.Dynamic
     );
+    /**
+     * The longest interval that the scheduled refreshes of a shard can be stretched to while the shard is indexing without being
+     * searched. The refresh interval is stretched by the adaptive refresh scheduler of the shard and shrinks back to
+     * {@code index.refresh_interval} when the shard is searched or when the indexing buffers are under memory pressure.
+     * Adaptive refreshes are disabled unless this is greater than the refresh interval.
+     */
+    public static final Setting<TimeValue> INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL = Setting.timeSetting(
+        "index.adaptive_refresh.max_interval",
+        TimeValue.MINUS_ONE,
+        TimeValue.MINUS_ONE,
+        Property.IndexScope,
+        Property.Dynamic
+    );
     public static final Setting<Translog.Durability> INDEX_TRANSLOG_DURABILITY_SETTING = new Setting<>(
         "index.translog.durability",
         Translog.Durability.REQUEST.name(),
@@ -133,6 +146,66 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Controls whether new segments index the {@code _id} field with a bloom filter that lets id lookups skip the segments that do
+     * not contain the id, which speeds up updates and conflict checks on indices with many segments. Existing segments keep the
+     * format they were written with until they are merged.
+     */
+    public static final Setting<Boolean> INDEX_ID_BLOOM_FILTER_ENABLED_SETTING = Setting.boolSetting(
+        "index.id_bloom_filter.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * The fields that the segments of the index pre-aggregate their documents on in a star tree, keyword fields by their values and
+     * date fields by their values rounded down to {@link #INDEX_STAR_TREE_DATE_INTERVAL_SETTING}. Aggregations that only group on
+     * these fields and compute metrics of {@link #INDEX_STAR_TREE_METRICS_SETTING} are answered from the trees of the segments.
+     */
+    public static final Setting<List<String>> INDEX_STAR_TREE_DIMENSIONS_SETTING = Setting.listSetting(
+        "index.star_tree.dimensions",
+        Collections.emptyList(),
+        Function.identity(),
+        Property.IndexScope,
+        Property.Final
+    );
+    /**
+     * The numeric fields whose count, sum, min and max are pre-aggregated in the star trees of the segments of the index.
+     */
+    public static final Setting<List<String>> INDEX_STAR_TREE_METRICS_SETTING = Setting.listSetting(
+        "index.star_tree.metrics",
+        Collections.emptyList(),
+        Function.identity(),
+        Property.IndexScope,
+        Property.Final
+    );
+    public static final Setting<TimeValue> INDEX_STAR_TREE_DATE_INTERVAL_SETTING = Setting.positiveTimeSetting(
+        "index.star_tree.date_interval",
+        TimeValue.timeValueHours(1),
+        Property.IndexScope,
+        Property.Final
+    );
+    /**
+     * The number of records below which the nodes of the star trees are not split further.
+     */
+    public static final Setting<Integer> INDEX_STAR_TREE_MAX_LEAF_RECORDS_SETTING = Setting.intSetting(
+        "index.star_tree.max_leaf_records",
+        10000,
+        1,
+        Property.IndexScope,
+        Property.Final
+    );
+    /**
+     * The maximum number of records, including the records aggregated over dimensions, that the star tree of a segment is built
+     * with. The tree is held on heap while it is built and while the segment is open, segments that need more records get none.
+     */
+    public static final Setting<Integer> INDEX_STAR_TREE_MAX_RECORDS_SETTING = Setting.intSetting(
+        "index.star_tree.max_records",
+        1_000_000,
+        1,
+        Property.IndexScope,
+        Property.Final
+    );
     public static final Setting<String> INDEX_CHECK_ON_STARTUP = new Setting<>("index.shard.check_on_startup", "false", (s) -> {
         switch (s) {
             case "false":
@@ -424,6 +497,17 @@ public final class IndexSettings {
         Setting.Property.IndexScope
     );
 
+    /**
+     * Controls whether snapshots of the translog read the immutable translog generations through memory mapped files rather than
+     * through file channel reads, which saves a copy per operation when replaying many operations, e.g. during peer recoveries.
+     * Translog files cannot be deleted on Windows while they are mapped.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_MMAP_SETTING = Setting.boolSetting(
+        "index.translog.mmap",
+        false,
+        Property.IndexScope
+    );
+
     /**
      * Controls the maximum length of time since a retention lease is created or renewed before it is considered expired.
      */
@@ -479,6 +563,20 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether {@code terms} aggregations on fields with ordinals default to global ordinals. If disabled they collect the ordinals
+     * of the segments instead and look up the terms per segment, which avoids building global ordinals after every refresh.
+     * This only applies to {@code terms} aggregations without sub-aggregations that collect into a single bucket, the others keep
+     * using global ordinals since they would have to look up the term of every collected document otherwise. An explicit
+     * {@code execution_hint} always takes precedence.
+     */
+    public static final Setting<Boolean> TERMS_AGGREGATION_GLOBAL_ORDINALS_SETTING = Setting.boolSetting(
+        "index.aggregation.terms.global_ordinals",
+        true,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<String> DEFAULT_PIPELINE = new Setting<>(
         "index.default_pipeline",
         IngestService.NOOP_PIPELINE_NAME,
@@ -601,6 +699,7 @@ public final class IndexSettings {
     }
 
     private volatile boolean warmerEnabled;
+    private volatile boolean idBloomFilterEnabled;
     private volatile int maxResultWindow;
     private volatile int maxInnerResultWindow;
     private volatile int maxAdjacencyMatrixFilters;
@@ -611,6 +710,7 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile TimeValue adaptiveRefreshMaxInterval;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
     private volatile String defaultPipeline;
@@ -638,6 +738,7 @@ public final class IndexSettings {
      * The maximum length of regex string allowed in a regexp query.
      */
     private volatile int maxRegexLength;
+    private volatile boolean termsAggregationGlobalOrdinals;
 
     /**
      * The max amount of time to wait for merges
@@ -742,6 +843,7 @@ public final class IndexSettings {
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
+        idBloomFilterEnabled = scopedSettings.get(INDEX_ID_BLOOM_FILTER_ENABLED_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
@@ -757,9 +859,11 @@ public final class IndexSettings {
         maxAnalyzedOffset = scopedSettings.get(MAX_ANALYZED_OFFSET_SETTING);
         maxTermsCount = scopedSettings.get(MAX_TERMS_COUNT_SETTING);
         maxRegexLength = scopedSettings.get(MAX_REGEX_LENGTH_SETTING);
+        termsAggregationGlobalOrdinals = scopedSettings.get(TERMS_AGGREGATION_GLOBAL_ORDINALS_SETTING);
         this.mergePolicyConfig = new MergePolicyConfig(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        adaptiveRefreshMaxInterval = scopedSettings.get(INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -816,6 +920,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
         scopedSettings.addSettingsUpdateConsumer(MAX_SHINGLE_DIFF_SETTING, this::setMaxShingleDiff);
         scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_ENABLED_SETTING, this::setEnableWarmer);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_ID_BLOOM_FILTER_ENABLED_SETTING, this::setIdBloomFilterEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_GC_DELETES_SETTING, this::setGCDeletes);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
@@ -830,7 +935,9 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL, this::setAdaptiveRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
+        scopedSettings.addSettingsUpdateConsumer(TERMS_AGGREGATION_GLOBAL_ORDINALS_SETTING, this::setTermsAggregationGlobalOrdinals);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING, this::setSoftDeleteRetentionOperations);
@@ -850,6 +957,10 @@ public final class IndexSettings {
         this.searchIdleAfter = searchIdleAfter;
     }
 
+    private void setAdaptiveRefreshMaxInterval(TimeValue adaptiveRefreshMaxInterval) {
+        this.adaptiveRefreshMaxInterval = adaptiveRefreshMaxInterval;
+    }
+
     private void setTranslogFlushThresholdSize(ByteSizeValue byteSizeValue) {
         this.flushThresholdSize = byteSizeValue;
     }
@@ -1063,6 +1174,17 @@ public final class IndexSettings {
         this.warmerEnabled = enableWarmer;
     }
 
+    /**
+     * Returns true if new segments index the {@code _id} field with a bloom filter, otherwise <code>false</code>
+     */
+    public boolean isIdBloomFilterEnabled() {
+        return idBloomFilterEnabled;
+    }
+
+    private void setIdBloomFilterEnabled(boolean idBloomFilterEnabled) {
+        this.idBloomFilterEnabled = idBloomFilterEnabled;
+    }
+
     /**
      * Returns the translog sync interval. This is the interval in which the transaction log is asynchronously fsynced unless
      * the transaction log is fsyncing on every operations
@@ -1121,6 +1243,13 @@ public final class IndexSettings {
         return INDEX_TRANSLOG_RETENTION_TOTAL_FILES_SETTING.get(getSettings());
     }
 
+    /**
+     * Returns <code>true</code> if snapshots of the translog read the immutable translog generations through memory mapped files.
+     */
+    public boolean isTranslogMmapEnabled() {
+        return INDEX_TRANSLOG_MMAP_SETTING.get(getSettings());
+    }
+
     private static boolean shouldDisableTranslogRetention(Settings settings) {
         return INDEX_SOFT_DELETES_SETTING.get(settings)
             && IndexMetadata.SETTING_INDEX_VERSION_CREATED.get(settings).onOrAfter(LegacyESVersion.V_7_4_0);
@@ -1336,6 +1465,17 @@ public final class IndexSettings {
         this.maxRegexLength = maxRegexLength;
     }
 
+    /**
+     * Whether {@code terms} aggregations on fields with ordinals default to global ordinals.
+     */
+    public boolean isTermsAggregationGlobalOrdinals() {
+        return termsAggregationGlobalOrdinals;
+    }
+
+    private void setTermsAggregationGlobalOrdinals(boolean termsAggregationGlobalOrdinals) {
+        this.termsAggregationGlobalOrdinals = termsAggregationGlobalOrdinals;
+    }
+
     /**
      * Returns the index sort config that should be used for this index.
      */
@@ -1361,6 +1501,14 @@ public final class IndexSettings {
         return searchIdleAfter;
     }
 
+    /**
+     * Returns the longest interval that the adaptive refresh scheduler may stretch the refresh interval of a shard to, which is
+     * not greater than the refresh interval if adaptive refreshes are disabled
+     */
+    public TimeValue getAdaptiveRefreshMaxInterval() {
+        return adaptiveRefreshMaxInterval;
+    }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
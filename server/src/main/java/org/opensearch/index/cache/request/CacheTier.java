@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.request;
+
+/**
+ * The tiers an entry of the request cache can live in, from the fastest to the slowest. Entries are computed into the
+ * {@link #ON_HEAP} tier, demoted to the next enabled tier when they are evicted from a tier and promoted back to the
+ * {@link #ON_HEAP} tier on a hit.
+ *
+ * @opensearch.internal
+ */
+public enum CacheTier {
+    ON_HEAP("on_heap"),
+    OFF_HEAP("off_heap"),
+    DISK("disk");
+
+    private final String name;
+
+    CacheTier(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The name used to report this tier in the stats APIs
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -40,6 +41,9 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Request for the query cache statistics
@@ -52,21 +56,35 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    // stats of the tiers other than the on-heap one, keyed by tier name
+    private final Map<String, TierStats> tierStats;
 
-    public RequestCacheStats() {}
+    public RequestCacheStats() {
+        this.tierStats = new TreeMap<>();
+    }
 
     public RequestCacheStats(StreamInput in) throws IOException {
         memorySize = in.readVLong();
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            tierStats = new TreeMap<>(in.readMap(StreamInput::readString, TierStats::new));
+        } else {
+            tierStats = new TreeMap<>();
+        }
     }
 
     public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount) {
+        this(memorySize, evictions, hitCount, missCount, Collections.emptyMap());
+    }
+
+    public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount, Map<String, TierStats> tierStats) {
         this.memorySize = memorySize;
         this.evictions = evictions;
         this.hitCount = hitCount;
         this.missCount = missCount;
+        this.tierStats = new TreeMap<>(tierStats);
     }
 
     public void add(RequestCacheStats stats) {
@@ -74,6 +92,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        for (Map.Entry<String, TierStats> entry : stats.tierStats.entrySet()) {
+            tierStats.computeIfAbsent(entry.getKey(), k -> new TierStats()).add(entry.getValue());
+        }
     }
 
     public long getMemorySizeInBytes() {
@@ -96,12 +117,23 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * Returns the stats of the given tier, or {@code null} if the tier is not in use. The top-level stats of this
+     * object always describe the {@link CacheTier#ON_HEAP} tier.
+     */
+    public TierStats getTierStats(CacheTier tier) {
+        return tierStats.get(tier.getName());
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeMap(tierStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     @Override
@@ -111,10 +143,92 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        if (tierStats.isEmpty() == false) {
+            builder.startObject(Fields.TIERS);
+            for (Map.Entry<String, TierStats> entry : tierStats.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
 
+    /**
+     * Statistics of a single request cache tier
+     *
+     * @opensearch.internal
+     */
+    public static class TierStats implements Writeable, ToXContentFragment {
+
+        private long sizeInBytes;
+        private long evictions;
+        private long hitCount;
+        private long missCount;
+
+        public TierStats() {}
+
+        public TierStats(StreamInput in) throws IOException {
+            sizeInBytes = in.readVLong();
+            evictions = in.readVLong();
+            hitCount = in.readVLong();
+            missCount = in.readVLong();
+        }
+
+        public TierStats(long sizeInBytes, long evictions, long hitCount, long missCount) {
+            this.sizeInBytes = sizeInBytes;
+            this.evictions = evictions;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+        }
+
+        public void add(TierStats stats) {
+            this.sizeInBytes += stats.sizeInBytes;
+            this.evictions += stats.evictions;
+            this.hitCount += stats.hitCount;
+            this.missCount += stats.missCount;
+        }
+
+        public long getSizeInBytes() {
+            return sizeInBytes;
+        }
+
+        public ByteSizeValue getSize() {
+            return new ByteSizeValue(sizeInBytes);
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(sizeInBytes);
+            out.writeVLong(evictions);
+            out.writeVLong(hitCount);
+            out.writeVLong(missCount);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.humanReadableField(Fields.SIZE_IN_BYTES, Fields.SIZE, getSize());
+            builder.field(Fields.EVICTIONS, getEvictions());
+            builder.field(Fields.HIT_COUNT, getHitCount());
+            builder.field(Fields.MISS_COUNT, getMissCount());
+            return builder;
+        }
+    }
+
     /**
      * Fields used for parsing and toXContent
      *
@@ -127,5 +241,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String TIERS = "tiers";
+        static final String SIZE = "size";
+        static final String SIZE_IN_BYTES = "size_in_bytes";
     }
 }
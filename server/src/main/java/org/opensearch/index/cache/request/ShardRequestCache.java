@@ -36,6 +36,10 @@ import org.apache.lucene.util.Accountable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.metrics.CounterMetric;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Tracks the portion of the request cache in use for a particular shard.
  *
@@ -43,31 +47,65 @@ import org.opensearch.common.metrics.CounterMetric;
  */
 public final class ShardRequestCache {
 
-    final CounterMetric evictionsMetric = new CounterMetric();
-    final CounterMetric totalMetric = new CounterMetric();
-    final CounterMetric hitCount = new CounterMetric();
-    final CounterMetric missCount = new CounterMetric();
+    private final EnumMap<CacheTier, TierMetrics> tierMetrics = new EnumMap<>(CacheTier.class);
+
+    public ShardRequestCache() {
+        for (CacheTier tier : CacheTier.values()) {
+            tierMetrics.put(tier, new TierMetrics());
+        }
+    }
 
     public RequestCacheStats stats() {
-        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count());
+        final TierMetrics onHeap = tierMetrics.get(CacheTier.ON_HEAP);
+        final Map<String, RequestCacheStats.TierStats> otherTiers = new HashMap<>();
+        for (Map.Entry<CacheTier, TierMetrics> entry : tierMetrics.entrySet()) {
+            final TierMetrics metrics = entry.getValue();
+            if (entry.getKey() != CacheTier.ON_HEAP && metrics.isUsed()) {
+                otherTiers.put(
+                    entry.getKey().getName(),
+                    new RequestCacheStats.TierStats(
+                        metrics.totalMetric.count(),
+                        metrics.evictionsMetric.count(),
+                        metrics.hitCount.count(),
+                        metrics.missCount.count()
+                    )
+                );
+            }
+        }
+        return new RequestCacheStats(
+            onHeap.totalMetric.count(),
+            onHeap.evictionsMetric.count(),
+            onHeap.hitCount.count(),
+            onHeap.missCount.count(),
+            otherTiers
+        );
     }
 
     public void onHit() {
-        hitCount.inc();
+        onHit(CacheTier.ON_HEAP);
+    }
+
+    public void onHit(CacheTier tier) {
+        tierMetrics.get(tier).hitCount.inc();
     }
 
     public void onMiss() {
-        missCount.inc();
+        onMiss(CacheTier.ON_HEAP);
+    }
+
+    public void onMiss(CacheTier tier) {
+        tierMetrics.get(tier).missCount.inc();
     }
 
     public void onCached(Accountable key, BytesReference value) {
-        totalMetric.inc(key.ramBytesUsed() + value.ramBytesUsed());
+        onCached(CacheTier.ON_HEAP, key.ramBytesUsed() + value.ramBytesUsed());
+    }
+
+    public void onCached(CacheTier tier, long sizeInBytes) {
+        tierMetrics.get(tier).totalMetric.inc(sizeInBytes);
     }
 
     public void onRemoval(Accountable key, BytesReference value, boolean evicted) {
-        if (evicted) {
-            evictionsMetric.inc();
-        }
         long dec = 0;
         if (key != null) {
             dec += key.ramBytesUsed();
@@ -75,6 +113,28 @@ public final class ShardRequestCache {
         if (value != null) {
             dec += value.ramBytesUsed();
         }
-        totalMetric.dec(dec);
+        onRemoval(CacheTier.ON_HEAP, dec, evicted);
+    }
+
+    public void onRemoval(CacheTier tier, long sizeInBytes, boolean evicted) {
+        final TierMetrics metrics = tierMetrics.get(tier);
+        if (evicted) {
+            metrics.evictionsMetric.inc();
+        }
+        metrics.totalMetric.dec(sizeInBytes);
+    }
+
+    /**
+     * The metrics tracked for a single tier of the request cache
+     */
+    private static final class TierMetrics {
+        final CounterMetric evictionsMetric = new CounterMetric();
+        final CounterMetric totalMetric = new CounterMetric();
+        final CounterMetric hitCount = new CounterMetric();
+        final CounterMetric missCount = new CounterMetric();
+
+        boolean isUsed() {
+            return hitCount.count() > 0 || missCount.count() > 0 || totalMetric.count() > 0 || evictionsMetric.count() > 0;
+        }
     }
 }
@@ -38,6 +38,9 @@ import org.apache.lucene.codecs.lucene94.Lucene94Codec;
 import org.apache.lucene.codecs.lucene94.Lucene94Codec.Mode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
+import org.opensearch.index.codec.startree.StarTreeCodec;
+import org.opensearch.index.codec.startree.StarTreeConfig;
+import org.opensearch.index.codec.startree.StarTreeLZ4HighCompressionCodec;
 import org.opensearch.index.mapper.MapperService;
 
 import java.util.Map;
@@ -56,6 +59,8 @@ public class CodecService {
 
     public static final String DEFAULT_CODEC = "default";
     public static final String BEST_COMPRESSION_CODEC = "best_compression";
+    /** compresses stored fields with high compression LZ4 for ratios close to best_compression at the read speed of default */
+    public static final String LZ4_HIGH_COMPRESSION_CODEC = "lz4_high_compression";
     /** the raw unfiltered lucene default. useful for testing */
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
 
@@ -64,9 +69,27 @@ public class CodecService {
         if (mapperService == null) {
             codecs.put(DEFAULT_CODEC, new Lucene94Codec());
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene94Codec(Mode.BEST_COMPRESSION));
+            codecs.put(LZ4_HIGH_COMPRESSION_CODEC, new LZ4HighCompressionCodec());
         } else {
-            codecs.put(DEFAULT_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
-            codecs.put(BEST_COMPRESSION_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
+            final StarTreeConfig starTreeConfig = StarTreeConfig.fromIndexSettings(
+                mapperService.getIndexSettings(),
+                mapperService::fieldType
+            );
+            codecs.put(
+                DEFAULT_CODEC,
+                withStarTree(new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger), starTreeConfig)
+            );
+            codecs.put(
+                BEST_COMPRESSION_CODEC,
+                withStarTree(new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger), starTreeConfig)
+            );
+            codecs.put(
+                LZ4_HIGH_COMPRESSION_CODEC,
+                withStarTree(
+                    new LZ4HighCompressionCodec(new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger)),
+                    starTreeConfig
+                )
+            );
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
@@ -75,6 +98,15 @@ public class CodecService {
         this.codecs = codecs.immutableMap();
     }
 
+    private static Codec withStarTree(Codec codec, @Nullable StarTreeConfig starTreeConfig) {
+        return starTreeConfig == null ? codec : new StarTreeCodec(codec, starTreeConfig);
+    }
+
+    private static Codec withStarTree(LZ4HighCompressionCodec codec, @Nullable StarTreeConfig starTreeConfig) {
+        // the segments must be read back with the stored fields format of the codec
+        return starTreeConfig == null ? codec : new StarTreeLZ4HighCompressionCodec(codec, starTreeConfig);
+    }
+
     public Codec codec(String name) {
         Codec codec = codecs.get(name);
         if (codec == null) {
@@ -0,0 +1,374 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FieldsConsumer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.index.Fields;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A {@link PostingsFormat} for the {@code _id} field that stores a bloom filter of the ids of every segment next to the postings
+ * written by a delegate format. Exact lookups of ids that a segment does not contain are answered by the filter without
+ * seeking the terms dictionary of the segment, which is what most of the per-segment lookups of an update or a version
+ * conflict check are on indices with many segments.
+ * <p>
+ * Filters are sized for the maximum number of documents of the segment and held on heap while the segment is open, at about
+ * {@value BloomFilter#BITS_PER_TERM} bits per document.
+ *
+ * @opensearch.internal
+ */
+public final class IdBloomFilterPostingsFormat extends PostingsFormat {
+
+    public static final String NAME = "IdBloomFilter";
+
+    static final String EXTENSION = "bfi";
+    private static final String CODEC_NAME = "IdBloomFilter";
+    private static final int VERSION_START = 0;
+    private static final int VERSION_CURRENT = VERSION_START;
+
+    private final PostingsFormat delegate;
+
+    /**
+     * Used to read segments through SPI, the delegate is read from the segments.
+     */
+    public IdBloomFilterPostingsFormat() {
+        this(null);
+    }
+
+    public IdBloomFilterPostingsFormat(PostingsFormat delegate) {
+        super(NAME);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public FieldsConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        if (delegate == null) {
+            throw new UnsupportedOperationException("the postings format to delegate to must be set to write segments");
+        }
+        return new BloomFilteredFieldsConsumer(delegate.fieldsConsumer(state), delegate.getName(), state);
+    }
+
+    @Override
+    public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+        final Map<String, BloomFilter> filters = new HashMap<>();
+        final String delegateName;
+        try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+            Throwable priorException = null;
+            String name = null;
+            try {
+                CodecUtil.checkIndexHeader(in, CODEC_NAME, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                name = in.readString();
+                final int numFields = in.readVInt();
+                for (int i = 0; i < numFields; i++) {
+                    filters.put(in.readString(), BloomFilter.readFrom(in));
+                }
+            } catch (Throwable t) {
+                priorException = t;
+            } finally {
+                CodecUtil.checkFooter(in, priorException);
+            }
+            delegateName = name;
+        }
+        final FieldsProducer delegateProducer = PostingsFormat.forName(delegateName).fieldsProducer(state);
+        boolean success = false;
+        try {
+            final FieldsProducer producer = new BloomFilteredFieldsProducer(delegateProducer, filters);
+            success = true;
+            return producer;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(delegateProducer);
+            }
+        }
+    }
+
+    /**
+     * Builds a bloom filter of the terms of every field while the delegate consumer iterates over them.
+     */
+    private static final class BloomFilteredFieldsConsumer extends FieldsConsumer {
+
+        private final FieldsConsumer delegate;
+        private final String delegateName;
+        private final SegmentWriteState state;
+
+        BloomFilteredFieldsConsumer(FieldsConsumer delegate, String delegateName, SegmentWriteState state) {
+            this.delegate = delegate;
+            this.delegateName = delegateName;
+            this.state = state;
+        }
+
+        @Override
+        public void write(Fields fields, NormsProducer norms) throws IOException {
+            // an id field has at most one term per document
+            final int maxTerms = state.segmentInfo.maxDoc();
+            final Map<String, BloomFilter> filters = new TreeMap<>();
+            delegate.write(new FilterLeafReader.FilterFields(fields) {
+                @Override
+                public Terms terms(String field) throws IOException {
+                    final Terms terms = super.terms(field);
+                    if (terms == null) {
+                        return null;
+                    }
+                    final BloomFilter filter = filters.computeIfAbsent(field, f -> new BloomFilter(maxTerms));
+                    return new FilterLeafReader.FilterTerms(terms) {
+                        @Override
+                        public TermsEnum iterator() throws IOException {
+                            return new FilterLeafReader.FilterTermsEnum(super.iterator()) {
+                                @Override
+                                public BytesRef next() throws IOException {
+                                    final BytesRef term = super.next();
+                                    if (term != null) {
+                                        filter.add(term);
+                                    }
+                                    return term;
+                                }
+                            };
+                        }
+                    };
+                }
+            }, norms);
+
+            final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+            try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+                CodecUtil.writeIndexHeader(out, CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                out.writeString(delegateName);
+                out.writeVInt(filters.size());
+                for (Map.Entry<String, BloomFilter> entry : filters.entrySet()) {
+                    out.writeString(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+                CodecUtil.writeFooter(out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static final class BloomFilteredFieldsProducer extends FieldsProducer implements Accountable {
+
+        private final FieldsProducer delegate;
+        private final Map<String, BloomFilteredTerms> terms;
+
+        BloomFilteredFieldsProducer(FieldsProducer delegate, Map<String, BloomFilter> filters) throws IOException {
+            this.delegate = delegate;
+            final Map<String, BloomFilteredTerms> terms = new HashMap<>();
+            for (Map.Entry<String, BloomFilter> entry : filters.entrySet()) {
+                final Terms delegateTerms = delegate.terms(entry.getKey());
+                if (delegateTerms != null) {
+                    terms.put(entry.getKey(), new BloomFilteredTerms(delegateTerms, entry.getValue()));
+                }
+            }
+            this.terms = Collections.unmodifiableMap(terms);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public Terms terms(String field) throws IOException {
+            final Terms filtered = terms.get(field);
+            return filtered != null ? filtered : delegate.terms(field);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        /**
+         * The heap used by the bloom filters, the delegate producer does not report its own since Lucene 9
+         */
+        @Override
+        public long ramBytesUsed() {
+            long ramBytesUsed = 0;
+            for (BloomFilteredTerms filteredTerms : terms.values()) {
+                ramBytesUsed += filteredTerms.ramBytesUsed();
+            }
+            return ramBytesUsed;
+        }
+
+        @Override
+        public void checkIntegrity() throws IOException {
+            // the filters were verified against their checksum when they were loaded
+            delegate.checkIntegrity();
+        }
+
+        @Override
+        public FieldsProducer getMergeInstance() {
+            // merges iterate over all terms and rebuild the filters
+            return delegate.getMergeInstance();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(delegate=" + delegate + ")";
+        }
+    }
+
+    /**
+     * The terms of a field of a segment whose exact lookups are checked against the bloom filter of the field first. Tracks
+     * how many lookups the filter answered, which is reported in the segment stats.
+     *
+     * @opensearch.internal
+     */
+    public static final class BloomFilteredTerms extends FilterLeafReader.FilterTerms implements Accountable {
+
+        private final BloomFilter filter;
+        private final CounterMetric lookups = new CounterMetric();
+        private final CounterMetric skippedLookups = new CounterMetric();
+
+        BloomFilteredTerms(Terms in, BloomFilter filter) {
+            super(in);
+            this.filter = filter;
+        }
+
+        @Override
+        public TermsEnum iterator() throws IOException {
+            return new FilterLeafReader.FilterTermsEnum(in.iterator()) {
+                @Override
+                public boolean seekExact(BytesRef text) throws IOException {
+                    lookups.inc();
+                    if (filter.mightContain(text) == false) {
+                        skippedLookups.inc();
+                        return false;
+                    }
+                    return super.seekExact(text);
+                }
+            };
+        }
+
+        /**
+         * The heap used by the bloom filter of the field, which is held for as long as the segment is open
+         */
+        @Override
+        public long ramBytesUsed() {
+            return filter.ramBytesUsed();
+        }
+
+        /**
+         * The number of exact lookups of terms
+         */
+        public long lookups() {
+            return lookups.count();
+        }
+
+        /**
+         * The number of exact lookups of terms that the bloom filter answered without seeking the terms dictionary
+         */
+        public long skippedLookups() {
+            return skippedLookups.count();
+        }
+    }
+
+    /**
+     * A bloom filter over a fixed number of bits that probes {@value #NUM_HASHES} bits per term, which are derived from two
+     * murmur3 hashes of the term. With {@value #BITS_PER_TERM} bits per term the false positive probability is below 1%.
+     */
+    static final class BloomFilter {
+
+        static final int BITS_PER_TERM = 10;
+        static final int NUM_HASHES = 7;
+        private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(BloomFilter.class);
+
+        private final long[] bits;
+        private final int numHashes;
+
+        BloomFilter(int maxTerms) {
+            this(new long[Math.toIntExact(Math.max(1L, ((long) maxTerms * BITS_PER_TERM + Long.SIZE - 1) / Long.SIZE))], NUM_HASHES);
+        }
+
+        private BloomFilter(long[] bits, int numHashes) {
+            this.bits = bits;
+            this.numHashes = numHashes;
+        }
+
+        void add(BytesRef term) {
+            final long numBits = (long) bits.length * Long.SIZE;
+            final int hash1 = StringHelper.murmurhash3_x86_32(term, 0);
+            final long step = (StringHelper.murmurhash3_x86_32(term, hash1) & 0xFFFFFFFFL) | 1L;
+            long hash = hash1 & 0xFFFFFFFFL;
+            for (int i = 0; i < numHashes; i++) {
+                final long bit = hash % numBits;
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+                hash += step;
+            }
+        }
+
+        boolean mightContain(BytesRef term) {
+            final long numBits = (long) bits.length * Long.SIZE;
+            final int hash1 = StringHelper.murmurhash3_x86_32(term, 0);
+            final long step = (StringHelper.murmurhash3_x86_32(term, hash1) & 0xFFFFFFFFL) | 1L;
+            long hash = hash1 & 0xFFFFFFFFL;
+            for (int i = 0; i < numHashes; i++) {
+                final long bit = hash % numBits;
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+                hash += step;
+            }
+            return true;
+        }
+
+        long ramBytesUsed() {
+            return SHALLOW_SIZE + RamUsageEstimator.sizeOf(bits);
+        }
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeVInt(numHashes);
+            out.writeVInt(bits.length);
+            for (long word : bits) {
+                out.writeLong(word);
+            }
+        }
+
+        static BloomFilter readFrom(DataInput in) throws IOException {
+            final int numHashes = in.readVInt();
+            final long[] bits = new long[in.readVInt()];
+            in.readLongs(bits, 0, bits.length);
+            return new BloomFilter(bits, numHashes);
+        }
+    }
+}
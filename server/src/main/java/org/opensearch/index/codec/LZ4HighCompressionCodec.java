@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene90.compressing.Lucene90CompressingStoredFieldsFormat;
+import org.apache.lucene.codecs.lucene94.Lucene94Codec;
+
+/**
+ * A {@link Codec} that compresses stored fields with {@link LZ4HighCompressionWithPresetDictCompressionMode} and the block
+ * size of the {@code best_compression} codec, and delegates everything else to the given codec. Segments are read back
+ * through SPI, with the latest Lucene codec as the delegate since postings and doc values formats are recorded per field.
+ *
+ * @opensearch.internal
+ */
+public final class LZ4HighCompressionCodec extends FilterCodec {
+
+    public static final String NAME = "LZ4HighCompression94";
+
+    // same as the best_compression mode of Lucene90StoredFieldsFormat
+    private static final int BLOCK_LENGTH = 10 * 48 * 1024;
+    private static final int MAX_DOCS_PER_BLOCK = 4096;
+    private static final int BLOCK_SHIFT = 10;
+
+    private final StoredFieldsFormat storedFieldsFormat = new Lucene90CompressingStoredFieldsFormat(
+        "LZ4HighCompressionStoredFieldsData",
+        new LZ4HighCompressionWithPresetDictCompressionMode(),
+        BLOCK_LENGTH,
+        MAX_DOCS_PER_BLOCK,
+        BLOCK_SHIFT
+    );
+
+    /**
+     * Used to read segments through SPI.
+     */
+    public LZ4HighCompressionCodec() {
+        this(new Lucene94Codec());
+    }
+
+    public LZ4HighCompressionCodec(Codec delegate) {
+        super(NAME, delegate);
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+}
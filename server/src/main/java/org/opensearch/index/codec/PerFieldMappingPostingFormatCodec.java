@@ -40,6 +40,7 @@ import org.apache.lucene.codecs.lucene94.Lucene94Codec;
 import org.apache.lucene.codecs.lucene90.Lucene90DocValuesFormat;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -57,6 +58,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene94Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene90DocValuesFormat();
+    private final PostingsFormat idBloomFilterPostingsFormat;
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class)
@@ -67,6 +69,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene94Codec {
         super(compressionMode);
         this.mapperService = mapperService;
         this.logger = logger;
+        this.idBloomFilterPostingsFormat = new IdBloomFilterPostingsFormat(super.getPostingsFormatForField(IdFieldMapper.NAME));
     }
 
     @Override
@@ -76,6 +79,8 @@ public class PerFieldMappingPostingFormatCodec extends Lucene94Codec {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
         } else if (fieldType instanceof CompletionFieldMapper.CompletionFieldType) {
             return CompletionFieldMapper.CompletionFieldType.postingsFormat();
+        } else if (IdFieldMapper.NAME.equals(field) && mapperService.getIndexSettings().isIdBloomFilterEnabled()) {
+            return idBloomFilterPostingsFormat;
         }
         return super.getPostingsFormatForField(field);
     }
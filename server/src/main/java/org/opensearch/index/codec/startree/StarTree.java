@@ -0,0 +1,407 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.io.IOException;
+
+/**
+ * The star tree of a segment: the documents of the segment pre-aggregated into records, one per distinct combination of the
+ * values of the dimensions, each holding the number of documents and the count, sum, min and max of the values of every metric.
+ * <p>
+ * Records are grouped by a tree that splits them on the value of one dimension per level, in the order of the dimensions. When a
+ * node has several children, it also has a star child that holds the records of all its children aggregated over the dimension
+ * of the level, so that a query that doesn't group on a dimension visits the star child instead of all the children.
+ *
+ * @opensearch.internal
+ */
+public final class StarTree implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(StarTree.class);
+
+    /**
+     * The value of a dimension that a document has no value for.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+    /**
+     * The value of a dimension that records are aggregated over.
+     */
+    static final long STAR = Long.MIN_VALUE + 1;
+
+    /**
+     * How the values of a dimension are stored.
+     *
+     * @opensearch.internal
+     */
+    public enum DimensionType {
+        /** The ordinals of the values of a keyword field in the segment. */
+        ORDINAL,
+        /** The milliseconds since the epoch of a date field, rounded down to the date interval of the tree. */
+        DATE
+    }
+
+    /**
+     * Visits the records of a star tree.
+     *
+     * @opensearch.internal
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(int record) throws IOException;
+    }
+
+    final String[] dimensions;
+    final DimensionType[] dimensionTypes;
+    final long dateInterval;
+    final String[] metrics;
+
+    final int numRecords;
+    final long[][] dimensionValues;
+    final long[] docCounts;
+    final long[][] valueCounts;
+    final double[][] sums;
+    final double[][] mins;
+    final double[][] maxs;
+
+    /**
+     * The dimension that the children of each node split its records on, -1 for leaves.
+     */
+    final int[] nodeChildDimension;
+    final long[] nodeValue;
+    final int[] nodeStart;
+    final int[] nodeEnd;
+    final int[] nodeFirstChild;
+    final int[] nodeNumChildren;
+
+    private final long[] minDimensionValues;
+    private final long[] maxDimensionValues;
+    private final long ramBytesUsed;
+
+    StarTree(
+        String[] dimensions,
+        DimensionType[] dimensionTypes,
+        long dateInterval,
+        String[] metrics,
+        int numRecords,
+        long[][] dimensionValues,
+        long[] docCounts,
+        long[][] valueCounts,
+        double[][] sums,
+        double[][] mins,
+        double[][] maxs,
+        int[] nodeChildDimension,
+        long[] nodeValue,
+        int[] nodeStart,
+        int[] nodeEnd,
+        int[] nodeFirstChild,
+        int[] nodeNumChildren
+    ) {
+        this.dimensions = dimensions;
+        this.dimensionTypes = dimensionTypes;
+        this.dateInterval = dateInterval;
+        this.metrics = metrics;
+        this.numRecords = numRecords;
+        this.dimensionValues = dimensionValues;
+        this.docCounts = docCounts;
+        this.valueCounts = valueCounts;
+        this.sums = sums;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.nodeChildDimension = nodeChildDimension;
+        this.nodeValue = nodeValue;
+        this.nodeStart = nodeStart;
+        this.nodeEnd = nodeEnd;
+        this.nodeFirstChild = nodeFirstChild;
+        this.nodeNumChildren = nodeNumChildren;
+        this.minDimensionValues = new long[dimensions.length];
+        this.maxDimensionValues = new long[dimensions.length];
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            // the root holds the records of the documents, the star records come after them
+            for (int record = nodeStart[0]; record < nodeEnd[0]; record++) {
+                final long value = dimensionValues[dim][record];
+                if (value != MISSING) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            minDimensionValues[dim] = min;
+            maxDimensionValues[dim] = max;
+        }
+        long ramBytesUsed = BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(docCounts);
+        ramBytesUsed += RamUsageEstimator.sizeOf(minDimensionValues) + RamUsageEstimator.sizeOf(maxDimensionValues);
+        ramBytesUsed += RamUsageEstimator.sizeOf(nodeChildDimension) + RamUsageEstimator.sizeOf(nodeValue);
+        ramBytesUsed += RamUsageEstimator.sizeOf(nodeStart) + RamUsageEstimator.sizeOf(nodeEnd);
+        ramBytesUsed += RamUsageEstimator.sizeOf(nodeFirstChild) + RamUsageEstimator.sizeOf(nodeNumChildren);
+        for (long[] values : dimensionValues) {
+            ramBytesUsed += RamUsageEstimator.sizeOf(values);
+        }
+        for (int metric = 0; metric < metrics.length; metric++) {
+            ramBytesUsed += RamUsageEstimator.sizeOf(valueCounts[metric]) + RamUsageEstimator.sizeOf(sums[metric])
+                + RamUsageEstimator.sizeOf(mins[metric]) + RamUsageEstimator.sizeOf(maxs[metric]);
+        }
+        this.ramBytesUsed = ramBytesUsed;
+    }
+
+    /**
+     * Returns the heap used by the records and the nodes of the tree.
+     */
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    /**
+     * Returns the index of the dimension of the field, -1 if the field is not a dimension.
+     */
+    public int dimension(String field) {
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            if (dimensions[dim].equals(field)) {
+                return dim;
+            }
+        }
+        return -1;
+    }
+
+    public int numDimensions() {
+        return dimensions.length;
+    }
+
+    public DimensionType dimensionType(int dim) {
+        return dimensionTypes[dim];
+    }
+
+    /**
+     * Returns the interval in milliseconds that the values of the date dimensions are rounded down to.
+     */
+    public long dateInterval() {
+        return dateInterval;
+    }
+
+    /**
+     * Returns the smallest value of the dimension, {@link Long#MAX_VALUE} if no document has a value for it.
+     */
+    public long minDimensionValue(int dim) {
+        return minDimensionValues[dim];
+    }
+
+    /**
+     * Returns the largest value of the dimension, {@link Long#MIN_VALUE} if no document has a value for it.
+     */
+    public long maxDimensionValue(int dim) {
+        return maxDimensionValues[dim];
+    }
+
+    /**
+     * Returns the value of the dimension for the record, {@link #MISSING} if its documents have no value.
+     */
+    public long dimensionValue(int dim, int record) {
+        return dimensionValues[dim][record];
+    }
+
+    /**
+     * Returns the index of the metric of the field, -1 if the field is not a metric.
+     */
+    public int metric(String field) {
+        for (int metric = 0; metric < metrics.length; metric++) {
+            if (metrics[metric].equals(field)) {
+                return metric;
+            }
+        }
+        return -1;
+    }
+
+    public long docCount(int record) {
+        return docCounts[record];
+    }
+
+    public long valueCount(int metric, int record) {
+        return valueCounts[metric][record];
+    }
+
+    public double sum(int metric, int record) {
+        return sums[metric][record];
+    }
+
+    /**
+     * Returns the minimum value of the metric for the record, {@link Double#POSITIVE_INFINITY} if its documents have no value.
+     */
+    public double min(int metric, int record) {
+        return mins[metric][record];
+    }
+
+    /**
+     * Returns the maximum value of the metric for the record, {@link Double#NEGATIVE_INFINITY} if its documents have no value.
+     */
+    public double max(int metric, int record) {
+        return maxs[metric][record];
+    }
+
+    /**
+     * Visits the records that aggregate every document of the segment exactly once and hold a value for the dimensions to group
+     * on, taking the star child of every node that splits on another dimension.
+     */
+    public void visitRecords(boolean[] groupBy, RecordVisitor visitor) throws IOException {
+        visitRecords(0, groupBy, visitor);
+    }
+
+    private void visitRecords(int node, boolean[] groupBy, RecordVisitor visitor) throws IOException {
+        final int dim = nodeChildDimension[node];
+        if (dim < 0) {
+            for (int record = nodeStart[node]; record < nodeEnd[node]; record++) {
+                visitor.visit(record);
+            }
+            return;
+        }
+        final int first = nodeFirstChild[node];
+        int last = first + nodeNumChildren[node] - 1;
+        if (nodeValue[last] == STAR) {
+            if (groupBy[dim] == false) {
+                visitRecords(last, groupBy, visitor);
+                return;
+            }
+            last--;
+        }
+        for (int child = first; child <= last; child++) {
+            visitRecords(child, groupBy, visitor);
+        }
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeVInt(dimensions.length);
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            out.writeString(dimensions[dim]);
+            out.writeByte((byte) dimensionTypes[dim].ordinal());
+        }
+        out.writeVLong(dateInterval);
+        out.writeVInt(metrics.length);
+        for (String metric : metrics) {
+            out.writeString(metric);
+        }
+        out.writeVInt(numRecords);
+        for (long[] values : dimensionValues) {
+            writeLongs(out, values, numRecords);
+        }
+        writeLongs(out, docCounts, numRecords);
+        for (int metric = 0; metric < metrics.length; metric++) {
+            writeLongs(out, valueCounts[metric], numRecords);
+            writeDoubles(out, sums[metric], numRecords);
+            writeDoubles(out, mins[metric], numRecords);
+            writeDoubles(out, maxs[metric], numRecords);
+        }
+        final int numNodes = nodeStart.length;
+        out.writeVInt(numNodes);
+        for (int node = 0; node < numNodes; node++) {
+            out.writeVInt(nodeChildDimension[node] + 1);
+            out.writeZLong(nodeValue[node]);
+            out.writeVInt(nodeStart[node]);
+            out.writeVInt(nodeEnd[node]);
+            out.writeVInt(nodeFirstChild[node]);
+            out.writeVInt(nodeNumChildren[node]);
+        }
+    }
+
+    static StarTree readFrom(DataInput in) throws IOException {
+        final int numDimensions = in.readVInt();
+        final String[] dimensions = new String[numDimensions];
+        final DimensionType[] dimensionTypes = new DimensionType[numDimensions];
+        for (int dim = 0; dim < numDimensions; dim++) {
+            dimensions[dim] = in.readString();
+            dimensionTypes[dim] = DimensionType.values()[in.readByte()];
+        }
+        final long dateInterval = in.readVLong();
+        final String[] metrics = new String[in.readVInt()];
+        for (int metric = 0; metric < metrics.length; metric++) {
+            metrics[metric] = in.readString();
+        }
+        final int numRecords = in.readVInt();
+        final long[][] dimensionValues = new long[numDimensions][];
+        for (int dim = 0; dim < numDimensions; dim++) {
+            dimensionValues[dim] = readLongs(in, numRecords);
+        }
+        final long[] docCounts = readLongs(in, numRecords);
+        final long[][] valueCounts = new long[metrics.length][];
+        final double[][] sums = new double[metrics.length][];
+        final double[][] mins = new double[metrics.length][];
+        final double[][] maxs = new double[metrics.length][];
+        for (int metric = 0; metric < metrics.length; metric++) {
+            valueCounts[metric] = readLongs(in, numRecords);
+            sums[metric] = readDoubles(in, numRecords);
+            mins[metric] = readDoubles(in, numRecords);
+            maxs[metric] = readDoubles(in, numRecords);
+        }
+        final int numNodes = in.readVInt();
+        final int[] nodeChildDimension = new int[numNodes];
+        final long[] nodeValue = new long[numNodes];
+        final int[] nodeStart = new int[numNodes];
+        final int[] nodeEnd = new int[numNodes];
+        final int[] nodeFirstChild = new int[numNodes];
+        final int[] nodeNumChildren = new int[numNodes];
+        for (int node = 0; node < numNodes; node++) {
+            nodeChildDimension[node] = in.readVInt() - 1;
+            nodeValue[node] = in.readZLong();
+            nodeStart[node] = in.readVInt();
+            nodeEnd[node] = in.readVInt();
+            nodeFirstChild[node] = in.readVInt();
+            nodeNumChildren[node] = in.readVInt();
+        }
+        return new StarTree(
+            dimensions,
+            dimensionTypes,
+            dateInterval,
+            metrics,
+            numRecords,
+            dimensionValues,
+            docCounts,
+            valueCounts,
+            sums,
+            mins,
+            maxs,
+            nodeChildDimension,
+            nodeValue,
+            nodeStart,
+            nodeEnd,
+            nodeFirstChild,
+            nodeNumChildren
+        );
+    }
+
+    private static void writeLongs(DataOutput out, long[] values, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            out.writeZLong(values[i]);
+        }
+    }
+
+    private static long[] readLongs(DataInput in, int length) throws IOException {
+        final long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readZLong();
+        }
+        return values;
+    }
+
+    private static void writeDoubles(DataOutput out, double[] values, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            out.writeLong(Double.doubleToRawLongBits(values[i]));
+        }
+    }
+
+    private static double[] readDoubles(DataInput in, int length) throws IOException {
+        final double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = Double.longBitsToDouble(in.readLong());
+        }
+        return values;
+    }
+}
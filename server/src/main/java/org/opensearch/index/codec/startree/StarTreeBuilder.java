@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IntroSorter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the {@link StarTree} of a segment from the values of the dimensions and metrics of its documents. Records are held on
+ * heap, up to a maximum number of records beyond which the segment gets no tree.
+ *
+ * @opensearch.internal
+ */
+final class StarTreeBuilder {
+
+    private final String[] dimensions;
+    private final StarTree.DimensionType[] dimensionTypes;
+    private final long dateInterval;
+    private final String[] metrics;
+    private final int maxLeafRecords;
+    private final int maxRecords;
+
+    private final Map<DimensionValues, Integer> records = new HashMap<>();
+    private final DimensionValues lookupKey = new DimensionValues();
+    private int numRecords;
+    private long[][] dimensionValues;
+    private long[] docCounts;
+    private long[][] valueCounts;
+    private double[][] sums;
+    private double[][] mins;
+    private double[][] maxs;
+
+    private int numNodes;
+    private int[] nodeChildDimension;
+    private long[] nodeValue;
+    private int[] nodeStart;
+    private int[] nodeEnd;
+    private int[] nodeFirstChild;
+    private int[] nodeNumChildren;
+
+    StarTreeBuilder(
+        String[] dimensions,
+        StarTree.DimensionType[] dimensionTypes,
+        long dateInterval,
+        String[] metrics,
+        int maxLeafRecords,
+        int maxRecords
+    ) {
+        this.dimensions = dimensions;
+        this.dimensionTypes = dimensionTypes;
+        this.dateInterval = dateInterval;
+        this.metrics = metrics;
+        this.maxLeafRecords = maxLeafRecords;
+        this.maxRecords = maxRecords;
+        this.dimensionValues = new long[dimensions.length][0];
+        this.docCounts = new long[0];
+        this.valueCounts = new long[metrics.length][0];
+        this.sums = new double[metrics.length][0];
+        this.mins = new double[metrics.length][0];
+        this.maxs = new double[metrics.length][0];
+    }
+
+    /**
+     * Adds a document with the given values of the dimensions and returns the record that its metrics must be added to, or -1 if
+     * the document needs a new record and the tree already has the maximum number of records.
+     */
+    int addDocument(long[] values) {
+        assert values.length == dimensions.length;
+        Integer record = records.get(lookupKey.reset(values));
+        if (record == null) {
+            record = newRecord();
+            if (record == -1) {
+                return -1;
+            }
+            for (int dim = 0; dim < dimensions.length; dim++) {
+                dimensionValues[dim][record] = values[dim];
+            }
+            records.put(new DimensionValues().reset(values.clone()), record);
+        }
+        docCounts[record]++;
+        return record;
+    }
+
+    /**
+     * Adds a value of a metric of a document to the record of the document.
+     */
+    void addMetricValue(int record, int metric, double value) {
+        valueCounts[metric][record]++;
+        sums[metric][record] += value;
+        mins[metric][record] = Math.min(mins[metric][record], value);
+        maxs[metric][record] = Math.max(maxs[metric][record], value);
+    }
+
+    /**
+     * Returns the tree of the documents, {@code null} if the records aggregated over dimensions don't fit in the maximum number of
+     * records.
+     */
+    StarTree build() {
+        records.clear();
+        sortRecords();
+        final int root = newNode(StarTree.STAR, 0, numRecords);
+        if (split(root, 0) == false) {
+            return null;
+        }
+        return new StarTree(
+            dimensions,
+            dimensionTypes,
+            dateInterval,
+            metrics,
+            numRecords,
+            dimensionValues,
+            docCounts,
+            valueCounts,
+            sums,
+            mins,
+            maxs,
+            Arrays.copyOf(nodeChildDimension, numNodes),
+            Arrays.copyOf(nodeValue, numNodes),
+            Arrays.copyOf(nodeStart, numNodes),
+            Arrays.copyOf(nodeEnd, numNodes),
+            Arrays.copyOf(nodeFirstChild, numNodes),
+            Arrays.copyOf(nodeNumChildren, numNodes)
+        );
+    }
+
+    /**
+     * Splits the records of the node on the values of the dimension, recursively. The records of the node must be sorted by the
+     * values of the dimension and of the dimensions after it. Returns {@code false} if the tree exceeds the maximum number of
+     * records.
+     */
+    private boolean split(int node, int dim) {
+        final int start = nodeStart[node];
+        final int end = nodeEnd[node];
+        if (dim == dimensions.length || end - start <= maxLeafRecords) {
+            return true;
+        }
+        int numValues = 1;
+        for (int record = start + 1; record < end; record++) {
+            if (dimensionValues[dim][record] != dimensionValues[dim][record - 1]) {
+                numValues++;
+            }
+        }
+        final int numChildren = numValues > 1 ? numValues + 1 : 1;
+        final int firstChild = numNodes;
+        int childStart = start;
+        for (int record = start + 1; record <= end; record++) {
+            if (record == end || dimensionValues[dim][record] != dimensionValues[dim][childStart]) {
+                newNode(dimensionValues[dim][childStart], childStart, record);
+                childStart = record;
+            }
+        }
+        if (numValues > 1) {
+            final int starStart = numRecords;
+            if (addStarRecords(start, end, dim) == false) {
+                return false;
+            }
+            newNode(StarTree.STAR, starStart, numRecords);
+        }
+        nodeChildDimension[node] = dim;
+        nodeFirstChild[node] = firstChild;
+        nodeNumChildren[node] = numChildren;
+        for (int child = firstChild; child < firstChild + numChildren; child++) {
+            if (split(child, dim + 1) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the records between {@code start} and {@code end} aggregated over the dimension, sorted by the values of the
+     * dimensions after it. The records must have the same values for the dimensions before it. Returns {@code false} if the tree
+     * exceeds the maximum number of records.
+     */
+    private boolean addStarRecords(int start, int end, int dim) {
+        final int[] order = sort(start, end, dim + 1);
+        int starRecord = -1;
+        for (int i = 0; i < order.length; i++) {
+            final int record = order[i];
+            if (starRecord == -1 || compare(starRecord, record, dim + 1) != 0) {
+                starRecord = newRecord();
+                if (starRecord == -1) {
+                    return false;
+                }
+                for (int d = 0; d < dimensions.length; d++) {
+                    dimensionValues[d][starRecord] = d == dim ? StarTree.STAR : dimensionValues[d][record];
+                }
+            }
+            docCounts[starRecord] += docCounts[record];
+            for (int metric = 0; metric < metrics.length; metric++) {
+                valueCounts[metric][starRecord] += valueCounts[metric][record];
+                sums[metric][starRecord] += sums[metric][record];
+                mins[metric][starRecord] = Math.min(mins[metric][starRecord], mins[metric][record]);
+                maxs[metric][starRecord] = Math.max(maxs[metric][starRecord], maxs[metric][record]);
+            }
+        }
+        return true;
+    }
+
+    private void sortRecords() {
+        final int[] order = sort(0, numRecords, 0);
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            dimensionValues[dim] = reorder(dimensionValues[dim], order);
+        }
+        docCounts = reorder(docCounts, order);
+        for (int metric = 0; metric < metrics.length; metric++) {
+            valueCounts[metric] = reorder(valueCounts[metric], order);
+            sums[metric] = reorder(sums[metric], order);
+            mins[metric] = reorder(mins[metric], order);
+            maxs[metric] = reorder(maxs[metric], order);
+        }
+    }
+
+    /**
+     * Returns the records between {@code start} and {@code end} sorted by the values of the dimensions from {@code fromDim}.
+     */
+    private int[] sort(int start, int end, int fromDim) {
+        final int[] order = new int[end - start];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = start + i;
+        }
+        new IntroSorter() {
+            private int pivot;
+
+            @Override
+            protected void swap(int i, int j) {
+                final int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+
+            @Override
+            protected void setPivot(int i) {
+                pivot = order[i];
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return compare(pivot, order[j], fromDim);
+            }
+        }.sort(0, order.length);
+        return order;
+    }
+
+    private int compare(int record1, int record2, int fromDim) {
+        for (int dim = fromDim; dim < dimensions.length; dim++) {
+            final int cmp = Long.compare(dimensionValues[dim][record1], dimensionValues[dim][record2]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private int newRecord() {
+        if (numRecords == maxRecords) {
+            return -1;
+        }
+        if (numRecords == docCounts.length) {
+            final int size = Math.min(ArrayUtil.oversize(numRecords + 1, Long.BYTES), maxRecords);
+            for (int dim = 0; dim < dimensions.length; dim++) {
+                dimensionValues[dim] = Arrays.copyOf(dimensionValues[dim], size);
+            }
+            docCounts = Arrays.copyOf(docCounts, size);
+            for (int metric = 0; metric < metrics.length; metric++) {
+                valueCounts[metric] = Arrays.copyOf(valueCounts[metric], size);
+                sums[metric] = Arrays.copyOf(sums[metric], size);
+                mins[metric] = Arrays.copyOf(mins[metric], size);
+                maxs[metric] = Arrays.copyOf(maxs[metric], size);
+            }
+        }
+        for (int metric = 0; metric < metrics.length; metric++) {
+            mins[metric][numRecords] = Double.POSITIVE_INFINITY;
+            maxs[metric][numRecords] = Double.NEGATIVE_INFINITY;
+        }
+        return numRecords++;
+    }
+
+    private int newNode(long value, int start, int end) {
+        if (nodeStart == null || numNodes == nodeStart.length) {
+            final int size = ArrayUtil.oversize(numNodes + 1, Long.BYTES);
+            nodeChildDimension = nodeChildDimension == null ? new int[size] : Arrays.copyOf(nodeChildDimension, size);
+            nodeValue = nodeValue == null ? new long[size] : Arrays.copyOf(nodeValue, size);
+            nodeStart = nodeStart == null ? new int[size] : Arrays.copyOf(nodeStart, size);
+            nodeEnd = nodeEnd == null ? new int[size] : Arrays.copyOf(nodeEnd, size);
+            nodeFirstChild = nodeFirstChild == null ? new int[size] : Arrays.copyOf(nodeFirstChild, size);
+            nodeNumChildren = nodeNumChildren == null ? new int[size] : Arrays.copyOf(nodeNumChildren, size);
+        }
+        nodeChildDimension[numNodes] = -1;
+        nodeValue[numNodes] = value;
+        nodeStart[numNodes] = start;
+        nodeEnd[numNodes] = end;
+        return numNodes++;
+    }
+
+    private static long[] reorder(long[] values, int[] order) {
+        final long[] reordered = Arrays.copyOf(values, values.length);
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = values[order[i]];
+        }
+        return reordered;
+    }
+
+    private static double[] reorder(double[] values, int[] order) {
+        final double[] reordered = Arrays.copyOf(values, values.length);
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = values[order[i]];
+        }
+        return reordered;
+    }
+
+    /**
+     * The values of the dimensions of a document, as a key of the map of the records. Lookups reuse a single key, only the keys of
+     * new records copy the values.
+     */
+    private static final class DimensionValues {
+        private long[] values;
+        private int hashCode;
+
+        DimensionValues reset(long[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DimensionValues && Arrays.equals(values, ((DimensionValues) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
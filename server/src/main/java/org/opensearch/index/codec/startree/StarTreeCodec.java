@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.lucene94.Lucene94Codec;
+
+/**
+ * A {@link Codec} that writes the {@link StarTree} of every segment with {@link StarTreeDocValuesFormat} and delegates everything
+ * else to the given codec. Segments are read back through SPI, with the latest Lucene codec as the delegate since postings and
+ * doc values formats are recorded per field and the stored fields mode per segment.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeCodec extends FilterCodec {
+
+    public static final String NAME = "StarTree94";
+
+    private final DocValuesFormat docValuesFormat;
+
+    /**
+     * Used to read segments through SPI.
+     */
+    public StarTreeCodec() {
+        super(NAME, new Lucene94Codec());
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat());
+    }
+
+    public StarTreeCodec(Codec delegate, StarTreeConfig config) {
+        super(NAME, delegate);
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat(), config);
+    }
+
+    @Override
+    public DocValuesFormat docValuesFormat() {
+        return docValuesFormat;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.document.HalfFloatPoint;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * The dimensions and metrics that the star trees of the segments of an index are built for, see
+ * {@link IndexSettings#INDEX_STAR_TREE_DIMENSIONS_SETTING}. Fields are resolved against the mapping every time a segment is
+ * written, a segment gets no star tree if one of them is not mapped with a supported type.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeConfig {
+
+    private final String[] dimensions;
+    private final String[] metrics;
+    private final long dateIntervalMillis;
+    private final int maxLeafRecords;
+    private final int maxRecords;
+    private final Function<String, MappedFieldType> fieldTypeLookup;
+
+    public StarTreeConfig(
+        List<String> dimensions,
+        List<String> metrics,
+        long dateIntervalMillis,
+        int maxLeafRecords,
+        int maxRecords,
+        Function<String, MappedFieldType> fieldTypeLookup
+    ) {
+        this.dimensions = dimensions.toArray(new String[0]);
+        this.metrics = metrics.toArray(new String[0]);
+        this.dateIntervalMillis = dateIntervalMillis;
+        this.maxLeafRecords = maxLeafRecords;
+        this.maxRecords = maxRecords;
+        this.fieldTypeLookup = fieldTypeLookup;
+    }
+
+    /**
+     * Returns the configuration of the star trees of the index, {@code null} if the index has no star tree dimension.
+     */
+    public static StarTreeConfig fromIndexSettings(IndexSettings indexSettings, Function<String, MappedFieldType> fieldTypeLookup) {
+        final List<String> dimensions = indexSettings.getValue(IndexSettings.INDEX_STAR_TREE_DIMENSIONS_SETTING);
+        if (dimensions.isEmpty()) {
+            return null;
+        }
+        return new StarTreeConfig(
+            dimensions,
+            indexSettings.getValue(IndexSettings.INDEX_STAR_TREE_METRICS_SETTING),
+            indexSettings.getValue(IndexSettings.INDEX_STAR_TREE_DATE_INTERVAL_SETTING).millis(),
+            indexSettings.getValue(IndexSettings.INDEX_STAR_TREE_MAX_LEAF_RECORDS_SETTING),
+            indexSettings.getValue(IndexSettings.INDEX_STAR_TREE_MAX_RECORDS_SETTING),
+            fieldTypeLookup
+        );
+    }
+
+    String[] dimensions() {
+        return dimensions;
+    }
+
+    String[] metrics() {
+        return metrics;
+    }
+
+    long dateIntervalMillis() {
+        return dateIntervalMillis;
+    }
+
+    int maxLeafRecords() {
+        return maxLeafRecords;
+    }
+
+    int maxRecords() {
+        return maxRecords;
+    }
+
+    /**
+     * Returns how the values of the dimension are stored in the tree, {@code null} if its field doesn't support star trees.
+     */
+    StarTree.DimensionType dimensionType(String dimension) {
+        final MappedFieldType fieldType = fieldTypeLookup.apply(dimension);
+        if (fieldType instanceof KeywordFieldMapper.KeywordFieldType && fieldType.hasDocValues()) {
+            return StarTree.DimensionType.ORDINAL;
+        }
+        if (fieldType instanceof DateFieldMapper.DateFieldType
+            && ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS
+            && fieldType.hasDocValues()) {
+            return StarTree.DimensionType.DATE;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the converter of the doc values of the metric to their values, {@code null} if its field doesn't support star trees.
+     */
+    LongToDoubleFunction metricDecoder(String metric) {
+        final MappedFieldType fieldType = fieldTypeLookup.apply(metric);
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false || fieldType.hasDocValues() == false) {
+            return null;
+        }
+        switch (((NumberFieldMapper.NumberFieldType) fieldType).numericType()) {
+            case HALF_FLOAT:
+                return value -> HalfFloatPoint.sortableShortToHalfFloat((short) value);
+            case FLOAT:
+                return value -> NumericUtils.sortableIntToFloat((int) value);
+            case DOUBLE:
+                return NumericUtils::sortableLongToDouble;
+            default:
+                return value -> value;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FilterCodecReader;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A {@link DocValuesFormat} that writes the {@link StarTree} of every segment next to the doc values written by a delegate format.
+ * The tree is built from the doc values of its dimensions and metrics when the segment is flushed or merged, and held on heap
+ * while the segment is open. Segments that need more than
+ * {@link org.opensearch.index.IndexSettings#INDEX_STAR_TREE_MAX_RECORDS_SETTING} records get no tree.
+ * <p>
+ * Segments whose documents have several values for a dimension get no tree, and neither do the doc values updates of a segment,
+ * which makes the tree of the segment stale: it is not exposed by the readers of segments with doc values updates.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeDocValuesFormat extends DocValuesFormat {
+
+    public static final String NAME = "StarTree";
+
+    static final String EXTENSION = "stt";
+    private static final String CODEC_NAME = "StarTree";
+    private static final int VERSION_START = 0;
+    private static final int VERSION_CURRENT = VERSION_START;
+
+    private final DocValuesFormat delegate;
+    private final StarTreeConfig config;
+
+    /**
+     * Creates a format that builds no tree, used to read segments through {@link StarTreeCodec}.
+     */
+    public StarTreeDocValuesFormat(DocValuesFormat delegate) {
+        this(delegate, null);
+    }
+
+    public StarTreeDocValuesFormat(DocValuesFormat delegate, StarTreeConfig config) {
+        super(NAME);
+        this.delegate = delegate;
+        this.config = config;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        final DocValuesConsumer delegateConsumer = delegate.fieldsConsumer(state);
+        if (state.segmentSuffix.isEmpty() == false) {
+            // doc values updates
+            return delegateConsumer;
+        }
+        return new StarTreeDocValuesConsumer(delegateConsumer, config, state);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        final DocValuesProducer delegateProducer = delegate.fieldsProducer(state);
+        if (state.segmentSuffix.isEmpty() == false) {
+            return delegateProducer;
+        }
+        boolean success = false;
+        try {
+            final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+            StarTree starTree = null;
+            try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+                Throwable priorException = null;
+                try {
+                    CodecUtil.checkIndexHeader(
+                        in,
+                        CODEC_NAME,
+                        VERSION_START,
+                        VERSION_CURRENT,
+                        state.segmentInfo.getId(),
+                        state.segmentSuffix
+                    );
+                    if (in.readByte() == 1) {
+                        starTree = StarTree.readFrom(in);
+                    }
+                } catch (Throwable t) {
+                    priorException = t;
+                } finally {
+                    CodecUtil.checkFooter(in, priorException);
+                }
+            }
+            final DocValuesProducer producer = new StarTreeDocValuesProducer(delegateProducer, starTree);
+            success = true;
+            return producer;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(delegateProducer);
+            }
+        }
+    }
+
+    /**
+     * Returns the star tree of the segment of the reader, {@code null} if the segment has none or if the reader may not expose
+     * the documents or the values that the tree was built from.
+     */
+    public static StarTree getStarTree(LeafReader reader) {
+        if (reader.hasDeletions()) {
+            return null;
+        }
+        final StarTreeDocValuesProducer producer = producer(reader);
+        return producer == null ? null : producer.starTree;
+    }
+
+    /**
+     * Returns the heap used by the star tree that the segment of the reader loaded, including trees that deletions hide.
+     */
+    public static long starTreeRamBytesUsed(LeafReader reader) {
+        final StarTreeDocValuesProducer producer = producer(reader);
+        return producer == null || producer.starTree == null ? 0 : producer.starTree.ramBytesUsed();
+    }
+
+    private static StarTreeDocValuesProducer producer(LeafReader reader) {
+        while (true) {
+            if (reader instanceof FilterLeafReader) {
+                reader = ((FilterLeafReader) reader).getDelegate();
+            } else if (reader instanceof FilterCodecReader) {
+                reader = ((FilterCodecReader) reader).getDelegate();
+            } else {
+                break;
+            }
+        }
+        if (reader instanceof SegmentReader) {
+            final SegmentReader segmentReader = (SegmentReader) reader;
+            // the producer of a segment with doc values updates merges the producers of the updates
+            if (segmentReader.getDocValuesReader() instanceof StarTreeDocValuesProducer) {
+                return (StarTreeDocValuesProducer) segmentReader.getDocValuesReader();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects the producers of the doc values of the dimensions and metrics while the delegate consumer writes them, and builds
+     * the tree from them when the segment is complete.
+     */
+    private static final class StarTreeDocValuesConsumer extends DocValuesConsumer {
+
+        private final DocValuesConsumer delegate;
+        private final StarTreeConfig config;
+        private final SegmentWriteState state;
+        private final Map<String, FieldInfo> fieldInfos = new HashMap<>();
+        private final Map<String, DocValuesProducer> producers = new HashMap<>();
+
+        StarTreeDocValuesConsumer(DocValuesConsumer delegate, StarTreeConfig config, SegmentWriteState state) {
+            this.delegate = delegate;
+            this.config = config;
+            this.state = state;
+        }
+
+        private void addField(FieldInfo field, DocValuesProducer valuesProducer) {
+            fieldInfos.put(field.name, field);
+            producers.put(field.name, valuesProducer);
+        }
+
+        @Override
+        public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            delegate.addNumericField(field, valuesProducer);
+        }
+
+        @Override
+        public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            delegate.addBinaryField(field, valuesProducer);
+        }
+
+        @Override
+        public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            delegate.addSortedField(field, valuesProducer);
+        }
+
+        @Override
+        public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            delegate.addSortedNumericField(field, valuesProducer);
+            addField(field, valuesProducer);
+        }
+
+        @Override
+        public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            delegate.addSortedSetField(field, valuesProducer);
+            addField(field, valuesProducer);
+        }
+
+        /**
+         * Lets the delegate merge the doc values, which merges every field with its own format, and collects merged views of the
+         * doc values of the dimensions and metrics to build the tree from.
+         */
+        @Override
+        public void merge(MergeState mergeState) throws IOException {
+            delegate.merge(mergeState);
+            if (config == null) {
+                return;
+            }
+            final DocValuesConsumer collector = new DocValuesConsumer() {
+                @Override
+                public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) {
+                    addField(field, valuesProducer);
+                }
+
+                @Override
+                public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) {
+                    addField(field, valuesProducer);
+                }
+
+                @Override
+                public void close() {}
+            };
+            for (String[] fields : new String[][] { config.dimensions(), config.metrics() }) {
+                for (String field : fields) {
+                    final FieldInfo fieldInfo = mergeState.mergeFieldInfos.fieldInfo(field);
+                    if (fieldInfo == null) {
+                        continue;
+                    }
+                    if (fieldInfo.getDocValuesType() == DocValuesType.SORTED_SET) {
+                        collector.mergeSortedSetField(fieldInfo, mergeState);
+                    } else if (fieldInfo.getDocValuesType() == DocValuesType.SORTED_NUMERIC) {
+                        collector.mergeSortedNumericField(fieldInfo, mergeState);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            boolean success = false;
+            try {
+                final StarTree starTree = config == null ? null : buildStarTree();
+                final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+                try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+                    CodecUtil.writeIndexHeader(out, CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                    if (starTree == null) {
+                        out.writeByte((byte) 0);
+                    } else {
+                        out.writeByte((byte) 1);
+                        starTree.writeTo(out);
+                    }
+                    CodecUtil.writeFooter(out);
+                }
+                success = true;
+            } finally {
+                if (success) {
+                    delegate.close();
+                } else {
+                    IOUtils.closeWhileHandlingException(delegate);
+                }
+            }
+        }
+
+        /**
+         * Returns the star tree of the documents of the segment, {@code null} if they don't fit in one or if it needs more than the
+         * maximum number of records.
+         */
+        private StarTree buildStarTree() throws IOException {
+            final String[] dimensions = config.dimensions();
+            final String[] metrics = config.metrics();
+            final StarTree.DimensionType[] dimensionTypes = new StarTree.DimensionType[dimensions.length];
+            final SortedSetDocValues[] ordinalValues = new SortedSetDocValues[dimensions.length];
+            final SortedNumericDocValues[] dateValues = new SortedNumericDocValues[dimensions.length];
+            for (int dim = 0; dim < dimensions.length; dim++) {
+                dimensionTypes[dim] = config.dimensionType(dimensions[dim]);
+                if (dimensionTypes[dim] == null) {
+                    return null;
+                }
+                final FieldInfo fieldInfo = fieldInfos.get(dimensions[dim]);
+                if (fieldInfo == null) {
+                    // no document of the segment has a value
+                    continue;
+                }
+                if (dimensionTypes[dim] == StarTree.DimensionType.ORDINAL) {
+                    ordinalValues[dim] = producers.get(dimensions[dim]).getSortedSet(fieldInfo);
+                } else {
+                    dateValues[dim] = producers.get(dimensions[dim]).getSortedNumeric(fieldInfo);
+                }
+            }
+            final SortedNumericDocValues[] metricValues = new SortedNumericDocValues[metrics.length];
+            final LongToDoubleFunction[] decoders = new LongToDoubleFunction[metrics.length];
+            for (int metric = 0; metric < metrics.length; metric++) {
+                decoders[metric] = config.metricDecoder(metrics[metric]);
+                if (decoders[metric] == null) {
+                    return null;
+                }
+                final FieldInfo fieldInfo = fieldInfos.get(metrics[metric]);
+                if (fieldInfo != null) {
+                    metricValues[metric] = producers.get(metrics[metric]).getSortedNumeric(fieldInfo);
+                }
+            }
+
+            final long interval = config.dateIntervalMillis();
+            final StarTreeBuilder builder = new StarTreeBuilder(
+                dimensions,
+                dimensionTypes,
+                interval,
+                metrics,
+                config.maxLeafRecords(),
+                config.maxRecords()
+            );
+            final long[] values = new long[dimensions.length];
+            final int maxDoc = state.segmentInfo.maxDoc();
+            for (int doc = 0; doc < maxDoc; doc++) {
+                for (int dim = 0; dim < dimensions.length; dim++) {
+                    values[dim] = StarTree.MISSING;
+                    if (ordinalValues[dim] != null && ordinalValues[dim].advanceExact(doc)) {
+                        values[dim] = ordinalValues[dim].nextOrd();
+                        if (ordinalValues[dim].nextOrd() != SortedSetDocValues.NO_MORE_ORDS) {
+                            return null;
+                        }
+                    } else if (dateValues[dim] != null && dateValues[dim].advanceExact(doc)) {
+                        if (dateValues[dim].docValueCount() > 1) {
+                            return null;
+                        }
+                        values[dim] = Math.floorDiv(dateValues[dim].nextValue(), interval) * interval;
+                    }
+                }
+                final int record = builder.addDocument(values);
+                if (record == -1) {
+                    return null;
+                }
+                for (int metric = 0; metric < metrics.length; metric++) {
+                    if (metricValues[metric] != null && metricValues[metric].advanceExact(doc)) {
+                        for (int i = 0; i < metricValues[metric].docValueCount(); i++) {
+                            builder.addMetricValue(record, metric, decoders[metric].applyAsDouble(metricValues[metric].nextValue()));
+                        }
+                    }
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Delegates the doc values of a segment and holds its star tree.
+     */
+    private static final class StarTreeDocValuesProducer extends DocValuesProducer {
+
+        private final DocValuesProducer delegate;
+        private final StarTree starTree;
+
+        StarTreeDocValuesProducer(DocValuesProducer delegate, StarTree starTree) {
+            this.delegate = delegate;
+            this.starTree = starTree;
+        }
+
+        @Override
+        public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+            return delegate.getNumeric(field);
+        }
+
+        @Override
+        public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+            return delegate.getBinary(field);
+        }
+
+        @Override
+        public SortedDocValues getSorted(FieldInfo field) throws IOException {
+            return delegate.getSorted(field);
+        }
+
+        @Override
+        public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+            return delegate.getSortedNumeric(field);
+        }
+
+        @Override
+        public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+            return delegate.getSortedSet(field);
+        }
+
+        @Override
+        public void checkIntegrity() throws IOException {
+            // the tree was verified against its checksum when it was loaded
+            delegate.checkIntegrity();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(delegate=" + delegate + ")";
+        }
+    }
+}
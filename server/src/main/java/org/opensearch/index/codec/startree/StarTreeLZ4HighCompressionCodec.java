@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.FilterCodec;
+import org.opensearch.index.codec.LZ4HighCompressionCodec;
+
+/**
+ * The {@link StarTreeCodec} of the {@code lz4_high_compression} codec. Segments are read back through SPI with
+ * {@link LZ4HighCompressionCodec} as the delegate, which reads their stored fields; the latest Lucene codec, that
+ * {@link StarTreeCodec} reads segments with, can't.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeLZ4HighCompressionCodec extends FilterCodec {
+
+    public static final String NAME = "StarTreeLZ4HighCompression94";
+
+    private final DocValuesFormat docValuesFormat;
+
+    /**
+     * Used to read segments through SPI.
+     */
+    public StarTreeLZ4HighCompressionCodec() {
+        super(NAME, new LZ4HighCompressionCodec());
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat());
+    }
+
+    public StarTreeLZ4HighCompressionCodec(LZ4HighCompressionCodec delegate, StarTreeConfig config) {
+        super(NAME, delegate);
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat(), config);
+    }
+
+    @Override
+    public DocValuesFormat docValuesFormat() {
+        return docValuesFormat;
+    }
+}
@@ -6,7 +6,5 @@
  * compatible open source license.
  */
 
-/**
- * The implementation of the experimental plugin which implements the concurrent search over Apache Lucene segments.
- */
-package org.opensearch.search;
+/** Star tree pre-aggregation of the segments of an index, written by a codec and read by aggregations. */
+package org.opensearch.index.codec.startree;
@@ -0,0 +1,374 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A map from uid to {@link IndexVersionValue} that stores its entries in columns of primitive arrays rather than as objects. The
+ * uids are copied into pages of bytes and their entries are indexed by an open addressing hash table, so that an entry costs a few
+ * dozen bytes plus the length of its uid instead of a hash map entry, a {@link BytesRef}, a byte array, a version value and a
+ * translog location. Values are materialized on {@link #get}.
+ * <p>
+ * The map is split into segments that are guarded by their own monitor so that different uids can be updated concurrently. A
+ * segment whose columns are full compacts its live entries instead of growing when at least half of its entries were removed, so
+ * that the storage of removed entries is reused before the map is dropped on refresh.
+ *
+ * @opensearch.internal
+ */
+final class CompactVersionMap implements Accountable {
+
+    private static final int SEGMENTS = 64;
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    private static final BigArrays BIG_ARRAYS = BigArrays.NON_RECYCLING_INSTANCE;
+
+    /**
+     * An empty map that can't be modified.
+     */
+    static final CompactVersionMap EMPTY = new CompactVersionMap(0);
+
+    private final Segment[] segments;
+    private final AtomicInteger size = new AtomicInteger();
+    // the bytes used by the arrays of the segments, so that an empty map accounts for no memory like an empty hash map
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+
+    CompactVersionMap() {
+        this(SEGMENTS);
+    }
+
+    private CompactVersionMap(int numSegments) {
+        segments = new Segment[numSegments];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(this);
+        }
+    }
+
+    private Segment segment(int hash) {
+        // the lowest bits of the hash select the slot within the segment
+        return segments[hash >>> SEGMENT_SHIFT];
+    }
+
+    IndexVersionValue get(BytesRef uid) {
+        if (this == EMPTY) {
+            return null;
+        }
+        final int hash = uid.hashCode();
+        return segment(hash).get(uid, hash);
+    }
+
+    /**
+     * Associates the given value with the given uid, replacing the value previously associated with it if any.
+     */
+    void put(BytesRef uid, IndexVersionValue value) {
+        if (this == EMPTY) {
+            throw new UnsupportedOperationException("the empty version map can't be modified");
+        }
+        final int hash = uid.hashCode();
+        segment(hash).put(uid, hash, value);
+    }
+
+    /**
+     * Removes the value associated with the given uid and returns whether there was one.
+     */
+    boolean remove(BytesRef uid) {
+        if (this == EMPTY) {
+            return false;
+        }
+        final int hash = uid.hashCode();
+        return segment(hash).remove(uid, hash);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed.get();
+    }
+
+    /**
+     * Returns a copy of the entries of this map. Each segment is copied atomically.
+     */
+    Map<BytesRef, VersionValue> copy() {
+        final Map<BytesRef, VersionValue> copy = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(copy);
+        }
+        return copy;
+    }
+
+    /**
+     * A segment of the map. Entries are identified by the order they were added in, which is their index in the columns, and
+     * the table stores the ids of the entries plus one so that empty slots are zero.
+     */
+    private static final class Segment {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final CompactVersionMap map;
+        private final BytesRef scratch = new BytesRef();
+
+        // all arrays are allocated on the first put so that segments that are not used by a map do not use memory
+        private IntArray table;
+        private int mask;
+        private int size;
+        private int entries;
+        private IntArray hashes;
+        private IntArray keyOffsets;
+        private IntArray keyLengths;
+        private ByteArray keys;
+        private int keyBytes;
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        private LongArray locationGenerations;
+        private LongArray locationOffsets;
+        private IntArray locationSizes;
+        // whether the entries have a translog location, as the columns of the location can hold any value
+        private ByteArray hasLocations;
+        private long arraysBytesUsed;
+
+        Segment(CompactVersionMap map) {
+            this.map = map;
+        }
+
+        synchronized IndexVersionValue get(BytesRef uid, int hash) {
+            final int slot = slot(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final int id = table.get(slot) - 1;
+            final Translog.Location location = hasLocations.get(id) == 0
+                ? null
+                : new Translog.Location(locationGenerations.get(id), locationOffsets.get(id), locationSizes.get(id));
+            return new IndexVersionValue(location, versions.get(id), seqNos.get(id), terms.get(id));
+        }
+
+        synchronized void put(BytesRef uid, int hash, IndexVersionValue value) {
+            final int slot = slot(uid, hash);
+            final int id;
+            if (slot >= 0) {
+                id = table.get(slot) - 1;
+            } else {
+                id = add(uid, hash);
+            }
+            versions.set(id, value.version);
+            seqNos.set(id, value.seqNo);
+            terms.set(id, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                hasLocations.set(id, (byte) 0);
+            } else {
+                hasLocations.set(id, (byte) 1);
+                locationGenerations.set(id, location.generation);
+                locationOffsets.set(id, location.translogLocation);
+                locationSizes.set(id, location.size);
+            }
+        }
+
+        synchronized boolean remove(BytesRef uid, int hash) {
+            int slot = slot(uid, hash);
+            if (slot < 0) {
+                return false;
+            }
+            table.set(slot, 0);
+            size--;
+            map.size.decrementAndGet();
+            // shift back the entries that follow the removed one in their probe sequence, so that lookups need no tombstones
+            int next = (slot + 1) & mask;
+            int entry;
+            while ((entry = table.get(next)) != 0) {
+                final int home = hashes.get(entry - 1) & mask;
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    table.set(slot, entry);
+                    table.set(next, 0);
+                    slot = next;
+                }
+                next = (next + 1) & mask;
+            }
+            return true;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> copy) {
+            if (table == null) {
+                return;
+            }
+            for (long slot = 0; slot < table.size(); slot++) {
+                final int id = table.get(slot) - 1;
+                if (id >= 0) {
+                    final BytesRef uid = BytesRef.deepCopyOf(key(id));
+                    copy.put(uid, get(uid, hashes.get(id)));
+                }
+            }
+        }
+
+        /**
+         * Returns the slot of the table holding the entry of the given uid, or -1 if there is none.
+         */
+        private int slot(BytesRef uid, int hash) {
+            if (table == null) {
+                return -1;
+            }
+            int slot = hash & mask;
+            int entry;
+            while ((entry = table.get(slot)) != 0) {
+                final int id = entry - 1;
+                if (hashes.get(id) == hash && key(id).bytesEquals(uid)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private BytesRef key(int id) {
+            keys.get(keyOffsets.get(id), keyLengths.get(id), scratch);
+            return scratch;
+        }
+
+        private int add(BytesRef uid, int hash) {
+            if (table == null) {
+                table = BIG_ARRAYS.newIntArray(INITIAL_CAPACITY, true);
+                mask = INITIAL_CAPACITY - 1;
+                hashes = BIG_ARRAYS.newIntArray(INITIAL_CAPACITY, false);
+                keyOffsets = BIG_ARRAYS.newIntArray(INITIAL_CAPACITY, false);
+                keyLengths = BIG_ARRAYS.newIntArray(INITIAL_CAPACITY, false);
+                keys = BIG_ARRAYS.newByteArray(INITIAL_CAPACITY * uid.length, false);
+                versions = BIG_ARRAYS.newLongArray(INITIAL_CAPACITY, false);
+                seqNos = BIG_ARRAYS.newLongArray(INITIAL_CAPACITY, false);
+                terms = BIG_ARRAYS.newLongArray(INITIAL_CAPACITY, false);
+                locationGenerations = BIG_ARRAYS.newLongArray(INITIAL_CAPACITY, false);
+                locationOffsets = BIG_ARRAYS.newLongArray(INITIAL_CAPACITY, false);
+                locationSizes = BIG_ARRAYS.newIntArray(INITIAL_CAPACITY, false);
+                hasLocations = BIG_ARRAYS.newByteArray(INITIAL_CAPACITY, false);
+            } else if (size >= table.size() / 2) {
+                // keep the load factor at most 50% so that probe sequences stay short
+                rehash(table.size() * 2);
+            }
+            if (entries == hashes.size() && entries - size >= size) {
+                compact();
+            }
+            final int id = entries++;
+            if (id >= hashes.size()) {
+                hashes = BIG_ARRAYS.grow(hashes, entries);
+                keyOffsets = BIG_ARRAYS.grow(keyOffsets, entries);
+                keyLengths = BIG_ARRAYS.grow(keyLengths, entries);
+                versions = BIG_ARRAYS.grow(versions, entries);
+                seqNos = BIG_ARRAYS.grow(seqNos, entries);
+                terms = BIG_ARRAYS.grow(terms, entries);
+                locationGenerations = BIG_ARRAYS.grow(locationGenerations, entries);
+                locationOffsets = BIG_ARRAYS.grow(locationOffsets, entries);
+                locationSizes = BIG_ARRAYS.grow(locationSizes, entries);
+                hasLocations = BIG_ARRAYS.grow(hasLocations, entries);
+            }
+            keys = BIG_ARRAYS.grow(keys, (long) keyBytes + uid.length);
+            keys.set(keyBytes, uid.bytes, uid.offset, uid.length);
+            hashes.set(id, hash);
+            keyOffsets.set(id, keyBytes);
+            keyLengths.set(id, uid.length);
+            keyBytes = Math.addExact(keyBytes, uid.length);
+
+            int slot = hash & mask;
+            while (table.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table.set(slot, id + 1);
+            size++;
+            map.size.incrementAndGet();
+            updateRamBytesUsed();
+            return id;
+        }
+
+        /**
+         * Moves the live entries and their uids to the lowest ids and offsets, in place, so that the storage of the removed
+         * entries is reused by the next entries.
+         */
+        private void compact() {
+            // the ids of the live entries along with their slots, in the order of the ids
+            final long[] live = new long[size];
+            int numLive = 0;
+            for (long slot = 0; slot < table.size(); slot++) {
+                final int entry = table.get(slot);
+                if (entry != 0) {
+                    live[numLive++] = ((long) (entry - 1) << 32) | slot;
+                }
+            }
+            assert numLive == size;
+            Arrays.sort(live);
+            // ids and key offsets only decrease, so entries and uids are never overwritten before they are moved
+            int newKeyBytes = 0;
+            for (int newId = 0; newId < numLive; newId++) {
+                final int id = (int) (live[newId] >>> 32);
+                final int slot = (int) live[newId];
+                final BytesRef key = key(id);
+                keys.set(newKeyBytes, key.bytes, key.offset, key.length);
+                keyOffsets.set(newId, newKeyBytes);
+                keyLengths.set(newId, key.length);
+                newKeyBytes += key.length;
+                hashes.set(newId, hashes.get(id));
+                versions.set(newId, versions.get(id));
+                seqNos.set(newId, seqNos.get(id));
+                terms.set(newId, terms.get(id));
+                locationGenerations.set(newId, locationGenerations.get(id));
+                locationOffsets.set(newId, locationOffsets.get(id));
+                locationSizes.set(newId, locationSizes.get(id));
+                hasLocations.set(newId, hasLocations.get(id));
+                table.set(slot, newId + 1);
+            }
+            entries = numLive;
+            keyBytes = newKeyBytes;
+        }
+
+        private void rehash(long capacity) {
+            final IntArray oldTable = table;
+            table = BIG_ARRAYS.newIntArray(capacity, true);
+            mask = Math.toIntExact(capacity - 1);
+            for (long i = 0; i < oldTable.size(); i++) {
+                final int entry = oldTable.get(i);
+                if (entry != 0) {
+                    int slot = hashes.get(entry - 1) & mask;
+                    while (table.get(slot) != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table.set(slot, entry);
+                }
+            }
+            oldTable.close();
+        }
+
+        private void updateRamBytesUsed() {
+            final long bytesUsed = table.ramBytesUsed() + hashes.ramBytesUsed() + keyOffsets.ramBytesUsed() + keyLengths.ramBytesUsed()
+                + keys.ramBytesUsed() + versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed()
+                + locationGenerations.ramBytesUsed() + locationOffsets.ramBytesUsed() + locationSizes.ramBytesUsed()
+                + hasLocations.ramBytesUsed();
+            if (bytesUsed != arraysBytesUsed) {
+                map.ramBytesUsed.addAndGet(bytesUsed - arraysBytesUsed);
+                arraysBytesUsed = bytesUsed;
+            }
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
@@ -71,6 +72,9 @@ import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.IdBloomFilterPostingsFormat;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.ParseContext.Document;
 import org.opensearch.index.mapper.ParsedDocument;
@@ -901,6 +905,18 @@ public abstract class Engine implements LifecycleAware, Closeable {
 
     protected void fillSegmentStats(SegmentReader segmentReader, boolean includeSegmentFileSizes, SegmentsStats stats) {
         stats.add(1);
+        final Terms idTerms;
+        try {
+            idTerms = segmentReader.terms(IdFieldMapper.NAME);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (idTerms instanceof IdBloomFilterPostingsFormat.BloomFilteredTerms) {
+            final IdBloomFilterPostingsFormat.BloomFilteredTerms filteredTerms = (IdBloomFilterPostingsFormat.BloomFilteredTerms) idTerms;
+            stats.addIdBloomFilterLookups(filteredTerms.lookups(), filteredTerms.skippedLookups());
+            stats.addIdBloomFilterMemoryInBytes(filteredTerms.ramBytesUsed());
+        }
+        stats.addStarTreeMemoryInBytes(StarTreeDocValuesFormat.starTreeRamBytesUsed(segmentReader));
         if (includeSegmentFileSizes) {
             // TODO: consider moving this to StoreStats
             stats.addFileSizes(getSegmentFileSizes(segmentReader));
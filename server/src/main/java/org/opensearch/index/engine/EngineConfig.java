@@ -124,12 +124,13 @@ public final class EngineConfig {
         switch (s) {
             case "default":
             case "best_compression":
+            case "lz4_high_compression":
             case "lucene_default":
                 return s;
             default:
                 if (Codec.availableCodecs().contains(s) == false) { // we don't error message the not officially supported ones
                     throw new IllegalArgumentException(
-                        "unknown value for [index.codec] must be one of [default, best_compression] but was: " + s
+                        "unknown value for [index.codec] must be one of [default, best_compression, lz4_high_compression] but was: " + s
                     );
                 }
                 return s;
@@ -36,15 +36,17 @@ import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.Assertions;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
-import org.opensearch.common.util.concurrent.KeyedLock;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Maps _uid value to its version information.
@@ -53,7 +55,17 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    /**
+     * The number of locks uids are striped over. Uids are locked for the duration of an indexing operation, so there are enough
+     * stripes for concurrent operations on different uids to rarely share a lock.
+     */
+    static final int LOCK_STRIPES = 1024;
+
+    // created lazily so that the locks of stripes that are never used take no memory
+    private final AtomicReferenceArray<ReentrantLock> locks = new AtomicReferenceArray<>(LOCK_STRIPES);
+
+    // the number of times each locked uid is held, since a lock is shared by the uids of its stripe; only tracked with assertions
+    private final Map<BytesRef, Integer> lockedUids = Assertions.ENABLED ? ConcurrentCollections.newConcurrentMap() : null;
 
     /**
      * Looks up document version
@@ -62,13 +74,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private static final class VersionLookup {
 
-        /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
-         *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
-        final AtomicLong ramBytesUsed = new AtomicLong();
-
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(CompactVersionMap.EMPTY);
+        // only holds index versions since deletes are moved to the tombstones
+        private final CompactVersionMap map;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,7 +94,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(CompactVersionMap map) {
             this.map = map;
         }
 
@@ -94,8 +102,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return map.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        void put(BytesRef key, IndexVersionValue value) {
+            map.put(key, value);
         }
 
         boolean isEmpty() {
@@ -114,10 +122,15 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
+        public boolean remove(BytesRef uid) {
             return map.remove(uid);
         }
 
+        /** Tracks bytes used by current map, i.e. what is freed on refresh. */
+        long ramBytesUsed() {
+            return map.ramBytesUsed();
+        }
+
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
             long time = delete.time;
             minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
@@ -150,7 +163,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+            this(new VersionLookup(new CompactVersionMap()), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,11 +181,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(new VersionLookup(new CompactVersionMap()), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -182,28 +191,13 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
-        void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
-        }
-
-        void adjustRam(long value) {
-            if (value != 0) {
-                long v = current.ramBytesUsed.addAndGet(value);
-                assert v >= 0 : "bytes=" + v;
-            }
+        void put(BytesRef uid, IndexVersionValue version) {
+            current.put(uid, version);
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -421,7 +415,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = tryAcquireLock(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -453,7 +447,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +455,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +463,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old == VersionLookup.EMPTY ? 0 : maps.old.ramBytesUsed();
     }
 
     @Override
@@ -482,7 +476,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.map.copy();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -495,14 +489,48 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Acquires a releaseable lock for the given uId. All *UnderLock methods require
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
-     * @see KeyedLock
+     * The lock is shared with the uids of the same stripe and is reentrant.
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        final ReentrantLock lock = lock(uid);
+        lock.lock();
+        return onLocked(uid, lock);
+    }
+
+    /**
+     * Tries to acquire the lock for the given uid without blocking and returns <code>null</code> if it is held by another thread.
+     */
+    private Releasable tryAcquireLock(BytesRef uid) {
+        final ReentrantLock lock = lock(uid);
+        return lock.tryLock() ? onLocked(uid, lock) : null;
+    }
+
+    private Releasable onLocked(BytesRef uid, ReentrantLock lock) {
+        if (lockedUids == null) {
+            return lock::unlock;
+        }
+        final BytesRef lockedUid = BytesRef.deepCopyOf(uid);
+        lockedUids.merge(lockedUid, 1, Integer::sum);
+        return () -> {
+            lockedUids.computeIfPresent(lockedUid, (k, count) -> count == 1 ? null : count - 1);
+            lock.unlock();
+        };
+    }
+
+    private ReentrantLock lock(BytesRef uid) {
+        final int stripe = uid.hashCode() & (LOCK_STRIPES - 1);
+        ReentrantLock lock = locks.get(stripe);
+        if (lock == null) {
+            locks.compareAndSet(stripe, null, new ReentrantLock());
+            lock = locks.get(stripe);
+        }
+        return lock;
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        // the uid can only have been locked by the thread that holds the lock of its stripe
+        final boolean held = lock(uid).isHeldByCurrentThread() && (lockedUids == null || lockedUids.containsKey(uid));
+        assert held : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
 }
@@ -56,6 +56,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     private long versionMapMemoryInBytes;
     private long maxUnsafeAutoIdTimestamp = Long.MIN_VALUE;
     private long bitsetMemoryInBytes;
+    private long idBloomFilterLookups;
+    private long idBloomFilterSkippedLookups;
+    private long idBloomFilterMemoryInBytes;
+    private long starTreeMemoryInBytes;
     private ImmutableOpenMap<String, Long> fileSizes = ImmutableOpenMap.of();
 
     private static final ByteSizeValue ZERO_BYTE_SIZE_VALUE = new ByteSizeValue(0L);
@@ -86,6 +90,7 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         .fPut("tvd", "Term Vector Documents")
         .fPut("tvf", "Term Vector Fields")
         .fPut("liv", "Live Documents")
+        .fPut("bfi", "Id Bloom Filter")
         .build();
 
     public SegmentsStats() {}
@@ -116,6 +121,12 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             map.put(key, value);
         }
         fileSizes = map.build();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            idBloomFilterLookups = in.readVLong();
+            idBloomFilterSkippedLookups = in.readVLong();
+            idBloomFilterMemoryInBytes = in.readVLong();
+            starTreeMemoryInBytes = in.readVLong();
+        }
     }
 
     public void add(long count) {
@@ -138,6 +149,19 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         this.bitsetMemoryInBytes += bitsetMemoryInBytes;
     }
 
+    public void addIdBloomFilterLookups(long lookups, long skippedLookups) {
+        this.idBloomFilterLookups += lookups;
+        this.idBloomFilterSkippedLookups += skippedLookups;
+    }
+
+    public void addIdBloomFilterMemoryInBytes(long idBloomFilterMemoryInBytes) {
+        this.idBloomFilterMemoryInBytes += idBloomFilterMemoryInBytes;
+    }
+
+    public void addStarTreeMemoryInBytes(long starTreeMemoryInBytes) {
+        this.starTreeMemoryInBytes += starTreeMemoryInBytes;
+    }
+
     public void addFileSizes(ImmutableOpenMap<String, Long> fileSizes) {
         ImmutableOpenMap.Builder<String, Long> map = ImmutableOpenMap.builder(this.fileSizes);
 
@@ -163,6 +187,9 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         addVersionMapMemoryInBytes(mergeStats.versionMapMemoryInBytes);
         addBitsetMemoryInBytes(mergeStats.bitsetMemoryInBytes);
         addFileSizes(mergeStats.fileSizes);
+        addIdBloomFilterLookups(mergeStats.idBloomFilterLookups, mergeStats.idBloomFilterSkippedLookups);
+        addIdBloomFilterMemoryInBytes(mergeStats.idBloomFilterMemoryInBytes);
+        addStarTreeMemoryInBytes(mergeStats.starTreeMemoryInBytes);
     }
 
     /**
@@ -205,6 +232,57 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(bitsetMemoryInBytes);
     }
 
+    /**
+     * The number of lookups of ids in segments that index the {@code _id} field with a bloom filter
+     */
+    public long getIdBloomFilterLookups() {
+        return idBloomFilterLookups;
+    }
+
+    /**
+     * The number of lookups of ids in segments that the bloom filter of the segment answered without seeking its terms dictionary
+     */
+    public long getIdBloomFilterSkippedLookups() {
+        return idBloomFilterSkippedLookups;
+    }
+
+    /**
+     * The ratio of lookups of ids that the bloom filters answered, 0 if there were none
+     */
+    public double getIdBloomFilterHitRatio() {
+        return idBloomFilterLookups == 0 ? 0 : (double) idBloomFilterSkippedLookups / idBloomFilterLookups;
+    }
+
+    /**
+     * Estimation of the memory usage by the bloom filters of the {@code _id} field that the open segments loaded
+     */
+    public long getIdBloomFilterMemoryInBytes() {
+        return idBloomFilterMemoryInBytes;
+    }
+
+    /**
+     * Estimation of the memory usage by the open segments. Lucene 9 no longer reports the heap of its own codecs, so this only
+     * counts the structures that OpenSearch codecs load on heap: the bloom filters of the {@code _id} field and the star trees.
+     */
+    public long getMemoryInBytes() {
+        return idBloomFilterMemoryInBytes + starTreeMemoryInBytes;
+    }
+
+    public ByteSizeValue getMemory() {
+        return new ByteSizeValue(getMemoryInBytes());
+    }
+
+    /**
+     * Estimation of the memory usage by the star trees that the open segments loaded
+     */
+    public long getStarTreeMemoryInBytes() {
+        return starTreeMemoryInBytes;
+    }
+
+    public ByteSizeValue getStarTreeMemory() {
+        return new ByteSizeValue(starTreeMemoryInBytes);
+    }
+
     public ImmutableOpenMap<String, Long> getFileSizes() {
         return fileSizes;
     }
@@ -221,8 +299,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.SEGMENTS);
         builder.field(Fields.COUNT, count);
-        builder.humanReadableField(Fields.MEMORY_IN_BYTES, Fields.MEMORY, ZERO_BYTE_SIZE_VALUE);
-        builder.humanReadableField(Fields.TERMS_MEMORY_IN_BYTES, Fields.TERMS_MEMORY, ZERO_BYTE_SIZE_VALUE);
+        builder.humanReadableField(Fields.MEMORY_IN_BYTES, Fields.MEMORY, getMemory());
+        builder.humanReadableField(Fields.TERMS_MEMORY_IN_BYTES, Fields.TERMS_MEMORY, new ByteSizeValue(idBloomFilterMemoryInBytes));
         builder.humanReadableField(Fields.STORED_FIELDS_MEMORY_IN_BYTES, Fields.STORED_FIELDS_MEMORY, ZERO_BYTE_SIZE_VALUE);
         builder.humanReadableField(Fields.TERM_VECTORS_MEMORY_IN_BYTES, Fields.TERM_VECTORS_MEMORY, ZERO_BYTE_SIZE_VALUE);
         builder.humanReadableField(Fields.NORMS_MEMORY_IN_BYTES, Fields.NORMS_MEMORY, ZERO_BYTE_SIZE_VALUE);
@@ -231,7 +309,13 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.INDEX_WRITER_MEMORY_IN_BYTES, Fields.INDEX_WRITER_MEMORY, getIndexWriterMemory());
         builder.humanReadableField(Fields.VERSION_MAP_MEMORY_IN_BYTES, Fields.VERSION_MAP_MEMORY, getVersionMapMemory());
         builder.humanReadableField(Fields.FIXED_BIT_SET_MEMORY_IN_BYTES, Fields.FIXED_BIT_SET, getBitsetMemory());
+        builder.humanReadableField(Fields.STAR_TREE_MEMORY_IN_BYTES, Fields.STAR_TREE_MEMORY, getStarTreeMemory());
         builder.field(Fields.MAX_UNSAFE_AUTO_ID_TIMESTAMP, maxUnsafeAutoIdTimestamp);
+        builder.startObject(Fields.ID_BLOOM_FILTER);
+        builder.field(Fields.LOOKUPS, idBloomFilterLookups);
+        builder.field(Fields.SKIPPED_LOOKUPS, idBloomFilterSkippedLookups);
+        builder.field(Fields.HIT_RATIO, getIdBloomFilterHitRatio());
+        builder.endObject();
         builder.startObject(Fields.FILE_SIZES);
         for (ObjectObjectCursor<String, Long> entry : fileSizes) {
             builder.startObject(entry.key);
@@ -273,6 +357,12 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP = "max_unsafe_auto_id_timestamp";
         static final String FIXED_BIT_SET = "fixed_bit_set";
         static final String FIXED_BIT_SET_MEMORY_IN_BYTES = "fixed_bit_set_memory_in_bytes";
+        static final String STAR_TREE_MEMORY = "star_tree_memory";
+        static final String STAR_TREE_MEMORY_IN_BYTES = "star_tree_memory_in_bytes";
+        static final String ID_BLOOM_FILTER = "id_bloom_filter";
+        static final String LOOKUPS = "lookups";
+        static final String SKIPPED_LOOKUPS = "skipped_lookups";
+        static final String HIT_RATIO = "hit_ratio";
         static final String FILE_SIZES = "file_sizes";
         static final String SIZE = "size";
         static final String SIZE_IN_BYTES = "size_in_bytes";
@@ -303,6 +393,12 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             out.writeString(entry.key);
             out.writeLong(entry.value);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeVLong(idBloomFilterLookups);
+            out.writeVLong(idBloomFilterSkippedLookups);
+            out.writeVLong(idBloomFilterMemoryInBytes);
+            out.writeVLong(starTreeMemoryInBytes);
+        }
     }
 
     public void clearFileSizes() {
@@ -35,6 +35,8 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.util.Accountable;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 import org.opensearch.index.shard.ShardId;
 
 /**
@@ -49,6 +51,15 @@ public interface IndexFieldDataCache {
     <FD extends LeafFieldData, IFD extends IndexFieldData.Global<FD>> IFD load(DirectoryReader indexReader, IFD indexFieldData)
         throws Exception;
 
+    /**
+     * Returns the ordinal map of the cached global ordinals that were last built for a reader of the given shard, which
+     * the global ordinals of its next reader may extend, or {@code null} if there are none.
+     */
+    @Nullable
+    default IncrementalOrdinalMap lastOrdinalMap(ShardId shardId) {
+        return null;
+    }
+
     /**
      * Clears all the field data stored cached in on this index.
      */
@@ -59,6 +70,11 @@ public interface IndexFieldDataCache {
      */
     void clear(String fieldName);
 
+    /**
+     * Releases what this cache keeps for the given shard beyond the lifetime of its readers, once the shard is closed.
+     */
+    default void clearShard(ShardId shardId) {}
+
     /**
      * The listener interface
      *
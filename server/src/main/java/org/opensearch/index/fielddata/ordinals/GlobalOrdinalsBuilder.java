@@ -35,10 +35,10 @@ package org.opensearch.index.fielddata.ordinals;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.Accountable;
-import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
@@ -62,11 +62,13 @@ public enum GlobalOrdinalsBuilder {
     ;
 
     /**
-     * Build global ordinals for the provided {@link IndexReader}.
+     * Build global ordinals for the provided {@link IndexReader}, by extending the ordinal map of a previous reader if the
+     * provided reader only added segments to it.
      */
-    public static IndexOrdinalsFieldData build(
+    public static GlobalOrdinalsIndexFieldData build(
         final IndexReader indexReader,
         IndexOrdinalsFieldData indexFieldData,
+        @Nullable IncrementalOrdinalMap previous,
         CircuitBreakerService breakerService,
         Logger logger,
         Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction
@@ -76,20 +78,29 @@ public enum GlobalOrdinalsBuilder {
 
         final LeafOrdinalsFieldData[] atomicFD = new LeafOrdinalsFieldData[indexReader.leaves().size()];
         final SortedSetDocValues[] subs = new SortedSetDocValues[indexReader.leaves().size()];
+        final IndexReader.CacheKey[] segmentKeys = new IndexReader.CacheKey[indexReader.leaves().size()];
         for (int i = 0; i < indexReader.leaves().size(); ++i) {
-            atomicFD[i] = indexFieldData.load(indexReader.leaves().get(i));
+            final LeafReaderContext context = indexReader.leaves().get(i);
+            atomicFD[i] = indexFieldData.load(context);
             subs[i] = atomicFD[i].getOrdinalsValues();
+            final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+            segmentKeys[i] = cacheHelper == null ? null : cacheHelper.getKey();
+        }
+        IncrementalOrdinalMap ordinalMap = previous == null ? null : IncrementalOrdinalMap.extend(previous, segmentKeys, subs);
+        final boolean extended = ordinalMap != null;
+        if (ordinalMap == null) {
+            ordinalMap = IncrementalOrdinalMap.build(segmentKeys, subs);
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
         final long memorySizeInBytes = ordinalMap.ramBytesUsed();
         breakerService.getBreaker(CircuitBreaker.FIELDDATA).addWithoutBreaking(memorySizeInBytes);
 
         if (logger.isDebugEnabled()) {
             logger.debug(
-                "global-ordinals [{}][{}] took [{}]",
+                "global-ordinals [{}][{}] took [{}], extended [{}]",
                 indexFieldData.getFieldName(),
                 ordinalMap.getValueCount(),
-                new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS)
+                new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS),
+                extended
             );
         }
         return new GlobalOrdinalsIndexFieldData(
@@ -129,7 +140,8 @@ public enum GlobalOrdinalsBuilder {
             };
             subs[i] = atomicFD[i].getOrdinalsValues();
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        final IndexReader.CacheKey[] segmentKeys = new IndexReader.CacheKey[subs.length];
+        final IncrementalOrdinalMap ordinalMap = IncrementalOrdinalMap.build(segmentKeys, subs);
         return new GlobalOrdinalsIndexFieldData(
             indexFieldData.getFieldName(),
             indexFieldData.getValuesSourceType(),
@@ -38,6 +38,8 @@ import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
@@ -74,15 +76,16 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
     private final ValuesSourceType valuesSourceType;
     private final long memorySizeInBytes;
 
-    private final OrdinalMap ordinalMap;
+    private final IncrementalOrdinalMap ordinalMap;
     private final LeafOrdinalsFieldData[] segmentAfd;
     private final Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction;
+    private volatile OrdinalMap luceneOrdinalMap;
 
     protected GlobalOrdinalsIndexFieldData(
         String fieldName,
         ValuesSourceType valuesSourceType,
         LeafOrdinalsFieldData[] segmentAfd,
-        OrdinalMap ordinalMap,
+        IncrementalOrdinalMap ordinalMap,
         long memorySizeInBytes,
         Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction
     ) {
@@ -92,6 +95,7 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
         this.ordinalMap = ordinalMap;
         this.segmentAfd = segmentAfd;
         this.scriptFunction = scriptFunction;
+        this.luceneOrdinalMap = ordinalMap.getOrdinalMap();
     }
 
     public IndexOrdinalsFieldData newConsumer(DirectoryReader source) {
@@ -158,9 +162,43 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
         throw new IllegalStateException("load(LeafReaderContext) should not be called in this context");
     }
 
+    /**
+     * Returns the map of the global ordinals, which can be extended to the next reader of the index.
+     */
+    public IncrementalOrdinalMap getIncrementalOrdinalMap() {
+        return ordinalMap;
+    }
+
+    /**
+     * Returns the Lucene {@link OrdinalMap} of the global ordinals. Global ordinals that were extended from the ones of a
+     * previous reader don't have one, it is built on first use.
+     */
     @Override
     public OrdinalMap getOrdinalMap() {
-        return ordinalMap;
+        OrdinalMap map = luceneOrdinalMap;
+        if (map == null) {
+            synchronized (this) {
+                map = luceneOrdinalMap;
+                if (map == null) {
+                    final SortedSetDocValues[] subs = new SortedSetDocValues[segmentAfd.length];
+                    for (int i = 0; i < segmentAfd.length; i++) {
+                        subs[i] = segmentAfd[i].getOrdinalsValues();
+                    }
+                    try {
+                        map = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to build ordinal map", e);
+                    }
+                    luceneOrdinalMap = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public LongValues getGlobalOrds(int segmentIndex) {
+        return ordinalMap.getGlobalOrds(segmentIndex);
     }
 
     @Override
@@ -288,7 +326,12 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
 
         @Override
         public OrdinalMap getOrdinalMap() {
-            return ordinalMap;
+            return GlobalOrdinalsIndexFieldData.this.getOrdinalMap();
+        }
+
+        @Override
+        public LongValues getGlobalOrds(int segmentIndex) {
+            return ordinalMap.getGlobalOrds(segmentIndex);
         }
 
     }
@@ -0,0 +1,339 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the ordinals of the segments of a reader to global ordinals like Lucene's {@link OrdinalMap}, but can be
+ * {@link #extend extended} to a reader that only added segments, which is what most refreshes do. Only the terms of the
+ * added segments are merged and looked up in the existing global terms, the global ordinals of the segments that didn't change
+ * are shifted by the number of new terms that sort before them without reading their terms.
+ *
+ * @opensearch.internal
+ */
+public final class IncrementalOrdinalMap implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(IncrementalOrdinalMap.class);
+
+    private final IndexReader.CacheKey[] segmentKeys;
+    private final long[] segmentValueCounts;
+    private final long valueCount;
+    /** Set if the map was built from scratch. */
+    private final OrdinalMap ordinalMap;
+    /** Set if the map was extended. */
+    private final PackedLongValues[] segmentToGlobalOrds;
+    private final PackedLongValues firstSegments;
+    private final PackedLongValues globalOrdDeltas;
+
+    private IncrementalOrdinalMap(IndexReader.CacheKey[] segmentKeys, long[] segmentValueCounts, OrdinalMap ordinalMap) {
+        this.segmentKeys = segmentKeys;
+        this.segmentValueCounts = segmentValueCounts;
+        this.valueCount = ordinalMap.getValueCount();
+        this.ordinalMap = ordinalMap;
+        this.segmentToGlobalOrds = null;
+        this.firstSegments = null;
+        this.globalOrdDeltas = null;
+    }
+
+    private IncrementalOrdinalMap(
+        IndexReader.CacheKey[] segmentKeys,
+        long[] segmentValueCounts,
+        long valueCount,
+        PackedLongValues[] segmentToGlobalOrds,
+        PackedLongValues firstSegments,
+        PackedLongValues globalOrdDeltas
+    ) {
+        this.segmentKeys = segmentKeys;
+        this.segmentValueCounts = segmentValueCounts;
+        this.valueCount = valueCount;
+        this.ordinalMap = null;
+        this.segmentToGlobalOrds = segmentToGlobalOrds;
+        this.firstSegments = firstSegments;
+        this.globalOrdDeltas = globalOrdDeltas;
+    }
+
+    /**
+     * Builds the map of the given segments from scratch.
+     *
+     * @param segmentKeys the core cache keys of the segments, used to recognize them when the map is extended
+     */
+    public static IncrementalOrdinalMap build(IndexReader.CacheKey[] segmentKeys, SortedSetDocValues[] subs) throws IOException {
+        assert segmentKeys.length == subs.length;
+        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        return new IncrementalOrdinalMap(segmentKeys, valueCounts(subs), ordinalMap);
+    }
+
+    /**
+     * Builds the map of the given segments by extending the map of a previous reader, which only works if the segments are
+     * the segments of the previous reader plus new segments since the terms of a segment that was merged away may not exist
+     * anymore.
+     *
+     * @return the map, or {@code null} if it must be built from scratch
+     */
+    public static IncrementalOrdinalMap extend(
+        IncrementalOrdinalMap previous,
+        IndexReader.CacheKey[] segmentKeys,
+        SortedSetDocValues[] subs
+    ) throws IOException {
+        assert segmentKeys.length == subs.length;
+        final Map<IndexReader.CacheKey, Integer> previousSegments = new HashMap<>();
+        for (int i = 0; i < previous.segmentKeys.length; i++) {
+            if (previous.segmentKeys[i] == null) {
+                return null;
+            }
+            previousSegments.put(previous.segmentKeys[i], i);
+        }
+        final int[] toSegment = new int[previous.segmentKeys.length];
+        Arrays.fill(toSegment, -1);
+        final int[] fromSegment = new int[subs.length];
+        int numNewSegments = 0;
+        for (int i = 0; i < subs.length; i++) {
+            final Integer previousSegment = segmentKeys[i] == null ? null : previousSegments.get(segmentKeys[i]);
+            if (previousSegment == null) {
+                fromSegment[i] = -1;
+                numNewSegments++;
+            } else if (subs[i].getValueCount() != previous.segmentValueCounts[previousSegment]) {
+                // the field data of the segment was loaded differently
+                return null;
+            } else {
+                fromSegment[i] = previousSegment;
+                toSegment[previousSegment] = i;
+            }
+        }
+        for (int segment : toSegment) {
+            if (segment == -1) {
+                return null;
+            }
+        }
+
+        final TermsEnum[] termsEnums = new TermsEnum[subs.length];
+        final int[] newSegments = new int[numNewSegments];
+        final SortedSetDocValues[] newSubs = new SortedSetDocValues[numNewSegments];
+        for (int i = 0, j = 0; i < subs.length; i++) {
+            termsEnums[i] = subs[i].termsEnum();
+            if (fromSegment[i] == -1) {
+                newSegments[j] = i;
+                newSubs[j++] = subs[i];
+            }
+        }
+        final OrdinalMap newTerms = numNewSegments == 0 ? null : OrdinalMap.build(null, newSubs, PackedInts.DEFAULT);
+        final int numNewTerms = newTerms == null ? 0 : Math.toIntExact(newTerms.getValueCount());
+
+        // Find the global ordinals of the terms of the new segments, and where the ones that don't exist yet are inserted
+        final long[] newTermGlobalOrds = new long[numNewTerms];
+        final long[] insertionPoints = new long[numNewTerms];
+        final int[] insertedTerms = new int[numNewTerms];
+        int numInsertions = 0;
+        final PreviousTerms previousTerms = new PreviousTerms(previous, toSegment, termsEnums);
+        long from = 0;
+        for (int term = 0; term < numNewTerms; term++) {
+            final TermsEnum termsEnum = termsEnums[newSegments[newTerms.getFirstSegmentNumber(term)]];
+            termsEnum.seekExact(newTerms.getFirstSegmentOrd(term));
+            final BytesRef bytes = termsEnum.term();
+            final long position = previousTerms.seekCeil(from, bytes);
+            newTermGlobalOrds[term] = position + numInsertions;
+            if (position < previous.valueCount && previousTerms.get(position).bytesEquals(bytes)) {
+                from = position + 1;
+            } else {
+                insertionPoints[numInsertions] = position;
+                insertedTerms[numInsertions++] = term;
+                from = position;
+            }
+        }
+        final long valueCount = previous.valueCount + numInsertions;
+
+        final PackedLongValues[] segmentToGlobalOrds = new PackedLongValues[subs.length];
+        for (int i = 0; i < subs.length; i++) {
+            if (fromSegment[i] != -1 && numInsertions == 0 && previous.segmentToGlobalOrds != null) {
+                segmentToGlobalOrds[i] = previous.segmentToGlobalOrds[fromSegment[i]];
+                continue;
+            }
+            final PackedLongValues.Builder builder = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+            final long segmentValueCount = subs[i].getValueCount();
+            if (fromSegment[i] != -1) {
+                final LongValues previousGlobalOrds = previous.getGlobalOrds(fromSegment[i]);
+                int insertion = 0;
+                for (long ord = 0; ord < segmentValueCount; ord++) {
+                    final long previousGlobalOrd = previousGlobalOrds.get(ord);
+                    while (insertion < numInsertions && insertionPoints[insertion] <= previousGlobalOrd) {
+                        insertion++;
+                    }
+                    builder.add(previousGlobalOrd + insertion);
+                }
+            } else {
+                final LongValues newTermOrds = newTerms.getGlobalOrds(Arrays.binarySearch(newSegments, i));
+                for (long ord = 0; ord < segmentValueCount; ord++) {
+                    builder.add(newTermGlobalOrds[Math.toIntExact(newTermOrds.get(ord))]);
+                }
+            }
+            segmentToGlobalOrds[i] = builder.build();
+        }
+
+        final PackedLongValues.Builder firstSegments = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder globalOrdDeltas = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        long previousGlobalOrd = 0;
+        int insertion = 0;
+        for (long globalOrd = 0; globalOrd < valueCount; globalOrd++) {
+            final int segment;
+            final long segmentOrd;
+            if (insertion < numInsertions && insertionPoints[insertion] <= previousGlobalOrd) {
+                final int term = insertedTerms[insertion++];
+                segment = newSegments[newTerms.getFirstSegmentNumber(term)];
+                segmentOrd = newTerms.getFirstSegmentOrd(term);
+            } else {
+                segment = toSegment[previous.getFirstSegmentNumber(previousGlobalOrd)];
+                segmentOrd = previous.getFirstSegmentOrd(previousGlobalOrd);
+                previousGlobalOrd++;
+            }
+            firstSegments.add(segment);
+            globalOrdDeltas.add(globalOrd - segmentOrd);
+        }
+        return new IncrementalOrdinalMap(
+            segmentKeys,
+            valueCounts(subs),
+            valueCount,
+            segmentToGlobalOrds,
+            firstSegments.build(),
+            globalOrdDeltas.build()
+        );
+    }
+
+    private static long[] valueCounts(SortedSetDocValues[] subs) {
+        final long[] valueCounts = new long[subs.length];
+        for (int i = 0; i < subs.length; i++) {
+            valueCounts[i] = subs[i].getValueCount();
+        }
+        return valueCounts;
+    }
+
+    /**
+     * Returns the number of global ordinals.
+     */
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Returns the mapping from the ordinals of the given segment to global ordinals.
+     */
+    public LongValues getGlobalOrds(int segmentIndex) {
+        if (ordinalMap != null) {
+            return ordinalMap.getGlobalOrds(segmentIndex);
+        }
+        return segmentToGlobalOrds[segmentIndex];
+    }
+
+    /**
+     * Returns the index of a segment that contains the term of the given global ordinal.
+     */
+    public int getFirstSegmentNumber(long globalOrd) {
+        if (ordinalMap != null) {
+            return ordinalMap.getFirstSegmentNumber(globalOrd);
+        }
+        return (int) firstSegments.get(globalOrd);
+    }
+
+    /**
+     * Returns the ordinal of the term of the given global ordinal in the segment of {@link #getFirstSegmentNumber}.
+     */
+    public long getFirstSegmentOrd(long globalOrd) {
+        if (ordinalMap != null) {
+            return ordinalMap.getFirstSegmentOrd(globalOrd);
+        }
+        return globalOrd - globalOrdDeltas.get(globalOrd);
+    }
+
+    /**
+     * Whether this map was built by extending the map of a previous reader rather than from scratch.
+     */
+    public boolean isExtended() {
+        return ordinalMap == null;
+    }
+
+    /**
+     * Returns the Lucene {@link OrdinalMap} that this map was built with, {@code null} if it was extended.
+     */
+    OrdinalMap getOrdinalMap() {
+        return ordinalMap;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long size = BASE_RAM_BYTES_USED + RamUsageEstimator.shallowSizeOf(segmentKeys) + RamUsageEstimator.sizeOf(segmentValueCounts);
+        if (ordinalMap != null) {
+            return size + ordinalMap.ramBytesUsed();
+        }
+        size += RamUsageEstimator.shallowSizeOf(segmentToGlobalOrds);
+        for (PackedLongValues values : segmentToGlobalOrds) {
+            size += values.ramBytesUsed();
+        }
+        return size + firstSegments.ramBytesUsed() + globalOrdDeltas.ramBytesUsed();
+    }
+
+    /**
+     * Looks up the terms of the global ordinals of the previous map in the segments of the new reader.
+     */
+    private static final class PreviousTerms {
+        private final IncrementalOrdinalMap previous;
+        private final int[] toSegment;
+        private final TermsEnum[] termsEnums;
+
+        PreviousTerms(IncrementalOrdinalMap previous, int[] toSegment, TermsEnum[] termsEnums) {
+            this.previous = previous;
+            this.toSegment = toSegment;
+            this.termsEnums = termsEnums;
+        }
+
+        BytesRef get(long globalOrd) throws IOException {
+            final TermsEnum termsEnum = termsEnums[toSegment[previous.getFirstSegmentNumber(globalOrd)]];
+            termsEnum.seekExact(previous.getFirstSegmentOrd(globalOrd));
+            return termsEnum.term();
+        }
+
+        /**
+         * Returns the first global ordinal from {@code from} whose term is greater than or equal to the given term. Gallops from
+         * {@code from} before searching binary since the terms are looked up in order.
+         */
+        long seekCeil(long from, BytesRef term) throws IOException {
+            long low = from;
+            long high = from;
+            long step = 1;
+            while (high < previous.valueCount && get(high).compareTo(term) < 0) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, previous.valueCount);
+            while (low < high) {
+                final long mid = (low + high) >>> 1;
+                if (get(mid).compareTo(term) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
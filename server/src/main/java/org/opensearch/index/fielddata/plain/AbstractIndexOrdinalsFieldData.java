@@ -48,6 +48,8 @@ import org.opensearch.index.fielddata.RamAccountingTermsEnum;
 import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
+import org.opensearch.index.shard.ShardUtils;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
 
@@ -166,7 +168,9 @@ public abstract class AbstractIndexOrdinalsFieldData implements IndexOrdinalsFie
 
     @Override
     public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception {
-        return GlobalOrdinalsBuilder.build(indexReader, this, breakerService, logger, scriptFunction);
+        // the global ordinals of the next reader extend the last ones of the shard if it only added segments
+        final IncrementalOrdinalMap previous = cache.lastOrdinalMap(ShardUtils.extractShardId(indexReader));
+        return GlobalOrdinalsBuilder.build(indexReader, this, previous, breakerService, logger, scriptFunction);
     }
 
     @Override
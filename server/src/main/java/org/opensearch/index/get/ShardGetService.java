@@ -280,6 +280,16 @@ public final class ShardGetService extends AbstractIndexShardComponent {
                 throw new OpenSearchException("Failed to get id [" + id + "]", e);
             }
             source = fieldVisitor.source();
+            if (source == null
+                && get.isFromTranslog() == false
+                && fetchSourceContext.fetchSource()
+                && docMapper.syntheticSourceLoader() != null) {
+                try {
+                    source = docMapper.syntheticSourceLoader().leaf(docIdAndVersion.reader).source(docIdAndVersion.docId);
+                } catch (IOException e) {
+                    throw new OpenSearchException("Failed to rebuild the source of id [" + id + "]", e);
+                }
+            }
 
             // in case we read from translog, some extra steps are needed to make _source consistent and to load stored fields
             if (get.isFromTranslog()) {
@@ -42,6 +42,7 @@ import org.apache.lucene.search.TermRangeQuery;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.index.fielddata.IndexFieldData;
@@ -328,6 +329,19 @@ public class BooleanFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    @Override
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (hasDocValues == false) {
+            return super.syntheticFieldLoader();
+        }
+        return new SyntheticSourceLoader.SortedNumericDocValuesLoader(simpleName(), name()) {
+            @Override
+            protected void writeValue(XContentBuilder builder, long value) throws IOException {
+                builder.value(value == 1);
+            }
+        };
+    }
+
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
         return new Builder(simpleName()).init(this);
@@ -54,6 +54,7 @@ import org.opensearch.common.time.DateMathParser;
 import org.opensearch.common.time.DateUtils;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.LocaleUtils;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
@@ -528,13 +529,51 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
             DateMathParser dateParser,
             QueryRewriteContext context
         ) throws IOException {
+            if (PointValues.size(reader, name()) == 0) {
+                // still parse the bounds so that invalid dates fail the same way whether the shard has points or not
+                isFieldWithinRange(
+                    Long.MIN_VALUE,
+                    Long.MAX_VALUE,
+                    from,
+                    to,
+                    includeLower,
+                    includeUpper,
+                    timeZone,
+                    dateParser,
+                    context::nowInMillis
+                );
+                // no points, so nothing matches
+                return Relation.DISJOINT;
+            }
+
+            long minValue = LongPoint.decodeDimension(PointValues.getMinPackedValue(reader, name()), 0);
+            long maxValue = LongPoint.decodeDimension(PointValues.getMaxPackedValue(reader, name()), 0);
+            return isFieldWithinRange(minValue, maxValue, from, to, includeLower, includeUpper, timeZone, dateParser, context::nowInMillis);
+        }
+
+        /**
+         * Return whether all values of the field, which are between {@code minValue} and {@code maxValue} in the resolution of
+         * this field, are within the range of the query. This is used by the coordinating node to check a range query against
+         * bounds of the field that it learned from a shard earlier.
+         */
+        public Relation isFieldWithinRange(
+            long minValue,
+            long maxValue,
+            Object from,
+            Object to,
+            boolean includeLower,
+            boolean includeUpper,
+            ZoneId timeZone,
+            DateMathParser dateParser,
+            LongSupplier nowInMillis
+        ) {
             if (dateParser == null) {
                 dateParser = this.dateMathParser;
             }
 
             long fromInclusive = Long.MIN_VALUE;
             if (from != null) {
-                fromInclusive = parseToLong(from, !includeLower, timeZone, dateParser, context::nowInMillis, resolution);
+                fromInclusive = parseToLong(from, !includeLower, timeZone, dateParser, nowInMillis, resolution);
                 if (includeLower == false) {
                     if (fromInclusive == Long.MAX_VALUE) {
                         return Relation.DISJOINT;
@@ -545,7 +584,7 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
 
             long toInclusive = Long.MAX_VALUE;
             if (to != null) {
-                toInclusive = parseToLong(to, includeUpper, timeZone, dateParser, context::nowInMillis, resolution);
+                toInclusive = parseToLong(to, includeUpper, timeZone, dateParser, nowInMillis, resolution);
                 if (includeUpper == false) {
                     if (toInclusive == Long.MIN_VALUE) {
                         return Relation.DISJOINT;
@@ -554,14 +593,6 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
                 }
             }
 
-            if (PointValues.size(reader, name()) == 0) {
-                // no points, so nothing matches
-                return Relation.DISJOINT;
-            }
-
-            long minValue = LongPoint.decodeDimension(PointValues.getMinPackedValue(reader, name()), 0);
-            long maxValue = LongPoint.decodeDimension(PointValues.getMaxPackedValue(reader, name()), 0);
-
             if (minValue >= fromInclusive && maxValue <= toInclusive) {
                 return Relation.WITHIN;
             } else if (maxValue < fromInclusive || minValue > toInclusive) {
@@ -712,6 +743,25 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    @Override
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (ignoreMalformed) {
+            // malformed values are not indexed
+            return null;
+        }
+        if (hasDocValues == false) {
+            return super.syntheticFieldLoader();
+        }
+        // dates are written in the first format of the mapping
+        final DocValueFormat docValueFormat = fieldType().docValueFormat(null, null);
+        return new SyntheticSourceLoader.SortedNumericDocValuesLoader(simpleName(), name()) {
+            @Override
+            protected void writeValue(XContentBuilder builder, long value) throws IOException {
+                builder.value(docValueFormat.format(value));
+            }
+        };
+    }
+
     public boolean getIgnoreMalformed() {
         return ignoreMalformed;
     }
@@ -148,6 +148,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final MappingLookup fieldMappers;
 
+    private final SyntheticSourceLoader syntheticSourceLoader;
+
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
@@ -161,6 +163,9 @@ public class DocumentMapper implements ToXContentFragment {
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
         this.fieldMappers = MappingLookup.fromMapping(this.mapping, indexAnalyzers.getDefaultIndexAnalyzer());
+        // fails if a field does not support the synthetic source
+        final SourceFieldMapper sourceMapper = sourceMapper();
+        this.syntheticSourceLoader = sourceMapper != null && sourceMapper.isSynthetic() ? SyntheticSourceLoader.build(mapping) : null;
 
         try {
             mappingSource = new CompressedXContent(this, ToXContent.EMPTY_PARAMS);
@@ -221,6 +226,13 @@ public class DocumentMapper implements ToXContentFragment {
         return metadataMapper(SourceFieldMapper.class);
     }
 
+    /**
+     * Returns the loader of the source of documents if the source is synthetic, {@code null} if the source is stored.
+     */
+    public SyntheticSourceLoader syntheticSourceLoader() {
+        return syntheticSourceLoader;
+    }
+
     public IdFieldMapper idFieldMapper() {
         return metadataMapper(IdFieldMapper.class);
     }
@@ -251,6 +251,18 @@ public abstract class FieldMapper extends Mapper implements Cloneable {
         return multiFields;
     }
 
+    /**
+     * Returns the loader of the values of this field to rebuild the {@code _source} of documents when it is synthetic, or
+     * {@code null} if the values that the source had can not be read back from the index. By default, the values of fields
+     * that are stored are loaded from their stored values.
+     */
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (fieldType().isStored()) {
+            return new SyntheticSourceLoader.StoredFieldLoader(simpleName(), fieldType());
+        }
+        return null;
+    }
+
     /**
      * Whether this mapper can handle an array value during document parsing. If true,
      * when an array is encountered during parsing, the document parser will pass the
@@ -45,6 +45,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.network.InetAddresses;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
@@ -485,6 +486,23 @@ public class IpFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    @Override
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (ignoreMalformed) {
+            // malformed values are not indexed
+            return null;
+        }
+        if (hasDocValues == false) {
+            return super.syntheticFieldLoader();
+        }
+        return new SyntheticSourceLoader.SortedSetDocValuesLoader(simpleName(), name()) {
+            @Override
+            protected void writeValue(XContentBuilder builder, BytesRef value) throws IOException {
+                builder.value(DocValueFormat.IP.format(value));
+            }
+        };
+    }
+
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
         return new Builder(simpleName(), ignoreMalformedByDefault, indexCreatedVersion).init(this);
@@ -40,6 +40,7 @@ import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
@@ -497,6 +498,23 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
         return CONTENT_TYPE;
     }
 
+    @Override
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (ignoreAbove != Integer.MAX_VALUE || Objects.equals(normalizerName, "default") == false) {
+            // values are not indexed as they are in the source
+            return null;
+        }
+        if (hasDocValues == false) {
+            return super.syntheticFieldLoader();
+        }
+        return new SyntheticSourceLoader.SortedSetDocValuesLoader(simpleName(), name()) {
+            @Override
+            protected void writeValue(XContentBuilder builder, BytesRef value) throws IOException {
+                builder.utf8Value(value.bytes, value.offset, value.length);
+            }
+        };
+    }
+
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
         return new Builder(simpleName(), indexAnalyzers).init(this);
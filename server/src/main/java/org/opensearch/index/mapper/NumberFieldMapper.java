@@ -56,6 +56,7 @@ import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentParser.Token;
 import org.opensearch.index.fielddata.IndexFieldData;
@@ -1208,6 +1209,37 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    @Override
+    public SyntheticSourceLoader.FieldLoader syntheticFieldLoader() {
+        if (ignoreMalformed.value()) {
+            // malformed values are not indexed
+            return null;
+        }
+        if (hasDocValues == false) {
+            return super.syntheticFieldLoader();
+        }
+        final NumericType numericType = fieldType().numericType();
+        return new SyntheticSourceLoader.SortedNumericDocValuesLoader(simpleName(), name()) {
+            @Override
+            protected void writeValue(XContentBuilder builder, long value) throws IOException {
+                switch (numericType) {
+                    case HALF_FLOAT:
+                        builder.value(HalfFloatPoint.sortableShortToHalfFloat((short) value));
+                        break;
+                    case FLOAT:
+                        builder.value(NumericUtils.sortableIntToFloat((int) value));
+                        break;
+                    case DOUBLE:
+                        builder.value(NumericUtils.sortableLongToDouble(value));
+                        break;
+                    default:
+                        builder.value(value);
+                        break;
+                }
+            }
+        };
+    }
+
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
         return new Builder(simpleName(), type, ignoreMalformedByDefault, coerceByDefault).init(this);
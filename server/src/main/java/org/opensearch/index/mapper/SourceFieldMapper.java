@@ -81,6 +81,7 @@ public class SourceFieldMapper extends MetadataFieldMapper {
     public static class Defaults {
         public static final String NAME = SourceFieldMapper.NAME;
         public static final boolean ENABLED = true;
+        public static final String MODE = Mode.STORED;
 
         public static final FieldType FIELD_TYPE = new FieldType();
 
@@ -92,6 +93,19 @@ public class SourceFieldMapper extends MetadataFieldMapper {
         }
     }
 
+    /**
+     * How the source is kept: as it was indexed, or rebuilt from the doc values and stored fields of the fields of the document
+     * when it is fetched.
+     *
+     * @opensearch.internal
+     */
+    public static final class Mode {
+        public static final String STORED = "stored";
+        public static final String SYNTHETIC = "synthetic";
+
+        private Mode() {}
+    }
+
     private static SourceFieldMapper toType(FieldMapper in) {
         return (SourceFieldMapper) in;
     }
@@ -116,6 +130,13 @@ public class SourceFieldMapper extends MetadataFieldMapper {
             m -> Arrays.asList(toType(m).excludes),
             Collections.emptyList()
         );
+        private final Parameter<String> mode = Parameter.restrictedStringParam(
+            "mode",
+            false,
+            m -> toType(m).mode,
+            Mode.STORED,
+            Mode.SYNTHETIC
+        );
 
         public Builder() {
             super(Defaults.NAME);
@@ -123,15 +144,26 @@ public class SourceFieldMapper extends MetadataFieldMapper {
 
         @Override
         protected List<Parameter<?>> getParameters() {
-            return Arrays.asList(enabled, includes, excludes);
+            return Arrays.asList(enabled, includes, excludes, mode);
         }
 
         @Override
         public SourceFieldMapper build(BuilderContext context) {
+            if (Mode.SYNTHETIC.equals(mode.getValue())) {
+                if (enabled.getValue() == false) {
+                    throw new MapperParsingException("[mode] can only be set to [" + Mode.SYNTHETIC + "] when [_source] is enabled");
+                }
+                if (includes.getValue().isEmpty() == false || excludes.getValue().isEmpty() == false) {
+                    throw new MapperParsingException(
+                        "[mode] can not be set to [" + Mode.SYNTHETIC + "] together with [includes] or [excludes] on [_source]"
+                    );
+                }
+            }
             return new SourceFieldMapper(
                 enabled.getValue(),
                 includes.getValue().toArray(new String[0]),
-                excludes.getValue().toArray(new String[0])
+                excludes.getValue().toArray(new String[0]),
+                mode.getValue()
             );
         }
     }
@@ -176,16 +208,18 @@ public class SourceFieldMapper extends MetadataFieldMapper {
 
     private final String[] includes;
     private final String[] excludes;
+    private final String mode;
 
     private SourceFieldMapper() {
-        this(Defaults.ENABLED, Strings.EMPTY_ARRAY, Strings.EMPTY_ARRAY);
+        this(Defaults.ENABLED, Strings.EMPTY_ARRAY, Strings.EMPTY_ARRAY, Defaults.MODE);
     }
 
-    private SourceFieldMapper(boolean enabled, String[] includes, String[] excludes) {
+    private SourceFieldMapper(boolean enabled, String[] includes, String[] excludes, String mode) {
         super(new SourceFieldType(enabled));
         this.enabled = enabled;
         this.includes = includes;
         this.excludes = excludes;
+        this.mode = mode;
         final boolean filtered = CollectionUtils.isEmpty(includes) == false || CollectionUtils.isEmpty(excludes) == false;
         this.filter = enabled && filtered ? XContentMapValues.filter(includes, excludes) : null;
         this.complete = enabled && CollectionUtils.isEmpty(includes) && CollectionUtils.isEmpty(excludes);
@@ -199,18 +233,26 @@ public class SourceFieldMapper extends MetadataFieldMapper {
         return complete;
     }
 
+    /**
+     * Whether the source is not stored but rebuilt from the doc values and stored fields of the fields of the document
+     * when it is fetched, see {@link SyntheticSourceLoader}.
+     */
+    public boolean isSynthetic() {
+        return Mode.SYNTHETIC.equals(mode);
+    }
+
     @Override
     public void preParse(ParseContext context) throws IOException {
         BytesReference originalSource = context.sourceToParse().source();
         XContentType contentType = context.sourceToParse().getXContentType();
         final BytesReference adaptedSource = applyFilters(originalSource, contentType);
 
-        if (adaptedSource != null) {
+        if (adaptedSource != null && isSynthetic() == false) {
             final BytesRef ref = adaptedSource.toBytesRef();
             context.doc().add(new StoredField(fieldType().name(), ref.bytes, ref.offset, ref.length));
         }
 
-        if (originalSource != null && adaptedSource != originalSource) {
+        if (originalSource != null && (adaptedSource != originalSource || isSynthetic())) {
             // if we omitted source or modified it we add the _recovery_source to ensure we have it for ops based recovery
             BytesRef ref = originalSource.toBytesRef();
             context.doc().add(new StoredField(RECOVERY_SOURCE_NAME, ref.bytes, ref.offset, ref.length));
@@ -0,0 +1,401 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rebuilds the {@code _source} of documents from the doc values and stored fields of their fields, for indices whose source
+ * is synthetic, see {@link SourceFieldMapper#isSynthetic()}.
+ * <p>
+ * The rebuilt source has the same fields and values as the indexed source, with a few differences: the fields of an object are
+ * written in the order of the mapping, the values of a field are written in the order of its doc values, which sorts them
+ * and may remove duplicates, and a field with a single value is written as a single value even if it was indexed as an array
+ * of one value. Fields that are not mapped are not part of the rebuilt source, so mappings that do not support the synthetic
+ * source, such as nested objects, fields that are copied to other fields or fields without doc values nor stored values, are
+ * rejected when they are created.
+ *
+ * @opensearch.internal
+ */
+public final class SyntheticSourceLoader {
+
+    private final ObjectLoader root;
+    private final Set<String> storedFields;
+
+    private SyntheticSourceLoader(ObjectLoader root) {
+        this.root = root;
+        final Set<String> storedFields = new HashSet<>();
+        root.collectStoredFields(storedFields);
+        this.storedFields = Collections.unmodifiableSet(storedFields);
+    }
+
+    /**
+     * Builds the loader of the source of the documents of the given mapping.
+     *
+     * @throws MapperParsingException if a field of the mapping does not support the synthetic source
+     */
+    static SyntheticSourceLoader build(Mapping mapping) {
+        return new SyntheticSourceLoader(objectLoader(mapping.root()));
+    }
+
+    private static ObjectLoader objectLoader(ObjectMapper objectMapper) {
+        if (objectMapper.nested().isNested()) {
+            throw unsupported(objectMapper.name(), ObjectMapper.NESTED_CONTENT_TYPE);
+        }
+        if (objectMapper.isEnabled() == false) {
+            throw new MapperParsingException(
+                "object [" + objectMapper.name() + "] is disabled, which is not supported with a synthetic [_source]"
+            );
+        }
+        final List<FieldLoader> children = new ArrayList<>();
+        for (Mapper mapper : objectMapper) {
+            if (mapper instanceof ObjectMapper) {
+                children.add(objectLoader((ObjectMapper) mapper));
+            } else if (mapper instanceof FieldMapper) {
+                final FieldMapper fieldMapper = (FieldMapper) mapper;
+                if (fieldMapper.copyTo().copyToFields().isEmpty() == false) {
+                    throw new MapperParsingException(
+                        "field [" + fieldMapper.name() + "] uses [copy_to], which is not supported with a synthetic [_source]"
+                    );
+                }
+                final FieldLoader loader = fieldMapper.syntheticFieldLoader();
+                if (loader == null) {
+                    throw unsupported(fieldMapper.name(), fieldMapper.typeName());
+                }
+                children.add(loader);
+            } else if (mapper instanceof FieldAliasMapper == false) {
+                throw unsupported(mapper.name(), mapper.typeName());
+            }
+        }
+        return new ObjectLoader(objectMapper.simpleName(), children);
+    }
+
+    private static MapperParsingException unsupported(String field, String type) {
+        return new MapperParsingException("field [" + field + "] of type [" + type + "] doesn't support a synthetic [_source]");
+    }
+
+    /**
+     * Returns the loader of the source of the documents of the given segment. The returned loader must be used by a single thread
+     * and for documents in increasing order of doc ids.
+     */
+    public Leaf leaf(LeafReader reader) throws IOException {
+        return new Leaf(reader, root.leaf(reader), storedFields.isEmpty() ? null : new CustomFieldsVisitor(storedFields, false));
+    }
+
+    /**
+     * Loads the source of the documents of a segment.
+     *
+     * @opensearch.internal
+     */
+    public static final class Leaf {
+        private final LeafReader reader;
+        private final ObjectLoader.ObjectLeaf root;
+        private final CustomFieldsVisitor storedFieldsVisitor;
+
+        private Leaf(LeafReader reader, ObjectLoader.ObjectLeaf root, CustomFieldsVisitor storedFieldsVisitor) {
+            this.reader = reader;
+            this.root = root;
+            this.storedFieldsVisitor = storedFieldsVisitor;
+        }
+
+        /**
+         * Returns the source of the document with the given doc id in the segment.
+         */
+        public BytesReference source(int docId) throws IOException {
+            Map<String, List<Object>> storedFields = Collections.emptyMap();
+            if (storedFieldsVisitor != null) {
+                storedFieldsVisitor.reset();
+                reader.document(docId, storedFieldsVisitor);
+                storedFields = storedFieldsVisitor.fields();
+            }
+            final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+            if (root.advanceToDoc(docId, storedFields)) {
+                root.writeFields(builder);
+            }
+            return BytesReference.bytes(builder.endObject());
+        }
+    }
+
+    /**
+     * Loads the values of a field, or of the fields of an object, to rebuild the source of documents.
+     *
+     * @opensearch.internal
+     */
+    public interface FieldLoader {
+
+        /**
+         * Adds the names of the stored fields that this loader reads values from.
+         */
+        default void collectStoredFields(Set<String> storedFields) {}
+
+        /**
+         * Returns the loader of the values of the given segment.
+         */
+        Leaf leaf(LeafReader reader) throws IOException;
+
+        /**
+         * Loads the values of the documents of a segment.
+         *
+         * @opensearch.internal
+         */
+        interface Leaf {
+
+            /**
+             * Loads the values of the given document, and returns whether it has any.
+             *
+             * @param storedFields the values of the stored fields of the document, by field name
+             */
+            boolean advanceToDoc(int docId, Map<String, List<Object>> storedFields) throws IOException;
+
+            /**
+             * Writes the field and the values of the document that the last call to {@link #advanceToDoc} returned true for.
+             */
+            void write(XContentBuilder builder) throws IOException;
+        }
+    }
+
+    /**
+     * Loads the fields of an object.
+     *
+     * @opensearch.internal
+     */
+    static final class ObjectLoader implements FieldLoader {
+        private final String name;
+        private final List<FieldLoader> children;
+
+        ObjectLoader(String name, List<FieldLoader> children) {
+            this.name = name;
+            this.children = children;
+        }
+
+        @Override
+        public void collectStoredFields(Set<String> storedFields) {
+            for (FieldLoader child : children) {
+                child.collectStoredFields(storedFields);
+            }
+        }
+
+        @Override
+        public ObjectLeaf leaf(LeafReader reader) throws IOException {
+            final FieldLoader.Leaf[] leaves = new FieldLoader.Leaf[children.size()];
+            for (int i = 0; i < leaves.length; i++) {
+                leaves[i] = children.get(i).leaf(reader);
+            }
+            return new ObjectLeaf(name, leaves);
+        }
+
+        /**
+         * Loads the fields of an object in a segment.
+         */
+        private static final class ObjectLeaf implements FieldLoader.Leaf {
+            private final String name;
+            private final FieldLoader.Leaf[] children;
+            private final boolean[] hasValues;
+
+            ObjectLeaf(String name, FieldLoader.Leaf[] children) {
+                this.name = name;
+                this.children = children;
+                this.hasValues = new boolean[children.length];
+            }
+
+            @Override
+            public boolean advanceToDoc(int docId, Map<String, List<Object>> storedFields) throws IOException {
+                boolean hasValue = false;
+                for (int i = 0; i < children.length; i++) {
+                    hasValues[i] = children[i].advanceToDoc(docId, storedFields);
+                    hasValue |= hasValues[i];
+                }
+                return hasValue;
+            }
+
+            @Override
+            public void write(XContentBuilder builder) throws IOException {
+                builder.startObject(name);
+                writeFields(builder);
+                builder.endObject();
+            }
+
+            void writeFields(XContentBuilder builder) throws IOException {
+                for (int i = 0; i < children.length; i++) {
+                    if (hasValues[i]) {
+                        children[i].write(builder);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the values of a field from its sorted numeric doc values.
+     *
+     * @opensearch.internal
+     */
+    public abstract static class SortedNumericDocValuesLoader implements FieldLoader {
+        private final String name;
+        private final String field;
+
+        /**
+         * @param name  the name of the field in its object
+         * @param field the full name of the field
+         */
+        protected SortedNumericDocValuesLoader(String name, String field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        /**
+         * Writes a value of the field, as read from its doc values.
+         */
+        protected abstract void writeValue(XContentBuilder builder, long value) throws IOException;
+
+        @Override
+        public Leaf leaf(LeafReader reader) throws IOException {
+            final SortedNumericDocValues values = DocValues.getSortedNumeric(reader, field);
+            return new Leaf() {
+                @Override
+                public boolean advanceToDoc(int docId, Map<String, List<Object>> storedFields) throws IOException {
+                    return values.advanceExact(docId);
+                }
+
+                @Override
+                public void write(XContentBuilder builder) throws IOException {
+                    final int count = values.docValueCount();
+                    if (count == 1) {
+                        builder.field(name);
+                        writeValue(builder, values.nextValue());
+                    } else {
+                        builder.startArray(name);
+                        for (int i = 0; i < count; i++) {
+                            writeValue(builder, values.nextValue());
+                        }
+                        builder.endArray();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Loads the values of a field from its sorted set doc values.
+     *
+     * @opensearch.internal
+     */
+    public abstract static class SortedSetDocValuesLoader implements FieldLoader {
+        private final String name;
+        private final String field;
+
+        /**
+         * @param name  the name of the field in its object
+         * @param field the full name of the field
+         */
+        protected SortedSetDocValuesLoader(String name, String field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        /**
+         * Writes a value of the field, as read from its doc values.
+         */
+        protected abstract void writeValue(XContentBuilder builder, BytesRef value) throws IOException;
+
+        @Override
+        public Leaf leaf(LeafReader reader) throws IOException {
+            final SortedSetDocValues values = DocValues.getSortedSet(reader, field);
+            return new Leaf() {
+                @Override
+                public boolean advanceToDoc(int docId, Map<String, List<Object>> storedFields) throws IOException {
+                    return values.advanceExact(docId);
+                }
+
+                @Override
+                public void write(XContentBuilder builder) throws IOException {
+                    final long first = values.nextOrd();
+                    long next = values.nextOrd();
+                    if (next == SortedSetDocValues.NO_MORE_ORDS) {
+                        builder.field(name);
+                        writeValue(builder, values.lookupOrd(first));
+                    } else {
+                        builder.startArray(name);
+                        writeValue(builder, values.lookupOrd(first));
+                        for (; next != SortedSetDocValues.NO_MORE_ORDS; next = values.nextOrd()) {
+                            writeValue(builder, values.lookupOrd(next));
+                        }
+                        builder.endArray();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Loads the values of a field from its stored values.
+     *
+     * @opensearch.internal
+     */
+    public static final class StoredFieldLoader implements FieldLoader {
+        private final String name;
+        private final MappedFieldType fieldType;
+
+        /**
+         * @param name      the name of the field in its object
+         * @param fieldType the type of the field, which converts stored values to the values of the source
+         */
+        public StoredFieldLoader(String name, MappedFieldType fieldType) {
+            this.name = name;
+            this.fieldType = fieldType;
+        }
+
+        @Override
+        public void collectStoredFields(Set<String> storedFields) {
+            storedFields.add(fieldType.name());
+        }
+
+        @Override
+        public Leaf leaf(LeafReader reader) {
+            return new Leaf() {
+                private List<Object> values;
+
+                @Override
+                public boolean advanceToDoc(int docId, Map<String, List<Object>> storedFields) {
+                    values = storedFields.get(fieldType.name());
+                    return values != null && values.isEmpty() == false;
+                }
+
+                @Override
+                public void write(XContentBuilder builder) throws IOException {
+                    if (values.size() == 1) {
+                        builder.field(name, fieldType.valueForDisplay(values.get(0)));
+                    } else {
+                        builder.startArray(name);
+                        for (Object value : values) {
+                            builder.value(fieldType.valueForDisplay(value));
+                        }
+                        builder.endArray();
+                    }
+                }
+            };
+        }
+    }
+}
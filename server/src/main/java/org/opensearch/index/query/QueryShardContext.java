@@ -65,6 +65,7 @@ import org.opensearch.index.mapper.ObjectMapper;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.query.support.NestedScope;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptFactory;
@@ -79,6 +80,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
@@ -105,6 +107,9 @@ public class QueryShardContext extends QueryRewriteContext {
     private final IndexSearcher searcher;
     private boolean cacheable = true;
     private final SetOnce<Boolean> frozen = new SetOnce<>();
+    private final long nowRoundingInMillis;
+    private boolean nowRoundingAllowed;
+    private final AtomicBoolean nowRounded = new AtomicBoolean();
 
     private final Index fullyQualifiedIndex;
     private final Predicate<String> indexNameMatcher;
@@ -223,6 +228,7 @@ public class QueryShardContext extends QueryRewriteContext {
             source.valuesSourceRegistry,
             source.validate()
         );
+        this.nowRoundingAllowed = source.nowRoundingAllowed;
     }
 
     private QueryShardContext(
@@ -261,6 +267,7 @@ public class QueryShardContext extends QueryRewriteContext {
         this.fullyQualifiedIndex = fullyQualifiedIndex;
         this.allowExpensiveQueries = allowExpensiveQueries;
         this.valuesSourceRegistry = valuesSourceRegistry;
+        this.nowRoundingInMillis = IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.get(indexSettings.getSettings()).millis();
     }
 
     private void reset() {
@@ -550,12 +557,40 @@ public class QueryShardContext extends QueryRewriteContext {
         return shardId;
     }
 
+    /**
+     * Allows {@link #nowInMillis()} to round the time of the request. Only requests that are eligible for the request cache
+     * may see a rounded time, all others must see the exact time of the request.
+     */
+    public void allowNowRounding() {
+        assert frozen.get() == null : "context is already frozen";
+        this.nowRoundingAllowed = true;
+    }
+
+    /**
+     * Returns the time of the request, rounded down to {@link IndicesRequestCache#INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING} if it
+     * is set and {@link #allowNowRounding() allowed}. Using a rounded time does not prevent caching the request, see
+     * {@link #isNowRounded()}. Using the exact time does.
+     */
     @Override
     public final long nowInMillis() {
+        // the rounded time must be used before freezing for the request cache to account for it
+        if (nowRoundingAllowed && nowRoundingInMillis > 0 && (frozen.get() == null || nowRounded.get())) {
+            nowRounded.set(true);
+            final long nowInMillis = super.nowInMillis();
+            return nowInMillis - Math.floorMod(nowInMillis, nowRoundingInMillis);
+        }
         failIfFrozen();
         return super.nowInMillis();
     }
 
+    /**
+     * Returns <code>true</code> iff the processed search request used the rounded time returned by {@link #nowInMillis()}, in
+     * which case its result may only be cached together with that time.
+     */
+    public final boolean isNowRounded() {
+        return nowRounded.get();
+    }
+
     public Client getClient() {
         failIfFrozen(); // we somebody uses a terms filter with lookup for instance can't be cached...
         return client;
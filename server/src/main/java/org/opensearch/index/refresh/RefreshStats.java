@@ -33,6 +33,7 @@
 package org.opensearch.index.refresh;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -63,6 +64,20 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of scheduled refreshes deferred by the adaptive refresh schedulers.
+     */
+    private long adaptiveDeferred;
+
+    private long adaptiveStretched;
+
+    private long adaptiveShrunk;
+
+    /**
+     * The longest effective interval between scheduled refreshes.
+     */
+    private long effectiveIntervalInMillis;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -73,6 +88,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             externalTotalTimeInMillis = in.readVLong();
         }
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            adaptiveDeferred = in.readVLong();
+            adaptiveStretched = in.readVLong();
+            adaptiveShrunk = in.readVLong();
+            effectiveIntervalInMillis = in.readLong();
+        }
     }
 
     @Override
@@ -84,6 +105,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             out.writeVLong(externalTotalTimeInMillis);
         }
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeVLong(adaptiveDeferred);
+            out.writeVLong(adaptiveStretched);
+            out.writeVLong(adaptiveShrunk);
+            out.writeLong(effectiveIntervalInMillis);
+        }
     }
 
     public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners) {
@@ -94,6 +121,24 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.listeners = listeners;
     }
 
+    public RefreshStats(
+        long total,
+        long totalTimeInMillis,
+        long externalTotal,
+        long externalTotalTimeInMillis,
+        int listeners,
+        long adaptiveDeferred,
+        long adaptiveStretched,
+        long adaptiveShrunk,
+        long effectiveIntervalInMillis
+    ) {
+        this(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        this.adaptiveDeferred = adaptiveDeferred;
+        this.adaptiveStretched = adaptiveStretched;
+        this.adaptiveShrunk = adaptiveShrunk;
+        this.effectiveIntervalInMillis = effectiveIntervalInMillis;
+    }
+
     public void add(RefreshStats refreshStats) {
         addTotals(refreshStats);
     }
@@ -107,6 +152,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.adaptiveDeferred += refreshStats.adaptiveDeferred;
+        this.adaptiveStretched += refreshStats.adaptiveStretched;
+        this.adaptiveShrunk += refreshStats.adaptiveShrunk;
+        this.effectiveIntervalInMillis = Math.max(this.effectiveIntervalInMillis, refreshStats.effectiveIntervalInMillis);
     }
 
     /**
@@ -158,6 +207,41 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of scheduled refreshes that the adaptive refresh schedulers deferred because they stretched the refresh interval.
+     */
+    public long getAdaptiveDeferred() {
+        return adaptiveDeferred;
+    }
+
+    /**
+     * The number of times the adaptive refresh schedulers stretched the refresh interval.
+     */
+    public long getAdaptiveStretched() {
+        return adaptiveStretched;
+    }
+
+    /**
+     * The number of times the adaptive refresh schedulers shrunk the refresh interval back because of searches or memory pressure.
+     */
+    public long getAdaptiveShrunk() {
+        return adaptiveShrunk;
+    }
+
+    /**
+     * The longest effective interval between the scheduled refreshes of the shards (in milliseconds).
+     */
+    public long getEffectiveIntervalInMillis() {
+        return effectiveIntervalInMillis;
+    }
+
+    /**
+     * The longest effective interval between the scheduled refreshes of the shards.
+     */
+    public TimeValue getEffectiveInterval() {
+        return new TimeValue(effectiveIntervalInMillis);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -166,6 +250,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.startObject("adaptive");
+        builder.field("deferred", adaptiveDeferred);
+        builder.field("stretched", adaptiveStretched);
+        builder.field("shrunk", adaptiveShrunk);
+        builder.humanReadableField("effective_interval_in_millis", "effective_interval", getEffectiveInterval());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -180,11 +270,25 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && adaptiveDeferred == rhs.adaptiveDeferred
+            && adaptiveStretched == rhs.adaptiveStretched
+            && adaptiveShrunk == rhs.adaptiveShrunk
+            && effectiveIntervalInMillis == rhs.effectiveIntervalInMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(
+            total,
+            totalTimeInMillis,
+            externalTotal,
+            externalTotalTimeInMillis,
+            listeners,
+            adaptiveDeferred,
+            adaptiveStretched,
+            adaptiveShrunk,
+            effectiveIntervalInMillis
+        );
     }
 }
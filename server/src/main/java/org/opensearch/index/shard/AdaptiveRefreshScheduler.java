@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Decides whether the scheduled refreshes of a shard run, stretching the interval between them while the shard is indexing
+ * without being searched. Every refresh cycle without searches doubles the interval, up to the maximum interval, and the
+ * interval is kept long enough that refreshing takes at most a {@value #REFRESH_COST_FACTOR}th of the time. The interval
+ * shrinks back to the refresh interval as soon as the shard is searched or the indexing memory controller has to write
+ * the indexing buffer of the shard to free heap.
+ * <p>
+ * The scheduled refreshes keep running at the refresh interval, and this scheduler defers them until the stretched
+ * interval has elapsed, so that searches are not delayed by more than a refresh interval once they arrive.
+ *
+ * @opensearch.internal
+ */
+final class AdaptiveRefreshScheduler {
+
+    static final int REFRESH_COST_FACTOR = 10;
+    private static final double REFRESH_COST_ALPHA = 0.3;
+
+    private final CounterMetric deferred = new CounterMetric();
+    private final CounterMetric stretched = new CounterMetric();
+    private final CounterMetric shrunk = new CounterMetric();
+
+    private volatile boolean memoryPressure;
+    private volatile long effectiveIntervalInMillis;
+    private long lastRefreshInMillis = Long.MIN_VALUE;
+    private double refreshCostInMillis;
+
+    /**
+     * Returns whether the scheduled refresh should run at the given time, in which case the refresh must be reported to
+     * {@link #afterRefresh(long)}.
+     *
+     * @param nowInMillis                the relative time in milliseconds
+     * @param refreshIntervalInMillis    the refresh interval of the index
+     * @param maxIntervalInMillis        the longest interval the refresh interval can be stretched to
+     * @param lastSearcherAccessInMillis the relative time in milliseconds the shard was last searched at
+     */
+    synchronized boolean shouldRefresh(
+        long nowInMillis,
+        long refreshIntervalInMillis,
+        long maxIntervalInMillis,
+        long lastSearcherAccessInMillis
+    ) {
+        if (refreshIntervalInMillis <= 0 || maxIntervalInMillis <= refreshIntervalInMillis) {
+            effectiveIntervalInMillis = refreshIntervalInMillis;
+            lastRefreshInMillis = nowInMillis;
+            memoryPressure = false;
+            return true;
+        }
+        final boolean searched = lastSearcherAccessInMillis >= lastRefreshInMillis;
+        final boolean active = searched || memoryPressure;
+        if (active && effectiveIntervalInMillis > refreshIntervalInMillis) {
+            shrunk.inc();
+        }
+        if (active || effectiveIntervalInMillis < refreshIntervalInMillis) {
+            effectiveIntervalInMillis = refreshIntervalInMillis;
+        }
+        if (lastRefreshInMillis != Long.MIN_VALUE && nowInMillis - lastRefreshInMillis < effectiveIntervalInMillis) {
+            deferred.inc();
+            return false;
+        }
+        if (active == false) {
+            // the shard was only indexed into since the last refresh, so refresh less often during the next cycle
+            final long interval = Math.min(
+                maxIntervalInMillis,
+                Math.max(2 * effectiveIntervalInMillis, (long) (REFRESH_COST_FACTOR * refreshCostInMillis))
+            );
+            if (interval > effectiveIntervalInMillis) {
+                stretched.inc();
+            }
+            effectiveIntervalInMillis = Math.max(refreshIntervalInMillis, interval);
+        }
+        lastRefreshInMillis = nowInMillis;
+        memoryPressure = false;
+        return true;
+    }
+
+    /**
+     * Records the time the refresh that {@link #shouldRefresh} let run took
+     */
+    synchronized void afterRefresh(long tookInMillis) {
+        refreshCostInMillis = REFRESH_COST_ALPHA * tookInMillis + (1 - REFRESH_COST_ALPHA) * refreshCostInMillis;
+    }
+
+    /**
+     * Called when the indexing memory controller writes the indexing buffer of the shard because the indexing buffers of the
+     * node use too much heap
+     */
+    void onMemoryPressure() {
+        memoryPressure = true;
+    }
+
+    /**
+     * The number of scheduled refreshes that were deferred because the refresh interval was stretched
+     */
+    long deferred() {
+        return deferred.count();
+    }
+
+    /**
+     * The number of times the refresh interval was stretched
+     */
+    long stretched() {
+        return stretched.count();
+    }
+
+    /**
+     * The number of times the refresh interval shrunk back to the refresh interval of the index
+     */
+    long shrunk() {
+        return shrunk.count();
+    }
+
+    /**
+     * The current interval between the scheduled refreshes
+     */
+    long effectiveIntervalInMillis() {
+        return effectiveIntervalInMillis;
+    }
+}
@@ -302,6 +302,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RefreshListeners refreshListeners;
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
+    private final AdaptiveRefreshScheduler adaptiveRefreshScheduler = new AdaptiveRefreshScheduler();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
@@ -1169,7 +1170,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()),
             externalRefreshMetric.count(),
             TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()),
-            listeners
+            listeners,
+            adaptiveRefreshScheduler.deferred(),
+            adaptiveRefreshScheduler.stretched(),
+            adaptiveRefreshScheduler.shrunk(),
+            adaptiveRefreshScheduler.effectiveIntervalInMillis()
         );
     }
 
@@ -1522,6 +1527,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return engine.acquireSearcherSupplier(this::wrapSearcher, scope);
     }
 
+    /**
+     * Returns {@code true} if the readers of this shard are wrapped, for instance to filter the documents or fields that the
+     * current user may see, in which case the results of a search depend on more than the content of the shard.
+     */
+    public boolean hasReaderWrapper() {
+        return readerWrapper != null;
+    }
+
     public Engine.Searcher acquireSearcher(String source) {
         return acquireSearcher(source, Engine.SearcherScope.EXTERNAL);
     }
@@ -2461,6 +2474,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * Called when our shard is using too much heap and should move buffered indexed/deleted documents to disk.
      */
     public void writeIndexingBuffer() {
+        adaptiveRefreshScheduler.onMemoryPressure();
         try {
             Engine engine = getEngine();
             engine.writeIndexingBuffer();
@@ -3801,11 +3815,26 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false
+                && adaptiveRefreshScheduler.shouldRefresh(
+                    threadPool.relativeTimeInMillis(),
+                    indexSettings.getRefreshInterval().millis(),
+                    indexSettings.getAdaptiveRefreshMaxInterval().millis(),
+                    lastSearcherAccess.get()
+                ) == false) {
+                // the adaptive refresh scheduler stretched the refresh interval since we are indexing but not searched
+                getEngine().maybePruneDeletes();
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
                 }
-                return getEngine().maybeRefresh("schedule");
+                final long startTime = System.nanoTime();
+                final boolean refreshed = getEngine().maybeRefresh("schedule");
+                if (refreshed) {
+                    adaptiveRefreshScheduler.afterRefresh(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                }
+                return refreshed;
             }
         }
         final Engine engine = getEngine();
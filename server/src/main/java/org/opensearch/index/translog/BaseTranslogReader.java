@@ -96,8 +96,13 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
         reusableBuffer.limit(4);
         readBytes(reusableBuffer, position);
         reusableBuffer.flip();
+        return checkSize(reusableBuffer.getInt(), position);
+    }
+
+    /** validates the op size read at the given position and returns the number of bytes of the op, including the op size */
+    protected final int checkSize(int opSize, long position) throws TranslogCorruptedException {
         // Add an extra 4 to account for the operation size integer itself
-        final int size = reusableBuffer.getInt() + 4;
+        final int size = opSize + 4;
         final long maxSize = sizeInBytes() - position;
         if (size < 0 || size > maxSize) {
             throw new TranslogCorruptedException(
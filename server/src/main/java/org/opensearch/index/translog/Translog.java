@@ -82,6 +82,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -142,6 +143,7 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
     private TranslogWriter current;
 
     protected final TragicExceptionHolder tragedy = new TragicExceptionHolder();
+    private final TranslogSyncMetrics syncMetrics = new TranslogSyncMetrics();
     private final AtomicBoolean closed = new AtomicBoolean();
     private final TranslogConfig config;
     private final LongSupplier globalCheckpointSupplier;
@@ -573,7 +575,8 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 primaryTermSupplier.getAsLong(),
                 tragedy,
                 persistedSequenceNumberConsumer,
-                bigArrays
+                bigArrays,
+                syncMetrics
             );
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
@@ -696,10 +699,14 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         assert fromSeqNo >= 0 : "from_seq_no must be non-negative " + fromSeqNo;
         try (ReleasableLock ignored = readLock.acquire()) {
             ensureOpen();
-            TranslogSnapshot[] snapshots = Stream.concat(readers.stream(), Stream.of(current))
-                .filter(reader -> reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo())
-                .map(BaseTranslogReader::newSnapshot)
-                .toArray(TranslogSnapshot[]::new);
+            final boolean mmap = config.getIndexSettings().isTranslogMmapEnabled();
+            final Predicate<BaseTranslogReader> inRange = reader -> reader.getCheckpoint().minSeqNo <= toSeqNo
+                && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo();
+            // unlike the current writer, readers are immutable and can be read through a memory mapping
+            TranslogSnapshot[] snapshots = Stream.concat(
+                readers.stream().filter(inRange).map(reader -> reader.newSnapshot(mmap)),
+                Stream.of(current).filter(inRange).map(BaseTranslogReader::newSnapshot)
+            ).toArray(TranslogSnapshot[]::new);
             final Snapshot snapshot = newMultiSnapshot(snapshots);
             return new SeqNoFilterSnapshot(snapshot, fromSeqNo, toSeqNo, requiredFullRange);
         }
@@ -938,7 +945,8 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 sizeInBytes(),
                 totalOperationsByMinGen(uncommittedGen),
                 sizeInBytesByMinGen(uncommittedGen),
-                earliestLastModifiedAge()
+                earliestLastModifiedAge(),
+                syncMetrics.stats()
             );
         }
     }
@@ -2077,7 +2085,8 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
             primaryTerm,
             new TragicExceptionHolder(),
             seqNo -> { throw new UnsupportedOperationException(); },
-            BigArrays.NON_RECYCLING_INSTANCE
+            BigArrays.NON_RECYCLING_INSTANCE,
+            new TranslogSyncMetrics()
         );
         writer.close();
         return uuid;
@@ -32,6 +32,9 @@
 
 package org.opensearch.index.translog;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.opensearch.common.io.Channels;
 import org.opensearch.core.internal.io.IOUtils;
@@ -54,10 +57,15 @@ import static org.opensearch.index.translog.Translog.getCommitCheckpointFileName
  * @opensearch.internal
  */
 public class TranslogReader extends BaseTranslogReader implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(TranslogReader.class);
+
     protected final long length;
     private final int totalOperations;
     private final Checkpoint checkpoint;
     protected final AtomicBoolean closed = new AtomicBoolean(false);
+    // the translog file mapped into memory by the first snapshot reading through a mapping
+    private volatile ByteBuffer mapped;
 
     /**
      * Create a translog writer against the specified translog file channel.
@@ -133,6 +141,38 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
         return length;
     }
 
+    /**
+     * Creates a snapshot of this reader which reads the translog file through a memory mapping if {@code mmap} is set, so that
+     * operations are deserialized from the mapping without being copied first. Falls back to reading the file channel if the
+     * file is too large to be mapped or mapping it fails.
+     */
+    TranslogSnapshot newSnapshot(boolean mmap) {
+        if (mmap && length <= Integer.MAX_VALUE) {
+            try {
+                return new TranslogSnapshot(this, length, map());
+            } catch (IOException e) {
+                logger.debug(() -> new ParameterizedMessage("failed to map {}, reading it through its file channel", this), e);
+            }
+        }
+        return newSnapshot();
+    }
+
+    private ByteBuffer map() throws IOException {
+        ByteBuffer mapped = this.mapped;
+        if (mapped == null) {
+            synchronized (this) {
+                mapped = this.mapped;
+                if (mapped == null) {
+                    ensureOpen();
+                    // the mapping is released once it is garbage collected, this file is immutable up to its length
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                    this.mapped = mapped;
+                }
+            }
+        }
+        return mapped;
+    }
+
     public int totalOperations() {
         return totalOperations;
     }
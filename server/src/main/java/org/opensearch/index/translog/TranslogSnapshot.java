@@ -31,7 +31,9 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Channels;
+import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
 import java.io.EOFException;
@@ -50,6 +52,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     protected final long length;
 
     private final ByteBuffer reusableBuffer;
+    // the memory mapped file of the reader, if any, which operations are read from without copying them
+    @Nullable
+    private final ByteBuffer mapped;
     private long position;
     private int skippedOperations;
     private int readOperations;
@@ -59,7 +64,16 @@ final class TranslogSnapshot extends BaseTranslogReader {
      * Create a snapshot of translog file channel.
      */
     TranslogSnapshot(final BaseTranslogReader reader, final long length) {
+        this(reader, length, null);
+    }
+
+    /**
+     * Create a snapshot of translog file channel that reads operations from the given memory mapped file, unless it is {@code null}.
+     */
+    TranslogSnapshot(final BaseTranslogReader reader, final long length, @Nullable final ByteBuffer mapped) {
         super(reader.generation, reader.channel, reader.path, reader.header);
+        assert mapped == null || mapped.capacity() >= length : "mapped [" + mapped.capacity() + "] bytes but length is [" + length + "]";
+        this.mapped = mapped;
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
@@ -95,14 +109,31 @@ final class TranslogSnapshot extends BaseTranslogReader {
     }
 
     private Translog.Operation readOperation() throws IOException {
-        final int opSize = readSize(reusableBuffer, position);
-        reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        final int opSize;
+        if (mapped != null) {
+            if (position + Integer.BYTES > length) {
+                throw new TranslogCorruptedException(path.toString(), "translog truncated");
+            }
+            opSize = checkSize(mapped.getInt(Math.toIntExact(position)), position);
+            reuse = mappedChecksummedStream(opSize);
+        } else {
+            opSize = readSize(reusableBuffer, position);
+            reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        }
         Translog.Operation op = read(reuse);
         position += opSize;
         readOperations++;
         return op;
     }
 
+    private BufferedChecksumStreamInput mappedChecksummedStream(int opSize) {
+        // the op size was validated against the length, which the mapped file covers
+        final ByteBuffer buffer = mapped.duplicate();
+        buffer.position(Math.toIntExact(position));
+        buffer.limit(Math.toIntExact(position + opSize));
+        return new BufferedChecksumStreamInput(new ByteBufferStreamInput(buffer), path.toString(), reuse);
+    }
+
     public long sizeInBytes() {
         return length;
     }
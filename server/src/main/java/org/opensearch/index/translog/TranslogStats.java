@@ -31,15 +31,18 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.Version;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Translog statistics
@@ -53,8 +56,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    private SyncStats syncStats;
 
-    public TranslogStats() {}
+    public TranslogStats() {
+        syncStats = new SyncStats();
+    }
 
     public TranslogStats(StreamInput in) throws IOException {
         numberOfOperations = in.readVInt();
@@ -62,6 +68,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         uncommittedOperations = in.readVInt();
         uncommittedSizeInBytes = in.readVLong();
         earliestLastModifiedAge = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            syncStats = new SyncStats(in);
+        } else {
+            syncStats = new SyncStats();
+        }
     }
 
     public TranslogStats(
@@ -70,6 +81,24 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         int uncommittedOperations,
         long uncommittedSizeInBytes,
         long earliestLastModifiedAge
+    ) {
+        this(
+            numberOfOperations,
+            translogSizeInBytes,
+            uncommittedOperations,
+            uncommittedSizeInBytes,
+            earliestLastModifiedAge,
+            new SyncStats()
+        );
+    }
+
+    public TranslogStats(
+        int numberOfOperations,
+        long translogSizeInBytes,
+        int uncommittedOperations,
+        long uncommittedSizeInBytes,
+        long earliestLastModifiedAge,
+        SyncStats syncStats
     ) {
         if (numberOfOperations < 0) {
             throw new IllegalArgumentException("numberOfOperations must be >= 0");
@@ -91,6 +120,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedSizeInBytes = uncommittedSizeInBytes;
         this.uncommittedOperations = uncommittedOperations;
         this.earliestLastModifiedAge = earliestLastModifiedAge;
+        this.syncStats = syncStats;
     }
 
     public void add(TranslogStats translogStats) {
@@ -107,6 +137,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         } else {
             this.earliestLastModifiedAge = Math.min(this.earliestLastModifiedAge, translogStats.earliestLastModifiedAge);
         }
+        this.syncStats.add(translogStats.syncStats);
     }
 
     public long getTranslogSizeInBytes() {
@@ -131,6 +162,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return earliestLastModifiedAge;
     }
 
+    /** the stats of the fsyncs of the translog */
+    public SyncStats getSyncStats() {
+        return syncStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("translog");
@@ -139,6 +175,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        builder.startObject("sync");
+        syncStats.toXContent(builder, params);
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -155,5 +194,144 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         out.writeVInt(uncommittedOperations);
         out.writeVLong(uncommittedSizeInBytes);
         out.writeVLong(earliestLastModifiedAge);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            syncStats.writeTo(out);
+        }
+    }
+
+    /**
+     * Stats of the fsyncs of the translog. Concurrent requests to sync the translog are grouped: one of them writes and
+     * fsyncs the operations of all requests that are waiting, so that a sync serves a group of requests. The stats report
+     * histograms of the size of these groups and of the latency of the fsyncs.
+     *
+     * @opensearch.internal
+     */
+    public static class SyncStats implements Writeable, ToXContentFragment {
+
+        /**
+         * The exclusive upper bounds of the buckets of the group size histogram, the last bucket is unbounded
+         */
+        static final long[] GROUP_SIZE_BUCKETS = { 2, 4, 8, 16, 32, 64 };
+        /**
+         * The exclusive upper bounds of the buckets of the latency histogram in milliseconds, the last bucket is unbounded
+         */
+        static final long[] LATENCY_BUCKETS_IN_MILLIS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+        private long count;
+        private long requests;
+        private long totalTimeInMillis;
+        private final long[] groupSizeHistogram;
+        private final long[] latencyHistogram;
+
+        public SyncStats() {
+            this(0, 0, 0, new long[GROUP_SIZE_BUCKETS.length + 1], new long[LATENCY_BUCKETS_IN_MILLIS.length + 1]);
+        }
+
+        public SyncStats(StreamInput in) throws IOException {
+            count = in.readVLong();
+            requests = in.readVLong();
+            totalTimeInMillis = in.readVLong();
+            groupSizeHistogram = in.readVLongArray();
+            latencyHistogram = in.readVLongArray();
+        }
+
+        public SyncStats(long count, long requests, long totalTimeInMillis, long[] groupSizeHistogram, long[] latencyHistogram) {
+            assert groupSizeHistogram.length == GROUP_SIZE_BUCKETS.length + 1 : groupSizeHistogram.length;
+            assert latencyHistogram.length == LATENCY_BUCKETS_IN_MILLIS.length + 1 : latencyHistogram.length;
+            this.count = count;
+            this.requests = requests;
+            this.totalTimeInMillis = totalTimeInMillis;
+            this.groupSizeHistogram = groupSizeHistogram;
+            this.latencyHistogram = latencyHistogram;
+        }
+
+        public void add(SyncStats stats) {
+            count += stats.count;
+            requests += stats.requests;
+            totalTimeInMillis += stats.totalTimeInMillis;
+            for (int i = 0; i < groupSizeHistogram.length; i++) {
+                groupSizeHistogram[i] += stats.groupSizeHistogram[i];
+            }
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                latencyHistogram[i] += stats.latencyHistogram[i];
+            }
+        }
+
+        /** the number of fsyncs */
+        public long getCount() {
+            return count;
+        }
+
+        /** the number of sync requests served by the fsyncs */
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getTotalTimeInMillis() {
+            return totalTimeInMillis;
+        }
+
+        /** the number of fsyncs per group size bucket, see {@link #GROUP_SIZE_BUCKETS} */
+        public long[] getGroupSizeHistogram() {
+            return Arrays.copyOf(groupSizeHistogram, groupSizeHistogram.length);
+        }
+
+        /** the number of fsyncs per latency bucket, see {@link #LATENCY_BUCKETS_IN_MILLIS} */
+        public long[] getLatencyHistogram() {
+            return Arrays.copyOf(latencyHistogram, latencyHistogram.length);
+        }
+
+        /**
+         * Returns the index of the bucket the given value belongs to
+         */
+        static int bucket(long[] buckets, long value) {
+            int bucket = 0;
+            while (bucket < buckets.length && value >= buckets[bucket]) {
+                bucket++;
+            }
+            return bucket;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(requests);
+            out.writeVLong(totalTimeInMillis);
+            out.writeVLongArray(groupSizeHistogram);
+            out.writeVLongArray(latencyHistogram);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field("total", count);
+            builder.field("requests", requests);
+            builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(totalTimeInMillis));
+            histogramToXContent(builder, "group_size", "from", "to", GROUP_SIZE_BUCKETS, groupSizeHistogram);
+            histogramToXContent(builder, "latency", "from_in_millis", "to_in_millis", LATENCY_BUCKETS_IN_MILLIS, latencyHistogram);
+            return builder;
+        }
+
+        private static void histogramToXContent(
+            XContentBuilder builder,
+            String name,
+            String fromField,
+            String toField,
+            long[] buckets,
+            long[] histogram
+        ) throws IOException {
+            builder.startArray(name);
+            for (int i = 0; i < histogram.length; i++) {
+                builder.startObject();
+                if (i > 0) {
+                    builder.field(fromField, buckets[i - 1]);
+                }
+                if (i < buckets.length) {
+                    builder.field(toField, buckets[i]);
+                }
+                builder.field("count", histogram[i]);
+                builder.endObject();
+            }
+            builder.endArray();
+        }
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.index.translog.TranslogStats.SyncStats.GROUP_SIZE_BUCKETS;
+import static org.opensearch.index.translog.TranslogStats.SyncStats.LATENCY_BUCKETS_IN_MILLIS;
+
+/**
+ * Records the fsyncs of the {@link TranslogWriter}s of a {@link Translog} across generations.
+ *
+ * @opensearch.internal
+ */
+final class TranslogSyncMetrics {
+
+    private final CounterMetric count = new CounterMetric();
+    private final CounterMetric requests = new CounterMetric();
+    private final CounterMetric totalTimeInNanos = new CounterMetric();
+    private final CounterMetric[] groupSizeHistogram = newHistogram(GROUP_SIZE_BUCKETS);
+    private final CounterMetric[] latencyHistogram = newHistogram(LATENCY_BUCKETS_IN_MILLIS);
+
+    /**
+     * Records an fsync that served the given number of sync requests and took the given time
+     */
+    void onSync(int groupSize, long tookInNanos) {
+        count.inc();
+        requests.inc(groupSize);
+        totalTimeInNanos.inc(tookInNanos);
+        groupSizeHistogram[TranslogStats.SyncStats.bucket(GROUP_SIZE_BUCKETS, groupSize)].inc();
+        latencyHistogram[TranslogStats.SyncStats.bucket(LATENCY_BUCKETS_IN_MILLIS, TimeUnit.NANOSECONDS.toMillis(tookInNanos))].inc();
+    }
+
+    TranslogStats.SyncStats stats() {
+        return new TranslogStats.SyncStats(
+            count.count(),
+            requests.count(),
+            TimeUnit.NANOSECONDS.toMillis(totalTimeInNanos.count()),
+            counts(groupSizeHistogram),
+            counts(latencyHistogram)
+        );
+    }
+
+    private static CounterMetric[] newHistogram(long[] buckets) {
+        final CounterMetric[] histogram = new CounterMetric[buckets.length + 1];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new CounterMetric();
+        }
+        return histogram;
+    }
+
+    private static long[] counts(CounterMetric[] histogram) {
+        final long[] counts = new long[histogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            counts[i] = histogram[i].count();
+        }
+        return counts;
+    }
+}
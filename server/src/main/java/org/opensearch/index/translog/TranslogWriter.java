@@ -64,6 +64,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
@@ -110,6 +111,14 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final Map<Long, Tuple<BytesReference, Exception>> seenSequenceNumbers;
 
+    private final TranslogSyncMetrics syncMetrics;
+    // the number of requests that needed a sync, used to account for the requests served by each sync
+    private final AtomicLong syncRequests = new AtomicLong();
+    // the number of requests that were registered when the last sync collected the operations to write, guarded by syncLock
+    private long collectedSyncRequests;
+    // the number of requests registered after the last sync collected the operations but served by it, guarded by syncLock
+    private long servedUncollectedSyncRequests;
+
     private TranslogWriter(
         final ShardId shardId,
         final Checkpoint initialCheckpoint,
@@ -123,7 +132,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         TranslogHeader header,
         final TragicExceptionHolder tragedy,
         final LongConsumer persistedSequenceNumberConsumer,
-        final BigArrays bigArrays
+        final BigArrays bigArrays,
+        final TranslogSyncMetrics syncMetrics
     ) throws IOException {
         super(initialCheckpoint.generation, channel, path, header);
         assert initialCheckpoint.offset == channel.position() : "initial checkpoint offset ["
@@ -148,6 +158,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.bigArrays = bigArrays;
         this.seenSequenceNumbers = Assertions.ENABLED ? new HashMap<>() : null;
         this.tragedy = tragedy;
+        this.syncMetrics = syncMetrics;
     }
 
     public static TranslogWriter create(
@@ -164,7 +175,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final long primaryTerm,
         TragicExceptionHolder tragedy,
         final LongConsumer persistedSequenceNumberConsumer,
-        final BigArrays bigArrays
+        final BigArrays bigArrays,
+        final TranslogSyncMetrics syncMetrics
     ) throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -208,7 +220,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 header,
                 tragedy,
                 persistedSequenceNumberConsumer,
-                bigArrays
+                bigArrays,
+                syncMetrics
             );
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
@@ -230,6 +243,11 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     /**
      * Add the given bytes to the translog with the specified sequence number; returns the location the bytes were written to.
+     * <p>
+     * Operations are serialized by the indexing threads outside of this lock (see {@link Translog#add}), so appending only
+     * copies the bytes to the shared buffer. The copy and the assignment of the location stay under a single lock: the
+     * location is the offset of the operation in the file, so operations have to reach the buffer in the order their
+     * locations are handed out. Concurrent syncs of these operations are grouped in {@link #syncUpTo}.
      *
      * @param data  the bytes to write
      * @param seqNo the sequence number associated with the operation
@@ -473,16 +491,29 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     }
 
     /**
-     * Syncs the translog up to at least the given offset unless already synced
+     * Syncs the translog up to at least the given offset unless already synced. Concurrent calls are committed as a group:
+     * the first caller to acquire the sync lock writes and fsyncs the operations of all callers that are waiting for it,
+     * which then return without syncing again.
      *
      * @return <code>true</code> if this call caused an actual sync operation
      */
     final boolean syncUpTo(long offset) throws IOException {
         if (lastSyncedCheckpoint.offset < offset && syncNeeded()) {
+            // registered before waiting for the sync lock, after the operations to sync were added
+            final long syncRequest = syncRequests.incrementAndGet();
             synchronized (syncLock) { // only one sync/checkpoint should happen concurrently but we wait
                 if (lastSyncedCheckpoint.offset < offset && syncNeeded()) {
                     // double checked locking - we don't want to fsync unless we have to and now that we have
                     // the lock we should check again since if this code is busy we might have fsynced enough already
+                    // requests registered so far have added their operations before the operations are collected below,
+                    // so this sync serves all of them
+                    final long registeredSyncRequests = syncRequests.get();
+                    final int groupSize = (int) Math.max(
+                        1,
+                        registeredSyncRequests - collectedSyncRequests - servedUncollectedSyncRequests
+                    );
+                    collectedSyncRequests = registeredSyncRequests;
+                    servedUncollectedSyncRequests = 0;
                     final Checkpoint checkpointToSync;
                     final LongArrayList flushedSequenceNumbers;
                     final ReleasableBytesReference toWrite;
@@ -505,6 +536,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     }
                     // now do the actual fsync outside of the synchronized block such that
                     // we can continue writing to the buffer etc.
+                    final long startTimeNanos = System.nanoTime();
                     try {
                         channel.force(false);
                         writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync);
@@ -512,6 +544,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                         closeWithTragicEvent(ex);
                         throw ex;
                     }
+                    syncMetrics.onSync(groupSize, System.nanoTime() - startTimeNanos);
                     flushedSequenceNumbers.forEach((LongProcedure) persistedSequenceNumberConsumer::accept);
                     assert lastSyncedCheckpoint.offset <= checkpointToSync.offset : "illegal state: "
                         + lastSyncedCheckpoint.offset
@@ -519,6 +552,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                         + checkpointToSync.offset;
                     lastSyncedCheckpoint = checkpointToSync; // write protected by syncLock
                     return true;
+                } else if (syncRequest > collectedSyncRequests) {
+                    // served by the previous sync although it did not account for this request
+                    servedUncollectedSyncRequests++;
                 }
             }
         }
@@ -34,6 +34,7 @@ package org.opensearch.indices;
 
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.index.cache.request.CacheTier;
 import org.opensearch.index.cache.request.ShardRequestCache;
 import org.opensearch.index.shard.IndexShard;
 
@@ -72,4 +73,24 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
             notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED
         );
     }
+
+    @Override
+    public final void onCached(CacheTier tier, long sizeInBytes) {
+        stats().onCached(tier, sizeInBytes);
+    }
+
+    @Override
+    public final void onHit(CacheTier tier) {
+        stats().onHit(tier);
+    }
+
+    @Override
+    public final void onMiss(CacheTier tier) {
+        stats().onMiss(tier);
+    }
+
+    @Override
+    public final void onRemoval(CacheTier tier, long sizeInBytes, boolean evicted) {
+        stats().onRemoval(tier, sizeInBytes, evicted);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link RequestCacheStore} writing each value to its own file under a directory of the node data path.
+ *
+ * @opensearch.internal
+ */
+final class FsRequestCacheStore implements RequestCacheStore {
+
+    private static final Logger logger = LogManager.getLogger(FsRequestCacheStore.class);
+
+    private final Path path;
+    private final AtomicLong fileIdGenerator = new AtomicLong();
+
+    FsRequestCacheStore(Path path) throws IOException {
+        this.path = path;
+        // files left behind by a previous run reference readers that do not exist anymore
+        IOUtils.rm(path);
+        Files.createDirectories(path);
+    }
+
+    @Override
+    public StoredValue write(BytesReference value) throws IOException {
+        final Path file = path.resolve(Long.toString(fileIdGenerator.incrementAndGet()));
+        boolean success = false;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            value.writeTo(out);
+            success = true;
+        } finally {
+            if (success == false) {
+                deleteQuietly(file);
+            }
+        }
+        return new FileValue(file, value.length());
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.rm(path);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to delete request cache entry [{}]", file), e);
+        }
+    }
+
+    /**
+     * A value held in a file
+     *
+     * @opensearch.internal
+     */
+    private static final class FileValue extends StoredValue {
+        private final Path file;
+
+        FileValue(Path file, long sizeInBytes) {
+            super(sizeInBytes);
+            this.file = file;
+        }
+
+        @Override
+        BytesReference read() throws IOException {
+            return new BytesArray(Files.readAllBytes(file));
+        }
+
+        @Override
+        protected void closeInternal() {
+            deleteQuietly(file);
+        }
+    }
+}
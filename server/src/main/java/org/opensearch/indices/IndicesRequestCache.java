@@ -41,6 +41,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
@@ -54,15 +55,23 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.cache.request.CacheTier;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -74,6 +83,10 @@ import java.util.concurrent.ConcurrentMap;
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
+ * The cache is made of an on-heap tier followed by an optional off-heap tier and an optional disk tier, see
+ * {@link #INDICES_CACHE_OFF_HEAP_SIZE} and {@link #INDICES_CACHE_DISK_SIZE}. Entries evicted from a tier are demoted
+ * to the next one, and entries found in a lower tier are promoted back to the on-heap tier.
+ * <p>
  * There are still several TODOs left in this class, some easily addressable, some more complex, but the support
  * is functional.
  *
@@ -93,6 +106,29 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Whether to also cache the results of requests that return hits on an index level, when the request does not set
+     * {@code request_cache} explicitly. These results include the top docs and sort values of the shard, and they take
+     * more room in the cache than the results of requests with {@code size=0}, so it is disabled by default.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_TOP_HITS_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.top_hits.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * The granularity {@code now} is rounded down to when searching an index, which allows to cache the results of requests
+     * that use {@code now}. Such results are served for at most this long, as the rounded time is part of their cache key.
+     * Rounding is disabled if set to {@code 0}.
+     */
+    public static final Setting<TimeValue> INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING = Setting.timeSetting(
+        "index.requests.cache.now_rounding",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE = Setting.memorySizeSetting(
         "indices.requests.cache.size",
         "1%",
@@ -103,14 +139,42 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         new TimeValue(0),
         Property.NodeScope
     );
+    /**
+     * The maximum size of the off-heap tier of the request cache, which is disabled if set to {@code 0}. The tier is
+     * allocated in direct memory, so {@code -XX:MaxDirectMemorySize} must leave room for it.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_OFF_HEAP_SIZE = Setting.byteSizeSetting(
+        "indices.requests.cache.off_heap.size",
+        new ByteSizeValue(0),
+        Property.NodeScope
+    );
+    /**
+     * The maximum size of the disk tier of the request cache, which is disabled if set to {@code 0}.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_DISK_SIZE = Setting.byteSizeSetting(
+        "indices.requests.cache.disk.size",
+        new ByteSizeValue(0),
+        Property.NodeScope
+    );
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    // the tiers below the on-heap one, in the order entries are demoted to
+    private final List<RequestCacheStoreTier> lowerTiers;
+    // evicted entries that still need to be written to the next tier
+    private final Queue<Demotion> pendingDemotions = ConcurrentCollections.newQueue();
 
     IndicesRequestCache(Settings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param diskTierPath the directory the disk tier stores its entries in, or {@code null} to disable the disk tier
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path diskTierPath) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
@@ -122,11 +186,42 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final ByteSizeValue offHeapSize = INDICES_CACHE_OFF_HEAP_SIZE.get(settings);
+        final ByteSizeValue diskSize = INDICES_CACHE_DISK_SIZE.get(settings);
+        final boolean diskTierEnabled = diskTierPath != null && diskSize.getBytes() > 0;
+        final List<RequestCacheStoreTier> tiers = new ArrayList<>();
+        if (offHeapSize.getBytes() > 0) {
+            tiers.add(
+                new RequestCacheStoreTier(
+                    CacheTier.OFF_HEAP,
+                    new OffHeapRequestCacheStore(),
+                    offHeapSize,
+                    expire,
+                    diskTierEnabled ? demoteTo(tiers.size() + 1) : null
+                )
+            );
+        }
+        if (diskTierEnabled) {
+            final FsRequestCacheStore store;
+            try {
+                store = new FsRequestCacheStore(diskTierPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to create the request cache disk tier under [" + diskTierPath + "]", e);
+            }
+            tiers.add(new RequestCacheStoreTier(CacheTier.DISK, store, diskSize, expire, null));
+        }
+        lowerTiers = Collections.unmodifiableList(tiers);
+    }
+
+    private BiConsumer<Key, BytesReference> demoteTo(int tierIndex) {
+        return (key, value) -> pendingDemotions.add(new Demotion(key, value, tierIndex));
     }
 
     @Override
-    public void close() {
+    public void close() throws IOException {
         cache.invalidateAll();
+        pendingDemotions.clear();
+        IOUtils.close(lowerTiers);
     }
 
     void clear(CacheEntity entity) {
@@ -137,6 +232,21 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
         notification.getKey().entity.onRemoval(notification);
+        if (lowerTiers.isEmpty() == false && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED) {
+            // we are called under the LRU lock of the on-heap tier, so we demote only once it was released
+            pendingDemotions.add(new Demotion(notification.getKey(), notification.getValue(), 0));
+        }
+    }
+
+    private void demotePendingEntries() {
+        Demotion demotion;
+        while ((demotion = pendingDemotions.poll()) != null) {
+            final Key key = demotion.key;
+            // entries of closed shards or readers would never be cleaned up from the lower tiers again
+            if (key.entity.isOpen() && registeredClosedListeners.containsKey(new CleanupKey(key.entity, key.readerCacheKey))) {
+                lowerTiers.get(demotion.tierIndex).put(key, demotion.value);
+            }
+        }
     }
 
     BytesReference getOrCompute(
@@ -147,10 +257,17 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
     ) throws Exception {
         assert reader.getReaderCacheHelper() != null;
         final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
+        Loader cacheLoader = new Loader(cacheEntity, loader, lowerTiers);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
+            for (int i = 0; i < lowerTiers.size(); i++) {
+                if (i == cacheLoader.getPromotedFrom()) {
+                    key.entity.onHit(lowerTiers.get(i).tier());
+                    break;
+                }
+                key.entity.onMiss(lowerTiers.get(i).tier());
+            }
             // see if its the first time we see this reader, and make sure to register a cleanup key
             CleanupKey cleanupKey = new CleanupKey(cacheEntity, reader.getReaderCacheHelper().getKey());
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
@@ -162,6 +279,9 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         } else {
             key.entity.onHit();
         }
+        if (lowerTiers.isEmpty() == false) {
+            demotePendingEntries();
+        }
         return value;
     }
 
@@ -173,11 +293,15 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        for (RequestCacheStoreTier tier : lowerTiers) {
+            tier.invalidate(key);
+        }
     }
 
     /**
-     * Loader for the request cache
+     * Loader for the request cache, which promotes the entry from the first lower tier it is present in
      *
      * @opensearch.internal
      */
@@ -185,26 +309,62 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        private final List<RequestCacheStoreTier> lowerTiers;
         private boolean loaded;
+        private int promotedFrom = -1;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, List<RequestCacheStoreTier> lowerTiers) {
             this.entity = entity;
             this.loader = loader;
+            this.lowerTiers = lowerTiers;
         }
 
         public boolean isLoaded() {
             return this.loaded;
         }
 
+        /**
+         * Returns the index of the lower tier the loaded value was promoted from, or {@code -1} if it was computed.
+         */
+        public int getPromotedFrom() {
+            return this.promotedFrom;
+        }
+
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            BytesReference value = null;
+            for (int i = 0; i < lowerTiers.size() && value == null; i++) {
+                value = lowerTiers.get(i).remove(key);
+                if (value != null) {
+                    promotedFrom = i;
+                }
+            }
+            if (value == null) {
+                value = loader.get();
+            }
             entity.onCached(key, value);
             loaded = true;
             return value;
         }
     }
 
+    /**
+     * An entry evicted from a tier, to be written to the next one
+     *
+     * @opensearch.internal
+     */
+    private static class Demotion {
+        final Key key;
+        final BytesReference value;
+        final int tierIndex;
+
+        Demotion(Key key, BytesReference value, int tierIndex) {
+            this.key = key;
+            this.value = value;
+            this.tierIndex = tierIndex;
+        }
+    }
+
     /**
      * Basic interface to make this cache testable.
      */
@@ -241,6 +401,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called after a value of the given size was written to the given tier.
+         */
+        void onCached(CacheTier tier, long sizeInBytes);
+
+        /**
+         * Called each time this entity has a cache hit in the given tier.
+         */
+        void onHit(CacheTier tier);
+
+        /**
+         * Called each time this entity has a cache miss in the given tier.
+         */
+        void onMiss(CacheTier tier);
+
+        /**
+         * Called when a value of the given size was removed from the given tier.
+         */
+        void onRemoval(CacheTier tier, long sizeInBytes, boolean evicted);
     }
 
     /**
@@ -345,28 +525,52 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
-            for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext();) {
-                Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
-                    iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
-                }
+            cleanKeys(cache.keys(), currentKeysToClean, currentFullClean);
+            for (RequestCacheStoreTier tier : lowerTiers) {
+                cleanKeys(tier.keys(), currentKeysToClean, currentFullClean);
             }
         }
 
         cache.refresh();
+        demotePendingEntries();
+        for (RequestCacheStoreTier tier : lowerTiers) {
+            tier.refresh();
+            demotePendingEntries();
+        }
+    }
+
+    private void cleanKeys(Iterable<Key> keys, ObjectSet<CleanupKey> currentKeysToClean, ObjectSet<Object> currentFullClean) {
+        for (Iterator<Key> iterator = keys.iterator(); iterator.hasNext();) {
+            Key key = iterator.next();
+            if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                iterator.remove();
+            } else {
+                if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
+                    iterator.remove();
+                }
+            }
+        }
     }
 
     /**
-     * Returns the current size of the cache
+     * Returns the current size of the on-heap tier of the cache
      */
     int count() {
         return cache.count();
     }
 
+    /**
+     * Returns the current size of the given lower tier of the cache
+     */
+    int count(CacheTier tier) {
+        for (RequestCacheStoreTier lowerTier : lowerTiers) {
+            if (lowerTier.tier() == tier) {
+                return lowerTier.count();
+            }
+        }
+        return 0;
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
@@ -62,8 +62,11 @@ import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.Numbers;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -119,6 +122,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
@@ -145,7 +149,9 @@ import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
@@ -204,6 +210,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private static final Logger logger = LogManager.getLogger(IndicesService.class);
 
     public static final String INDICES_SHARDS_CLOSED_TIMEOUT = "indices.shards_closed_timeout";
+    private static final String REQUEST_CACHE_DISK_TIER_FOLDER = "request_cache";
     public static final Setting<TimeValue> INDICES_CACHE_CLEAN_INTERVAL_SETTING = Setting.positiveTimeSetting(
         "indices.cache.cleanup_interval",
         TimeValue.timeValueMinutes(1),
@@ -305,7 +312,10 @@ public class IndicesService extends AbstractLifecycleComponent
         this.shardsClosedTimeout = settings.getAsTime(INDICES_SHARDS_CLOSED_TIMEOUT, new TimeValue(1, TimeUnit.DAYS));
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
-        this.indicesRequestCache = new IndicesRequestCache(settings);
+        this.indicesRequestCache = new IndicesRequestCache(
+            settings,
+            nodeEnv.hasNodeFile() ? nodeEnv.nodeDataPaths()[0].resolve(REQUEST_CACHE_DISK_TIER_FOLDER) : null
+        );
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -332,7 +342,7 @@ public class IndicesService extends AbstractLifecycleComponent
                     + "]";
                 circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA).addWithoutBreaking(-sizeInBytes);
             }
-        });
+        }, circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA));
         this.cleanInterval = INDICES_CACHE_CLEAN_INTERVAL_SETTING.get(settings);
         this.cacheCleaner = new CacheCleaner(indicesFieldDataCache, indicesRequestCache, logger, threadPool, this.cleanInterval);
         this.metaStateService = metaStateService;
@@ -1472,6 +1482,49 @@ public class IndicesService extends AbstractLifecycleComponent
      * Can the shard request be cached at all?
      */
     public boolean canCache(ShardSearchRequest request, SearchContext context) {
+        final IndexSettings settings = context.indexShard().indexSettings();
+        final boolean rescored = context.rescore().isEmpty() == false;
+        if (isRequestCacheEligible(request, context.searchType(), settings, context.size(), rescored) == false) {
+            return false;
+        }
+        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
+        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
+
+        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
+        // then we can't cache based on "now" key within the search request, as it is not deterministic
+        if (context.getQueryShardContext().isCacheable() == false) {
+            return false;
+        }
+        return true;
+
+    }
+
+    /**
+     * Can the shard request be cached if what its source uses is deterministic? Only such requests may round {@code now}, see
+     * {@link IndicesRequestCache#INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING}, all others must see the exact time of the request.
+     * Requests that search a point in time are left out since they are not cached when their searcher was opened.
+     */
+    public boolean canRoundNow(ShardSearchRequest request, IndexSettings settings) {
+        if (request.readerId() != null) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        final int size = source == null || source.size() == -1 ? SearchService.DEFAULT_SIZE : source.size();
+        final boolean rescored = source != null && source.rescores() != null && source.rescores().isEmpty() == false;
+        return isRequestCacheEligible(request, request.searchType(), settings, size, rescored);
+    }
+
+    /**
+     * The checks of {@link #canCache} that only depend on the request, its search type, the index settings, the number of
+     * hits to return and whether they are rescored, so that {@link #canRoundNow} can run them before the search context exists.
+     */
+    private static boolean isRequestCacheEligible(
+        ShardSearchRequest request,
+        SearchType searchType,
+        IndexSettings settings,
+        int size,
+        boolean rescored
+    ) {
         // Queries that create a scroll context cannot use the cache.
         // They modify the search context during their execution so using the cache
         // may invalidate the scroll for the next query.
@@ -1483,7 +1536,7 @@ public class IndicesService extends AbstractLifecycleComponent
         // on the overridden statistics. So if you ran two queries on the same index with different stats
         // (because an other shard was updated) you would get wrong results because of the scores
         // (think about top_hits aggs or scripts using the score)
-        if (SearchType.QUERY_THEN_FETCH != context.searchType()) {
+        if (SearchType.QUERY_THEN_FETCH != searchType) {
             return false;
         }
 
@@ -1492,29 +1545,24 @@ public class IndicesService extends AbstractLifecycleComponent
             return false;
         }
 
-        IndexSettings settings = context.indexShard().indexSettings();
         // if not explicitly set in the request, use the index setting, if not, use the request
         if (request.requestCache() == null) {
             if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false) {
                 return false;
-            } else if (context.size() != 0) {
+            } else if (size != 0) {
                 // If no request cache query parameter and shard request cache
-                // is enabled in settings don't cache for requests with size > 0
-                return false;
+                // is enabled in settings don't cache for requests with size > 0,
+                // unless the index opted in to caching top hits. Rescored hits
+                // are left out since the fetch phase needs the rescored doc ids,
+                // which are not part of the cached result.
+                if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_TOP_HITS_ENABLED_SETTING) == false || rescored) {
+                    return false;
+                }
             }
         } else if (request.requestCache() == false) {
             return false;
         }
-        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
-        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
-
-        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
-        // then we can't cache based on "now" key within the search request, as it is not deterministic
-        if (context.getQueryShardContext().isCacheable() == false) {
-            return false;
-        }
         return true;
-
     }
 
     /**
@@ -1526,9 +1574,10 @@ public class IndicesService extends AbstractLifecycleComponent
     public void loadIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
         assert canCache(request, context);
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
+        final BytesReference cacheKey = cacheKey(request, context);
 
         boolean[] loadedFromCache = new boolean[] { true };
-        BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(), out -> {
+        BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, cacheKey, out -> {
             queryPhase.execute(context);
             context.queryResult().writeToNoId(out);
             loadedFromCache[0] = false;
@@ -1548,7 +1597,7 @@ public class IndicesService extends AbstractLifecycleComponent
             // key invalidate the result in the thread that caused the timeout. This will end up to be simpler and eventually correct since
             // running a search that times out concurrently will likely timeout again if it's run while we have this `stale` result in the
             // cache. One other option is to not cache requests with a timeout at all...
-            indicesRequestCache.invalidate(new IndexShardCacheEntity(context.indexShard()), directoryReader, request.cacheKey());
+            indicesRequestCache.invalidate(new IndexShardCacheEntity(context.indexShard()), directoryReader, cacheKey);
             if (logger.isTraceEnabled()) {
                 logger.trace(
                     "Query timed out, invalidating cache entry for request on shard [{}]:\n {}",
@@ -1559,6 +1608,19 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Returns the request cache key of the given request. If the request used a rounded value of {@code now}, that value is
+     * part of the key so that the cached result is not served anymore once {@code now} rounds to a different value.
+     */
+    private static BytesReference cacheKey(ShardSearchRequest request, SearchContext context) throws IOException {
+        final BytesReference cacheKey = request.cacheKey();
+        final QueryShardContext queryShardContext = context.getQueryShardContext();
+        if (queryShardContext.isNowRounded()) {
+            return CompositeBytesReference.of(cacheKey, new BytesArray(Numbers.longToBytes(queryShardContext.nowInMillis())));
+        }
+        return cacheKey;
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
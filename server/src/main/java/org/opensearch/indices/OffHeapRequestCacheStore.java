@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link RequestCacheStore} copying values into direct memory. Memory is allocated in slabs of fixed size pages that
+ * are recycled through a free list, so that a value occupies as many pages as its length requires and the direct memory
+ * in use is bounded by the peak size of the tier. {@link #trim()} releases the trailing slabs that no value uses anymore.
+ * Direct memory counts against {@code -XX:MaxDirectMemorySize}, which must leave room for the configured size of the tier.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapRequestCacheStore implements RequestCacheStore {
+
+    static final int PAGE_SIZE = 4 * 1024;
+    static final int PAGES_PER_SLAB = 1024;
+
+    // copied on write so that readers can access the slabs without synchronization
+    private volatile ByteBuffer[] slabs = new ByteBuffer[0];
+    private volatile boolean closed = false;
+    // stack of the ids of the pages that are not in use, guarded by this
+    private int[] freePages = new int[0];
+    private int freePagesCount = 0;
+    // number of pages in use per slab, guarded by this
+    private int[] usedPages = new int[0];
+
+    @Override
+    public StoredValue write(BytesReference value) throws IOException {
+        final int length = value.length();
+        final int[] pages = allocate((length + PAGE_SIZE - 1) / PAGE_SIZE);
+        // slabs are only removed once none of their pages is in use, so these hold the allocated pages unless closed
+        final ByteBuffer[] slabs = this.slabs;
+        final BytesRefIterator iterator = value.iterator();
+        int offset = 0;
+        BytesRef ref;
+        while ((ref = iterator.next()) != null) {
+            int copied = 0;
+            while (copied < ref.length) {
+                final ByteBuffer page = page(slabs, pages[offset / PAGE_SIZE], offset % PAGE_SIZE);
+                if (page == null) {
+                    throw new IOException("request cache store is closed");
+                }
+                final int toCopy = Math.min(ref.length - copied, page.remaining());
+                page.put(ref.bytes, ref.offset + copied, toCopy);
+                copied += toCopy;
+                offset += toCopy;
+            }
+        }
+        assert offset == length;
+        return new PagesValue(pages, length);
+    }
+
+    /**
+     * Returns the number of bytes of direct memory allocated by this store
+     */
+    long allocatedBytes() {
+        return (long) slabs.length * PAGES_PER_SLAB * PAGE_SIZE;
+    }
+
+    /**
+     * Releases the trailing slabs that have no page in use. Slabs in the middle stay allocated since the ids of the pages
+     * of the values that live after them must not change.
+     */
+    @Override
+    public synchronized void trim() {
+        int numSlabs = slabs.length;
+        while (numSlabs > 0 && usedPages[numSlabs - 1] == 0) {
+            numSlabs--;
+        }
+        if (numSlabs == slabs.length) {
+            return;
+        }
+        final int maxPage = numSlabs * PAGES_PER_SLAB;
+        int count = 0;
+        for (int i = 0; i < freePagesCount; i++) {
+            if (freePages[i] < maxPage) {
+                freePages[count++] = freePages[i];
+            }
+        }
+        freePagesCount = count;
+        usedPages = Arrays.copyOf(usedPages, numSlabs);
+        // direct buffers are released once they are garbage collected
+        slabs = Arrays.copyOf(slabs, numSlabs);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            freePages = new int[0];
+            freePagesCount = 0;
+            usedPages = new int[0];
+        }
+        // direct buffers are released once they are garbage collected, values that are read concurrently keep theirs alive
+        slabs = new ByteBuffer[0];
+    }
+
+    private synchronized int[] allocate(int numPages) throws IOException {
+        if (closed) {
+            throw new IOException("request cache store is closed");
+        }
+        while (freePagesCount < numPages) {
+            final ByteBuffer[] newSlabs = Arrays.copyOf(slabs, slabs.length + 1);
+            newSlabs[slabs.length] = ByteBuffer.allocateDirect(PAGES_PER_SLAB * PAGE_SIZE);
+            freePages = ArrayUtil.grow(freePages, freePagesCount + PAGES_PER_SLAB);
+            for (int i = PAGES_PER_SLAB - 1; i >= 0; i--) {
+                freePages[freePagesCount++] = slabs.length * PAGES_PER_SLAB + i;
+            }
+            usedPages = Arrays.copyOf(usedPages, newSlabs.length);
+            slabs = newSlabs;
+        }
+        final int[] pages = new int[numPages];
+        for (int i = 0; i < numPages; i++) {
+            pages[i] = freePages[--freePagesCount];
+            usedPages[pages[i] / PAGES_PER_SLAB]++;
+        }
+        return pages;
+    }
+
+    private synchronized void release(int[] pages) {
+        if (closed) {
+            // the slabs are gone already
+            return;
+        }
+        freePages = ArrayUtil.grow(freePages, freePagesCount + pages.length);
+        for (int page : pages) {
+            freePages[freePagesCount++] = page;
+            usedPages[page / PAGES_PER_SLAB]--;
+        }
+    }
+
+    /**
+     * Returns a buffer positioned at the given offset of the given page and limited to the end of the page, or {@code null}
+     * if the given slabs do not hold the page since the store was closed.
+     */
+    private static ByteBuffer page(ByteBuffer[] slabs, int page, int offset) {
+        if (page / PAGES_PER_SLAB >= slabs.length) {
+            return null;
+        }
+        final ByteBuffer slab = slabs[page / PAGES_PER_SLAB].duplicate();
+        final int start = (page % PAGES_PER_SLAB) * PAGE_SIZE;
+        slab.limit(start + PAGE_SIZE);
+        slab.position(start + offset);
+        return slab;
+    }
+
+    /**
+     * A value held in pages of direct memory
+     *
+     * @opensearch.internal
+     */
+    private final class PagesValue extends StoredValue {
+        private final int[] pages;
+        private final int length;
+
+        PagesValue(int[] pages, int length) {
+            super((long) pages.length * PAGE_SIZE);
+            this.pages = pages;
+            this.length = length;
+        }
+
+        @Override
+        BytesReference read() {
+            final ByteBuffer[] slabs = OffHeapRequestCacheStore.this.slabs;
+            final byte[] bytes = new byte[length];
+            int offset = 0;
+            for (int page : pages) {
+                final ByteBuffer buffer = page(slabs, page, 0);
+                if (buffer == null) {
+                    // closed concurrently, which is a miss
+                    return null;
+                }
+                final int toCopy = Math.min(length - offset, PAGE_SIZE);
+                buffer.get(bytes, offset, toCopy);
+                offset += toCopy;
+            }
+            return new BytesArray(bytes);
+        }
+
+        @Override
+        protected void closeInternal() {
+            release(pages);
+        }
+    }
+}
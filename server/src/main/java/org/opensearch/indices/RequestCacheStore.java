@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Stores the values of a {@link RequestCacheStoreTier} outside the Java heap.
+ *
+ * @opensearch.internal
+ */
+interface RequestCacheStore extends Closeable {
+
+    /**
+     * Copies the given value into this store.
+     */
+    StoredValue write(BytesReference value) throws IOException;
+
+    /**
+     * Releases the storage that this store keeps around to reuse it for later values, if any.
+     */
+    default void trim() {}
+
+    /**
+     * A value held by a {@link RequestCacheStore}. The storage of the value is released once its last reference is
+     * released, which allows to read a value concurrently with its removal from the cache.
+     *
+     * @opensearch.internal
+     */
+    abstract class StoredValue extends AbstractRefCounted {
+        private final long sizeInBytes;
+
+        protected StoredValue(long sizeInBytes) {
+            super("request_cache_value");
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        /**
+         * The number of bytes this value occupies in its store
+         */
+        long sizeInBytes() {
+            return sizeInBytes;
+        }
+
+        /**
+         * Copies this value back to the heap, or returns {@code null} if the store was closed. The caller must hold a
+         * reference to this value.
+         */
+        abstract BytesReference read() throws IOException;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.cache.request.CacheTier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * A tier of the {@link IndicesRequestCache} below the on-heap one, which keeps its values in a {@link RequestCacheStore}
+ * while their keys are kept on heap, so that the request cache can keep invalidating entries by
+ * {@link org.apache.lucene.index.IndexReader.CacheKey} without reading anything back from the store. The tier is bounded
+ * by the size its values occupy in the store and evicts in LRU order.
+ *
+ * @opensearch.internal
+ */
+final class RequestCacheStoreTier implements RemovalListener<IndicesRequestCache.Key, RequestCacheStore.StoredValue>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RequestCacheStoreTier.class);
+
+    private final CacheTier tier;
+    private final RequestCacheStore store;
+    private final Cache<IndicesRequestCache.Key, RequestCacheStore.StoredValue> entries;
+    @Nullable
+    private final BiConsumer<IndicesRequestCache.Key, BytesReference> evictionListener;
+
+    /**
+     * @param evictionListener called with the entries evicted from this tier, or {@code null} if evicted values are dropped
+     */
+    RequestCacheStoreTier(
+        CacheTier tier,
+        RequestCacheStore store,
+        ByteSizeValue size,
+        @Nullable TimeValue expire,
+        @Nullable BiConsumer<IndicesRequestCache.Key, BytesReference> evictionListener
+    ) {
+        this.tier = tier;
+        this.store = store;
+        this.evictionListener = evictionListener;
+        CacheBuilder<IndicesRequestCache.Key, RequestCacheStore.StoredValue> cacheBuilder = CacheBuilder
+            .<IndicesRequestCache.Key, RequestCacheStore.StoredValue>builder()
+            .setMaximumWeight(size.getBytes())
+            .weigher((k, v) -> v.sizeInBytes())
+            .removalListener(this);
+        if (expire != null) {
+            cacheBuilder.setExpireAfterAccess(expire);
+        }
+        this.entries = cacheBuilder.build();
+    }
+
+    CacheTier tier() {
+        return tier;
+    }
+
+    /**
+     * Copies the given value into this tier. Failures are logged and otherwise ignored since this only loses a cache entry.
+     */
+    void put(IndicesRequestCache.Key key, BytesReference value) {
+        final RequestCacheStore.StoredValue storedValue;
+        try {
+            storedValue = store.write(value);
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to write request cache entry to the [{}] tier", tier.getName()), e);
+            return;
+        }
+        key.entity.onCached(tier, storedValue.sizeInBytes());
+        entries.put(key, storedValue);
+    }
+
+    /**
+     * Removes the value associated with the given key from this tier and returns it, or returns {@code null} if this
+     * tier does not hold it.
+     */
+    BytesReference remove(IndicesRequestCache.Key key) {
+        final RequestCacheStore.StoredValue storedValue = entries.get(key);
+        if (storedValue == null) {
+            return null;
+        }
+        final BytesReference value = read(storedValue);
+        entries.invalidate(key, storedValue);
+        return value;
+    }
+
+    void invalidate(IndicesRequestCache.Key key) {
+        entries.invalidate(key);
+    }
+
+    Iterable<IndicesRequestCache.Key> keys() {
+        return entries.keys();
+    }
+
+    void refresh() {
+        entries.refresh();
+        store.trim();
+    }
+
+    int count() {
+        return entries.count();
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<IndicesRequestCache.Key, RequestCacheStore.StoredValue> notification) {
+        final RequestCacheStore.StoredValue storedValue = notification.getValue();
+        final boolean evicted = notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED;
+        if (evicted && evictionListener != null) {
+            final BytesReference value = read(storedValue);
+            if (value != null) {
+                evictionListener.accept(notification.getKey(), value);
+            }
+        }
+        storedValue.decRef();
+        notification.getKey().entity.onRemoval(tier, storedValue.sizeInBytes(), evicted);
+    }
+
+    @Override
+    public void close() throws IOException {
+        entries.invalidateAll();
+        IOUtils.close(store);
+    }
+
+    private BytesReference read(RequestCacheStore.StoredValue storedValue) {
+        if (storedValue.tryIncRef() == false) {
+            // concurrently removed
+            return null;
+        }
+        try {
+            return storedValue.read();
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to read request cache entry from the [{}] tier", tier.getName()), e);
+            return null;
+        } finally {
+            storedValue.decRef();
+        }
+    }
+}
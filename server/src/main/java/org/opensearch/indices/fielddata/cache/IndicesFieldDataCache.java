@@ -42,6 +42,8 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.IndexReader.CacheKey;
 import org.apache.lucene.util.Accountable;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.RemovalListener;
@@ -52,16 +54,20 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.Index;
 import org.opensearch.index.fielddata.LeafFieldData;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.ToLongBiFunction;
 
 /**
@@ -79,10 +85,20 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         Property.NodeScope
     );
     private final IndexFieldDataCache.Listener indicesFieldDataCacheListener;
+    private final CircuitBreaker fieldDataBreaker;
     private final Cache<Key, Accountable> cache;
 
     public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener) {
+        this(settings, indicesFieldDataCacheListener, new NoopCircuitBreaker(CircuitBreaker.FIELDDATA));
+    }
+
+    public IndicesFieldDataCache(
+        Settings settings,
+        IndexFieldDataCache.Listener indicesFieldDataCacheListener,
+        CircuitBreaker fieldDataBreaker
+    ) {
         this.indicesFieldDataCacheListener = indicesFieldDataCacheListener;
+        this.fieldDataBreaker = fieldDataBreaker;
         final long sizeInBytes = INDICES_FIELDDATA_CACHE_SIZE_KEY.get(settings).getBytes();
         CacheBuilder<Key, Accountable> cacheBuilder = CacheBuilder.<Key, Accountable>builder().removalListener(this);
         if (sizeInBytes > 0) {
@@ -97,7 +113,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
     }
 
     public IndexFieldDataCache buildIndexFieldDataCache(IndexFieldDataCache.Listener listener, Index index, String fieldName) {
-        return new IndexFieldCache(logger, cache, index, fieldName, indicesFieldDataCacheListener, listener);
+        return new IndexFieldCache(logger, cache, fieldDataBreaker, index, fieldName, indicesFieldDataCacheListener, listener);
     }
 
     public Cache<Key, Accountable> getCache() {
@@ -110,6 +126,9 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         assert key != null && key.listeners != null;
         IndexFieldCache indexCache = key.indexCache;
         final Accountable value = notification.getValue();
+        if (value instanceof GlobalOrdinalsIndexFieldData && key.shardId != null) {
+            indexCache.retainLastOrdinalMap(key.shardId, ((GlobalOrdinalsIndexFieldData) value).getIncrementalOrdinalMap());
+        }
         for (IndexFieldDataCache.Listener listener : key.listeners) {
             try {
                 listener.onRemoval(
@@ -148,14 +167,29 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         final Index index;
         final String fieldName;
         private final Cache<Key, Accountable> cache;
+        private final CircuitBreaker fieldDataBreaker;
         private final Listener[] listeners;
+        /**
+         * The ordinal maps of the global ordinals that were last built for each shard. They outlive these global ordinals and
+         * their reader, so that the global ordinals of the next reader of the shard can extend them, until a newer map replaces
+         * them or the field or the shard is cleared.
+         */
+        private final Map<ShardId, LastOrdinalMap> lastOrdinalMaps = ConcurrentCollections.newConcurrentMap();
 
-        IndexFieldCache(Logger logger, final Cache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
+        IndexFieldCache(
+            Logger logger,
+            final Cache<Key, Accountable> cache,
+            CircuitBreaker fieldDataBreaker,
+            Index index,
+            String fieldName,
+            Listener... listeners
+        ) {
             this.logger = logger;
             this.listeners = listeners;
             this.index = index;
             this.fieldName = fieldName;
             this.cache = cache;
+            this.fieldDataBreaker = fieldDataBreaker;
         }
 
         @Override
@@ -203,6 +237,12 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
                 final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                if (ifd instanceof GlobalOrdinalsIndexFieldData && shardId != null) {
+                    final IncrementalOrdinalMap ordinalMap = ((GlobalOrdinalsIndexFieldData) ifd).getIncrementalOrdinalMap();
+                    if (ordinalMap != null) {
+                        release(lastOrdinalMaps.put(shardId, new LastOrdinalMap(ordinalMap)));
+                    }
+                }
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
@@ -216,6 +256,43 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             return (IFD) accountable;
         }
 
+        @Override
+        public IncrementalOrdinalMap lastOrdinalMap(ShardId shardId) {
+            final LastOrdinalMap last = shardId == null ? null : lastOrdinalMaps.get(shardId);
+            return last == null ? null : last.ordinalMap;
+        }
+
+        /**
+         * Called once the cached global ordinals that were built with the given map are removed, which released the memory of
+         * the map along with theirs. If it is still the last map of the shard, it is accounted to the breaker on its own.
+         */
+        void retainLastOrdinalMap(ShardId shardId, IncrementalOrdinalMap ordinalMap) {
+            lastOrdinalMaps.computeIfPresent(shardId, (id, last) -> {
+                if (last.ordinalMap == ordinalMap && last.retained == false) {
+                    fieldDataBreaker.addWithoutBreaking(ordinalMap.ramBytesUsed());
+                    last.retained = true;
+                }
+                return last;
+            });
+        }
+
+        private void release(@Nullable LastOrdinalMap last) {
+            if (last != null && last.retained) {
+                fieldDataBreaker.addWithoutBreaking(-last.ordinalMap.ramBytesUsed());
+            }
+        }
+
+        private void clearLastOrdinalMaps() {
+            for (ShardId shardId : lastOrdinalMaps.keySet()) {
+                release(lastOrdinalMaps.remove(shardId));
+            }
+        }
+
+        @Override
+        public void clearShard(ShardId shardId) {
+            release(lastOrdinalMaps.remove(shardId));
+        }
+
         @Override
         public void onClose(CacheKey key) throws IOException {
             cache.invalidate(new Key(this, key, null));
@@ -231,6 +308,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             }
             // force eviction
             cache.refresh();
+            clearLastOrdinalMaps();
         }
 
         @Override
@@ -246,6 +324,25 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             // rarely and probably means the user wants to see memory returned as
             // soon as possible
             cache.refresh();
+            clearLastOrdinalMaps();
+        }
+    }
+
+    /**
+     * The ordinal map of the global ordinals that were last built for a shard
+     *
+     * @opensearch.internal
+     */
+    private static final class LastOrdinalMap {
+        final IncrementalOrdinalMap ordinalMap;
+        /**
+         * Whether the map is accounted to the breaker on its own since its global ordinals were removed from the cache, only
+         * changed while the map holds the entry of its shard.
+         */
+        volatile boolean retained;
+
+        LastOrdinalMap(IncrementalOrdinalMap ordinalMap) {
+            this.ordinalMap = ordinalMap;
         }
     }
 
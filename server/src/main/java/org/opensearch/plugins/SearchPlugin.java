@@ -35,6 +35,7 @@ package org.opensearch.plugins;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.NamedWriteable;
@@ -42,6 +43,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.lucene.search.function.ScoreFunction;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.ContextParser;
 import org.opensearch.common.xcontent.XContent;
 import org.opensearch.common.xcontent.XContentParser;
@@ -216,6 +218,27 @@ public interface SearchPlugin {
         return Optional.empty();
     }
 
+    /**
+     * Predicates that decide whether the coordinating node may serve the response of a search request from its response cache and
+     * cache it, see {@code search.response_cache.size}. Cached responses are shared by all callers, so plugins that make responses
+     * depend on the caller, for instance by filtering the documents or fields that a user may see, must refuse the requests that
+     * they apply to. A response is only cached if every predicate allows it.
+     */
+    default List<SearchResponseCachePredicate> getSearchResponseCachePredicates() {
+        return emptyList();
+    }
+
+    /**
+     * Decides whether the response of a search request may be cached on the coordinating node
+     */
+    @FunctionalInterface
+    interface SearchResponseCachePredicate {
+        /**
+         * Whether the response of the given request, sent in the given thread context, may be cached
+         */
+        boolean canCache(SearchRequest request, ThreadContext threadContext);
+    }
+
     /**
      * Executor service provider
      */
@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.BoostingQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.DisMaxQueryBuilder;
+import org.opensearch.index.query.FuzzyQueryBuilder;
+import org.opensearch.index.query.NestedQueryBuilder;
+import org.opensearch.index.query.PrefixQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryStringQueryBuilder;
+import org.opensearch.index.query.RegexpQueryBuilder;
+import org.opensearch.index.query.ScriptQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.WildcardQueryBuilder;
+import org.opensearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.opensearch.index.query.functionscore.ScriptScoreFunctionBuilder;
+import org.opensearch.index.query.functionscore.ScriptScoreQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.BucketUtils;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ScriptedMetricAggregationBuilder;
+import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Estimates the relative cost of executing a search request on a shard from the structure of its rewritten query and of its
+ * aggregations, before it runs. The estimate has no unit: a term query costs {@code 1}, and the other parts of the request cost
+ * more depending on how many terms they may expand to, whether they run scripts on every matching document and how many buckets
+ * their sub-aggregations may be computed for. It is meant to tell heavy requests apart from cheap ones, not to predict latency.
+ *
+ * @opensearch.internal
+ */
+public final class SearchCostEstimator {
+
+    static final long TERM_COST = 1;
+    /** Prefix, fuzzy and regexp queries, which visit the terms of the field that they may match. */
+    static final long MULTI_TERM_COST = 100;
+    /** Wildcard and regexp queries that start with a wildcard, which visit all the terms of the field. */
+    static final long LEADING_WILDCARD_COST = 1_000;
+    /** Scripts, which run for every document that they are applied to. */
+    static final long SCRIPT_COST = 1_000;
+    /** Nested queries, which join the nested documents of matching documents. */
+    static final long JOIN_FACTOR = 10;
+    static final long CARDINALITY_COST = 10;
+    /** The assumed number of buckets of histograms, which depends on the data. */
+    static final long HISTOGRAM_BUCKETS = 100;
+
+    private SearchCostEstimator() {}
+
+    /**
+     * Returns the estimated cost of the given request.
+     */
+    public static long estimate(SearchSourceBuilder source) {
+        if (source == null) {
+            return TERM_COST;
+        }
+        long cost = source.query() != null ? queryCost(source.query()) : TERM_COST;
+        if (source.postFilter() != null) {
+            cost = saturatedAdd(cost, queryCost(source.postFilter()));
+        }
+        if (source.aggregations() != null) {
+            cost = saturatedAdd(cost, aggregationsCost(source.aggregations().getAggregatorFactories()));
+        }
+        return cost;
+    }
+
+    static long queryCost(QueryBuilder query) {
+        if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder bool = (BoolQueryBuilder) query;
+            return saturatedAdd(
+                saturatedAdd(queriesCost(bool.must()), queriesCost(bool.filter())),
+                saturatedAdd(queriesCost(bool.should()), queriesCost(bool.mustNot()))
+            );
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return queryCost(((ConstantScoreQueryBuilder) query).innerQuery());
+        } else if (query instanceof BoostingQueryBuilder) {
+            final BoostingQueryBuilder boosting = (BoostingQueryBuilder) query;
+            return saturatedAdd(queryCost(boosting.positiveQuery()), queryCost(boosting.negativeQuery()));
+        } else if (query instanceof DisMaxQueryBuilder) {
+            return queriesCost(((DisMaxQueryBuilder) query).innerQueries());
+        } else if (query instanceof FunctionScoreQueryBuilder) {
+            final FunctionScoreQueryBuilder functionScore = (FunctionScoreQueryBuilder) query;
+            long cost = queryCost(functionScore.query());
+            for (FunctionScoreQueryBuilder.FilterFunctionBuilder function : functionScore.filterFunctionBuilders()) {
+                cost = saturatedAdd(cost, queryCost(function.getFilter()));
+                if (function.getScoreFunction() instanceof ScriptScoreFunctionBuilder) {
+                    cost = saturatedAdd(cost, SCRIPT_COST);
+                }
+            }
+            return cost;
+        } else if (query instanceof ScriptScoreQueryBuilder) {
+            return saturatedAdd(queryCost(((ScriptScoreQueryBuilder) query).query()), SCRIPT_COST);
+        } else if (query instanceof ScriptQueryBuilder) {
+            return SCRIPT_COST;
+        } else if (query instanceof NestedQueryBuilder) {
+            return saturatedMultiply(queryCost(((NestedQueryBuilder) query).query()), JOIN_FACTOR);
+        } else if (query instanceof WildcardQueryBuilder) {
+            return patternCost(((WildcardQueryBuilder) query).value(), "*?");
+        } else if (query instanceof RegexpQueryBuilder) {
+            return patternCost(((RegexpQueryBuilder) query).value(), ".*?+[(");
+        } else if (query instanceof QueryStringQueryBuilder) {
+            final String queryString = ((QueryStringQueryBuilder) query).queryString();
+            return queryString.indexOf('*') >= 0 || queryString.indexOf('?') >= 0 || queryString.indexOf('~') >= 0
+                ? MULTI_TERM_COST
+                : TERM_COST;
+        } else if (query instanceof PrefixQueryBuilder || query instanceof FuzzyQueryBuilder) {
+            return MULTI_TERM_COST;
+        } else if (query instanceof TermsQueryBuilder) {
+            final TermsQueryBuilder terms = (TermsQueryBuilder) query;
+            return terms.values() != null ? Math.max(TERM_COST, terms.values().size()) : TERM_COST;
+        }
+        return TERM_COST;
+    }
+
+    private static long queriesCost(List<QueryBuilder> queries) {
+        long cost = 0;
+        for (QueryBuilder query : queries) {
+            cost = saturatedAdd(cost, queryCost(query));
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the cost of a pattern query, depending on whether the pattern starts with one of the given special characters.
+     */
+    private static long patternCost(String pattern, String specialCharacters) {
+        if (pattern.isEmpty() || specialCharacters.indexOf(pattern.charAt(0)) >= 0) {
+            return LEADING_WILDCARD_COST;
+        }
+        return MULTI_TERM_COST;
+    }
+
+    static long aggregationsCost(Collection<AggregationBuilder> aggregations) {
+        long cost = 0;
+        for (AggregationBuilder aggregation : aggregations) {
+            cost = saturatedAdd(cost, aggregationCost(aggregation));
+        }
+        return cost;
+    }
+
+    private static long aggregationCost(AggregationBuilder aggregation) {
+        long cost = TERM_COST;
+        if (aggregation instanceof ScriptedMetricAggregationBuilder
+            || (aggregation instanceof ValuesSourceAggregationBuilder
+                && ((ValuesSourceAggregationBuilder<?>) aggregation).script() != null)) {
+            cost = SCRIPT_COST;
+        } else if (aggregation instanceof CardinalityAggregationBuilder) {
+            cost = CARDINALITY_COST;
+        }
+        final long buckets = buckets(aggregation);
+        if (buckets > 1) {
+            // every bucket is built, sorted and sent to the coordinating node
+            cost = saturatedAdd(cost, buckets);
+        }
+        final Collection<AggregationBuilder> subAggregations = aggregation.getSubAggregations();
+        if (subAggregations.isEmpty() == false) {
+            // sub-aggregations are computed for every bucket of their parent
+            cost = saturatedAdd(cost, saturatedMultiply(buckets, aggregationsCost(subAggregations)));
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the number of buckets that the given aggregation may build on a shard, which its sub-aggregations are computed for.
+     */
+    private static long buckets(AggregationBuilder aggregation) {
+        if (aggregation instanceof TermsAggregationBuilder) {
+            final TermsAggregationBuilder terms = (TermsAggregationBuilder) aggregation;
+            final int size = Math.max(1, terms.size());
+            // shards return shard_size terms, which defaults to more than size, see TermsAggregatorFactory
+            return terms.shardSize() > 0 ? Math.max(size, terms.shardSize()) : BucketUtils.suggestShardSideQueueSize(size);
+        } else if (aggregation instanceof CompositeAggregationBuilder) {
+            return Math.max(1, ((CompositeAggregationBuilder) aggregation).size());
+        } else if (aggregation instanceof HistogramAggregationBuilder || aggregation instanceof DateHistogramAggregationBuilder) {
+            return HISTOGRAM_BUCKETS;
+        }
+        return 1;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        final long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -34,7 +34,6 @@ package org.opensearch.search;
 
 import org.apache.lucene.search.BooleanQuery;
 import org.opensearch.common.NamedRegistry;
-import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.geo.GeoShapeType;
 import org.opensearch.common.geo.ShapesAvailability;
@@ -271,6 +270,7 @@ import org.opensearch.search.fetch.subphase.highlight.HighlightPhase;
 import org.opensearch.search.fetch.subphase.highlight.Highlighter;
 import org.opensearch.search.fetch.subphase.highlight.PlainHighlighter;
 import org.opensearch.search.fetch.subphase.highlight.UnifiedHighlighter;
+import org.opensearch.search.query.ConcurrentQueryPhaseSearcher;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QueryPhaseSearcher;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
@@ -336,6 +336,7 @@ public class SearchModule {
     private final ValuesSourceRegistry valuesSourceRegistry;
     private final QueryPhaseSearcher queryPhaseSearcher;
     private final SearchPlugin.ExecutorServiceProvider indexSearcherExecutorProvider;
+    private final List<SearchPlugin.SearchResponseCachePredicate> searchResponseCachePredicates = new ArrayList<>();
 
     /**
      * Constructs a new SearchModule object
@@ -364,6 +365,7 @@ public class SearchModule {
         registerIntervalsSourceProviders();
         queryPhaseSearcher = registerQueryPhaseSearcher(plugins);
         indexSearcherExecutorProvider = registerIndexSearcherExecutorProvider(plugins);
+        registerFromPlugin(plugins, SearchPlugin::getSearchResponseCachePredicates, searchResponseCachePredicates::add);
         namedWriteables.addAll(SortValue.namedWriteables());
     }
 
@@ -1314,10 +1316,20 @@ public class SearchModule {
     }
 
     public QueryPhase getQueryPhase() {
-        return (queryPhaseSearcher == null) ? new QueryPhase() : new QueryPhase(queryPhaseSearcher);
+        return (queryPhaseSearcher == null) ? new QueryPhase(new ConcurrentQueryPhaseSearcher()) : new QueryPhase(queryPhaseSearcher);
     }
 
-    public @Nullable ExecutorService getIndexSearcherExecutor(ThreadPool pool) {
-        return (indexSearcherExecutorProvider == null) ? null : indexSearcherExecutorProvider.getExecutor(pool);
+    /**
+     * The predicate that allows to cache the response of a search request if all the predicates of the plugins do
+     */
+    public SearchPlugin.SearchResponseCachePredicate getSearchResponseCachePredicate() {
+        final List<SearchPlugin.SearchResponseCachePredicate> predicates = List.copyOf(searchResponseCachePredicates);
+        return (request, threadContext) -> predicates.stream().allMatch(predicate -> predicate.canCache(request, threadContext));
+    }
+
+    public ExecutorService getIndexSearcherExecutor(ThreadPool pool) {
+        return (indexSearcherExecutorProvider == null)
+            ? pool.executor(ThreadPool.Names.INDEX_SEARCHER)
+            : indexSearcherExecutorProvider.getExecutor(pool);
     }
 }
@@ -34,10 +34,12 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.OriginalIndices;
@@ -150,11 +152,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
@@ -217,6 +221,57 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Enables searching the segments of a shard concurrently on the {@link ThreadPool.Names#INDEX_SEARCHER} thread pool, for the
+     * requests that do not opt in or out of it themselves.
+     */
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_SETTING = Setting.boolSetting(
+        "search.concurrent_segment_search.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Enables fetching the hits of a shard in parallel partitions on the {@link ThreadPool.Names#INDEX_SEARCHER} thread pool,
+     * independently of whether the query phase searched its segments concurrently.
+     */
+    public static final Setting<Boolean> CONCURRENT_FETCH_SETTING = Setting.boolSetting(
+        "search.concurrent_fetch.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * How the query phase of requests whose estimated cost, see {@link SearchCostEstimator}, is at least
+     * {@link #ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING} is admitted, so that a few heavy requests do not starve the cheap ones:
+     * they may be run on the dedicated {@link ThreadPool.Names#SEARCH_HEAVY} thread pool, whose size and queue size are configured
+     * like those of any other thread pool, or rejected while the queue of the search thread pool holds at least
+     * {@link #ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING} requests.
+     */
+    public static final Setting<AdmissionControlMode> ADMISSION_CONTROL_MODE_SETTING = new Setting<>(
+        "search.admission_control.mode",
+        AdmissionControlMode.DISABLED.toString(),
+        AdmissionControlMode::parse,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<Long> ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING = Setting.longSetting(
+        "search.admission_control.heavy_query_cost",
+        SearchCostEstimator.SCRIPT_COST,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<Integer> ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING = Setting.intSetting(
+        "search.admission_control.max_queue_size",
+        100,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final TimeValue NO_TIMEOUT = timeValueMillis(-1);
     public static final Setting<TimeValue> DEFAULT_SEARCH_TIMEOUT_SETTING = Setting.timeSetting(
         "search.default_search_timeout",
@@ -285,10 +340,20 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile boolean lowLevelCancellation;
 
+    private volatile boolean concurrentSegmentSearch;
+
+    private volatile boolean concurrentFetch;
+
     private volatile int maxOpenScrollContext;
 
     private volatile int maxOpenPitContext;
 
+    private volatile AdmissionControlMode admissionControlMode;
+
+    private volatile long heavyQueryCost;
+
+    private volatile int maxAdmissionQueueSize;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -361,6 +426,22 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        concurrentSegmentSearch = CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CONCURRENT_SEGMENT_SEARCH_SETTING, this::setConcurrentSegmentSearch);
+
+        concurrentFetch = CONCURRENT_FETCH_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CONCURRENT_FETCH_SETTING, this::setConcurrentFetch);
+
+        admissionControlMode = ADMISSION_CONTROL_MODE_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ADMISSION_CONTROL_MODE_SETTING, this::setAdmissionControlMode);
+
+        heavyQueryCost = ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING, this::setHeavyQueryCost);
+
+        maxAdmissionQueueSize = ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING, this::setMaxAdmissionQueueSize);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -437,6 +518,26 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setConcurrentSegmentSearch(boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+    }
+
+    private void setConcurrentFetch(boolean concurrentFetch) {
+        this.concurrentFetch = concurrentFetch;
+    }
+
+    private void setAdmissionControlMode(AdmissionControlMode admissionControlMode) {
+        this.admissionControlMode = admissionControlMode;
+    }
+
+    private void setHeavyQueryCost(long heavyQueryCost) {
+        this.heavyQueryCost = heavyQueryCost;
+    }
+
+    private void setMaxAdmissionQueueSize(int maxAdmissionQueueSize) {
+        this.maxAdmissionQueueSize = maxAdmissionQueueSize;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -559,8 +660,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                         return;
                     }
                 }
+                final Executor executor;
+                try {
+                    executor = getQueryPhaseExecutor(shard, orig);
+                } catch (Exception exc) {
+                    listener.onFailure(exc);
+                    return;
+                }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(executor, () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -592,6 +700,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             final long afterQueryTime;
             try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context)) {
                 loadOrExecuteQueryPhase(request, context);
+                if (request.readerId() == null && request.scroll() == null && context.getQueryShardContext().isCacheable()) {
+                    context.queryResult().readerGeneration(readerGeneration(context.indexShard(), context.searcher().getDirectoryReader()));
+                }
                 if (context.queryResult().hasSearchContext() == false && readerContext.singleSession()) {
                     freeReaderContext(readerContext.id());
                 }
@@ -711,6 +822,49 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return threadPool.executor(executorName);
     }
 
+    /**
+     * Returns the executor of the query phase of the given rewritten request, depending on its estimated cost and on the
+     * {@link #ADMISSION_CONTROL_MODE_SETTING admission control mode}.
+     *
+     * @throws OpenSearchRejectedExecutionException if the request is heavy, and heavy requests are rejected while the search thread
+     *                                              pool is busy
+     */
+    private Executor getQueryPhaseExecutor(IndexShard indexShard, ShardSearchRequest request) {
+        final Executor executor = getExecutor(indexShard);
+        final AdmissionControlMode mode = admissionControlMode;
+        if (mode == AdmissionControlMode.DISABLED || executor != threadPool.executor(Names.SEARCH)) {
+            return executor;
+        }
+        final long cost = SearchCostEstimator.estimate(request.source());
+        if (cost < heavyQueryCost) {
+            return executor;
+        }
+        if (mode == AdmissionControlMode.THROTTLE) {
+            return threadPool.executor(Names.SEARCH_HEAVY);
+        }
+        assert mode == AdmissionControlMode.REJECT;
+        if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor searchExecutor = (ThreadPoolExecutor) executor;
+            final int queueSize = searchExecutor.getQueue().size();
+            if (queueSize >= maxAdmissionQueueSize) {
+                throw new OpenSearchRejectedExecutionException(
+                    "rejected heavy search request with an estimated cost of ["
+                        + cost
+                        + "] on shard "
+                        + request.shardId()
+                        + " since the search thread pool queues ["
+                        + queueSize
+                        + "] requests. These limits can be set by changing the ["
+                        + ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING.getKey()
+                        + "] and ["
+                        + ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING.getKey()
+                        + "] settings."
+                );
+            }
+        }
+        return executor;
+    }
+
     public void executeFetchPhase(
         InternalScrollSearchRequest request,
         SearchShardTask task,
@@ -1043,13 +1197,23 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 lowLevelCancellation,
                 clusterService.state().nodes().getMinNodeVersion(),
                 validate,
-                indexSearcherExecutor
+                useConcurrentSegmentSearch(request) ? indexSearcherExecutor : null
             );
+            if (concurrentFetch) {
+                searchContext.fetchExecutor(indexSearcherExecutor);
+            }
+            if (indicesService.canRoundNow(request, reader.indexService().getIndexSettings())) {
+                searchContext.getQueryShardContext().allowNowRounding();
+            }
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
             QueryShardContext context = new QueryShardContext(searchContext.getQueryShardContext());
             Rewriteable.rewrite(request.getRewriteable(), context, true);
+            if (context.isNowRounded()) {
+                // the rewritten request depends on the rounded time, so must its cache key
+                searchContext.getQueryShardContext().nowInMillis();
+            }
             assert searchContext.getQueryShardContext().isCacheable();
             success = true;
         } finally {
@@ -1063,6 +1227,11 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return searchContext;
     }
 
+    private boolean useConcurrentSegmentSearch(ShardSearchRequest request) {
+        final Boolean requested = request.concurrentSegmentSearch();
+        return requested != null ? requested : concurrentSegmentSearch;
+    }
+
     private void freeAllContextForIndex(Index index) {
         assert index != null;
         for (ReaderContext ctx : activeReaders.values()) {
@@ -1509,15 +1678,25 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             final IndexService indexService;
             final Engine.Searcher canMatchSearcher;
             final boolean hasRefreshPending;
+            // whether the searcher may not see all operations that were indexed on the shard
+            final boolean mayBeStale;
+            final String readerGeneration;
             if (readerContext != null) {
                 indexService = readerContext.indexService();
                 canMatchSearcher = readerContext.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
                 hasRefreshPending = false;
+                mayBeStale = true;
+                readerGeneration = null;
             } else {
                 indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
                 IndexShard indexShard = indexService.getShard(request.shardId().getId());
                 hasRefreshPending = indexShard.hasRefreshPending() && checkRefreshPending;
+                mayBeStale = indexShard.hasRefreshPending() || indexService.getIndexSettings().isSegRepEnabled();
                 canMatchSearcher = indexShard.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
+                // a search would refresh the shard first if a refresh is pending
+                readerGeneration = indexShard.hasRefreshPending()
+                    ? null
+                    : readerGeneration(indexShard, canMatchSearcher.getDirectoryReader());
             }
 
             try (Releasable ignored2 = canMatchSearcher) {
@@ -1527,6 +1706,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     request::nowInMillis,
                     request.getClusterAlias()
                 );
+                if (indicesService.canRoundNow(request, indexService.getIndexSettings())) {
+                    // skip shards based on the same time as the query phase
+                    context.allowNowRounding();
+                }
                 Rewriteable.rewrite(request.getRewriteable(), context, false);
                 final boolean aliasFilterCanMatch = request.getAliasFilter().getQueryBuilder() instanceof MatchNoneQueryBuilder == false;
                 FieldSortBuilder sortBuilder = FieldSortBuilder.getPrimaryFieldSortOrNull(request.source());
@@ -1539,11 +1722,34 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
                 }
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                final boolean latestMinAndMax = minMax != null
+                    && mayBeStale == false
+                    && canMatchSearcher.getDirectoryReader().isCurrent();
+                // a decision that depends on the exact time of the request only holds for this request
+                return new CanMatchResponse(
+                    canMatch || hasRefreshPending,
+                    minMax,
+                    latestMinAndMax,
+                    context.isCacheable() ? readerGeneration : null
+                );
             }
         }
     }
 
+    /**
+     * Returns an identifier of the given copy of a shard and of the version of its reader, which changes whenever a refresh
+     * changes the documents that the copy exposes to searches. Requests that do not depend on anything else than the content of
+     * the reader, such as the current time, return the same results as long as this identifier does not change.
+     * Returns {@code null} if the readers of the shard are wrapped, since the wrapper may expose different documents or fields
+     * to different users.
+     */
+    public static String readerGeneration(IndexShard indexShard, DirectoryReader reader) {
+        if (indexShard.hasReaderWrapper()) {
+            return null;
+        }
+        return indexShard.routingEntry().allocationId().getId() + ":" + reader.getVersion();
+    }
+
     /**
      * Returns true iff the given search source builder can be early terminated by rewriting to a match none query. Or in other words
      * if the execution of the search request can be early terminated without executing it. This is for instance not possible if
@@ -1633,6 +1839,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final boolean latestMinAndMax;
+        private final String readerGeneration;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
@@ -1642,11 +1850,28 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             } else {
                 estimatedMinAndMax = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+                latestMinAndMax = in.readBoolean();
+                readerGeneration = in.readOptionalString();
+            } else {
+                latestMinAndMax = false;
+                readerGeneration = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, false);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, boolean latestMinAndMax) {
+            this(canMatch, estimatedMinAndMax, latestMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, boolean latestMinAndMax, String readerGeneration) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.latestMinAndMax = latestMinAndMax;
+            this.readerGeneration = readerGeneration;
         }
 
         @Override
@@ -1655,6 +1880,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_6_0)) {
                 out.writeOptionalWriteable(estimatedMinAndMax);
             }
+            if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+                out.writeBoolean(latestMinAndMax);
+                out.writeOptionalString(readerGeneration);
+            }
         }
 
         public boolean canMatch() {
@@ -1664,6 +1893,54 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * Whether {@link #estimatedMinAndMax()} was computed on a searcher that sees all operations indexed on the shard so far.
+         */
+        public boolean hasLatestMinAndMax() {
+            return latestMinAndMax;
+        }
+
+        /**
+         * The generation of the reader of the shard, see {@link SearchService#readerGeneration}, or {@code null} if it is unknown.
+         */
+        public String readerGeneration() {
+            return readerGeneration;
+        }
+    }
+
+    /**
+     * How heavy search requests are admitted, see {@link #ADMISSION_CONTROL_MODE_SETTING}.
+     *
+     * @opensearch.internal
+     */
+    public enum AdmissionControlMode {
+        /** Heavy requests are admitted like any other request. */
+        DISABLED,
+        /** Heavy requests run on the {@link ThreadPool.Names#SEARCH_HEAVY} thread pool. */
+        THROTTLE,
+        /** Heavy requests are rejected while the search thread pool queues too many requests. */
+        REJECT;
+
+        public static AdmissionControlMode parse(String value) {
+            switch (value) {
+                case "disabled":
+                    return DISABLED;
+                case "throttle":
+                    return THROTTLE;
+                case "reject":
+                    return REJECT;
+                default:
+                    throw new IllegalArgumentException(
+                        "unknown search admission control mode [" + value + "], must be one of [disabled, throttle, reject]"
+                    );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
     }
 
     /**
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.internal.FilteredSearchContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link CollectorManager} of the top level aggregations of a search request. The first collector collects into the
+ * aggregators of the search context, which is all that a sequential search asks for. Every other collector, one per
+ * additional slice of a concurrent segment search, collects into its own set of top level aggregators, which count their
+ * buckets with their own {@link MultiBucketConsumer} since slices are collected concurrently. The aggregations of these
+ * slices are built and reduced with the ones of the search context in {@link AggregationPhase#execute}, once the global
+ * aggregators have run too, so {@link #reduce} leaves the query result untouched.
+ *
+ * @opensearch.internal
+ */
+final class AggregationCollectorManager implements CollectorManager<Collector, ReduceableSearchResult> {
+    private final SearchContext context;
+    private final Collector collector;
+    private final List<List<Aggregator>> sliceAggregators = new ArrayList<>();
+    private boolean collectorCreated;
+
+    AggregationCollectorManager(SearchContext context, Collector collector) {
+        this.context = context;
+        this.collector = collector;
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        if (collectorCreated == false) {
+            collectorCreated = true;
+            return collector;
+        }
+        final SearchContextAggregations aggregations = context.aggregations();
+        final SearchContext sliceContext = new SliceSearchContext(
+            context,
+            new SearchContextAggregations(aggregations.factories(), aggregations.multiBucketConsumer().newConsumer())
+        );
+        final List<Aggregator> aggregators = new ArrayList<>();
+        for (Aggregator aggregator : aggregations.factories().createTopLevelAggregators(sliceContext)) {
+            // global aggregators run after the query, over all documents of the shard
+            if (aggregator instanceof GlobalAggregator == false) {
+                aggregators.add(aggregator);
+            }
+        }
+        sliceAggregators.add(aggregators);
+        return AggregationPhase.createCollector(context, aggregators);
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        return result -> {};
+    }
+
+    /**
+     * The top level aggregators created for the slices other than the first one, in creation order.
+     */
+    List<List<Aggregator>> sliceAggregators() {
+        return sliceAggregators;
+    }
+
+    /**
+     * The search context of the aggregators of a slice, which only differs from the one of the request by its aggregations
+     *
+     * @opensearch.internal
+     */
+    private static final class SliceSearchContext extends FilteredSearchContext {
+        private final SearchContext in;
+        private final SearchContextAggregations aggregations;
+
+        SliceSearchContext(SearchContext in, SearchContextAggregations aggregations) {
+            super(in);
+            this.in = in;
+            this.aggregations = aggregations;
+        }
+
+        @Override
+        public SearchContextAggregations aggregations() {
+            return aggregations;
+        }
+
+        @Override
+        public SearchContext aggregations(SearchContextAggregations aggregations) {
+            throw new UnsupportedOperationException("Not supported");
+        }
+
+        @Override
+        public void addReleasable(Releasable releasable) {
+            // the slice context is never closed, the aggregators are released with the context of the request
+            in.addReleasable(releasable);
+        }
+    }
+}
@@ -36,18 +36,20 @@ import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.CollectorResult;
 import org.opensearch.search.profile.query.InternalProfileCollector;
 import org.opensearch.search.query.QueryPhaseExecutionException;
-import org.opensearch.search.query.ReduceableSearchResult;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Aggregation phase of a search request, used to collect aggregations
@@ -74,17 +76,7 @@ public class AggregationPhase {
                 context.aggregations().aggregators(aggregators);
                 if (!collectors.isEmpty()) {
                     final Collector collector = createCollector(context, collectors);
-                    context.queryCollectorManagers().put(AggregationPhase.class, new CollectorManager<Collector, ReduceableSearchResult>() {
-                        @Override
-                        public Collector newCollector() throws IOException {
-                            return collector;
-                        }
-
-                        @Override
-                        public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
-                            throw new UnsupportedOperationException("The concurrent aggregation over index segments is not supported");
-                        }
-                    });
+                    context.queryCollectorManagers().put(AggregationPhase.class, new AggregationCollectorManager(context, collector));
                 }
             } catch (IOException e) {
                 throw new AggregationInitializationException("Could not initialize aggregators", e);
@@ -138,9 +130,47 @@ public class AggregationPhase {
             }
         }
 
-        List<InternalAggregation> aggregations = new ArrayList<>(aggregators.length);
+        final Supplier<PipelineTree> pipelineTreeSupplier = context.request().source().aggregations()::buildPipelineTree;
+        InternalAggregations aggregations = buildAggregations(context, Arrays.asList(aggregators), pipelineTreeSupplier);
+
+        final CollectorManager<?, ?> collectorManager = context.queryCollectorManagers().remove(AggregationPhase.class);
+        if (collectorManager instanceof AggregationCollectorManager) {
+            final List<List<Aggregator>> sliceAggregators = ((AggregationCollectorManager) collectorManager).sliceAggregators();
+            if (sliceAggregators.isEmpty() == false) {
+                // each slice of a concurrent segment search built its own aggregations, reduce them like the results of shards
+                final List<InternalAggregations> slices = new ArrayList<>(sliceAggregators.size() + 1);
+                slices.add(aggregations);
+                for (List<Aggregator> slice : sliceAggregators) {
+                    slices.add(buildAggregations(context, slice, pipelineTreeSupplier));
+                }
+                aggregations = InternalAggregations.reduce(
+                    slices,
+                    // partial reductions never run scripts
+                    InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(), null, pipelineTreeSupplier),
+                    aggs -> new InternalAggregations(aggs, pipelineTreeSupplier)
+                );
+                // each slice only counted its own buckets, check the limit against the buckets of the shard
+                final MultiBucketConsumer multiBucketConsumer = context.aggregations().multiBucketConsumer();
+                multiBucketConsumer.reset();
+                for (Aggregation aggregation : aggregations) {
+                    multiBucketConsumer.accept(InternalMultiBucketAggregation.countInnerBucket(aggregation));
+                }
+            }
+        }
+        context.queryResult().aggregations(aggregations);
+
+        // disable aggregations so that they don't run on next pages in case of scrolling
+        context.aggregations(null);
+    }
+
+    private static InternalAggregations buildAggregations(
+        SearchContext context,
+        List<Aggregator> aggregators,
+        Supplier<PipelineTree> pipelineTreeSupplier
+    ) {
+        List<InternalAggregation> aggregations = new ArrayList<>(aggregators.size());
         context.aggregations().resetBucketMultiConsumer();
-        for (Aggregator aggregator : context.aggregations().aggregators()) {
+        for (Aggregator aggregator : aggregators) {
             try {
                 aggregator.postCollection();
                 aggregations.add(aggregator.buildTopLevel());
@@ -148,15 +178,10 @@ public class AggregationPhase {
                 throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
             }
         }
-        context.queryResult()
-            .aggregations(new InternalAggregations(aggregations, context.request().source().aggregations()::buildPipelineTree));
-
-        // disable aggregations so that they don't run on next pages in case of scrolling
-        context.aggregations(null);
-        context.queryCollectorManagers().remove(AggregationPhase.class);
+        return new InternalAggregations(aggregations, pipelineTreeSupplier);
     }
 
-    private Collector createCollector(SearchContext context, List<Aggregator> collectors) throws IOException {
+    static Collector createCollector(SearchContext context, List<Aggregator> collectors) throws IOException {
         Collector collector = MultiBucketCollector.wrap(collectors);
         ((BucketCollector) collector).preCollection();
         if (context.getProfilers() != null) {
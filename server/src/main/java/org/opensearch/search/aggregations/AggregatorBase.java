@@ -32,10 +32,14 @@
 package org.opensearch.search.aggregations;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.index.codec.startree.StarTree;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
+import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -60,6 +64,9 @@ public abstract class AggregatorBase extends Aggregator {
     /** The default "weight" that a bucket takes when performing an aggregation */
     public static final int DEFAULT_WEIGHT = 1024 * 5; // 5kb
 
+    /** The number of documents that top level aggregators that {@link #collectsInBatches() collect in batches} buffer */
+    static final int BATCH_SIZE = 512;
+
     protected final String name;
     protected final Aggregator parent;
     protected final SearchContext context;
@@ -72,6 +79,10 @@ public abstract class AggregatorBase extends Aggregator {
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
 
+    private int[] batchDocs;
+    private int batchSize;
+    private LeafBucketCollector batchCollector;
+
     /**
      * Constructs a new Aggregator.
      *
@@ -200,9 +211,139 @@ public abstract class AggregatorBase extends Aggregator {
 
     @Override
     public final LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+        flushBatch();
+        batchCollector = null;
+        if (collectStarTree(ctx)) {
+            throw new CollectionTerminatedException();
+        }
         preGetSubLeafCollectors(ctx);
         final LeafBucketCollector sub = collectableSubAggregators.getLeafCollector(ctx);
-        return getLeafCollector(ctx, sub);
+        final LeafBucketCollector collector = getLeafCollector(ctx, sub);
+        if (parent != null
+            || collector == LeafBucketCollector.NO_OP_COLLECTOR
+            || collectsInBatches() == false
+            || scoreMode().needsScores()) {
+            return collector;
+        }
+        if (batchDocs == null) {
+            batchDocs = new int[BATCH_SIZE];
+        }
+        batchCollector = collector;
+        return new LeafBucketCollector() {
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                if (owningBucketOrd != 0) {
+                    flushBatch();
+                    collector.collect(doc, owningBucketOrd);
+                    return;
+                }
+                batchDocs[batchSize++] = doc;
+                if (batchSize == batchDocs.length) {
+                    flushBatch();
+                }
+            }
+
+            @Override
+            public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+                flushBatch();
+                collector.collect(docs, count, owningBucketOrd);
+            }
+        };
+    }
+
+    /**
+     * Whether the collectors of this aggregator implement {@link LeafBucketCollector#collect(int[], int, long)} efficiently.
+     * If so and this is a top level aggregator that doesn't need scores, the documents are buffered and collected in batches
+     * rather than one by one.
+     */
+    protected boolean collectsInBatches() {
+        return false;
+    }
+
+    private void flushBatch() throws IOException {
+        if (batchSize > 0) {
+            final int count = batchSize;
+            batchSize = 0;
+            batchCollector.collect(batchDocs, count, 0);
+        }
+    }
+
+    /**
+     * Collects the records of the star tree of the segment instead of its documents when this aggregator and all its
+     * sub-aggregators can be computed from them, which requires a top level aggregator and a query that matches all documents.
+     *
+     * @return whether the segment was collected
+     */
+    private boolean collectStarTree(LeafReaderContext ctx) throws IOException {
+        if (parent != null
+            || (context.query() != null && context.query().getClass() != MatchAllDocsQuery.class)
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.minimumScore() != null
+            || context.scrollContext() != null) {
+            return false;
+        }
+        if (ctx.reader().getFieldInfos().fieldInfo(DocCountFieldMapper.NAME) != null) {
+            // the tree counts documents
+            return false;
+        }
+        final StarTree starTree = StarTreeDocValuesFormat.getStarTree(ctx.reader());
+        if (starTree == null) {
+            return false;
+        }
+        final boolean[] groupBy = new boolean[starTree.numDimensions()];
+        final LeafBucketCollector collector = getStarTreeLeafCollector(ctx, starTree, groupBy);
+        if (collector == null) {
+            return false;
+        }
+        starTree.visitRecords(groupBy, record -> collector.collect(record, 0));
+        return true;
+    }
+
+    /**
+     * Can be overridden by aggregator implementations that can be computed from the records of the star tree of a segment
+     * instead of its documents. The returned collector is called with the ordinals of the records instead of documents, and
+     * must mark the dimensions that it reads in {@code groupBy} so that the records hold a value for them.
+     *
+     * @return the collector of the records, or {@code null} if the aggregator can't be computed from the tree
+     */
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy)
+        throws IOException {
+        return null;
+    }
+
+    /**
+     * Returns the collector of the records of the star tree of the segment for the sub-aggregators, {@code null} if one of
+     * them can't be computed from the tree.
+     */
+    protected final LeafBucketCollector getStarTreeSubLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy)
+        throws IOException {
+        final List<LeafBucketCollector> collectors = new ArrayList<>(subAggregators.length);
+        for (Aggregator subAggregator : subAggregators) {
+            if (subAggregator instanceof AggregatorBase == false) {
+                // deferred sub-aggregators are wrapped
+                return null;
+            }
+            final LeafBucketCollector collector = ((AggregatorBase) subAggregator).getStarTreeLeafCollector(ctx, starTree, groupBy);
+            if (collector == null) {
+                return null;
+            }
+            collectors.add(collector);
+        }
+        switch (collectors.size()) {
+            case 0:
+                return LeafBucketCollector.NO_OP_COLLECTOR;
+            case 1:
+                return collectors.get(0);
+            default:
+                return new LeafBucketCollector() {
+                    @Override
+                    public void collect(int record, long bucket) throws IOException {
+                        for (LeafBucketCollector collector : collectors) {
+                            collector.collect(record, bucket);
+                        }
+                    }
+                };
+        }
     }
 
     /**
@@ -274,6 +415,8 @@ public abstract class AggregatorBase extends Aggregator {
      */
     @Override
     public void postCollection() throws IOException {
+        flushBatch();
+        batchCollector = null;
         // post-collect this agg before subs to make it possible to buffer and then replay in postCollection()
         doPostCollection();
         collectableSubAggregators.postCollection();
@@ -292,6 +292,19 @@ public class AggregatorFactories {
         return factories.length;
     }
 
+    /**
+     * @return whether all factories support collecting the segments of a shard concurrently
+     * @see AggregatorFactory#supportsConcurrentSegmentSearch()
+     */
+    public boolean supportsConcurrentSegmentSearch() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsConcurrentSegmentSearch() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * A mutable collection of {@link AggregationBuilder}s and
      * {@link PipelineAggregationBuilder}s.
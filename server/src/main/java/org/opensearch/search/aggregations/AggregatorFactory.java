@@ -105,6 +105,17 @@ public abstract class AggregatorFactory {
         return parent;
     }
 
+    /**
+     * Whether the aggregators created by this factory, and by its sub-factories, can collect the segments of a shard
+     * in separate slices and have the resulting aggregations reduced together afterwards. Aggregations whose shard
+     * level result depends on seeing every document of the shard, like sampling or background frequencies, must
+     * return {@code false}. So must aggregations that run scripts: the scripts of a search share its
+     * {@link org.opensearch.search.lookup.SearchLookup}, whose source lookup can't be read by several slices at once.
+     */
+    public boolean supportsConcurrentSegmentSearch() {
+        return factories.supportsConcurrentSegmentSearch();
+    }
+
     /**
      * Returns the aggregation subtype for nodes usage stats.
      * <p>
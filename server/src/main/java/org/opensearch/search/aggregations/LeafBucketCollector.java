@@ -85,6 +85,13 @@ public abstract class LeafBucketCollector implements LeafCollector {
                         }
                     }
 
+                    @Override
+                    public void collect(int[] docs, int count, long bucket) throws IOException {
+                        for (LeafBucketCollector c : colls) {
+                            c.collect(docs, count, bucket);
+                        }
+                    }
+
                 };
         }
     }
@@ -118,6 +125,21 @@ public abstract class LeafBucketCollector implements LeafCollector {
      */
     public abstract void collect(int doc, long owningBucketOrd) throws IOException;
 
+    /**
+     * Collect the first {@code count} of the given {@code docs}, which are in
+     * increasing order, in the bucket owned by {@code owningBucketOrd}.
+     * <p>
+     * The default implementation collects the documents one by one. Metric
+     * aggregations override it to read the values of all documents before
+     * accumulating them in a single loop, and to read and write their state
+     * once per batch rather than once per document.
+     */
+    public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+        for (int i = 0; i < count; i++) {
+            collect(docs[i], owningBucketOrd);
+        }
+    }
+
     @Override
     public final void collect(int doc) throws IOException {
         collect(doc, 0);
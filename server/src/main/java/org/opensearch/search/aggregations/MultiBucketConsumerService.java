@@ -127,7 +127,8 @@ public class MultiBucketConsumerService {
         private final int limit;
         private final CircuitBreaker breaker;
 
-        // aggregations execute in a single thread so no atomic here
+        // aggregations execute in a single thread so no atomic here, each slice of a concurrent segment search has its own
+        // consumer
         private int count;
         private int callCount = 0;
 
@@ -171,6 +172,13 @@ public class MultiBucketConsumerService {
         public int getLimit() {
             return limit;
         }
+
+        /**
+         * Creates a consumer with the same limit and breaker that counts its buckets on its own.
+         */
+        MultiBucketConsumer newConsumer() {
+            return new MultiBucketConsumer(limit, breaker);
+        }
     }
 
     public MultiBucketConsumer create() {
@@ -129,6 +129,14 @@ public abstract class BucketsAggregator extends AggregatorBase {
         subCollector.collect(doc, bucketOrd);
     }
 
+    /**
+     * Same as the check in {@link #collectExistingBucket}, for aggregators that create buckets without collecting documents into
+     * them one at a time.
+     */
+    protected final void consumeNewBucket() {
+        multiBucketConsumer.accept(0);
+    }
+
     /**
      * This only tidies up doc counts. Call {@link MergingBucketsDeferringCollector#mergeBuckets(long[])}  to merge the actual
      * ordinals and doc ID deltas.
@@ -35,6 +35,7 @@ package org.opensearch.search.aggregations.bucket;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NumericDocValues;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 
 import java.io.IOException;
@@ -47,8 +48,12 @@ import java.io.IOException;
 public class DocCountProvider {
 
     private NumericDocValues docCountValues;
+    private StarTree starTree;
 
     public long getDocCount(int doc) throws IOException {
+        if (starTree != null) {
+            return starTree.docCount(doc);
+        }
         if (docCountValues != null && docCountValues.advanceExact(doc)) {
             return docCountValues.longValue();
         } else {
@@ -58,5 +63,14 @@ public class DocCountProvider {
 
     public void setLeafReaderContext(LeafReaderContext ctx) throws IOException {
         docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
+        starTree = null;
+    }
+
+    /**
+     * Reads the doc counts of the records of the star tree of the segment, which are collected instead of its documents.
+     */
+    public void setStarTree(StarTree starTree) {
+        this.starTree = starTree;
+        docCountValues = null;
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Counts the values of a field per bucket by walking the tree of its points instead of collecting the documents that match the
+ * query. The count of a cell of the tree whose values all fall in the same bucket is added as a whole, only the cells that
+ * straddle several buckets are split and only the leaves that straddle several buckets are visited value by value.
+ * <p>
+ * This counts documents rather than values, and thus is only correct when every document that the query matches holds a single
+ * value of the field: the query must match all documents or the documents whose value falls in a range, the segment must have
+ * neither deleted documents nor multi-valued documents, and the aggregation must have neither a parent nor sub-aggregations since
+ * no document is collected.
+ *
+ * @opensearch.internal
+ */
+public final class PointTreeCounter {
+
+    /**
+     * Assigns the values of the field to buckets.
+     *
+     * @opensearch.internal
+     */
+    public interface Buckets {
+        /**
+         * The values fall in no bucket.
+         */
+        long NO_BUCKET = -1;
+        /**
+         * The values may fall in several buckets.
+         */
+        long MULTIPLE_BUCKETS = -2;
+
+        /**
+         * Returns the ordinal of the bucket that all the values between {@code minPackedValue} and {@code maxPackedValue} fall in,
+         * {@link #NO_BUCKET} or {@link #MULTIPLE_BUCKETS}. A bucket that is returned is always counted at least once.
+         */
+        long bucket(byte[] minPackedValue, byte[] maxPackedValue);
+
+        /**
+         * Adds {@code count} documents to the bucket {@code bucketOrd}.
+         */
+        void count(long bucketOrd, long count);
+    }
+
+    private final String field;
+    private final Function<byte[], Number> converter;
+    /**
+     * The inclusive bounds of the range of the query, {@code null} when the query matches all documents.
+     */
+    private final byte[] lowerPoint;
+    private final byte[] upperPoint;
+
+    private PointTreeCounter(String field, Function<byte[], Number> converter, byte[] lowerPoint, byte[] upperPoint) {
+        this.field = field;
+        this.converter = converter;
+        this.lowerPoint = lowerPoint;
+        this.upperPoint = upperPoint;
+    }
+
+    /**
+     * Returns a counter when the points of the field can replace the collection of the documents of the top level query of the
+     * search for an aggregation with the given parent and sub-aggregators, {@code null} otherwise.
+     */
+    public static PointTreeCounter build(
+        SearchContext context,
+        Aggregator parent,
+        Aggregator[] subAggregators,
+        ValuesSourceConfig valuesSourceConfig
+    ) {
+        if (parent != null || subAggregators.length > 0) {
+            return null;
+        }
+        final Function<byte[], Number> converter = valuesSourceConfig.getPointReaderOrNull();
+        if (converter == null) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.minimumScore() != null
+            || context.scrollContext() != null) {
+            // the documents that are collected are not all the documents that the query matches
+            return null;
+        }
+        final String field = valuesSourceConfig.fieldContext().field();
+        final Query query = unwrap(context.query());
+        if (query instanceof MatchAllDocsQuery) {
+            return new PointTreeCounter(field, converter, null, null);
+        }
+        if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (rangeQuery.getField().equals(field) && rangeQuery.getNumDims() == 1) {
+                return new PointTreeCounter(field, converter, rangeQuery.getLowerPoint(), rangeQuery.getUpperPoint());
+            }
+        }
+        return null;
+    }
+
+    private static Query unwrap(Query query) {
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else if (query instanceof DateRangeIncludingNowQuery) {
+                query = ((DateRangeIncludingNowQuery) query).getQuery();
+            } else {
+                return query;
+            }
+        }
+    }
+
+    /**
+     * Returns the converter of the points of the field to their values.
+     */
+    public Function<byte[], Number> getConverter() {
+        return converter;
+    }
+
+    /**
+     * Returns the points of the field in the segment if they can be counted instead of the documents, {@code null} otherwise.
+     */
+    public PointValues pointValues(LeafReaderContext ctx) throws IOException {
+        if (ctx.reader().hasDeletions() || ctx.reader().getFieldInfos().fieldInfo(DocCountFieldMapper.NAME) != null) {
+            // the points of the deleted documents are still in the tree, the _doc_count field changes the count of documents
+            return null;
+        }
+        final PointValues points = ctx.reader().getPointValues(field);
+        if (points == null || points.getNumDimensions() != 1 || points.size() != points.getDocCount()) {
+            return null;
+        }
+        return points;
+    }
+
+    /**
+     * Counts the documents of the query in the buckets.
+     */
+    public void count(PointValues points, Buckets buckets) throws IOException {
+        count(points.getPointTree(), points.getBytesPerDimension(), buckets);
+    }
+
+    private void count(PointValues.PointTree tree, int bytesPerDim, Buckets buckets) throws IOException {
+        final byte[] min = tree.getMinPackedValue();
+        final byte[] max = tree.getMaxPackedValue();
+        if ((lowerPoint != null && compare(max, lowerPoint, bytesPerDim) < 0)
+            || (upperPoint != null && compare(min, upperPoint, bytesPerDim) > 0)) {
+            // no value of the cell matches the query
+            return;
+        }
+        if ((lowerPoint == null || compare(min, lowerPoint, bytesPerDim) >= 0)
+            && (upperPoint == null || compare(max, upperPoint, bytesPerDim) <= 0)) {
+            // all the values of the cell match the query
+            final long bucket = buckets.bucket(min, max);
+            if (bucket == Buckets.NO_BUCKET) {
+                return;
+            }
+            if (bucket >= 0) {
+                buckets.count(bucket, tree.size());
+                return;
+            }
+        }
+        if (tree.moveToChild()) {
+            do {
+                count(tree, bytesPerDim, buckets);
+            } while (tree.moveToSibling());
+            tree.moveToParent();
+        } else {
+            tree.visitDocValues(new PointValues.IntersectVisitor() {
+                @Override
+                public void visit(int docID) {
+                    throw new UnsupportedOperationException("the cells of the leaves are never inside the query");
+                }
+
+                @Override
+                public void visit(int docID, byte[] packedValue) {
+                    if ((lowerPoint != null && compare(packedValue, lowerPoint, bytesPerDim) < 0)
+                        || (upperPoint != null && compare(packedValue, upperPoint, bytesPerDim) > 0)) {
+                        return;
+                    }
+                    final long bucket = buckets.bucket(packedValue, packedValue);
+                    if (bucket >= 0) {
+                        buckets.count(bucket, 1);
+                    }
+                }
+
+                @Override
+                public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                    return PointValues.Relation.CELL_CROSSES_QUERY;
+                }
+            });
+        }
+    }
+
+    private static int compare(byte[] a, byte[] b, int bytesPerDim) {
+        return Arrays.compareUnsigned(a, 0, bytesPerDim, b, 0, bytesPerDim);
+    }
+}
@@ -77,4 +77,14 @@ class CompositeAggregationFactory extends AggregatorFactory {
     ) throws IOException {
         return new CompositeAggregator(name, factories, searchContext, parent, metadata, size, sources, afterKey);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        for (CompositeValuesSourceConfig source : sources) {
+            if (source.hasScript()) {
+                return false;
+            }
+        }
+        return super.supportsConcurrentSegmentSearch();
+    }
 }
@@ -32,12 +32,19 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -47,6 +54,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeCounter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -56,6 +64,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * An aggregator for date values. Every date is rounded down using a configured
@@ -67,6 +76,11 @@ import java.util.function.BiConsumer;
  */
 class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
 
+    /**
+     * The maximum number of buckets that are checked to start at the dates of a star tree before giving up on the tree.
+     */
+    private static final int MAX_STAR_TREE_ALIGNMENT_CHECKS = 1 << 16;
+
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat formatter;
     private final Rounding rounding;
@@ -83,6 +97,26 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * The field and the converter of its points when they can be used to skip the segments that hold no value within the
+     * hard bounds, {@code null} otherwise.
+     */
+    private final String pointField;
+    private final Function<byte[], Number> pointConverter;
+
+    /**
+     * Counts the documents of the segments from the points of the field when the aggregation doesn't need to collect them,
+     * {@code null} otherwise.
+     */
+    private final PointTreeCounter pointTreeCounter;
+    private int optimizedSegments;
+    private int unoptimizedSegments;
+
+    /**
+     * The field when its values may be read from the star trees of the segments, {@code null} otherwise.
+     */
+    private final String starTreeField;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +146,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         // TODO: Stop using null here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
         this.formatter = valuesSourceConfig.format();
+        this.pointConverter = hardBounds != null ? valuesSourceConfig.getPointReaderOrNull() : null;
+        this.pointField = pointConverter != null ? valuesSourceConfig.fieldContext().field() : null;
+        this.pointTreeCounter = valuesSource != null ? PointTreeCounter.build(context, parent, subAggregators, valuesSourceConfig) : null;
+        this.starTreeField = valuesSource != null ? valuesSourceConfig.getStarTreeFieldOrNull() : null;
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
     }
@@ -129,6 +167,36 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointConverter != null && isOutOfHardBounds(ctx)) {
+            if (parent == null) {
+                // no value of this segment falls within the hard bounds, we don't need to collect hits on this segment.
+                throw new CollectionTerminatedException();
+            }
+            return LeafBucketCollector.NO_OP_COLLECTOR;
+        }
+        if (pointTreeCounter != null) {
+            final PointValues points = pointTreeCounter.pointValues(ctx);
+            if (points != null) {
+                countPoints(points);
+                optimizedSegments++;
+                // the aggregation is top level, see PointTreeCounter
+                throw new CollectionTerminatedException();
+            }
+            unoptimizedSegments++;
+        }
+        /*
+         * When the segment is sorted by this field, collection can stop at the first document whose values are all past the hard
+         * bounds. Only a top level aggregator can terminate the collection of a segment since it would terminate its parent too.
+         */
+        final SortedNumericSortField indexSort = pointConverter != null && parent == null ? primaryIndexSort(ctx) : null;
+        final boolean terminateAtMax = indexSort != null
+            && indexSort.getReverse() == false
+            && indexSort.getSelector() == SortedNumericSelector.Type.MIN
+            && hardBounds.getMax() != null;
+        final boolean terminateAtMin = indexSort != null
+            && indexSort.getReverse()
+            && indexSort.getSelector() == SortedNumericSelector.Type.MAX
+            && hardBounds.getMin() != null;
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -141,6 +209,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
                         long value = values.nextValue();
                         long rounded = preparedRounding.round(value);
                         assert rounded >= previousRounded;
+                        if (terminateAtMax && i == 0 && rounded >= hardBounds.getMax()) {
+                            // documents are sorted by ascending minimum value, the following ones are after the hard bounds too
+                            throw new CollectionTerminatedException();
+                        }
                         if (rounded == previousRounded) {
                             continue;
                         }
@@ -155,11 +227,135 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
                         }
                         previousRounded = rounded;
                     }
+                    if (terminateAtMin && previousRounded < hardBounds.getMin()) {
+                        // documents are sorted by descending maximum value, the following ones are before the hard bounds too
+                        throw new CollectionTerminatedException();
+                    }
                 }
             }
         };
     }
 
+    @Override
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy)
+        throws IOException {
+        final int dim = starTreeField != null ? starTree.dimension(starTreeField) : -1;
+        if (dim < 0 || starTree.dimensionType(dim) != StarTree.DimensionType.DATE || isAlignedWith(starTree, dim) == false) {
+            return null;
+        }
+        final LeafBucketCollector sub = getStarTreeSubLeafCollector(ctx, starTree, groupBy);
+        if (sub == null) {
+            return null;
+        }
+        groupBy[dim] = true;
+        docCountProvider.setStarTree(starTree);
+        return new LeafBucketCollectorBase(sub, null) {
+            @Override
+            public void collect(int record, long owningBucketOrd) throws IOException {
+                final long value = starTree.dimensionValue(dim, record);
+                if (value == StarTree.MISSING) {
+                    return;
+                }
+                final long rounded = preparedRounding.round(value);
+                if (hardBounds == null || hardBounds.contain(rounded)) {
+                    long bucketOrd = bucketOrds.add(owningBucketOrd, rounded);
+                    if (bucketOrd < 0) { // already seen
+                        bucketOrd = -1 - bucketOrd;
+                        collectExistingBucket(sub, record, bucketOrd);
+                    } else {
+                        collectBucket(sub, record, bucketOrd);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns whether all the dates that the tree rounds down to one of its values fall in the same bucket, which is the case
+     * when the buckets that the values of the tree span start at multiples of the date interval of the tree.
+     */
+    private boolean isAlignedWith(StarTree starTree, int dim) {
+        final long interval = starTree.dateInterval();
+        final long min = starTree.minDimensionValue(dim);
+        final long max = starTree.maxDimensionValue(dim);
+        if (min > max) {
+            // no value
+            return true;
+        }
+        long bucket = preparedRounding.round(min);
+        for (int i = 0; i < MAX_STAR_TREE_ALIGNMENT_CHECKS; i++) {
+            bucket = preparedRounding.nextRoundingValue(bucket);
+            if (bucket > max + interval - 1) {
+                return true;
+            }
+            if (Math.floorMod(bucket, interval) != 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the documents of the segment per rounded value from the tree of its points.
+     */
+    private void countPoints(PointValues points) throws IOException {
+        final Function<byte[], Number> converter = pointTreeCounter.getConverter();
+        pointTreeCounter.count(points, new PointTreeCounter.Buckets() {
+            @Override
+            public long bucket(byte[] minPackedValue, byte[] maxPackedValue) {
+                final long min = preparedRounding.round(converter.apply(minPackedValue).longValue());
+                final long max = preparedRounding.round(converter.apply(maxPackedValue).longValue());
+                if (hardBounds != null
+                    && ((hardBounds.getMax() != null && min >= hardBounds.getMax())
+                        || (hardBounds.getMin() != null && max < hardBounds.getMin()))) {
+                    return NO_BUCKET;
+                }
+                if (min != max) {
+                    return MULTIPLE_BUCKETS;
+                }
+                if (hardBounds != null && hardBounds.contain(min) == false) {
+                    return NO_BUCKET;
+                }
+                final long bucketOrd = bucketOrds.add(0, min);
+                return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+            }
+
+            @Override
+            public void count(long bucketOrd, long count) {
+                incrementBucketDocCount(bucketOrd, count);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the points of the segment show that none of its values falls within the hard bounds once rounded.
+     */
+    private boolean isOutOfHardBounds(LeafReaderContext ctx) throws IOException {
+        final PointValues points = ctx.reader().getPointValues(pointField);
+        if (points == null) {
+            // no value
+            return true;
+        }
+        final long min = preparedRounding.round(pointConverter.apply(points.getMinPackedValue()).longValue());
+        final long max = preparedRounding.round(pointConverter.apply(points.getMaxPackedValue()).longValue());
+        return (hardBounds.getMax() != null && min >= hardBounds.getMax()) || (hardBounds.getMin() != null && max < hardBounds.getMin());
+    }
+
+    /**
+     * Returns the primary sort of the segment if it sorts documents by the values of this field.
+     */
+    private SortedNumericSortField primaryIndexSort(LeafReaderContext ctx) {
+        final Sort indexSort = ctx.reader().getMetaData().getSort();
+        if (indexSort == null) {
+            return null;
+        }
+        final SortField sortField = indexSort.getSort()[0];
+        if (sortField instanceof SortedNumericSortField && pointField.equals(sortField.getField())) {
+            return (SortedNumericSortField) sortField;
+        }
+        return null;
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(
@@ -218,6 +414,8 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        add.accept("optimized_segments", optimizedSegments);
+        add.accept("unoptimized_segments", unoptimizedSegments);
     }
 
     /**
@@ -32,6 +32,8 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
@@ -54,7 +56,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeCounter;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +66,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -245,6 +251,43 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Counts the documents of the segments from the points of the field when the aggregation doesn't need to collect them,
+     * {@code null} otherwise.
+     */
+    private final PointTreeCounter pointTreeCounter;
+    private int optimizedSegments;
+    private int unoptimizedSegments;
+
+    public RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSourceConfig valuesSourceConfig,
+        DocValueFormat format,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        this(
+            name,
+            factories,
+            (ValuesSource.Numeric) valuesSourceConfig.getValuesSource(),
+            valuesSourceConfig,
+            format,
+            rangeFactory,
+            ranges,
+            keyed,
+            context,
+            parent,
+            cardinality,
+            metadata
+        );
+    }
+
     public RangeAggregator(
         String name,
         AggregatorFactories factories,
@@ -258,6 +301,23 @@ public class RangeAggregator extends BucketsAggregator {
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     ) throws IOException {
+        this(name, factories, valuesSource, null, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata);
+    }
+
+    private RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSource.Numeric valuesSource,
+        ValuesSourceConfig valuesSourceConfig,
+        DocValueFormat format,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -274,6 +334,9 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to, maxTo[i - 1]);
         }
 
+        this.pointTreeCounter = valuesSourceConfig != null
+            ? PointTreeCounter.build(context, parent, subAggregators, valuesSourceConfig)
+            : null;
     }
 
     @Override
@@ -286,6 +349,16 @@ public class RangeAggregator extends BucketsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
+        if (pointTreeCounter != null) {
+            final PointValues points = pointTreeCounter.pointValues(ctx);
+            if (points != null) {
+                countPoints(points);
+                optimizedSegments++;
+                // the aggregation is top level, see PointTreeCounter
+                throw new CollectionTerminatedException();
+            }
+            unoptimizedSegments++;
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -350,6 +423,37 @@ public class RangeAggregator extends BucketsAggregator {
         };
     }
 
+    /**
+     * Counts the documents of the segment per range from the tree of its points, walking the tree once per range since they may
+     * overlap.
+     */
+    private void countPoints(PointValues points) throws IOException {
+        final Function<byte[], Number> converter = pointTreeCounter.getConverter();
+        for (int i = 0; i < ranges.length; i++) {
+            final Range range = ranges[i];
+            final long rangeOrd = subBucketOrdinal(0, i);
+            pointTreeCounter.count(points, new PointTreeCounter.Buckets() {
+                @Override
+                public long bucket(byte[] minPackedValue, byte[] maxPackedValue) {
+                    final double min = converter.apply(minPackedValue).doubleValue();
+                    final double max = converter.apply(maxPackedValue).doubleValue();
+                    if (max < range.from || min >= range.to) {
+                        return NO_BUCKET;
+                    }
+                    if (min >= range.from && max < range.to) {
+                        return rangeOrd;
+                    }
+                    return MULTIPLE_BUCKETS;
+                }
+
+                @Override
+                public void count(long bucketOrd, long count) {
+                    incrementBucketDocCount(bucketOrd, count);
+                }
+            });
+        }
+    }
+
     private long subBucketOrdinal(long owningBucketOrdinal, int rangeOrd) {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
@@ -367,6 +471,12 @@ public class RangeAggregator extends BucketsAggregator {
         );
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        add.accept("optimized_segments", optimizedSegments);
+        add.accept("unoptimized_segments", unoptimizedSegments);
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         InternalAggregations subAggs = buildEmptySubAggregations();
@@ -35,7 +35,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
-import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -50,7 +50,7 @@ public interface RangeAggregatorSupplier {
     Aggregator build(
         String name,
         AggregatorFactories factories,
-        ValuesSource.Numeric valuesSource,
+        ValuesSourceConfig valuesSourceConfig,
         DocValueFormat format,
         InternalRange.Factory rangeFactory,
         RangeAggregator.Range[] ranges,
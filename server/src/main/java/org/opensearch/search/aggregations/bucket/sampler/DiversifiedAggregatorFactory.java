@@ -147,6 +147,12 @@ public class DiversifiedAggregatorFactory extends ValuesSourceAggregatorFactory
             .build(name, shardSize, factories, searchContext, parent, metadata, config, maxDocsPerValue, executionHint);
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the sample is the top shard_size documents of the shard, not of each slice
+        return false;
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
         final UnmappedSampler aggregation = new UnmappedSampler(name, metadata);
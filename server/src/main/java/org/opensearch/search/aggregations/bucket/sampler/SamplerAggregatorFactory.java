@@ -73,4 +73,10 @@ public class SamplerAggregatorFactory extends AggregatorFactory {
         return new SamplerAggregator(name, shardSize, factories, searchContext, parent, metadata);
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the sample is the top shard_size documents of the shard, not of each slice
+        return false;
+    }
+
 }
@@ -46,6 +46,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -212,6 +213,43 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         });
     }
 
+    @Override
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy)
+        throws IOException {
+        if (getClass() != GlobalOrdinalsStringTermsAggregator.class
+            || resultStrategy instanceof StandardTermsResults == false
+            || valuesSource instanceof ValuesSource.Bytes.WithOrdinals.FieldData == false) {
+            return null;
+        }
+        final int dim = starTree.dimension(((ValuesSource.Bytes.WithOrdinals.FieldData) valuesSource).getFieldName());
+        if (dim < 0 || starTree.dimensionType(dim) != StarTree.DimensionType.ORDINAL) {
+            return null;
+        }
+        final LeafBucketCollector sub = getStarTreeSubLeafCollector(ctx, starTree, groupBy);
+        if (sub == null) {
+            return null;
+        }
+        groupBy[dim] = true;
+        docCountProvider.setStarTree(starTree);
+        collectionStrategy.globalOrdsReady(valuesSource.globalOrdinalsValues(ctx));
+        // the tree holds the ordinals of the segment
+        final LongUnaryOperator mapping = valuesSource.globalOrdinalsMapping(ctx);
+        return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, null) {
+            @Override
+            public void collect(int record, long owningBucketOrd) throws IOException {
+                final long ord = starTree.dimensionValue(dim, record);
+                if (ord == StarTree.MISSING) {
+                    return;
+                }
+                final long globalOrd = mapping.applyAsLong(ord);
+                if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                    return;
+                }
+                collectionStrategy.collectGlobalOrd(owningBucketOrd, record, globalOrd, sub);
+            }
+        });
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -31,7 +31,10 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
@@ -74,8 +77,8 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
     private final CollectorSource collectorSource;
     private final ResultStrategy<?, ?> resultStrategy;
-    private final BytesKeyedBucketOrds bucketOrds;
-    private final IncludeExclude.StringFilter includeExclude;
+    final BytesKeyedBucketOrds bucketOrds;
+    final IncludeExclude.StringFilter includeExclude;
 
     public MapStringTermsAggregator(
         String name,
@@ -236,6 +239,147 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         public void close() {}
     }
 
+    /**
+     * Variant of {@link MapStringTermsAggregator} for fields with ordinals that counts documents per segment ordinal and only
+     * hashes the terms of the ordinals that matched once the segment is collected. Unlike the
+     * {@link GlobalOrdinalsStringTermsAggregator} it never needs the global ordinals of the field, which have to be rebuilt
+     * after every refresh, and unlike the {@link ValuesSourceCollectorSource} it doesn't look up and hash a term per document.
+     * Only usable without sub-aggregators and when collecting from a single bucket.
+     *
+     * @opensearch.internal
+     */
+    static class SegmentOrds extends MapStringTermsAggregator {
+        private final ValuesSource.Bytes.WithOrdinals valuesSource;
+        private SortedSetDocValues segmentOrds;
+        private LongArray segmentDocCounts;
+        /**
+         * The ordinals of the current segment that matched, in the order they were first seen, so that mapping the segment to
+         * buckets doesn't have to go through all the ordinals of the segment.
+         */
+        private LongArray matchedOrds;
+        private long matchedOrdsCount;
+
+        SegmentOrds(
+            String name,
+            AggregatorFactories factories,
+            ValuesSource.Bytes.WithOrdinals valuesSource,
+            Function<MapStringTermsAggregator, ResultStrategy<?, ?>> resultStrategy,
+            BucketOrder order,
+            DocValueFormat format,
+            BucketCountThresholds bucketCountThresholds,
+            IncludeExclude.StringFilter includeExclude,
+            SearchContext context,
+            Aggregator parent,
+            SubAggCollectionMode collectionMode,
+            boolean showTermDocCountError,
+            Map<String, Object> metadata
+        ) throws IOException {
+            super(
+                name,
+                factories,
+                new ValuesSourceCollectorSource(valuesSource),
+                resultStrategy,
+                order,
+                format,
+                bucketCountThresholds,
+                includeExclude,
+                context,
+                parent,
+                collectionMode,
+                showTermDocCountError,
+                CardinalityUpperBound.ONE,
+                metadata
+            );
+            assert factories == null || factories.countAggregators() == 0;
+            this.valuesSource = valuesSource;
+            this.segmentDocCounts = context.bigArrays().newLongArray(1, true);
+            this.matchedOrds = context.bigArrays().newLongArray(1, false);
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+            if (segmentOrds != null) {
+                mapSegmentCountsToBuckets();
+            }
+            assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
+            final SortedSetDocValues ords = valuesSource.ordinalsValues(ctx);
+            segmentDocCounts = context.bigArrays().grow(segmentDocCounts, ords.getValueCount());
+            segmentOrds = ords;
+            final SortedDocValues singleValues = DocValues.unwrapSingleton(ords);
+            if (singleValues != null) {
+                return new LeafBucketCollectorBase(sub, ords) {
+                    @Override
+                    public void collect(int doc, long owningBucketOrd) throws IOException {
+                        assert owningBucketOrd == 0;
+                        if (singleValues.advanceExact(doc)) {
+                            collectOrd(singleValues.ordValue(), docCountProvider.getDocCount(doc));
+                        }
+                    }
+                };
+            }
+            return new LeafBucketCollectorBase(sub, ords) {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    assert owningBucketOrd == 0;
+                    if (false == ords.advanceExact(doc)) {
+                        return;
+                    }
+                    final long docCount = docCountProvider.getDocCount(doc);
+                    for (long ord = ords.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = ords.nextOrd()) {
+                        collectOrd(ord, docCount);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void collectDebugInfo(BiConsumer<String, Object> add) {
+            super.collectDebugInfo(add);
+            add.accept("collection_strategy", "segment_ords");
+        }
+
+        @Override
+        protected void doPostCollection() throws IOException {
+            if (segmentOrds != null) {
+                mapSegmentCountsToBuckets();
+                segmentOrds = null;
+            }
+        }
+
+        @Override
+        public void doClose() {
+            Releasables.close(super::doClose, segmentDocCounts, matchedOrds);
+        }
+
+        private void collectOrd(long ord, long docCount) {
+            // counts only grow, so the count is the doc count only the first time that the ordinal matches
+            if (segmentDocCounts.increment(ord, docCount) == docCount && docCount > 0) {
+                matchedOrds = context.bigArrays().grow(matchedOrds, matchedOrdsCount + 1);
+                matchedOrds.set(matchedOrdsCount++, ord);
+            }
+        }
+
+        private void mapSegmentCountsToBuckets() throws IOException {
+            for (long i = 0; i < matchedOrdsCount; i++) {
+                final long ord = matchedOrds.get(i);
+                // reset the slot since segmentDocCounts is reused over the segments
+                final long docCount = segmentDocCounts.set(ord, 0);
+                final BytesRef term = segmentOrds.lookupOrd(ord);
+                if (includeExclude != null && false == includeExclude.accept(term)) {
+                    continue;
+                }
+                long bucketOrd = bucketOrds.add(0, term);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                } else {
+                    consumeNewBucket();
+                }
+                incrementBucketDocCount(bucketOrd, docCount);
+            }
+            matchedOrdsCount = 0;
+        }
+    }
+
     /**
      * Strategy for building results.
      */
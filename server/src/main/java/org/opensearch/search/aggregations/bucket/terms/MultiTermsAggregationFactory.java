@@ -159,6 +159,11 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return configs.stream().allMatch(config -> config.v1().script() == null) && super.supportsConcurrentSegmentSearch();
+    }
+
     /**
      * Supplier for internal values source
      *
@@ -311,6 +311,12 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the superset size is counted over the whole shard, reducing slices would add it up once per slice
+        return false;
+    }
+
     /**
      * The execution mode for the significant terms agg
      *
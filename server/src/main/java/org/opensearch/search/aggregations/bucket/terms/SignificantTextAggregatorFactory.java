@@ -173,6 +173,12 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the superset size is counted over the whole shard and the text is read through the shared source lookup
+        return false;
+    }
+
     /**
      * Collects significant text
      *
@@ -118,7 +118,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     execution = ExecutionMode.MAP;
                 }
                 if (execution == null) {
-                    execution = ExecutionMode.GLOBAL_ORDINALS;
+                    // segment ordinals only pay off where the map execution can use them, see ExecutionMode.MAP
+                    final boolean segmentOrds = factories == AggregatorFactories.EMPTY && cardinality == CardinalityUpperBound.ONE;
+                    execution = segmentOrds && context.getQueryShardContext().getIndexSettings().isTermsAggregationGlobalOrdinals() == false
+                        ? ExecutionMode.MAP
+                        : ExecutionMode.GLOBAL_ORDINALS;
                 }
                 final long maxOrd = execution == ExecutionMode.GLOBAL_ORDINALS ? getMaxOrd(valuesSource, context.searcher()) : -1;
                 if (subAggCollectMode == null) {
@@ -394,6 +398,31 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 final IncludeExclude.StringFilter filter = includeExclude == null
                     ? null
                     : includeExclude.convertToStringFilter(format, maxRegexLength);
+                if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals
+                    && factories == AggregatorFactories.EMPTY
+                    && cardinality == CardinalityUpperBound.ONE) {
+                    /*
+                     * Without sub-aggregators and when collecting from a
+                     * single bucket we can count the documents per segment
+                     * ordinal and only look up the terms that matched
+                     * once each segment is collected.
+                     */
+                    return new MapStringTermsAggregator.SegmentOrds(
+                        name,
+                        factories,
+                        (ValuesSource.Bytes.WithOrdinals) valuesSource,
+                        a -> a.new StandardTermsResults(valuesSource),
+                        order,
+                        format,
+                        bucketCountThresholds,
+                        filter,
+                        context,
+                        parent,
+                        subAggCollectMode,
+                        showTermDocCountError,
+                        metadata
+                    );
+                }
                 return new MapStringTermsAggregator(
                     name,
                     factories,
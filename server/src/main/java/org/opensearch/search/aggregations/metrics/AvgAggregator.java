@@ -37,6 +37,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -63,6 +64,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
     DoubleArray sums;
     DoubleArray compensations;
     DocValueFormat format;
+    final String starTreeField;
 
     AvgAggregator(
         String name,
@@ -75,6 +77,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         // TODO Stop expecting nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
         this.format = valuesSourceConfig.format();
+        this.starTreeField = valuesSource != null ? valuesSourceConfig.getStarTreeFieldOrNull() : null;
         if (valuesSource != null) {
             final BigArrays bigArrays = context.bigArrays();
             counts = bigArrays.newLongArray(1, true);
@@ -88,6 +91,11 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    protected boolean collectsInBatches() {
+        return true;
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -96,6 +104,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBatch batch = new DoubleValuesBatch(values);
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -123,6 +132,49 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
                     compensations.set(bucket, kahanSummation.delta());
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                counts = bigArrays.grow(counts, bucket + 1);
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                final int numValues = batch.read(docs, count);
+                final double[] batchValues = batch.values();
+                counts.increment(bucket, numValues);
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                for (int i = 0; i < numValues; i++) {
+                    kahanSummation.add(batchValues[i]);
+                }
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+            }
+        };
+    }
+
+    @Override
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy) {
+        final int metric = starTreeField != null ? starTree.metric(starTreeField) : -1;
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        return new LeafBucketCollector() {
+            @Override
+            public void collect(int record, long bucket) {
+                counts = bigArrays.grow(counts, bucket + 1);
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+                final long valueCount = starTree.valueCount(metric, record);
+                if (valueCount > 0) {
+                    counts.increment(bucket, valueCount);
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    kahanSummation.add(starTree.sum(metric, record));
+                    sums.set(bucket, kahanSummation.value());
+                    compensations.set(bucket, kahanSummation.delta());
+                }
+            }
         };
     }
 
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+
+import java.io.IOException;
+
+/**
+ * Reads the values of a batch of documents into a reusable array so that metrics aggregators can accumulate them in a
+ * single loop, see {@link LeafBucketCollector#collect(int[], int, long)}.
+ *
+ * @opensearch.internal
+ */
+final class DoubleValuesBatch {
+
+    private final SortedNumericDoubleValues values;
+    private final NumericDoubleValues singleValues;
+    private double[] buffer = new double[0];
+
+    DoubleValuesBatch(SortedNumericDoubleValues values) {
+        this.values = values;
+        this.singleValues = FieldData.unwrapSingleton(values);
+    }
+
+    DoubleValuesBatch(NumericDoubleValues values) {
+        this.values = null;
+        this.singleValues = values;
+    }
+
+    /**
+     * Reads the values of the first {@code count} documents into {@link #values()} and returns how many values were read.
+     */
+    int read(int[] docs, int count) throws IOException {
+        int numValues = 0;
+        if (singleValues != null) {
+            buffer = ArrayUtil.grow(buffer, count);
+            for (int i = 0; i < count; i++) {
+                if (singleValues.advanceExact(docs[i])) {
+                    buffer[numValues++] = singleValues.doubleValue();
+                }
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                if (values.advanceExact(docs[i])) {
+                    final int docValueCount = values.docValueCount();
+                    buffer = ArrayUtil.grow(buffer, numValues + docValueCount);
+                    for (int j = 0; j < docValueCount; j++) {
+                        buffer[numValues++] = values.nextValue();
+                    }
+                }
+            }
+        }
+        return numValues;
+    }
+
+    /**
+     * The values read by the last call to {@link #read(int[], int)}, in document order.
+     */
+    double[] values() {
+        return buffer;
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -69,6 +70,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
 
     final String pointField;
     final Function<byte[], Number> pointConverter;
+    final String starTreeField;
 
     DoubleArray maxes;
 
@@ -82,6 +84,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
             maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
         }
         this.formatter = config.format();
+        this.starTreeField = valuesSource != null ? config.getStarTreeFieldOrNull() : null;
         this.pointConverter = pointReaderIfAvailable(config);
         if (pointConverter != null) {
             pointField = config.fieldContext().field();
@@ -95,6 +98,11 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    protected boolean collectsInBatches() {
+        return true;
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -123,6 +131,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
+        final DoubleValuesBatch batch = new DoubleValuesBatch(values);
         return new LeafBucketCollectorBase(sub, allValues) {
 
             @Override
@@ -140,6 +149,42 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
                 }
             }
 
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                final int numValues = batch.read(docs, count);
+                final double[] batchValues = batch.values();
+                double max = maxes.get(bucket);
+                for (int i = 0; i < numValues; i++) {
+                    max = Math.max(max, batchValues[i]);
+                }
+                maxes.set(bucket, max);
+            }
+
+        };
+    }
+
+    @Override
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy) {
+        final int metric = starTreeField != null ? starTree.metric(starTreeField) : -1;
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        return new LeafBucketCollector() {
+            @Override
+            public void collect(int record, long bucket) {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                maxes.set(bucket, Math.max(maxes.get(bucket), starTree.max(metric, record)));
+            }
         };
     }
 
@@ -124,6 +124,12 @@ class ScriptedMetricAggregatorFactory extends AggregatorFactory {
         );
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // every script of the aggregation runs with the lookup of the search
+        return false;
+    }
+
     private static Script deepCopyScript(Script script, SearchContext context, Map<String, Object> aggParams) {
         if (script != null) {
             Map<String, Object> params = mergeParams(aggParams, deepCopyParams(script.getParams(), context));
@@ -37,6 +37,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.MultiGeoPointValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.aggregations.Aggregator;
@@ -61,6 +62,7 @@ import java.util.Map;
 public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
 
     final ValuesSource valuesSource;
+    final String starTreeField;
 
     // a count per bucket
     LongArray counts;
@@ -75,6 +77,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         super(name, aggregationContext, parent, metadata);
         // TODO: stop expecting nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? valuesSourceConfig.getValuesSource() : null;
+        this.starTreeField = valuesSource instanceof ValuesSource.Numeric ? valuesSourceConfig.getStarTreeFieldOrNull() : null;
         if (valuesSource != null) {
             counts = context.bigArrays().newLongArray(1, true);
         }
@@ -128,6 +131,22 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    protected LeafBucketCollector getStarTreeLeafCollector(LeafReaderContext ctx, StarTree starTree, boolean[] groupBy) {
+        final int metric = starTreeField != null ? starTree.metric(starTreeField) : -1;
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        return new LeafBucketCollector() {
+            @Override
+            public void collect(int record, long bucket) {
+                counts = bigArrays.grow(counts, bucket + 1);
+                counts.increment(bucket, starTree.valueCount(metric, record));
+            }
+        };
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         return (valuesSource == null || owningBucketOrd >= counts.size()) ? 0 : counts.get(owningBucketOrd);
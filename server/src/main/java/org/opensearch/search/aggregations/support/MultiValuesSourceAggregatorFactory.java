@@ -77,6 +77,16 @@ public abstract class MultiValuesSourceAggregatorFactory extends AggregatorFacto
         return doCreateInternal(searchContext, configs, format, parent, cardinality, metadata);
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        for (ValuesSourceConfig config : configs.values()) {
+            if (config.script() != null) {
+                return false;
+            }
+        }
+        return super.supportsConcurrentSegmentSearch();
+    }
+
     /**
      * Create an aggregator that won't collect anything but will return an
      * appropriate empty aggregation.
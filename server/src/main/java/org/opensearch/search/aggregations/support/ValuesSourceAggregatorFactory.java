@@ -98,6 +98,11 @@ public abstract class ValuesSourceAggregatorFactory extends AggregatorFactory {
         Map<String, Object> metadata
     ) throws IOException;
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null && super.supportsConcurrentSegmentSearch();
+    }
+
     @Override
     public String getStatsSubtype() {
         return config.valueSourceType().typeName();
@@ -423,6 +423,22 @@ public class ValuesSourceConfig {
         return null;
     }
 
+    /**
+     * This method is used when an aggregation can optimize by using the values pre-aggregated in the star trees of the segments
+     * instead of the doc values. As for {@link #getPointReaderOrNull()}, the values source must output the values of the field as
+     * they are indexed.
+     *
+     * @return null if we cannot apply the optimization, otherwise the name of the field.
+     */
+    @Nullable
+    public String getStarTreeFieldOrNull() {
+        MappedFieldType fieldType = fieldType();
+        if (fieldType != null && script() == null && missing() == null) {
+            return fieldType.name();
+        }
+        return null;
+    }
+
     /**
      * Returns a human readable description of this values source, for use in error messages and similar.
      */
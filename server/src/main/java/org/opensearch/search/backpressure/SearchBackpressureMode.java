@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import java.util.Locale;
+
+/**
+ * What search backpressure does with the search tasks that it would cancel.
+ *
+ * @opensearch.internal
+ */
+public enum SearchBackpressureMode {
+    /** Search backpressure does not track tasks. */
+    DISABLED,
+    /** Search backpressure tracks tasks and counts the ones that it would cancel, without cancelling them. */
+    MONITOR_ONLY,
+    /** Search backpressure cancels tasks. */
+    ENFORCED;
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static SearchBackpressureMode fromName(String name) {
+        switch (name) {
+            case "disabled":
+                return DISABLED;
+            case "monitor_only":
+                return MONITOR_ONLY;
+            case "enforced":
+                return ENFORCED;
+            default:
+                throw new IllegalArgumentException(
+                    "unknown search backpressure mode [" + name + "], must be one of [disabled, monitor_only, enforced]"
+                );
+        }
+    }
+}
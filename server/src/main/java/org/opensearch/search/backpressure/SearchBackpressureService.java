@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.util.TokenBucket;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.search.backpressure.stats.SearchBackpressureStats;
+import org.opensearch.search.backpressure.stats.SearchBackpressureTaskStats;
+import org.opensearch.search.backpressure.trackers.NodeDuressTracker;
+import org.opensearch.search.backpressure.trackers.TaskResourceUsageTracker;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.ResourceStats;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cancels the search tasks that use the most resources while the node is in duress, so that a few resource intensive searches
+ * do not make the node unresponsive to the others.
+ * <p>
+ * The node is in duress when its CPU usage, its heap usage or the queue of its search thread pool has been above its threshold for
+ * a number of successive checks, see {@link SearchBackpressureSettings}. The resource usage of search tasks is then refreshed
+ * from {@link TaskResourceTrackingService}, and the tasks that use more CPU time, have allocated more heap or have been running
+ * for longer than allowed are cancelled, the most resource intensive ones first. Cancellations are rate limited both in time and
+ * relatively to the number of completed tasks, so that backpressure does not cancel most of the searches of a node that is
+ * overloaded by cheap ones.
+ *
+ * @opensearch.internal
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent implements TaskResourceTrackingService.TaskCompletionListener {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    private final SearchBackpressureSettings settings;
+    private final TaskResourceTrackingService taskResourceTrackingService;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final LongSupplier timeNanosSupplier;
+    private final List<NodeDuressTracker> nodeDuressTrackers;
+    private final TaskTypeState searchTaskState;
+    private final TaskTypeState searchShardTaskState;
+
+    private final AtomicLong completedTasks = new AtomicLong();
+    private volatile CancellationLimits cancellationLimits;
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    public SearchBackpressureService(
+        SearchBackpressureSettings settings,
+        TaskResourceTrackingService taskResourceTrackingService,
+        ThreadPool threadPool,
+        TaskManager taskManager
+    ) {
+        this(
+            settings,
+            taskResourceTrackingService,
+            threadPool,
+            taskManager,
+            System::nanoTime,
+            defaultNodeDuressTrackers(settings, threadPool)
+        );
+    }
+
+    SearchBackpressureService(
+        SearchBackpressureSettings settings,
+        TaskResourceTrackingService taskResourceTrackingService,
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        LongSupplier timeNanosSupplier,
+        List<NodeDuressTracker> nodeDuressTrackers
+    ) {
+        this.settings = settings;
+        this.taskResourceTrackingService = taskResourceTrackingService;
+        this.taskResourceTrackingService.addTaskCompletionListener(this);
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.timeNanosSupplier = timeNanosSupplier;
+        this.nodeDuressTrackers = nodeDuressTrackers;
+        this.searchTaskState = new TaskTypeState(resourceUsageTrackers(settings.getSearchTaskSettings(), timeNanosSupplier));
+        this.searchShardTaskState = new TaskTypeState(resourceUsageTrackers(settings.getSearchShardTaskSettings(), timeNanosSupplier));
+    }
+
+    private static List<NodeDuressTracker> defaultNodeDuressTrackers(SearchBackpressureSettings settings, ThreadPool threadPool) {
+        final List<NodeDuressTracker> trackers = new ArrayList<>();
+        trackers.add(
+            new NodeDuressTracker(
+                "cpu",
+                () -> ProcessProbe.getInstance().getProcessCpuPercent() / 100.0 >= settings.getCpuThreshold(),
+                settings::getNumSuccessiveBreaches
+            )
+        );
+        trackers.add(
+            new NodeDuressTracker(
+                "heap",
+                () -> JvmStats.jvmStats().getMem().getHeapUsedPercent() / 100.0 >= settings.getHeapThreshold(),
+                settings::getNumSuccessiveBreaches
+            )
+        );
+        trackers.add(new NodeDuressTracker("search_queue", () -> {
+            final Executor executor = threadPool.executor(ThreadPool.Names.SEARCH);
+            if (executor instanceof ThreadPoolExecutor) {
+                final BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) executor).getQueue();
+                final int size = queue.size();
+                final long capacity = (long) size + queue.remainingCapacity();
+                return capacity > 0 && capacity < Integer.MAX_VALUE && size >= settings.getSearchQueueThreshold() * capacity;
+            }
+            return false;
+        }, settings::getNumSuccessiveBreaches));
+        return trackers;
+    }
+
+    private static List<TaskResourceUsageTracker> resourceUsageTrackers(
+        SearchBackpressureSettings.TaskSettings taskSettings,
+        LongSupplier timeNanosSupplier
+    ) {
+        final long maxHeapInBytes = JvmStats.jvmStats().getMem().getHeapMax().getBytes();
+        final List<TaskResourceUsageTracker> trackers = new ArrayList<>();
+        trackers.add(
+            new TaskResourceUsageTracker(
+                TaskResourceUsageTracker.CPU_USAGE_TRACKER,
+                task -> task.getTotalResourceUtilization(ResourceStats.CPU),
+                taskSettings::getCpuTimeNanosThreshold
+            )
+        );
+        trackers.add(
+            new TaskResourceUsageTracker(
+                TaskResourceUsageTracker.HEAP_USAGE_TRACKER,
+                task -> task.getTotalResourceUtilization(ResourceStats.MEMORY),
+                () -> (long) (taskSettings.getHeapThreshold() * maxHeapInBytes)
+            )
+        );
+        trackers.add(
+            new TaskResourceUsageTracker(
+                TaskResourceUsageTracker.ELAPSED_TIME_TRACKER,
+                task -> timeNanosSupplier.getAsLong() - task.getStartTimeNanos(),
+                taskSettings::getElapsedTimeNanosThreshold
+            )
+        );
+        return trackers;
+    }
+
+    void doRun() {
+        final SearchBackpressureMode mode = settings.getMode();
+        if (mode == SearchBackpressureMode.DISABLED) {
+            return;
+        }
+        // all trackers are checked so that they all count their successive breaches
+        boolean inDuress = false;
+        for (NodeDuressTracker tracker : nodeDuressTrackers) {
+            inDuress |= tracker.check();
+        }
+        if (inDuress == false) {
+            return;
+        }
+
+        final List<CancellableTask> searchTasks = getSearchTasks(SearchTask.class);
+        final List<CancellableTask> searchShardTasks = getSearchTasks(SearchShardTask.class);
+        final List<CancellableTask> tasks = new ArrayList<>(searchTasks.size() + searchShardTasks.size());
+        tasks.addAll(searchTasks);
+        tasks.addAll(searchShardTasks);
+        taskResourceTrackingService.refreshResourceStats(tasks.toArray(new Task[0]));
+
+        final List<TaskCancellation> cancellations = new ArrayList<>();
+        addCancellations(searchTasks, searchTaskState, cancellations);
+        addCancellations(searchShardTasks, searchShardTaskState, cancellations);
+        // cancel the most resource intensive tasks first
+        cancellations.sort(Comparator.comparingInt((TaskCancellation cancellation) -> cancellation.reasons.size()).reversed());
+
+        final CancellationLimits limits = getCancellationLimits();
+        for (TaskCancellation cancellation : cancellations) {
+            if (limits.tryAcquire() == false) {
+                cancellation.state.limitReachedCount.incrementAndGet();
+                break;
+            }
+            cancellation.state.cancellationCount.incrementAndGet();
+            for (TaskResourceUsageTracker tracker : cancellation.trackers) {
+                tracker.incrementCancellations();
+            }
+            final String reason = "resource consumption exceeded [" + String.join(", ", cancellation.reasons) + "]";
+            if (mode == SearchBackpressureMode.ENFORCED) {
+                logger.debug("cancelling task [{}] due to high resource consumption [{}]", cancellation.task.getId(), reason);
+                taskManager.cancelTaskAndDescendants(cancellation.task, reason, false, ActionListener.wrap(() -> {}));
+            } else {
+                logger.debug(
+                    "task [{}] would have been cancelled due to high resource consumption [{}]",
+                    cancellation.task.getId(),
+                    reason
+                );
+            }
+        }
+    }
+
+    private List<CancellableTask> getSearchTasks(Class<? extends CancellableTask> type) {
+        final List<CancellableTask> tasks = new ArrayList<>();
+        for (Task task : taskResourceTrackingService.getResourceAwareTasks().values()) {
+            if (type.isInstance(task) && ((CancellableTask) task).isCancelled() == false) {
+                tasks.add((CancellableTask) task);
+            }
+        }
+        return tasks;
+    }
+
+    private static void addCancellations(List<CancellableTask> tasks, TaskTypeState state, List<TaskCancellation> cancellations) {
+        for (CancellableTask task : tasks) {
+            final List<String> reasons = new ArrayList<>();
+            final List<TaskResourceUsageTracker> trackers = new ArrayList<>();
+            for (TaskResourceUsageTracker tracker : state.trackers) {
+                final Optional<String> reason = tracker.cancellationReason(task);
+                if (reason.isPresent()) {
+                    reasons.add(reason.get());
+                    trackers.add(tracker);
+                }
+            }
+            if (reasons.isEmpty() == false) {
+                cancellations.add(new TaskCancellation(task, state, reasons, trackers));
+            }
+        }
+    }
+
+    /**
+     * Returns the limits of the number of cancellations, which are rebuilt when their settings change.
+     */
+    private CancellationLimits getCancellationLimits() {
+        CancellationLimits limits = cancellationLimits;
+        if (limits == null
+            || limits.ratio != settings.getCancellationRatio()
+            || limits.rateNanos != settings.getCancellationRateNanos()
+            || limits.burst != settings.getCancellationBurst()) {
+            limits = new CancellationLimits(
+                settings.getCancellationRatio(),
+                settings.getCancellationRateNanos(),
+                settings.getCancellationBurst(),
+                completedTasks::get,
+                timeNanosSupplier
+            );
+            cancellationLimits = limits;
+        }
+        return limits;
+    }
+
+    @Override
+    public void onTaskCompleted(Task task) {
+        if (task instanceof SearchTask || task instanceof SearchShardTask) {
+            completedTasks.incrementAndGet();
+        }
+    }
+
+    public SearchBackpressureStats nodeStats() {
+        return new SearchBackpressureStats(
+            settings.getMode(),
+            searchTaskState.stats(getSearchTasks(SearchTask.class)),
+            searchShardTaskState.stats(getSearchTasks(SearchShardTask.class))
+        );
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.warn("failed to run search backpressure", e);
+            }
+        }, settings.getInterval(), ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {}
+
+    /**
+     * The trackers and the counters of a type of search tasks.
+     */
+    private static final class TaskTypeState {
+        final List<TaskResourceUsageTracker> trackers;
+        final AtomicLong cancellationCount = new AtomicLong();
+        final AtomicLong limitReachedCount = new AtomicLong();
+
+        TaskTypeState(List<TaskResourceUsageTracker> trackers) {
+            this.trackers = trackers;
+        }
+
+        SearchBackpressureTaskStats stats(List<CancellableTask> activeTasks) {
+            final Map<String, TaskResourceUsageTracker.Stats> trackerStats = new HashMap<>();
+            for (TaskResourceUsageTracker tracker : trackers) {
+                trackerStats.put(tracker.name(), tracker.stats(activeTasks));
+            }
+            return new SearchBackpressureTaskStats(cancellationCount.get(), limitReachedCount.get(), trackerStats);
+        }
+    }
+
+    /**
+     * A task to cancel, and the reasons why.
+     */
+    private static final class TaskCancellation {
+        final CancellableTask task;
+        final TaskTypeState state;
+        final List<String> reasons;
+        final List<TaskResourceUsageTracker> trackers;
+
+        TaskCancellation(CancellableTask task, TaskTypeState state, List<String> reasons, List<TaskResourceUsageTracker> trackers) {
+            this.task = task;
+            this.state = state;
+            this.reasons = reasons;
+            this.trackers = trackers;
+        }
+    }
+
+    /**
+     * Limits the number of cancellations both in time and relatively to the number of completed tasks. A ratio or a rate
+     * of zero disables cancellations altogether.
+     */
+    private static final class CancellationLimits {
+        final double ratio;
+        final double rateNanos;
+        final double burst;
+        private final TokenBucket ratioLimiter;
+        private final TokenBucket rateLimiter;
+
+        CancellationLimits(double ratio, double rateNanos, double burst, LongSupplier completedTasks, LongSupplier timeNanos) {
+            this.ratio = ratio;
+            this.rateNanos = rateNanos;
+            this.burst = burst;
+            this.ratioLimiter = ratio > 0 ? new TokenBucket(completedTasks, ratio, burst) : null;
+            this.rateLimiter = rateNanos > 0 ? new TokenBucket(timeNanos, rateNanos, burst) : null;
+        }
+
+        /**
+         * Returns whether a task may be cancelled, taking a token from both limiters if so. Neither limiter gives a token
+         * away unless the other one has one too.
+         */
+        synchronized boolean tryAcquire() {
+            if (ratioLimiter == null || rateLimiter == null) {
+                return false;
+            }
+            if (ratioLimiter.hasTokens(1.0) == false || rateLimiter.hasTokens(1.0) == false) {
+                return false;
+            }
+            // the buckets only fill up over time, and are only requested from under this lock, so the tokens are still there
+            final boolean acquired = ratioLimiter.request() && rateLimiter.request();
+            assert acquired : "tokens checked under the lock must still be available";
+            return acquired;
+        }
+    }
+}
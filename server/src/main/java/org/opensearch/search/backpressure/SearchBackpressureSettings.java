@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+
+import static org.opensearch.common.unit.TimeValue.timeValueSeconds;
+
+/**
+ * The settings of search backpressure, see {@link SearchBackpressureService}.
+ *
+ * @opensearch.internal
+ */
+public class SearchBackpressureSettings {
+
+    public static final Setting<SearchBackpressureMode> SETTING_MODE = new Setting<>(
+        "search_backpressure.mode",
+        SearchBackpressureMode.MONITOR_ONLY.getName(),
+        SearchBackpressureMode::fromName,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * How often the duress of the node and the resource usage of search tasks are checked.
+     */
+    public static final Setting<TimeValue> SETTING_INTERVAL = Setting.positiveTimeSetting(
+        "search_backpressure.interval",
+        timeValueSeconds(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The number of successive checks that a resource must be above its threshold for the node to be in duress.
+     */
+    public static final Setting<Integer> SETTING_NUM_SUCCESSIVE_BREACHES = Setting.intSetting(
+        "search_backpressure.node_duress.num_successive_breaches",
+        3,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<Double> SETTING_CPU_THRESHOLD = Setting.doubleSetting(
+        "search_backpressure.node_duress.cpu_threshold",
+        0.9,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<Double> SETTING_HEAP_THRESHOLD = Setting.doubleSetting(
+        "search_backpressure.node_duress.heap_threshold",
+        0.7,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    /**
+     * The fraction of the capacity of the queue of the search thread pool that it must be filled with for the node to be in duress.
+     */
+    public static final Setting<Double> SETTING_SEARCH_QUEUE_THRESHOLD = Setting.doubleSetting(
+        "search_backpressure.node_duress.search_queue_threshold",
+        0.9,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The maximum number of cancellations per completed task, averaged over the last {@link #SETTING_CANCELLATION_BURST} tasks.
+     * Setting it to zero disables cancellations.
+     */
+    public static final Setting<Double> SETTING_CANCELLATION_RATIO = Setting.doubleSetting(
+        "search_backpressure.cancellation_ratio",
+        0.1,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    /**
+     * The maximum number of cancellations per second, averaged over the last {@link #SETTING_CANCELLATION_BURST} cancellations.
+     * Setting it to zero disables cancellations.
+     */
+    public static final Setting<Double> SETTING_CANCELLATION_RATE = Setting.doubleSetting(
+        "search_backpressure.cancellation_rate",
+        3.0,
+        0.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<Double> SETTING_CANCELLATION_BURST = Setting.doubleSetting(
+        "search_backpressure.cancellation_burst",
+        10.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> SETTING_SEARCH_SHARD_TASK_CPU_TIME_THRESHOLD = Setting.positiveTimeSetting(
+        "search_backpressure.search_shard_task.cpu_time_threshold",
+        timeValueSeconds(15),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    /**
+     * The fraction of the heap that a task must have allocated to be cancelled.
+     */
+    public static final Setting<Double> SETTING_SEARCH_SHARD_TASK_HEAP_THRESHOLD = Setting.doubleSetting(
+        "search_backpressure.search_shard_task.heap_threshold",
+        0.05,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<TimeValue> SETTING_SEARCH_SHARD_TASK_ELAPSED_TIME_THRESHOLD = Setting.positiveTimeSetting(
+        "search_backpressure.search_shard_task.elapsed_time_threshold",
+        timeValueSeconds(30),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> SETTING_SEARCH_TASK_CPU_TIME_THRESHOLD = Setting.positiveTimeSetting(
+        "search_backpressure.search_task.cpu_time_threshold",
+        timeValueSeconds(30),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<Double> SETTING_SEARCH_TASK_HEAP_THRESHOLD = Setting.doubleSetting(
+        "search_backpressure.search_task.heap_threshold",
+        0.1,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+    public static final Setting<TimeValue> SETTING_SEARCH_TASK_ELAPSED_TIME_THRESHOLD = Setting.positiveTimeSetting(
+        "search_backpressure.search_task.elapsed_time_threshold",
+        timeValueSeconds(45),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    private final TimeValue interval;
+    private volatile SearchBackpressureMode mode;
+    private volatile int numSuccessiveBreaches;
+    private volatile double cpuThreshold;
+    private volatile double heapThreshold;
+    private volatile double searchQueueThreshold;
+    private volatile double cancellationRatio;
+    private volatile double cancellationRate;
+    private volatile double cancellationBurst;
+    private final TaskSettings searchShardTaskSettings;
+    private final TaskSettings searchTaskSettings;
+
+    public SearchBackpressureSettings(Settings settings, ClusterSettings clusterSettings) {
+        interval = SETTING_INTERVAL.get(settings);
+
+        mode = SETTING_MODE.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_MODE, value -> mode = value);
+
+        numSuccessiveBreaches = SETTING_NUM_SUCCESSIVE_BREACHES.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_NUM_SUCCESSIVE_BREACHES, value -> numSuccessiveBreaches = value);
+
+        cpuThreshold = SETTING_CPU_THRESHOLD.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_CPU_THRESHOLD, value -> cpuThreshold = value);
+
+        heapThreshold = SETTING_HEAP_THRESHOLD.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_HEAP_THRESHOLD, value -> heapThreshold = value);
+
+        searchQueueThreshold = SETTING_SEARCH_QUEUE_THRESHOLD.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_SEARCH_QUEUE_THRESHOLD, value -> searchQueueThreshold = value);
+
+        cancellationRatio = SETTING_CANCELLATION_RATIO.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_CANCELLATION_RATIO, value -> cancellationRatio = value);
+
+        cancellationRate = SETTING_CANCELLATION_RATE.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_CANCELLATION_RATE, value -> cancellationRate = value);
+
+        cancellationBurst = SETTING_CANCELLATION_BURST.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_CANCELLATION_BURST, value -> cancellationBurst = value);
+
+        searchShardTaskSettings = new TaskSettings(
+            settings,
+            clusterSettings,
+            SETTING_SEARCH_SHARD_TASK_CPU_TIME_THRESHOLD,
+            SETTING_SEARCH_SHARD_TASK_HEAP_THRESHOLD,
+            SETTING_SEARCH_SHARD_TASK_ELAPSED_TIME_THRESHOLD
+        );
+        searchTaskSettings = new TaskSettings(
+            settings,
+            clusterSettings,
+            SETTING_SEARCH_TASK_CPU_TIME_THRESHOLD,
+            SETTING_SEARCH_TASK_HEAP_THRESHOLD,
+            SETTING_SEARCH_TASK_ELAPSED_TIME_THRESHOLD
+        );
+    }
+
+    public TimeValue getInterval() {
+        return interval;
+    }
+
+    public SearchBackpressureMode getMode() {
+        return mode;
+    }
+
+    public int getNumSuccessiveBreaches() {
+        return numSuccessiveBreaches;
+    }
+
+    public double getCpuThreshold() {
+        return cpuThreshold;
+    }
+
+    public double getHeapThreshold() {
+        return heapThreshold;
+    }
+
+    public double getSearchQueueThreshold() {
+        return searchQueueThreshold;
+    }
+
+    public double getCancellationRatio() {
+        return cancellationRatio;
+    }
+
+    /**
+     * Returns the maximum number of cancellations per nanosecond.
+     */
+    public double getCancellationRateNanos() {
+        return cancellationRate / TimeValue.timeValueSeconds(1).nanos();
+    }
+
+    public double getCancellationBurst() {
+        return cancellationBurst;
+    }
+
+    public TaskSettings getSearchShardTaskSettings() {
+        return searchShardTaskSettings;
+    }
+
+    public TaskSettings getSearchTaskSettings() {
+        return searchTaskSettings;
+    }
+
+    /**
+     * The resource usage thresholds above which a type of search tasks is cancelled.
+     *
+     * @opensearch.internal
+     */
+    public static class TaskSettings {
+        private volatile long cpuTimeNanosThreshold;
+        private volatile double heapThreshold;
+        private volatile long elapsedTimeNanosThreshold;
+
+        TaskSettings(
+            Settings settings,
+            ClusterSettings clusterSettings,
+            Setting<TimeValue> cpuTimeThreshold,
+            Setting<Double> heapThreshold,
+            Setting<TimeValue> elapsedTimeThreshold
+        ) {
+            this.cpuTimeNanosThreshold = cpuTimeThreshold.get(settings).nanos();
+            clusterSettings.addSettingsUpdateConsumer(cpuTimeThreshold, value -> cpuTimeNanosThreshold = value.nanos());
+            this.heapThreshold = heapThreshold.get(settings);
+            clusterSettings.addSettingsUpdateConsumer(heapThreshold, value -> this.heapThreshold = value);
+            this.elapsedTimeNanosThreshold = elapsedTimeThreshold.get(settings).nanos();
+            clusterSettings.addSettingsUpdateConsumer(elapsedTimeThreshold, value -> elapsedTimeNanosThreshold = value.nanos());
+        }
+
+        public long getCpuTimeNanosThreshold() {
+            return cpuTimeNanosThreshold;
+        }
+
+        /**
+         * Returns the fraction of the heap that a task must have allocated to be cancelled.
+         */
+        public double getHeapThreshold() {
+            return heapThreshold;
+        }
+
+        public long getElapsedTimeNanosThreshold() {
+            return elapsedTimeNanosThreshold;
+        }
+    }
+}
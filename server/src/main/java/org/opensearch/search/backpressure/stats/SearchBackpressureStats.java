@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure.stats;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.backpressure.SearchBackpressureMode;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The search backpressure stats of a node, reported in the {@code search_backpressure} section of the nodes stats.
+ *
+ * @opensearch.internal
+ */
+public class SearchBackpressureStats implements ToXContentFragment, Writeable {
+    private final SearchBackpressureMode mode;
+    private final SearchBackpressureTaskStats searchTaskStats;
+    private final SearchBackpressureTaskStats searchShardTaskStats;
+
+    public SearchBackpressureStats(
+        SearchBackpressureMode mode,
+        SearchBackpressureTaskStats searchTaskStats,
+        SearchBackpressureTaskStats searchShardTaskStats
+    ) {
+        this.mode = mode;
+        this.searchTaskStats = searchTaskStats;
+        this.searchShardTaskStats = searchShardTaskStats;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        this(
+            SearchBackpressureMode.fromName(in.readString()),
+            new SearchBackpressureTaskStats(in),
+            new SearchBackpressureTaskStats(in)
+        );
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(mode.getName());
+        searchTaskStats.writeTo(out);
+        searchShardTaskStats.writeTo(out);
+    }
+
+    public SearchBackpressureMode getMode() {
+        return mode;
+    }
+
+    public SearchBackpressureTaskStats getSearchTaskStats() {
+        return searchTaskStats;
+    }
+
+    public SearchBackpressureTaskStats getSearchShardTaskStats() {
+        return searchShardTaskStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return builder.startObject("search_backpressure")
+            .field("mode", mode.getName())
+            .field("search_task", searchTaskStats)
+            .field("search_shard_task", searchShardTaskStats)
+            .endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchBackpressureStats that = (SearchBackpressureStats) o;
+        return mode == that.mode && searchTaskStats.equals(that.searchTaskStats) && searchShardTaskStats.equals(that.searchShardTaskStats);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, searchTaskStats, searchShardTaskStats);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure.stats;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.backpressure.trackers.TaskResourceUsageTracker;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The search backpressure stats of a type of search tasks.
+ *
+ * @opensearch.internal
+ */
+public class SearchBackpressureTaskStats implements ToXContentObject, Writeable {
+    private final long cancellationCount;
+    private final long limitReachedCount;
+    private final Map<String, TaskResourceUsageTracker.Stats> resourceUsageTrackerStats;
+
+    /**
+     * @param cancellationCount         the number of tasks that were cancelled, or would have been in monitor only mode
+     * @param limitReachedCount         the number of times that tasks were not cancelled because cancellations were rate limited
+     * @param resourceUsageTrackerStats the stats of the trackers of the resources that tasks use, by tracker name
+     */
+    public SearchBackpressureTaskStats(
+        long cancellationCount,
+        long limitReachedCount,
+        Map<String, TaskResourceUsageTracker.Stats> resourceUsageTrackerStats
+    ) {
+        this.cancellationCount = cancellationCount;
+        this.limitReachedCount = limitReachedCount;
+        this.resourceUsageTrackerStats = resourceUsageTrackerStats;
+    }
+
+    public SearchBackpressureTaskStats(StreamInput in) throws IOException {
+        this(in.readVLong(), in.readVLong(), in.readMap(StreamInput::readString, TaskResourceUsageTracker.Stats::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cancellationCount);
+        out.writeVLong(limitReachedCount);
+        out.writeMap(resourceUsageTrackerStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    public long getLimitReachedCount() {
+        return limitReachedCount;
+    }
+
+    public Map<String, TaskResourceUsageTracker.Stats> getResourceUsageTrackerStats() {
+        return resourceUsageTrackerStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject("resource_tracker_stats");
+        for (Map.Entry<String, TaskResourceUsageTracker.Stats> entry : resourceUsageTrackerStats.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        builder.startObject("cancellation_stats")
+            .field("cancellation_count", cancellationCount)
+            .field("cancellation_limit_reached_count", limitReachedCount)
+            .endObject();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchBackpressureTaskStats that = (SearchBackpressureTaskStats) o;
+        return cancellationCount == that.cancellationCount
+            && limitReachedCount == that.limitReachedCount
+            && resourceUsageTrackerStats.equals(that.resourceUsageTrackerStats);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cancellationCount, limitReachedCount, resourceUsageTrackerStats);
+    }
+}
@@ -6,7 +6,5 @@
  * compatible open source license.
  */
 
-/**
- * {@link org.opensearch.search.query.QueryPhaseSearcher} implementation for concurrent search
- */
-package org.opensearch.search.query;
+/** Statistics of search backpressure. */
+package org.opensearch.search.backpressure.stats;
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure.trackers;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Tracks whether a resource of the node is in duress, which is the case once it has been above its threshold for a number of
+ * successive checks, so that short spikes do not cause cancellations.
+ *
+ * @opensearch.internal
+ */
+public class NodeDuressTracker {
+    private final String name;
+    private final BooleanSupplier isResourceAboveThreshold;
+    private final IntSupplier numSuccessiveBreaches;
+    private int successiveBreaches;
+
+    /**
+     * @param name                     the name of the resource
+     * @param isResourceAboveThreshold whether the usage of the resource is currently above its threshold
+     * @param numSuccessiveBreaches    the number of successive checks that the resource must be above its threshold to be in duress
+     */
+    public NodeDuressTracker(String name, BooleanSupplier isResourceAboveThreshold, IntSupplier numSuccessiveBreaches) {
+        this.name = name;
+        this.isResourceAboveThreshold = isResourceAboveThreshold;
+        this.numSuccessiveBreaches = numSuccessiveBreaches;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Checks the usage of the resource and returns whether it is in duress. Must be called periodically, from a single thread.
+     */
+    public boolean check() {
+        if (isResourceAboveThreshold.getAsBoolean()) {
+            successiveBreaches++;
+        } else {
+            successiveBreaches = 0;
+        }
+        return successiveBreaches >= numSuccessiveBreaches.getAsInt();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure.trackers;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tracks a resource that search tasks use, and tells which tasks use too much of it.
+ *
+ * @opensearch.internal
+ */
+public class TaskResourceUsageTracker {
+
+    /** Tracks the CPU time of tasks, in nanoseconds. */
+    public static final String CPU_USAGE_TRACKER = "cpu_usage_tracker";
+    /** Tracks the heap that tasks allocated, in bytes. */
+    public static final String HEAP_USAGE_TRACKER = "heap_usage_tracker";
+    /** Tracks the time that tasks have been running for, in nanoseconds. */
+    public static final String ELAPSED_TIME_TRACKER = "elapsed_time_tracker";
+
+    private final String name;
+    private final ToLongFunction<Task> usage;
+    private final LongSupplier threshold;
+    private final AtomicLong cancellations = new AtomicLong();
+
+    /**
+     * @param name      the name of the tracker
+     * @param usage     the usage of the resource by a task
+     * @param threshold the usage of the resource above which a task must be cancelled
+     */
+    public TaskResourceUsageTracker(String name, ToLongFunction<Task> usage, LongSupplier threshold) {
+        this.name = name;
+        this.usage = usage;
+        this.threshold = threshold;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the usage of the resource by the given task.
+     */
+    public long usage(Task task) {
+        return usage.applyAsLong(task);
+    }
+
+    /**
+     * Returns the reason to cancel the given task, if it uses more of the resource than allowed.
+     */
+    public Optional<String> cancellationReason(Task task) {
+        final long usage = usage(task);
+        final long threshold = this.threshold.getAsLong();
+        if (usage < threshold) {
+            return Optional.empty();
+        }
+        return Optional.of(name + " usage [" + usage + "] exceeded threshold [" + threshold + "]");
+    }
+
+    public void incrementCancellations() {
+        cancellations.incrementAndGet();
+    }
+
+    /**
+     * Returns the stats of this tracker, with the current usage of the given active tasks.
+     */
+    public Stats stats(List<? extends Task> activeTasks) {
+        long max = 0;
+        long sum = 0;
+        for (Task task : activeTasks) {
+            final long usage = usage(task);
+            max = Math.max(max, usage);
+            sum += usage;
+        }
+        return new Stats(cancellations.get(), max, activeTasks.isEmpty() ? 0 : sum / activeTasks.size());
+    }
+
+    /**
+     * The number of tasks that a tracker cancelled, and the current usage of the resource by active tasks.
+     *
+     * @opensearch.internal
+     */
+    public static class Stats implements ToXContentObject, Writeable {
+        private final long cancellationCount;
+        private final long currentMax;
+        private final long currentAvg;
+
+        public Stats(long cancellationCount, long currentMax, long currentAvg) {
+            this.cancellationCount = cancellationCount;
+            this.currentMax = currentMax;
+            this.currentAvg = currentAvg;
+        }
+
+        public Stats(StreamInput in) throws IOException {
+            this(in.readVLong(), in.readVLong(), in.readVLong());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(cancellationCount);
+            out.writeVLong(currentMax);
+            out.writeVLong(currentAvg);
+        }
+
+        public long getCancellationCount() {
+            return cancellationCount;
+        }
+
+        public long getCurrentMax() {
+            return currentMax;
+        }
+
+        public long getCurrentAvg() {
+            return currentAvg;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return builder.startObject()
+                .field("cancellation_count", cancellationCount)
+                .field("current_max", currentMax)
+                .field("current_avg", currentAvg)
+                .endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Stats stats = (Stats) o;
+            return cancellationCount == stats.cancellationCount && currentMax == stats.currentMax && currentAvg == stats.currentAvg;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cancellationCount, currentMax, currentAvg);
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
@@ -60,6 +61,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.ObjectMapper;
 import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.SyntheticSourceLoader;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -83,6 +85,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -96,6 +103,12 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * The minimum number of hits that a partition of a parallel fetch has, below which handing them over to another thread
+     * costs more than it saves.
+     */
+    static final int MIN_DOCS_PER_PARTITION = 100;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -126,20 +139,52 @@ public class FetchPhase {
         // make sure that we iterate in doc id order
         Arrays.sort(docs);
 
-        Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
-        FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
-
-        FetchContext fetchContext = new FetchContext(context);
-
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
+        final Executor executor = context.fetchExecutor();
+        final int numPartitions = executor == null || canFetchConcurrently(context) == false
+            ? 1
+            : numPartitions(docs.length, maxPartitionCount(executor));
+        if (numPartitions <= 1) {
+            Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
+            FetchContext fetchContext = new FetchContext(context);
+            List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+            fetchDocs(context, docs, 0, docs.length, fieldsVisitor, storedToRequestedFields, fetchContext, processors, hits);
+        } else {
+            fetchDocsConcurrently(context, docs, numPartitions, executor, hits);
+        }
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+        }
 
-        List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+    }
 
+    /**
+     * Loads the hits of the documents of the given range of {@code docs}, which is sorted by doc id, into {@code hits}.
+     */
+    private void fetchDocs(
+        SearchContext context,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        FetchContext fetchContext,
+        List<FetchSubPhaseProcessor> processors,
+        SearchHit[] hits
+    ) {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+        final SyntheticSourceLoader syntheticSourceLoader = fieldsVisitor != null && sourceRequired(context)
+            ? context.mapperService().documentMapper().syntheticSourceLoader()
+            : null;
+        SyntheticSourceLoader.Leaf syntheticSource = null;
+        boolean hasSequentialDocs = hasSequentialDocs(docs, from, to);
+        for (int index = from; index < to; index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
             }
@@ -151,7 +196,7 @@ public class FetchPhase {
                     currentReaderIndex = readerIndex;
                     if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
                         && hasSequentialDocs
-                        && docs.length >= 10) {
+                        && to - from >= 10) {
                         // All the docs to fetch are adjacent but Lucene stored fields are optimized
                         // for random access and don't optimize for sequential access - except for merging.
                         // So we do a little hack here and pretend we're going to do merges in order to
@@ -161,6 +206,9 @@ public class FetchPhase {
                     } else {
                         fieldReader = currentReaderContext.reader()::document;
                     }
+                    if (syntheticSourceLoader != null) {
+                        syntheticSource = syntheticSourceLoader.leaf(currentReaderContext.reader());
+                    }
                     for (FetchSubPhaseProcessor processor : processors) {
                         processor.setNextReader(currentReaderContext);
                     }
@@ -173,7 +221,8 @@ public class FetchPhase {
                     docId,
                     storedToRequestedFields,
                     currentReaderContext,
-                    fieldReader
+                    fieldReader,
+                    syntheticSource
                 );
                 for (FetchSubPhaseProcessor processor : processors) {
                     processor.process(hit);
@@ -183,13 +232,90 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+    }
+
+    /**
+     * Splits the documents, sorted by doc id, into contiguous partitions that are fetched in parallel. Each partition has its
+     * own stored fields visitor, {@link SearchLookup} and sub-phase processors since none of them can be shared across threads,
+     * and writes its hits at their original positions so that the order of the hits is preserved. The calling thread fetches
+     * the first partition and then any partition that the executor did not start yet.
+     */
+    private void fetchDocsConcurrently(SearchContext context, DocIdToIndex[] docs, int numPartitions, Executor executor, SearchHit[] hits) {
+        final List<FutureTask<Void>> tasks = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            final int from = (int) ((long) docs.length * i / numPartitions);
+            final int to = (int) ((long) docs.length * (i + 1) / numPartitions);
+            // created on the calling thread, since building the visitor may update the fetch source context
+            final Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            final FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
+            final FetchContext fetchContext = new FetchContext(context);
+            final List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+            tasks.add(new FutureTask<>(() -> {
+                fetchDocs(context, docs, from, to, fieldsVisitor, storedToRequestedFields, fetchContext, processors, hits);
+                return null;
+            }));
+        }
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                // the calling thread fetches the partition below
+            }
+        }
+        // a task that already started or completed does nothing when run again
+        for (FutureTask<Void> task : tasks) {
+            task.run();
         }
 
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+        Throwable failure = null;
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FetchPhaseExecutionException(context.shardTarget(), "Interrupted while running fetch phase", e);
+            } catch (ExecutionException e) {
+                // wait for all partitions before failing, they use resources that are released with the search context
+                if (failure == null) {
+                    failure = e.getCause();
+                } else if (failure != e.getCause()) {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", failure);
+        }
+    }
+
+    /**
+     * Whether the hits of this context can be fetched by several threads. Script fields share the leaf lookups of the
+     * search context and inner hits share their sub-contexts across hits, so both are fetched by a single thread.
+     */
+    static boolean canFetchConcurrently(SearchContext context) {
+        return context instanceof InnerHitsContext.InnerHitSubContext == false
+            && context.hasScriptFields() == false
+            && context.innerHits().getInnerHits().isEmpty();
+    }
 
+    /**
+     * The number of partitions to fetch the given number of documents in, so that each partition has at least
+     * {@link #MIN_DOCS_PER_PARTITION} documents.
+     */
+    static int numPartitions(int numDocs, int maxPartitionCount) {
+        return Math.max(1, Math.min(maxPartitionCount, numDocs / MIN_DOCS_PER_PARTITION));
+    }
+
+    private static int maxPartitionCount(Executor executor) {
+        // one partition per thread of the executor, more partitions would only queue up behind the others
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        return Runtime.getRuntime().availableProcessors();
     }
 
     List<FetchSubPhaseProcessor> getProcessors(SearchShardTarget target, FetchContext context) {
@@ -291,7 +417,8 @@ public class FetchPhase {
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
         LeafReaderContext subReaderContext,
-        CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldReader
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldReader,
+        SyntheticSourceLoader.Leaf syntheticSource
     ) throws IOException {
         int rootDocId = findRootDocumentIfNested(context, subReaderContext, docId - subReaderContext.docBase);
         if (rootDocId == -1) {
@@ -302,7 +429,8 @@ public class FetchPhase {
                 docId,
                 storedToRequestedFields,
                 subReaderContext,
-                storedFieldReader
+                storedFieldReader,
+                syntheticSource
             );
         } else {
             return prepareNestedHitContext(context, docId, rootDocId, storedToRequestedFields, subReaderContext, storedFieldReader);
@@ -314,7 +442,8 @@ public class FetchPhase {
      * document. This includes the following:
      *   - Adding an initial {@link SearchHit} instance.
      *   - Loading the document source and setting it on {@link SourceLookup}. This allows
-     *     fetch subphases that use the hit context to access the preloaded source.
+     *     fetch subphases that use the hit context to access the preloaded source. The source
+     *     is rebuilt with the given loader when it is synthetic.
      */
     private HitContext prepareNonNestedHitContext(
         SearchContext context,
@@ -323,7 +452,8 @@ public class FetchPhase {
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
         LeafReaderContext subReaderContext,
-        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader,
+        @Nullable SyntheticSourceLoader.Leaf syntheticSource
     ) throws IOException {
         int subDocId = docId - subReaderContext.docBase;
         DocumentMapper documentMapper = context.mapperService().documentMapper();
@@ -348,6 +478,8 @@ public class FetchPhase {
             HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
             if (fieldsVisitor.source() != null) {
                 hitContext.sourceLookup().setSource(fieldsVisitor.source());
+            } else if (syntheticSource != null) {
+                hitContext.sourceLookup().setSource(syntheticSource.source(subDocId));
             }
             return hitContext;
         }
@@ -597,6 +729,14 @@ public class FetchPhase {
      * stored sequentially (Dn = Dn-1 + 1).
      */
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+        return hasSequentialDocs(docs, 0, docs.length);
+    }
+
+    /**
+     * Returns <code>true</code> if the <code>docs</code> of the provided range are
+     * stored sequentially (Dn = Dn-1 + 1).
+     */
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
@@ -35,6 +35,7 @@ package org.opensearch.search.internal;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.CollectionStatistics;
@@ -62,6 +63,7 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -76,11 +78,16 @@ import org.opensearch.search.query.QuerySearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -97,6 +104,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private final int maxSliceCount;
+    private String leafOrderField;
+    private boolean leafOrderReverse;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -123,6 +133,12 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        // one slice per thread of the executor, more slices would only queue up behind the others
+        if (executor instanceof ThreadPoolExecutor) {
+            this.maxSliceCount = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        } else {
+            this.maxSliceCount = Runtime.getRuntime().availableProcessors();
+        }
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -162,6 +178,22 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         this.aggregatedDfs = aggregatedDfs;
     }
 
+    /**
+     * Search the segments in the order of the values that they index in the points of the given field: the segment with
+     * the greatest maximum value first if {@code reverse} is true, or the segment with the lowest minimum value first otherwise.
+     * Searches that sort by this field find their top hits in the first segments, which lets the sorted collectors skip the
+     * documents and segments that cannot compete anymore early. Time-series data is the typical use-case: segments cover
+     * mostly disjoint time ranges, and the latest documents are searched first when sorting by descending timestamp.
+     * Segments whose values may tie are still searched in doc id order, see {@link #sortLeaves}.
+     *
+     * @param field   the field to order segments by, or {@code null} to search the segments in the order of the reader
+     * @param reverse whether segments with greater values go first
+     */
+    public void setLeafOrder(String field, boolean reverse) {
+        this.leafOrderField = field;
+        this.leafOrderReverse = reverse;
+    }
+
     @Override
     public Query rewrite(Query original) throws IOException {
         if (profiler != null) {
@@ -244,13 +276,159 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Runs the query concurrently when this searcher has an executor. Unlike {@link IndexSearcher}, which groups segments
+     * into slices once when it is created, the slices are planned for each query from the number of
+     * documents the query is expected to match on each segment. The calling thread searches the first slice and then any
+     * slice that the executor did not start yet, so that searches still make progress when the executor is busy or rejects
+     * them.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        final Executor executor = getExecutor();
+        if (executor == null || leafContexts.size() <= 1) {
+            return super.search(query, collectorManager);
+        }
+        final C firstCollector = collectorManager.newCollector();
+        final Weight weight = createWeight(rewrite(query), firstCollector.scoreMode(), 1);
+        final int[][] slices = SlicePlanner.plan(leafCosts(weight), maxSliceCount, SlicePlanner.MIN_COST_PER_SLICE);
+        if (slices.length <= 1) {
+            search(leafContexts, weight, firstCollector);
+            return collectorManager.reduce(Collections.singletonList(firstCollector));
+        }
+
+        final List<C> collectors = new ArrayList<>(slices.length);
+        final List<FutureTask<C>> tasks = new ArrayList<>(slices.length);
+        for (int[] slice : slices) {
+            final C collector = collectors.isEmpty() ? firstCollector : collectorManager.newCollector();
+            if (collector.scoreMode() != firstCollector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+            final List<LeafReaderContext> leaves = new ArrayList<>(slice.length);
+            for (int ord : slice) {
+                leaves.add(leafContexts.get(ord));
+            }
+            collectors.add(collector);
+            tasks.add(new FutureTask<>(() -> {
+                search(leaves, weight, collector);
+                return collector;
+            }));
+        }
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                // the calling thread runs the slice below
+            }
+        }
+        // a task that already started or completed does nothing when run again
+        for (FutureTask<C> task : tasks) {
+            task.run();
+        }
+
+        Throwable failure = null;
+        for (FutureTask<C> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            } catch (ExecutionException e) {
+                // wait for all slices before failing, they use resources that are released with the search context
+                if (failure == null) {
+                    failure = e.getCause();
+                } else if (failure != e.getCause()) {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new RuntimeException(failure);
+        }
+        return collectorManager.reduce(collectors);
+    }
+
+    /**
+     * The cost of running the query on each segment: the number of matching documents when the weight can count them
+     * cheaply, or else the number of live documents of the segment.
+     */
+    private long[] leafCosts(Weight weight) throws IOException {
+        final long[] costs = new long[leafContexts.size()];
+        for (int i = 0; i < costs.length; i++) {
+            final LeafReaderContext ctx = leafContexts.get(i);
+            final int count = weight.count(ctx);
+            costs[i] = count >= 0 ? count : ctx.reader().numDocs();
+        }
+        return costs;
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
+        if (leafOrderField != null && leaves.size() > 1) {
+            leaves = sortLeaves(leaves, leafOrderField, leafOrderReverse);
+        }
         for (LeafReaderContext ctx : leaves) { // search each subreader
             searchLeaf(ctx, weight, collector);
         }
     }
 
+    /**
+     * Sorts segments by the bounds of the points of the given field. Sorted collectors break ties on the doc id and assume
+     * that documents are collected in doc id order, so segments whose ranges of values overlap, and might hold documents
+     * with equal values, are grouped and keep their order within their group: only the groups, whose ranges are disjoint,
+     * are reordered. Documents without a value all tie on the missing value, so segments are only reordered if all their
+     * documents have a value. The packed values of points compare as unsigned bytes in the same order as the values they
+     * encode, whatever the numeric type of the field.
+     */
+    static List<LeafReaderContext> sortLeaves(List<LeafReaderContext> leaves, String field, boolean reverse) throws IOException {
+        final byte[][] mins = new byte[leaves.size()][];
+        final byte[][] maxs = new byte[leaves.size()][];
+        final Integer[] byMin = new Integer[leaves.size()];
+        for (int i = 0; i < byMin.length; i++) {
+            final PointValues points = leaves.get(i).reader().getPointValues(field);
+            if (points == null || points.getNumDimensions() != 1 || points.getDocCount() != leaves.get(i).reader().maxDoc()) {
+                return leaves;
+            }
+            mins[i] = points.getMinPackedValue();
+            maxs[i] = points.getMaxPackedValue();
+            byMin[i] = i;
+        }
+        Arrays.sort(byMin, (a, b) -> Arrays.compareUnsigned(mins[a], mins[b]));
+        // groups of segments with overlapping ranges, in ascending order of their values
+        final List<List<Integer>> groups = new ArrayList<>();
+        byte[] groupMax = null;
+        for (int ord : byMin) {
+            if (groupMax == null || Arrays.compareUnsigned(mins[ord], groupMax) > 0) {
+                groups.add(new ArrayList<>());
+                groupMax = maxs[ord];
+            } else if (Arrays.compareUnsigned(maxs[ord], groupMax) > 0) {
+                groupMax = maxs[ord];
+            }
+            groups.get(groups.size() - 1).add(ord);
+        }
+        if (groups.size() == 1) {
+            return leaves;
+        }
+        if (reverse) {
+            Collections.reverse(groups);
+        }
+        final List<LeafReaderContext> sorted = new ArrayList<>(leaves.size());
+        for (List<Integer> group : groups) {
+            Collections.sort(group);
+            for (int ord : group) {
+                sorted.add(leaves.get(ord));
+            }
+        }
+        return sorted;
+    }
+
     /**
      * Lower-level search API.
      *
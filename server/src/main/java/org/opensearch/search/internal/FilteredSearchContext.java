@@ -69,6 +69,7 @@ import org.opensearch.search.suggest.SuggestionSearchContext;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Context used during a filtered search
@@ -238,6 +239,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.searcher();
     }
 
+    @Override
+    public Executor fetchExecutor() {
+        return in.fetchExecutor();
+    }
+
+    @Override
+    public void fetchExecutor(Executor fetchExecutor) {
+        in.fetchExecutor(fetchExecutor);
+    }
+
     @Override
     public IndexShard indexShard() {
         return in.indexShard();
@@ -77,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -96,6 +97,7 @@ public abstract class SearchContext implements Releasable {
     private final List<Releasable> releasables = new CopyOnWriteArrayList<>();
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private InnerHitsContext innerHitsContext;
+    private Executor fetchExecutor;
 
     protected SearchContext() {}
 
@@ -235,6 +237,18 @@ public abstract class SearchContext implements Releasable {
 
     public abstract ContextIndexSearcher searcher();
 
+    /**
+     * The executor that the fetch phase may fetch partitions of the hits on, or {@code null} to fetch all of them on the
+     * calling thread.
+     */
+    public Executor fetchExecutor() {
+        return fetchExecutor;
+    }
+
+    public void fetchExecutor(Executor fetchExecutor) {
+        this.fetchExecutor = fetchExecutor;
+    }
+
     public abstract IndexShard indexShard();
 
     public abstract MapperService mapperService();
@@ -96,6 +96,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
     private final Scroll scroll;
     private final float indexBoost;
     private final Boolean requestCache;
+    private final Boolean concurrentSegmentSearch;
     private final long nowInMillis;
     private long inboundNetworkTime;
     private long outboundNetworkTime;
@@ -159,6 +160,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             searchRequest.searchType(),
             searchRequest.source(),
             searchRequest.requestCache(),
+            searchRequest.concurrentSegmentSearch(),
             aliasFilter,
             indexBoost,
             searchRequest.allowPartialSearchResults(),
@@ -183,6 +185,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             SearchType.QUERY_THEN_FETCH,
             null,
             null,
+            null,
             aliasFilter,
             1.0f,
             false,
@@ -203,6 +206,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         SearchType searchType,
         SearchSourceBuilder source,
         Boolean requestCache,
+        Boolean concurrentSegmentSearch,
         AliasFilter aliasFilter,
         float indexBoost,
         boolean allowPartialSearchResults,
@@ -219,6 +223,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.searchType = searchType;
         this.source = source;
         this.requestCache = requestCache;
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
         this.aliasFilter = aliasFilter;
         this.indexBoost = indexBoost;
         this.allowPartialSearchResults = allowPartialSearchResults;
@@ -279,6 +284,11 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             this.readerId = null;
             this.keepAlive = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            concurrentSegmentSearch = in.readOptionalBoolean();
+        } else {
+            concurrentSegmentSearch = null;
+        }
         originalIndices = OriginalIndices.readOriginalIndices(in);
         assert keepAlive == null || readerId != null : "readerId: " + readerId + " keepAlive: " + keepAlive;
     }
@@ -295,6 +305,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.inboundNetworkTime = clone.inboundNetworkTime;
         this.outboundNetworkTime = clone.outboundNetworkTime;
         this.requestCache = clone.requestCache;
+        this.concurrentSegmentSearch = clone.concurrentSegmentSearch;
         this.clusterAlias = clone.clusterAlias;
         this.allowPartialSearchResults = clone.allowPartialSearchResults;
         this.indexRoutings = clone.indexRoutings;
@@ -351,6 +362,10 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             out.writeOptionalWriteable(readerId);
             out.writeOptionalTimeValue(keepAlive);
         }
+        // searching segments concurrently does not change the response, so it is not part of the cache key
+        if (out.getVersion().onOrAfter(Version.V_3_0_0) && asKey == false) {
+            out.writeOptionalBoolean(concurrentSegmentSearch);
+        }
     }
 
     @Override
@@ -425,6 +440,13 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         return requestCache;
     }
 
+    /**
+     * Whether the segments of the shard should be searched concurrently, or null to use the cluster level setting
+     */
+    public Boolean concurrentSegmentSearch() {
+        return concurrentSegmentSearch;
+    }
+
     public boolean allowPartialSearchResults() {
         return allowPartialSearchResults;
     }
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import java.util.Arrays;
+
+/**
+ * Groups the segments of a shard into the slices that a concurrent search runs in parallel. Slices are sized by the
+ * estimated cost of running the query on each segment rather than by segment boundaries: the number of slices grows with
+ * the total cost, one slice per {@link #MIN_COST_PER_SLICE}, so that cheap queries run on the calling thread only, and the
+ * segments are spread over the slices so that each slice has about the same cost.
+ *
+ * @opensearch.internal
+ */
+final class SlicePlanner {
+
+    /**
+     * The cost, in number of documents to match, below which splitting the work in another slice does not pay for the
+     * overhead of handing it over to another thread.
+     */
+    static final long MIN_COST_PER_SLICE = 50_000;
+
+    private SlicePlanner() {}
+
+    /**
+     * Returns the ordinals of the segments of each slice, in increasing order.
+     *
+     * @param costs           the estimated cost of running the query on each segment
+     * @param maxSliceCount   the maximum number of slices
+     * @param minCostPerSlice the minimum total cost of a slice
+     */
+    static int[][] plan(long[] costs, int maxSliceCount, long minCostPerSlice) {
+        long totalCost = 0;
+        for (long cost : costs) {
+            assert cost >= 0 : cost;
+            totalCost += cost;
+        }
+        final int sliceCount = (int) Math.min(costs.length, Math.max(1, Math.min(maxSliceCount, totalCost / minCostPerSlice)));
+
+        // assign the segments from the most to the least expensive to the slice with the lowest cost so far, empty slices first
+        final Integer[] order = new Integer[costs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(costs[b], costs[a]));
+        final int[] sliceOf = new int[costs.length];
+        final long[] sliceCosts = new long[sliceCount];
+        final int[] sliceSizes = new int[sliceCount];
+        for (int segment : order) {
+            int slice = 0;
+            for (int i = 1; i < sliceCount; i++) {
+                if (sliceSizes[slice] > 0 && (sliceSizes[i] == 0 || sliceCosts[i] < sliceCosts[slice])) {
+                    slice = i;
+                }
+            }
+            sliceOf[segment] = slice;
+            sliceCosts[slice] += costs[segment];
+            sliceSizes[slice]++;
+        }
+
+        final int[][] slices = new int[sliceCount][];
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new int[sliceSizes[i]];
+        }
+        final int[] upto = new int[sliceCount];
+        for (int segment = 0; segment < costs.length; segment++) {
+            final int slice = sliceOf[segment];
+            slices[slice][upto[slice]++] = segment;
+        }
+        return slices;
+    }
+}
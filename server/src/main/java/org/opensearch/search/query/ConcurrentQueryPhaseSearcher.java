@@ -26,7 +26,10 @@ import org.opensearch.search.query.QueryPhase.TimeExceededException;
 
 /**
  * The implementation of the {@link QueryPhaseSearcher} which attempts to use concurrent
- * search of Apache Lucene segments if it has been enabled.
+ * search of Apache Lucene segments if it has been enabled, which is the case when the
+ * {@link ContextIndexSearcher} of the request has an executor.
+ *
+ * @opensearch.internal
  */
 public class ConcurrentQueryPhaseSearcher extends DefaultQueryPhaseSearcher {
     private static final Logger LOGGER = LogManager.getLogger(ConcurrentQueryPhaseSearcher.class);
@@ -47,14 +50,19 @@ public class ConcurrentQueryPhaseSearcher extends DefaultQueryPhaseSearcher {
     ) throws IOException {
         boolean couldUseConcurrentSegmentSearch = allowConcurrentSegmentSearch(searcher);
 
-        // TODO: support aggregations
-        if (searchContext.aggregations() != null) {
-            couldUseConcurrentSegmentSearch = false;
-            LOGGER.debug("Unable to use concurrent search over index segments (experimental): aggregations are present");
+        // each slice collects into its own aggregators, unless the aggregations are profiled or need to see the whole shard
+        if (couldUseConcurrentSegmentSearch && searchContext.aggregations() != null) {
+            if (searchContext.getProfilers() != null) {
+                couldUseConcurrentSegmentSearch = false;
+                LOGGER.debug("Unable to use concurrent search over index segments: aggregations are profiled");
+            } else if (searchContext.aggregations().factories().supportsConcurrentSegmentSearch() == false) {
+                couldUseConcurrentSegmentSearch = false;
+                LOGGER.debug("Unable to use concurrent search over index segments: aggregations do not support it");
+            }
         }
 
         if (couldUseConcurrentSegmentSearch) {
-            LOGGER.debug("Using concurrent search over index segments (experimental)");
+            LOGGER.debug("Using concurrent search over index segments");
             return searchWithCollectorManager(searchContext, searcher, query, collectors, hasFilterCollector, hasTimeout);
         } else {
             return super.searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, hasTimeout);
@@ -77,21 +85,19 @@ public class ConcurrentQueryPhaseSearcher extends DefaultQueryPhaseSearcher {
         final QuerySearchResult queryResult = searchContext.queryResult();
         final CollectorManager<?, ReduceableSearchResult> collectorManager;
 
-        // TODO: support aggregations in concurrent segment search flow
-        if (searchContext.aggregations() != null) {
-            throw new UnsupportedOperationException("The concurrent segment search does not support aggregations yet");
-        }
-
         if (searchContext.getProfilers() != null) {
             final ProfileCollectorManager<? extends Collector, ReduceableSearchResult> profileCollectorManager =
                 QueryCollectorManagerContext.createQueryCollectorManagerWithProfiler(collectorContexts);
             searchContext.getProfilers().getCurrentQueryProfiler().setCollector(profileCollectorManager);
             collectorManager = profileCollectorManager;
         } else {
-            // Create multi collector manager instance
-            collectorManager = QueryCollectorManagerContext.createMultiCollectorManager(collectorContexts);
+            collectorManager = QueryCollectorManagerContext.createQueryCollectorManager(collectorContexts);
         }
 
+        final String leafOrderField = searchContext.size() > 0 ? QueryPhase.numericSortField(searchContext.sort()) : null;
+        if (leafOrderField != null) {
+            searcher.setLeafOrder(leafOrderField, searchContext.sort().sort.getSort()[0].getReverse());
+        }
         try {
             final ReduceableSearchResult result = searcher.search(query, collectorManager);
             result.reduce(queryResult);
@@ -104,6 +110,10 @@ public class ConcurrentQueryPhaseSearcher extends DefaultQueryPhaseSearcher {
                 throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
             }
             queryResult.searchTimedOut(true);
+        } finally {
+            if (leafOrderField != null) {
+                searcher.setLeafOrder(null, false);
+            }
         }
         if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER && queryResult.terminatedEarly() == null) {
             queryResult.terminatedEarly(false);
@@ -215,7 +215,7 @@ public abstract class QueryCollectorContext {
                 final List<CollectorManager<?, ReduceableSearchResult>> managers = new ArrayList<>();
                 managers.add(in);
                 managers.addAll(subs);
-                return QueryCollectorManagerContext.createOpaqueCollectorManager(managers);
+                return QueryCollectorManagerContext.createMultiCollectorManager(managers);
             }
         };
     }
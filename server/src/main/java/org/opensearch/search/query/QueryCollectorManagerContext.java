@@ -15,7 +15,6 @@ import org.opensearch.search.profile.query.InternalProfileCollectorManager;
 import org.opensearch.search.profile.query.ProfileCollectorManager;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -59,35 +58,25 @@ public abstract class QueryCollectorManagerContext {
         }
     }
 
-    private static class OpaqueQueryCollectorManager extends QueryCollectorManager {
-        private OpaqueQueryCollectorManager(Collection<CollectorManager<? extends Collector, ReduceableSearchResult>> managers) {
-            super(managers);
-        }
-
-        @Override
-        protected ReduceableSearchResult reduceWith(final ReduceableSearchResult[] results) {
-            return (QuerySearchResult result) -> {};
-        }
-    }
-
-    public static CollectorManager<? extends Collector, ReduceableSearchResult> createOpaqueCollectorManager(
+    public static CollectorManager<? extends Collector, ReduceableSearchResult> createMultiCollectorManager(
         List<CollectorManager<? extends Collector, ReduceableSearchResult>> managers
     ) throws IOException {
-        return new OpaqueQueryCollectorManager(managers);
+        return new QueryCollectorManager(managers);
     }
 
-    public static CollectorManager<? extends Collector, ReduceableSearchResult> createMultiCollectorManager(
+    /**
+     * Creates the collector manager tree from the provided <code>collectors</code>, every manager wraps the previous one
+     * and reduces it as part of its own reduction
+     * @param collectors Ordered list of collector context
+     */
+    public static CollectorManager<? extends Collector, ReduceableSearchResult> createQueryCollectorManager(
         List<QueryCollectorContext> collectors
     ) throws IOException {
-        final Collection<CollectorManager<? extends Collector, ReduceableSearchResult>> managers = new ArrayList<>();
-
         CollectorManager<?, ReduceableSearchResult> manager = null;
         for (QueryCollectorContext ctx : collectors) {
             manager = ctx.createManager(manager);
-            managers.add(manager);
         }
-
-        return new QueryCollectorManager(managers);
+        return manager;
     }
 
     public static ProfileCollectorManager<? extends Collector, ReduceableSearchResult> createQueryCollectorManagerWithProfiler(
@@ -47,6 +47,8 @@ import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.search.SearchShardTask;
@@ -345,6 +347,11 @@ public class QueryPhase {
             queryCollector = QueryCollectorContext.createQueryCollector(collectors);
         }
         QuerySearchResult queryResult = searchContext.queryResult();
+        final String leafOrderField = searchContext.size() > 0 ? numericSortField(searchContext.sort()) : null;
+        if (leafOrderField != null) {
+            // search first the segments that hold the top hits, such as the latest segments of time-series data
+            searcher.setLeafOrder(leafOrderField, searchContext.sort().sort.getSort()[0].getReverse());
+        }
         try {
             searcher.search(query, queryCollector);
         } catch (EarlyTerminatingCollector.EarlyTerminationException e) {
@@ -356,6 +363,10 @@ public class QueryPhase {
                 throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
             }
             queryResult.searchTimedOut(true);
+        } finally {
+            if (leafOrderField != null) {
+                searcher.setLeafOrder(null, false);
+            }
         }
         if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER && queryResult.terminatedEarly() == null) {
             queryResult.terminatedEarly(false);
@@ -382,6 +393,28 @@ public class QueryPhase {
         }
     }
 
+    /**
+     * Returns the field of the primary sort if it sorts by the values of a numeric field, <code>null</code> otherwise.
+     */
+    static String numericSortField(SortAndFormats sortAndFormats) {
+        if (sortAndFormats == null || sortAndFormats.sort == null) {
+            return null;
+        }
+        final SortField sortField = sortAndFormats.sort.getSort()[0];
+        final SortField.Type type = sortField instanceof SortedNumericSortField
+            ? ((SortedNumericSortField) sortField).getNumericType()
+            : sortField.getType();
+        switch (type) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return sortField.getField();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Returns whether collection within the provided <code>reader</code> can be early-terminated if it sorts
      * with <code>sortAndFormats</code>.
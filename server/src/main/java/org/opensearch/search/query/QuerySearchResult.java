@@ -35,6 +35,7 @@ package org.opensearch.search.query;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -88,6 +89,7 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private String readerGeneration;
 
     private final boolean isNull;
 
@@ -332,6 +334,20 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the generation of the reader that this result was computed on, see
+     * {@link org.opensearch.search.SearchService#readerGeneration}, or {@code null} if the result depends on more than the
+     * content of the reader, for instance because the request uses {@code now}.
+     */
+    public String readerGeneration() {
+        return readerGeneration;
+    }
+
+    public QuerySearchResult readerGeneration(String readerGeneration) {
+        this.readerGeneration = readerGeneration;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -383,6 +399,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
             setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
             setRescoreDocIds(new RescoreDocIds(in));
         }
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            readerGeneration = in.readOptionalString();
+        }
     }
 
     @Override
@@ -458,6 +477,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
             out.writeOptionalWriteable(getShardSearchRequest());
             getRescoreDocIds().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeOptionalString(readerGeneration);
+        }
     }
 
     public TotalHits getTotalHits() {
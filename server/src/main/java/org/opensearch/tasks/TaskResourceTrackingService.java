@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.opensearch.tasks.ResourceStatsType.WORKER_STATS;
 
@@ -50,6 +51,7 @@ public class TaskResourceTrackingService implements RunnableTaskExecutionListene
     private static final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
 
     private final ConcurrentMapLong<Task> resourceAwareTasks = ConcurrentCollections.newConcurrentMapLongWithAggressiveConcurrency();
+    private final List<TaskCompletionListener> taskCompletionListeners = new CopyOnWriteArrayList<>();
     private final ThreadPool threadPool;
     private volatile boolean taskResourceTrackingEnabled;
 
@@ -116,6 +118,21 @@ public class TaskResourceTrackingService implements RunnableTaskExecutionListene
         } finally {
             resourceAwareTasks.remove(task.getId());
         }
+
+        for (TaskCompletionListener listener : taskCompletionListeners) {
+            try {
+                listener.onTaskCompleted(task);
+            } catch (Exception e) {
+                logger.warn("failed to notify task completion listener", e);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is notified when tracked tasks complete.
+     */
+    public void addTaskCompletionListener(TaskCompletionListener listener) {
+        taskCompletionListeners.add(listener);
     }
 
     /**
@@ -228,6 +245,14 @@ public class TaskResourceTrackingService implements RunnableTaskExecutionListene
         return activeThreads;
     }
 
+    /**
+     * Listener that is notified when a tracked task completes, with its final resource usage.
+     */
+    @FunctionalInterface
+    public interface TaskCompletionListener {
+        void onTaskCompleted(Task task);
+    }
+
     /**
      * Adds Task Id in the ThreadContext.
      * <p>
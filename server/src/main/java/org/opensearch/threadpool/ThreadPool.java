@@ -98,6 +98,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String WRITE = "write";
         public static final String SEARCH = "search";
         public static final String SEARCH_THROTTLED = "search_throttled";
+        public static final String SEARCH_HEAVY = "search_heavy";
+        public static final String INDEX_SEARCHER = "index_searcher";
+        public static final String SEARCH_REDUCE = "search_reduce";
         public static final String MANAGEMENT = "management";
         public static final String FLUSH = "flush";
         public static final String REFRESH = "refresh";
@@ -170,6 +173,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         map.put(Names.FETCH_SHARD_STARTED, ThreadPoolType.SCALING);
         map.put(Names.FETCH_SHARD_STORE, ThreadPoolType.SCALING);
         map.put(Names.SEARCH_THROTTLED, ThreadPoolType.RESIZABLE);
+        map.put(Names.SEARCH_HEAVY, ThreadPoolType.RESIZABLE);
+        map.put(Names.INDEX_SEARCHER, ThreadPoolType.FIXED);
+        map.put(Names.SEARCH_REDUCE, ThreadPoolType.SCALING);
         map.put(Names.SYSTEM_READ, ThreadPoolType.FIXED);
         map.put(Names.SYSTEM_WRITE, ThreadPoolType.FIXED);
         THREAD_POOL_TYPES = Collections.unmodifiableMap(map);
@@ -225,6 +231,21 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             new ResizableExecutorBuilder(settings, Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, runnableTaskListener)
         );
         builders.put(Names.SEARCH_THROTTLED, new ResizableExecutorBuilder(settings, Names.SEARCH_THROTTLED, 1, 100, runnableTaskListener));
+        builders.put(
+            Names.SEARCH_HEAVY,
+            new ResizableExecutorBuilder(
+                settings,
+                Names.SEARCH_HEAVY,
+                searchHeavyThreadPoolSize(allocatedProcessors),
+                100,
+                runnableTaskListener
+            )
+        );
+        builders.put(Names.INDEX_SEARCHER, new FixedExecutorBuilder(settings, Names.INDEX_SEARCHER, allocatedProcessors, 1000));
+        builders.put(
+            Names.SEARCH_REDUCE,
+            new ScalingExecutorBuilder(Names.SEARCH_REDUCE, 1, allocatedProcessors, TimeValue.timeValueMinutes(5))
+        );
         builders.put(Names.MANAGEMENT, new ScalingExecutorBuilder(Names.MANAGEMENT, 1, 5, TimeValue.timeValueMinutes(5)));
         // no queue as this means clients will need to handle rejections on listener queue even if the operation succeeded
         // the assumption here is that the listeners should be very lightweight on the listeners side
@@ -513,6 +534,14 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         return ((allocatedProcessors * 3) / 2) + 1;
     }
 
+    /**
+     * The size of the thread pool that runs the heavy search requests that admission control throttles, a quarter of the search
+     * thread pool so that they leave most of the node to the other requests.
+     */
+    static int searchHeavyThreadPoolSize(final int allocatedProcessors) {
+        return Math.max(1, searchThreadPoolSize(allocatedProcessors) / 4);
+    }
+
     class LoggingRunnable implements Runnable {
 
         private final Runnable runnable;
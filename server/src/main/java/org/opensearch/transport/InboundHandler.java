@@ -61,6 +61,11 @@ public class InboundHandler {
 
     private static final Logger logger = LogManager.getLogger(InboundHandler.class);
 
+    /**
+     * The transient header that holds the address that a request was received from
+     */
+    public static final String REMOTE_ADDRESS_TRANSIENT = "_remote_address";
+
     private final ThreadPool threadPool;
     private final OutboundHandler outboundHandler;
     private final NamedWriteableRegistry namedWriteableRegistry;
@@ -127,7 +132,7 @@ public class InboundHandler {
         try (ThreadContext.StoredContext existing = threadContext.stashContext()) {
             // Place the context with the headers from the message
             threadContext.setHeaders(header.getHeaders());
-            threadContext.putTransient("_remote_address", remoteAddress);
+            threadContext.putTransient(REMOTE_ADDRESS_TRANSIENT, remoteAddress);
             if (header.isRequest()) {
                 handleRequest(channel, header, message);
             } else {
@@ -50,6 +50,10 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.backpressure.SearchBackpressureMode;
+import org.opensearch.search.backpressure.stats.SearchBackpressureStats;
+import org.opensearch.search.backpressure.stats.SearchBackpressureTaskStats;
+import org.opensearch.search.backpressure.trackers.TaskResourceUsageTracker;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -390,6 +394,7 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
                     });
                 }
+                assertEquals(nodeStats.getSearchBackpressureStats(), deserializedNodeStats.getSearchBackpressureStats());
                 ScriptCacheStats scriptCacheStats = nodeStats.getScriptCacheStats();
                 ScriptCacheStats deserializedScriptCacheStats = deserializedNodeStats.getScriptCacheStats();
                 if (scriptCacheStats == null) {
@@ -690,6 +695,14 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        SearchBackpressureStats searchBackpressureStats = null;
+        if (frequently()) {
+            searchBackpressureStats = new SearchBackpressureStats(
+                randomFrom(SearchBackpressureMode.values()),
+                randomSearchBackpressureTaskStats(),
+                randomSearchBackpressureTaskStats()
+            );
+        }
         // TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(
             node,
@@ -709,10 +722,25 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats,
             scriptCacheStats,
             null,
-            null
+            null,
+            searchBackpressureStats
         );
     }
 
+    private static SearchBackpressureTaskStats randomSearchBackpressureTaskStats() {
+        Map<String, TaskResourceUsageTracker.Stats> trackerStats = new HashMap<>();
+        for (String tracker : new String[] {
+            TaskResourceUsageTracker.CPU_USAGE_TRACKER,
+            TaskResourceUsageTracker.HEAP_USAGE_TRACKER,
+            TaskResourceUsageTracker.ELAPSED_TIME_TRACKER }) {
+            trackerStats.put(
+                tracker,
+                new TaskResourceUsageTracker.Stats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            );
+        }
+        return new SearchBackpressureTaskStats(randomNonNegativeLong(), randomNonNegativeLong(), trackerStats);
+    }
+
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
         return pipelineStats.stream().filter(p1 -> p1.getPipelineId().equals(id)).findFirst().map(p2 -> p2.getStats()).orElse(null);
     }
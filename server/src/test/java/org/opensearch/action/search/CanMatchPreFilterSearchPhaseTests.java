@@ -136,7 +136,9 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                     latch.countDown();
                 }
             },
-            SearchResponse.Clusters.EMPTY
+            SearchResponse.Clusters.EMPTY,
+            new ShardFieldBoundsCache(0),
+            null
         );
 
         canMatchPhase.start();
@@ -227,7 +229,9 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                     latch.countDown();
                 }
             },
-            SearchResponse.Clusters.EMPTY
+            SearchResponse.Clusters.EMPTY,
+            new ShardFieldBoundsCache(0),
+            null
         );
 
         canMatchPhase.start();
@@ -344,7 +348,9 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                     }
                 }
             },
-            SearchResponse.Clusters.EMPTY
+            SearchResponse.Clusters.EMPTY,
+            new ShardFieldBoundsCache(0),
+            null
         );
 
         canMatchPhase.start();
@@ -428,7 +434,9 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         latch.countDown();
                     }
                 },
-                SearchResponse.Clusters.EMPTY
+                SearchResponse.Clusters.EMPTY,
+                new ShardFieldBoundsCache(0),
+                null
             );
 
             canMatchPhase.start();
@@ -527,7 +535,9 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         latch.countDown();
                     }
                 },
-                SearchResponse.Clusters.EMPTY
+                SearchResponse.Clusters.EMPTY,
+                new ShardFieldBoundsCache(0),
+                null
             );
 
             canMatchPhase.start();
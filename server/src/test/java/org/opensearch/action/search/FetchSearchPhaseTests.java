@@ -38,6 +38,7 @@ import org.apache.lucene.tests.store.MockDirectoryWrapper;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
@@ -46,6 +47,10 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
@@ -55,6 +60,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.transport.Transport;
 
+import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -590,4 +596,67 @@ public class FetchSearchPhaseTests extends OpenSearchTestCase {
         assertEquals(1, mockSearchPhaseContext.releasedSearchContexts.size());
         assertTrue(mockSearchPhaseContext.releasedSearchContexts.contains(ctx1));
     }
+
+    public void testStreamingReduceReportsLeftOutShardsAsFailures() {
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(3);
+        mockSearchPhaseContext.getRequest().source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max")));
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            s -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        QueryPhaseResultConsumer results = controller.newSearchPhaseResults(
+            OpenSearchExecutors.newDirectExecutorService(),
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            SearchProgressListener.NOOP,
+            mockSearchPhaseContext.getRequest(),
+            3,
+            exc -> {},
+            true,
+            1
+        );
+        for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+            QuerySearchResult queryResult = new QuerySearchResult(
+                new ShardSearchContextId(UUIDs.base64UUID(), shardIndex),
+                new SearchShardTarget("node" + shardIndex, new ShardId("test", "na", shardIndex), null, OriginalIndices.NONE),
+                null
+            );
+            queryResult.topDocs(
+                new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+                new DocValueFormat[0]
+            );
+            if (shardIndex > 0) {
+                // the results without aggregations fit within the memory limit
+                queryResult.aggregations(
+                    InternalAggregations.from(
+                        Collections.singletonList(new InternalMax("max", shardIndex, DocValueFormat.RAW, Collections.emptyMap()))
+                    )
+                );
+            }
+            queryResult.setShardIndex(shardIndex);
+            results.consumeResult(queryResult, () -> {});
+        }
+
+        FetchSearchPhase phase = new FetchSearchPhase(
+            results,
+            controller,
+            null,
+            mockSearchPhaseContext,
+            (searchResponse, scrollId) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    mockSearchPhaseContext.sendSearchResponse(searchResponse, null);
+                }
+            }
+        );
+        phase.run();
+        SearchResponse searchResponse = mockSearchPhaseContext.searchResponse.get();
+        assertNotNull(searchResponse);
+        assertEquals(2, searchResponse.getFailedShards());
+        assertEquals(1, searchResponse.getSuccessfulShards());
+        for (ShardSearchFailure failure : searchResponse.getShardFailures()) {
+            assertTrue(failure.getCause() instanceof CircuitBreakingException);
+            assertNotEquals(0, failure.shardId());
+        }
+        assertEquals(1, searchResponse.getHits().getTotalHits().value);
+    }
 }
@@ -37,6 +37,7 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.BigArrays;
@@ -45,9 +46,12 @@ import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -63,6 +67,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.instanceOf;
+
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
     private SearchPhaseController searchPhaseController;
@@ -159,6 +165,106 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertEquals(1, searchProgressListener.onFinalReduce.get());
     }
 
+    public void testStreamingMergesEachResult() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")));
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = newStreamingConsumer(searchRequest, -1, onPartialMergeFailure);
+
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            queryPhaseResultConsumer.consumeResult(newResult(i, i), latch::countDown);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        assertEquals(10, queryPhaseResultConsumer.getNumReducePhases());
+
+        SearchPhaseController.ReducedQueryPhase reduce = queryPhaseResultConsumer.reduce();
+        assertEquals(11, reduce.numReducePhases);
+        assertNull(reduce.terminatedEarly);
+        InternalMax max = (InternalMax) reduce.aggregations.asList().get(0);
+        assertEquals(9.0D, max.getValue(), 0.0D);
+    }
+
+    public void testStreamingMaxMemoryWithPartialResults() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")));
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = newStreamingConsumer(searchRequest, 1, onPartialMergeFailure);
+
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            queryPhaseResultConsumer.consumeResult(newResult(i, i), latch::countDown);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+
+        SearchPhaseController.ReducedQueryPhase reduce = queryPhaseResultConsumer.reduce();
+        assertNull(reduce.aggregations);
+        // the shards whose results were left out are reported as failed
+        assertEquals(0, reduce.totalHits.value);
+        assertEquals(10, queryPhaseResultConsumer.getExcludedResults().size());
+        for (Exception e : queryPhaseResultConsumer.getExcludedResults().values()) {
+            assertThat(e, instanceOf(CircuitBreakingException.class));
+        }
+    }
+
+    public void testStreamingMaxMemoryWithoutPartialResults() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")));
+        searchRequest.allowPartialSearchResults(false);
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = newStreamingConsumer(searchRequest, 1, onPartialMergeFailure);
+
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            queryPhaseResultConsumer.consumeResult(newResult(i, i), latch::countDown);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(onPartialMergeFailure.get(), instanceOf(CircuitBreakingException.class));
+        expectThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
+    }
+
+    private QueryPhaseResultConsumer newStreamingConsumer(
+        SearchRequest searchRequest,
+        long maxReduceBytes,
+        AtomicReference<Exception> onPartialMergeFailure
+    ) {
+        return new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            10,
+            e -> onPartialMergeFailure.accumulateAndGet(e, (prev, curr) -> {
+                curr.addSuppressed(prev);
+                return curr;
+            }),
+            true,
+            maxReduceBytes
+        );
+    }
+
+    private static QuerySearchResult newResult(int shardIndex, double max) {
+        SearchShardTarget searchShardTarget = new SearchShardTarget(
+            "node",
+            new ShardId("index", "uuid", shardIndex),
+            null,
+            OriginalIndices.NONE
+        );
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        TopDocs topDocs = new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+        querySearchResult.aggregations(
+            InternalAggregations.from(Collections.singletonList(new InternalMax("test", max, DocValueFormat.RAW, Collections.emptyMap())))
+        );
+        querySearchResult.setSearchShardTarget(searchShardTarget);
+        querySearchResult.setShardIndex(shardIndex);
+        return querySearchResult;
+    }
+
     private static class ThrowingSearchProgressListener extends SearchProgressListener {
         private final AtomicInteger onQueryResult = new AtomicInteger(0);
         private final AtomicInteger onPartialReduce = new AtomicInteger(0);
@@ -121,6 +121,12 @@ public class SearchRequestTests extends AbstractSearchTestCase {
         } else {
             assertNull(deserializedRequest.getCancelAfterTimeInterval());
         }
+
+        if (version.onOrAfter(Version.V_3_0_0)) {
+            assertEquals(searchRequest.concurrentSegmentSearch(), deserializedRequest.concurrentSegmentSearch());
+        } else {
+            assertNull(deserializedRequest.concurrentSegmentSearch());
+        }
     }
 
     public void testIllegalArguments() {
@@ -239,6 +245,11 @@ public class SearchRequestTests extends AbstractSearchTestCase {
         mutators.add(() -> mutation.preference(randomValueOtherThan(searchRequest.preference(), () -> randomAlphaOfLengthBetween(3, 10))));
         mutators.add(() -> mutation.routing(randomValueOtherThan(searchRequest.routing(), () -> randomAlphaOfLengthBetween(3, 10))));
         mutators.add(() -> mutation.requestCache((randomValueOtherThan(searchRequest.requestCache(), OpenSearchTestCase::randomBoolean))));
+        mutators.add(
+            () -> mutation.concurrentSegmentSearch(
+                randomValueOtherThan(searchRequest.concurrentSegmentSearch(), OpenSearchTestCase::randomBoolean)
+            )
+        );
         mutators.add(
             () -> mutation.scroll(
                 randomValueOtherThan(searchRequest.scroll(), () -> new Scroll(new TimeValue(randomNonNegativeLong() % 100000)))
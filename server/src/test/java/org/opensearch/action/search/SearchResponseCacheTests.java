@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SearchResponseCacheTests extends OpenSearchTestCase {
+
+    private static final long HOUR = TimeValue.timeValueHours(1).millis();
+    private static final long NOW = 1_700_000_000_000L;
+
+    public void testCachesUntilShardsRefresh() {
+        final SearchResponseCache cache = newCache(1 << 20);
+        final ClusterState state = clusterState(1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final Map<ShardId, String> generations = Collections.singletonMap(shardId, "alloc:1");
+
+        final SearchResponseCache.Request first = newRequest(cache, state);
+        assertNull(first.get(generations));
+        first.onQueryResults(queryResults(shardId, "alloc:1"), shardIterators(shardId));
+        first.onResponse(response());
+
+        final SearchResponseCache.Request second = newRequest(cache, state);
+        final SearchResponse cached = second.get(generations);
+        assertNotNull(cached);
+        assertEquals(1, cached.getTotalShards());
+        assertEquals(42, SearchResponseCache.withTook(cached, 42).getTook().millis());
+
+        // a refresh of the shard changes its generation
+        assertNull(newRequest(cache, state).get(Collections.singletonMap(shardId, "alloc:2")));
+        // so does a change of the metadata of the index
+        assertNull(newRequest(cache, clusterState(2)).get(generations));
+        // as well as a different request
+        final SearchRequest other = new SearchRequest("index").source(new SearchSourceBuilder().query(QueryBuilders.termQuery("f", "w")));
+        assertNull(cache.newRequest(other, ctx(), state, Collections.singleton("index"), NOW).get(generations));
+        // but not the time of the request if the index does not round now
+        assertNotNull(newRequest(cache, state, NOW + randomLongBetween(1, HOUR * 24)).get(generations));
+    }
+
+    public void testDoesNotCacheResponsesOfOtherGenerations() {
+        final SearchResponseCache cache = newCache(1 << 20);
+        final ClusterState state = clusterState(1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final Map<ShardId, String> generations = Collections.singletonMap(shardId, "alloc:1");
+
+        // the shard refreshed between the can_match and the query phases
+        SearchResponseCache.Request request = newRequest(cache, state);
+        assertNull(request.get(generations));
+        request.onQueryResults(queryResults(shardId, "alloc:2"), shardIterators(shardId));
+        request.onResponse(response());
+        assertNull(newRequest(cache, state).get(generations));
+
+        // the request depends on more than the content of the shard
+        request = newRequest(cache, state);
+        assertNull(request.get(generations));
+        request.onQueryResults(queryResults(shardId, null), shardIterators(shardId));
+        request.onResponse(response());
+        assertNull(newRequest(cache, state).get(generations));
+
+        // a shard did not return results
+        request = newRequest(cache, state);
+        assertNull(request.get(generations));
+        request.onQueryResults(new AtomicArray<>(1), shardIterators(shardId));
+        request.onResponse(response());
+        assertNull(newRequest(cache, state).get(generations));
+
+        // the generation of some shards is unknown
+        request = newRequest(cache, state);
+        assertNull(request.get(null));
+        request.onQueryResults(queryResults(shardId, "alloc:1"), shardIterators(shardId));
+        request.onResponse(response());
+        assertNull(newRequest(cache, state).get(generations));
+    }
+
+    public void testCanCache() {
+        final ClusterState state = clusterState(1);
+        final Set<String> indices = Collections.singleton("index");
+        assertNull(newCache(0).newRequest(new SearchRequest("index"), ctx(), state, indices, NOW));
+        final SearchResponseCache cache = newCache(1 << 20);
+        assertNotNull(cache.newRequest(new SearchRequest("index"), ctx(), state, indices, NOW));
+        assertNull(cache.newRequest(new SearchRequest("index").requestCache(false), ctx(), state, indices, NOW));
+        assertNull(cache.newRequest(new SearchRequest("index").scroll(TimeValue.timeValueMinutes(1)), ctx(), state, indices, NOW));
+        assertNull(cache.newRequest(new SearchRequest("index").searchType(SearchType.DFS_QUERY_THEN_FETCH), ctx(), state, indices, NOW));
+        final SearchRequest profile = new SearchRequest("index").source(new SearchSourceBuilder().profile(true));
+        assertNull(cache.newRequest(profile, ctx(), state, indices, NOW));
+        assertNull(cache.newRequest(new SearchRequest("missing"), ctx(), state, Collections.singleton("missing"), NOW));
+        assertNull(cache.newRequest(new SearchRequest("index").preference("_local"), ctx(), state, indices, NOW));
+        // the response may depend on the documents and fields that the user a plugin authenticated is allowed to see
+        final ThreadContext securityContext = ctx();
+        securityContext.putTransient(randomAlphaOfLength(10), new Object());
+        assertNull(cache.newRequest(new SearchRequest("index"), securityContext, state, indices, NOW));
+        // but the transients that core sets don't matter
+        final ThreadContext coreContext = ctx();
+        coreContext.putTransient(ThreadContext.ACTION_ORIGIN_TRANSIENT_NAME, "origin");
+        coreContext.putTransient(TaskResourceTrackingService.TASK_ID, 1L);
+        assertNotNull(cache.newRequest(new SearchRequest("index"), coreContext, state, indices, NOW));
+    }
+
+    public void testPluginsCanRefuseToCache() {
+        final ClusterState state = clusterState(1);
+        final Set<String> indices = Collections.singleton("index");
+        final SearchResponseCache cache = new SearchResponseCache(
+            1 << 20,
+            writableRegistry(),
+            (request, threadContext) -> threadContext.getHeader("tenant") == null
+        );
+        assertNotNull(cache.newRequest(new SearchRequest("index"), ctx(), state, indices, NOW));
+        final ThreadContext tenantContext = ctx();
+        tenantContext.putHeader("tenant", "tenant");
+        assertNull(cache.newRequest(new SearchRequest("index"), tenantContext, state, indices, NOW));
+    }
+
+    public void testCachesResponsesWithSkippedShards() {
+        final SearchResponseCache cache = newCache(1 << 20);
+        final ClusterState state = clusterState(1);
+        final ShardId queried = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final ShardId skipped = new ShardId(state.metadata().index("index").getIndex(), 1);
+        final Map<ShardId, String> generations = new HashMap<>();
+        generations.put(queried, "alloc:1");
+        generations.put(skipped, randomFrom("alloc:1", "skipped"));
+
+        SearchResponseCache.Request request = newRequest(cache, state);
+        assertNull(request.get(generations));
+        final GroupShardsIterator<SearchShardIterator> shardIts = shardIterators(queried, skipped);
+        shardIts.get(1).resetAndSkip();
+        request.onQueryResults(queryResults(queried, "alloc:1"), shardIts);
+        request.onResponse(response());
+        assertNotNull(newRequest(cache, state).get(generations));
+
+        // a shard that was not skipped must return a result
+        final SearchResponseCache other = newCache(1 << 20);
+        request = newRequest(other, state);
+        assertNull(request.get(generations));
+        request.onQueryResults(queryResults(queried, "alloc:1"), shardIterators(queried, skipped));
+        request.onResponse(response());
+        assertNull(newRequest(other, state).get(generations));
+    }
+
+    public void testRoundedNowIsPartOfTheKey() {
+        final SearchResponseCache cache = newCache(1 << 20);
+        final ClusterState state = clusterState(
+            1,
+            Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), "1h").build()
+        );
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final Map<ShardId, String> generations = Collections.singletonMap(shardId, "alloc:1");
+        final long startOfHour = NOW - NOW % HOUR;
+
+        final SearchResponseCache.Request request = newRequest(cache, state, startOfHour + randomLongBetween(0, HOUR / 2));
+        assertNull(request.get(generations));
+        request.onQueryResults(queryResults(shardId, "alloc:1"), shardIterators(shardId));
+        request.onResponse(response());
+
+        // shards round now to the same time until the end of the hour
+        assertNotNull(newRequest(cache, state, startOfHour + randomLongBetween(HOUR / 2, HOUR - 1)).get(generations));
+        // and to a different one afterwards, even if they did not refresh
+        assertNull(newRequest(cache, state, startOfHour + HOUR + randomLongBetween(0, HOUR - 1)).get(generations));
+        assertNull(newRequest(cache, state, startOfHour - randomLongBetween(1, HOUR)).get(generations));
+    }
+
+    private static SearchResponseCache.Request newRequest(SearchResponseCache cache, ClusterState state) {
+        return newRequest(cache, state, NOW);
+    }
+
+    private static SearchResponseCache.Request newRequest(SearchResponseCache cache, ClusterState state, long nowInMillis) {
+        final SearchRequest request = new SearchRequest("index").source(new SearchSourceBuilder().query(QueryBuilders.termQuery("f", "v")));
+        return cache.newRequest(request, ctx(), state, Collections.singleton("index"), nowInMillis);
+    }
+
+    private static ThreadContext ctx() {
+        return new ThreadContext(Settings.EMPTY);
+    }
+
+    private static GroupShardsIterator<SearchShardIterator> shardIterators(ShardId... shardIds) {
+        final List<SearchShardIterator> shardIts = new ArrayList<>();
+        for (ShardId shardId : shardIds) {
+            shardIts.add(new SearchShardIterator(null, shardId, Collections.emptyList(), OriginalIndices.NONE));
+        }
+        return new GroupShardsIterator<>(shardIts);
+    }
+
+    private static AtomicArray<SearchPhaseResult> queryResults(ShardId shardId, String readerGeneration) {
+        final QuerySearchResult result = new QuerySearchResult(
+            new ShardSearchContextId("", 0),
+            new SearchShardTarget("node", shardId, null, OriginalIndices.NONE),
+            null
+        );
+        result.readerGeneration(readerGeneration);
+        final AtomicArray<SearchPhaseResult> results = new AtomicArray<>(1);
+        results.set(0, result);
+        return results;
+    }
+
+    private static SearchResponse response() {
+        return new SearchResponse(
+            InternalSearchResponse.empty(),
+            null,
+            1,
+            1,
+            0,
+            10,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
+    private static ClusterState clusterState(long version) {
+        return clusterState(version, Settings.EMPTY);
+    }
+
+    private static ClusterState clusterState(long version, Settings indexSettings) {
+        final IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, "uuid").put(indexSettings))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .version(version)
+            .build();
+        return ClusterState.builder(new ClusterName("test")).metadata(Metadata.builder().put(indexMetadata, false)).build();
+    }
+
+    private SearchResponseCache newCache(long maxSizeInBytes) {
+        return new SearchResponseCache(maxSizeInBytes, writableRegistry(), (request, threadContext) -> true);
+    }
+}
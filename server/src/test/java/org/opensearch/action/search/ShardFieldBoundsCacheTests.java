@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class ShardFieldBoundsCacheTests extends OpenSearchTestCase {
+
+    private static final String MAPPING = "{\"properties\":{\"@timestamp\":{\"type\":\"date\"},"
+        + "\"event\":{\"properties\":{\"created\":{\"type\":\"date\",\"format\":\"yyyyMMdd\"}}},\"count\":{\"type\":\"long\"}}}";
+
+    // 2022-10-01T00:00:00Z to 2022-10-02T00:00:00Z
+    private static final MinAndMax<Long> BOUNDS = new MinAndMax<>(1664582400000L, 1664668800000L);
+
+    public void testSkipsDisjointShards() throws IOException {
+        final ClusterState state = clusterState(true, 1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final ShardFieldBoundsCache cache = new ShardFieldBoundsCache(100);
+        cache.put(state, shardId, "@timestamp", BOUNDS);
+
+        assertTrue(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+        assertTrue(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").lt("2022-10-01")));
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").lte("2022-10-01")));
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-01T12:00:00")));
+        assertTrue(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("now-1h")));
+        assertTrue(
+            canSkip(
+                cache,
+                state,
+                shardId,
+                QueryBuilders.boolQuery()
+                    .must(QueryBuilders.matchQuery("message", "error"))
+                    .filter(QueryBuilders.rangeQuery("@timestamp").gte("03/10/2022").format("dd/MM/yyyy"))
+            )
+        );
+        assertFalse(
+            canSkip(
+                cache,
+                state,
+                shardId,
+                QueryBuilders.boolQuery()
+                    .should(QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03"))
+                    .should(QueryBuilders.matchAllQuery())
+            )
+        );
+        // invalid dates are left to the shard
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("not a date")));
+        // no cached bounds
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("event.created").gte("20221003")));
+        assertFalse(canSkip(cache, state, new ShardId(shardId.getIndex(), 1), QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+    }
+
+    public void testIgnoresWritableIndices() throws IOException {
+        final ClusterState state = clusterState(false, 1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final ShardFieldBoundsCache cache = new ShardFieldBoundsCache(100);
+        cache.put(state, shardId, "@timestamp", BOUNDS);
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+
+        // bounds learned while the index was writable are not used once it is blocked
+        final ClusterState blocked = clusterState(true, 2);
+        assertFalse(canSkip(cache, blocked, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+    }
+
+    public void testIgnoresBoundsOfPreviousIndexMetadata() throws IOException {
+        final ClusterState state = clusterState(true, 1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final ShardFieldBoundsCache cache = new ShardFieldBoundsCache(100);
+        cache.put(state, shardId, "@timestamp", BOUNDS);
+        assertTrue(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+        assertFalse(canSkip(cache, clusterState(true, 3), shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+    }
+
+    public void testDisabled() throws IOException {
+        final ClusterState state = clusterState(true, 1);
+        final ShardId shardId = new ShardId(state.metadata().index("index").getIndex(), 0);
+        final ShardFieldBoundsCache cache = new ShardFieldBoundsCache(0);
+        cache.put(state, shardId, "@timestamp", BOUNDS);
+        assertFalse(canSkip(cache, state, shardId, QueryBuilders.rangeQuery("@timestamp").gte("2022-10-03")));
+    }
+
+    public void testParseDateFieldType() throws IOException {
+        final IndexMetadata indexMetadata = clusterState(true, 1).metadata().index("index");
+        final DateFieldMapper.DateFieldType timestamp = ShardFieldBoundsCache.parseDateFieldType(indexMetadata.mapping(), "@timestamp");
+        assertNotNull(timestamp);
+        assertEquals(DateFieldMapper.Resolution.MILLISECONDS, timestamp.resolution());
+        final DateFieldMapper.DateFieldType created = ShardFieldBoundsCache.parseDateFieldType(indexMetadata.mapping(), "event.created");
+        assertNotNull(created);
+        assertEquals("yyyyMMdd", created.dateTimeFormatter().pattern());
+        assertNull(ShardFieldBoundsCache.parseDateFieldType(indexMetadata.mapping(), "count"));
+        assertNull(ShardFieldBoundsCache.parseDateFieldType(indexMetadata.mapping(), "event"));
+        assertNull(ShardFieldBoundsCache.parseDateFieldType(indexMetadata.mapping(), "missing.field"));
+    }
+
+    private static boolean canSkip(ShardFieldBoundsCache cache, ClusterState state, ShardId shardId, QueryBuilder query) {
+        // 2022-10-02T12:00:00Z
+        return cache.canSkip(state, shardId, query, () -> 1664712000000L);
+    }
+
+    private static ClusterState clusterState(boolean writeBlock, long version) throws IOException {
+        final IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(
+                settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, "uuid").put(IndexMetadata.SETTING_BLOCKS_WRITE, writeBlock)
+            )
+            .numberOfShards(2)
+            .numberOfReplicas(0)
+            .putMapping(MAPPING)
+            .version(version)
+            .build();
+        return ClusterState.builder(new ClusterName("test"))
+            .metadata(Metadata.builder().put(indexMetadata, false))
+            .blocks(ClusterBlocks.builder().addBlocks(indexMetadata))
+            .build();
+    }
+}
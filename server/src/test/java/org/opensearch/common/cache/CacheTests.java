@@ -418,6 +418,29 @@ public class CacheTests extends OpenSearchTestCase {
         }
     }
 
+    // read the oldest half of the entries, insert as many new entries, then check that only the entries that were not read
+    // were evicted even though many more reads were recorded than a read buffer stripe holds
+    public void testReadsPromote() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().setMaximumWeight(numberOfEntries).build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        int half = numberOfEntries / 2;
+        for (int i = 0; i < half; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        for (int i = numberOfEntries; i < numberOfEntries + half; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(numberOfEntries, cache.count());
+        for (int i = 0; i < half; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        for (int i = half; i < 2 * half; i++) {
+            assertNull(cache.get(i));
+        }
+    }
+
     // randomly invalidate some cached entries, then check that a lookup for each of those and only those keys is null
     public void testInvalidate() {
         Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().build();
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketTests extends OpenSearchTestCase {
+
+    public void testRequest() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(clock::get, 0.5, 2);
+
+        // the bucket starts full
+        assertTrue(bucket.request());
+        assertTrue(bucket.request());
+        assertFalse(bucket.request());
+
+        // and is refilled with the clock
+        clock.addAndGet(1);
+        assertFalse(bucket.request());
+        clock.addAndGet(1);
+        assertTrue(bucket.request());
+        assertFalse(bucket.request());
+
+        // up to the burst
+        clock.addAndGet(100);
+        assertTrue(bucket.request(2));
+        assertFalse(bucket.request());
+    }
+
+    public void testInitialTokens() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(clock::get, 1, 10, 0);
+        assertFalse(bucket.request());
+        clock.addAndGet(3);
+        assertFalse(bucket.request(4));
+        assertTrue(bucket.request(3));
+    }
+
+    public void testHasTokens() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(clock::get, 1, 2, 1);
+        assertTrue(bucket.hasTokens(1));
+        assertFalse(bucket.hasTokens(2));
+
+        // checking leaves the tokens in the bucket
+        assertTrue(bucket.hasTokens(1));
+        assertTrue(bucket.request());
+        assertFalse(bucket.hasTokens(1));
+        clock.addAndGet(1);
+        assertTrue(bucket.hasTokens(1));
+    }
+
+    public void testInvalidArguments() {
+        expectThrows(IllegalArgumentException.class, () -> new TokenBucket(System::nanoTime, 0, 1));
+        expectThrows(IllegalArgumentException.class, () -> new TokenBucket(System::nanoTime, 1, 0));
+        expectThrows(IllegalArgumentException.class, () -> new TokenBucket(System::nanoTime, 1, 1).request(0));
+    }
+}
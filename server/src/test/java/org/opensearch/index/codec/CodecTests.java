@@ -37,6 +37,7 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.lucene94.Lucene94Codec;
 import org.apache.lucene.codecs.lucene90.Lucene90StoredFieldsFormat;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -78,6 +79,36 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsCompressionEquals(Lucene94Codec.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testLZ4HighCompression() throws Exception {
+        Codec codec = createCodecService().codec("lz4_high_compression");
+        assertThat(codec, instanceOf(LZ4HighCompressionCodec.class));
+        assertEquals(LZ4HighCompressionCodec.NAME, codec.getName());
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(null);
+        iwc.setCodec(codec);
+        // keep the order of the documents when merging
+        iwc.setMergePolicy(newLogMergePolicy());
+        IndexWriter iw = new IndexWriter(dir, iwc);
+        int numDocs = randomIntBetween(1, 5000);
+        String[] values = new String[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = randomBoolean() ? randomAlphaOfLengthBetween(0, 100) : randomRealisticUnicodeOfLengthBetween(0, 2000);
+            Document doc = new Document();
+            doc.add(new StoredField("field", values[i]));
+            iw.addDocument(doc);
+        }
+        iw.forceMerge(1);
+        iw.close();
+        DirectoryReader ir = DirectoryReader.open(dir);
+        SegmentReader sr = (SegmentReader) ir.leaves().get(0).reader();
+        assertEquals(LZ4HighCompressionCodec.NAME, sr.getSegmentInfo().info.getCodec().getName());
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals(values[i], ir.document(i).get("field"));
+        }
+        ir.close();
+        dir.close();
+    }
+
     // write some docs with it, inspect .si to see this was the used compression
     private void assertStoredFieldsCompressionEquals(Lucene94Codec.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene94.Lucene94Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@SuppressCodecs("*") // we test against our own codec so never get a random one here!
+public class IdBloomFilterPostingsFormatTests extends OpenSearchTestCase {
+
+    public void testLookups() throws Exception {
+        final Set<String> ids = new HashSet<>();
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(new Lucene94Codec() {
+                final PostingsFormat idPostingsFormat = new IdBloomFilterPostingsFormat(super.getPostingsFormatForField(IdFieldMapper.NAME));
+
+                @Override
+                public PostingsFormat getPostingsFormatForField(String field) {
+                    return IdFieldMapper.NAME.equals(field) ? idPostingsFormat : super.getPostingsFormatForField(field);
+                }
+            });
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                final int numSegments = randomIntBetween(1, 5);
+                for (int i = 0; i < numSegments; i++) {
+                    final int numDocs = randomIntBetween(1, 500);
+                    for (int j = 0; j < numDocs; j++) {
+                        final String id = randomAlphaOfLengthBetween(1, 10);
+                        ids.add(id);
+                        final Document doc = new Document();
+                        doc.add(new StringField(IdFieldMapper.NAME, id, Field.Store.NO));
+                        writer.addDocument(doc);
+                    }
+                    writer.commit();
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (LeafReaderContext context : reader.leaves()) {
+                    final Terms terms = context.reader().terms(IdFieldMapper.NAME);
+                    assertThat(terms, instanceOf(IdBloomFilterPostingsFormat.BloomFilteredTerms.class));
+                    final IdBloomFilterPostingsFormat.BloomFilteredTerms filteredTerms =
+                        (IdBloomFilterPostingsFormat.BloomFilteredTerms) terms;
+
+                    final Set<String> segmentIds = new HashSet<>();
+                    final TermsEnum iterator = terms.iterator();
+                    for (BytesRef term = iterator.next(); term != null; term = iterator.next()) {
+                        segmentIds.add(term.utf8ToString());
+                    }
+
+                    final TermsEnum termsEnum = terms.iterator();
+                    for (String id : segmentIds) {
+                        assertTrue(termsEnum.seekExact(new BytesRef(id)));
+                    }
+                    assertEquals(segmentIds.size(), filteredTerms.lookups());
+                    assertEquals(0, filteredTerms.skippedLookups());
+
+                    // ids that are longer than the indexed ones are never in the segment
+                    final int numMissingLookups = randomIntBetween(100, 1000);
+                    for (int i = 0; i < numMissingLookups; i++) {
+                        assertFalse(termsEnum.seekExact(new BytesRef(randomAlphaOfLength(20))));
+                    }
+                    assertEquals(segmentIds.size() + numMissingLookups, filteredTerms.lookups());
+                    assertThat(filteredTerms.skippedLookups(), lessThanOrEqualTo((long) numMissingLookups));
+                    // the filters are sized for a false positive probability below 1%
+                    assertThat(filteredTerms.skippedLookups(), greaterThan(numMissingLookups / 2L));
+                    // ten bits per document are held on heap, and reported in the segment memory stats
+                    final long filterBytes = (long) context.reader().maxDoc() * IdBloomFilterPostingsFormat.BloomFilter.BITS_PER_TERM
+                        / Byte.SIZE;
+                    assertThat(filteredTerms.ramBytesUsed(), greaterThanOrEqualTo(filterBytes));
+                    assertThat(filteredTerms.ramBytesUsed(), lessThanOrEqualTo(filterBytes + 1024));
+                }
+            }
+        }
+    }
+
+    public void testBloomFilter() {
+        final int numTerms = randomIntBetween(1, 10000);
+        final IdBloomFilterPostingsFormat.BloomFilter filter = new IdBloomFilterPostingsFormat.BloomFilter(numTerms);
+        final Set<BytesRef> terms = new HashSet<>();
+        for (int i = 0; i < numTerms; i++) {
+            final BytesRef term = new BytesRef(randomAlphaOfLengthBetween(1, 10));
+            terms.add(term);
+            filter.add(term);
+        }
+        for (BytesRef term : terms) {
+            assertTrue(filter.mightContain(term));
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.lucene94.Lucene94Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.codec.LZ4HighCompressionCodec;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+@SuppressCodecs("*") // we test against our own codec so never get a random one here!
+public class StarTreeDocValuesFormatTests extends OpenSearchTestCase {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    public void testVisitRecords() throws IOException {
+        final int numDimensions = randomIntBetween(1, 4);
+        final String[] dimensions = new String[numDimensions];
+        final StarTree.DimensionType[] dimensionTypes = new StarTree.DimensionType[numDimensions];
+        for (int dim = 0; dim < numDimensions; dim++) {
+            dimensions[dim] = "dim" + dim;
+            dimensionTypes[dim] = StarTree.DimensionType.ORDINAL;
+        }
+        final StarTreeBuilder builder = new StarTreeBuilder(
+            dimensions,
+            dimensionTypes,
+            HOUR,
+            new String[] { "metric" },
+            randomIntBetween(1, 20),
+            Integer.MAX_VALUE
+        );
+        final int numDocs = randomIntBetween(0, 2000);
+        final List<long[]> docDimensions = new ArrayList<>();
+        final List<double[]> docMetrics = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            final long[] values = new long[numDimensions];
+            for (int dim = 0; dim < numDimensions; dim++) {
+                values[dim] = rarely() ? StarTree.MISSING : randomIntBetween(0, 5);
+            }
+            final int record = builder.addDocument(values);
+            final double[] metrics = new double[randomIntBetween(0, 2)];
+            for (int j = 0; j < metrics.length; j++) {
+                metrics[j] = randomIntBetween(-100, 100);
+                builder.addMetricValue(record, 0, metrics[j]);
+            }
+            docDimensions.add(values);
+            docMetrics.add(metrics);
+        }
+        StarTree starTree = builder.build();
+        if (randomBoolean()) {
+            final ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+            starTree.writeTo(out);
+            starTree = StarTree.readFrom(new ByteBuffersDataInput(out.toBufferList()));
+        }
+
+        final boolean[] groupBy = new boolean[numDimensions];
+        for (int dim = 0; dim < numDimensions; dim++) {
+            groupBy[dim] = randomBoolean();
+        }
+        final Map<List<Long>, double[]> expected = new HashMap<>();
+        for (int i = 0; i < numDocs; i++) {
+            final double[] stats = expected.computeIfAbsent(
+                key(groupBy, docDimensions.get(i)),
+                k -> new double[] { 0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }
+            );
+            stats[0]++;
+            for (double value : docMetrics.get(i)) {
+                stats[1]++;
+                stats[2] += value;
+                stats[3] = Math.min(stats[3], value);
+                stats[4] = Math.max(stats[4], value);
+            }
+        }
+        final Map<List<Long>, double[]> actual = new HashMap<>();
+        final StarTree tree = starTree;
+        tree.visitRecords(groupBy, record -> {
+            final long[] values = new long[numDimensions];
+            for (int dim = 0; dim < numDimensions; dim++) {
+                values[dim] = tree.dimensionValue(dim, record);
+                assertTrue(groupBy[dim] == false || values[dim] != StarTree.STAR);
+            }
+            final double[] stats = actual.computeIfAbsent(
+                key(groupBy, values),
+                k -> new double[] { 0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }
+            );
+            stats[0] += tree.docCount(record);
+            stats[1] += tree.valueCount(0, record);
+            stats[2] += tree.sum(0, record);
+            stats[3] = Math.min(stats[3], tree.min(0, record));
+            stats[4] = Math.max(stats[4], tree.max(0, record));
+        });
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<List<Long>, double[]> entry : expected.entrySet()) {
+            assertArrayEquals(entry.getValue(), actual.get(entry.getKey()), 0d);
+        }
+    }
+
+    private static List<Long> key(boolean[] groupBy, long[] values) {
+        final List<Long> key = new ArrayList<>();
+        for (int dim = 0; dim < groupBy.length; dim++) {
+            if (groupBy[dim]) {
+                key.add(values[dim]);
+            }
+        }
+        return key;
+    }
+
+    public void testCodec() throws IOException {
+        final Map<String, MappedFieldType> fieldTypes = new HashMap<>();
+        fieldTypes.put("keyword", new KeywordFieldMapper.KeywordFieldType("keyword"));
+        fieldTypes.put("date", new DateFieldMapper.DateFieldType("date"));
+        fieldTypes.put("value", new NumberFieldMapper.NumberFieldType("value", NumberFieldMapper.NumberType.DOUBLE));
+        final StarTreeConfig config = new StarTreeConfig(
+            Arrays.asList("keyword", "date"),
+            Arrays.asList("value"),
+            HOUR,
+            randomIntBetween(1, 100),
+            Integer.MAX_VALUE,
+            fieldTypes::get
+        );
+        final boolean lz4HighCompression = randomBoolean();
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(
+                lz4HighCompression
+                    ? new StarTreeLZ4HighCompressionCodec(new LZ4HighCompressionCodec(), config)
+                    : new StarTreeCodec(new Lucene94Codec(), config)
+            );
+            final Map<String, Long> docCounts = new HashMap<>();
+            double sum = 0;
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                final int numSegments = randomIntBetween(1, 5);
+                for (int i = 0; i < numSegments; i++) {
+                    final int numDocs = randomIntBetween(1, 500);
+                    for (int j = 0; j < numDocs; j++) {
+                        final String keyword = randomFrom("a", "b", "c", "d");
+                        final long date = randomLongBetween(0, 48 * HOUR);
+                        final double value = randomIntBetween(0, 1000) / 8d;
+                        final Document doc = new Document();
+                        doc.add(new StringField("id", "doc" + i + "_" + j, Field.Store.YES));
+                        doc.add(new SortedSetDocValuesField("keyword", new BytesRef(keyword)));
+                        doc.add(new SortedNumericDocValuesField("date", date));
+                        doc.add(new SortedNumericDocValuesField("value", NumericUtils.doubleToSortableLong(value)));
+                        writer.addDocument(doc);
+                        docCounts.merge(keyword + "/" + Math.floorDiv(date, HOUR) * HOUR, 1L, Long::sum);
+                        sum += value;
+                    }
+                    writer.commit();
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final Map<String, Long> actualDocCounts = new HashMap<>();
+                double actualSum = 0;
+                for (LeafReaderContext context : reader.leaves()) {
+                    final StarTree starTree = StarTreeDocValuesFormat.getStarTree(context.reader());
+                    assertNotNull(starTree);
+                    assertEquals(starTree.ramBytesUsed(), StarTreeDocValuesFormat.starTreeRamBytesUsed(context.reader()));
+                    assertThat(starTree.ramBytesUsed(), greaterThan(0L));
+                    // the stored fields are read with the stored fields format of the codec that wrote them
+                    assertNotNull(context.reader().document(0).get("id"));
+                    final SortedSetDocValues keywords = context.reader().getSortedSetDocValues("keyword");
+                    final int keywordDim = starTree.dimension("keyword");
+                    final int dateDim = starTree.dimension("date");
+                    final int metric = starTree.metric("value");
+                    final double[] segmentSum = new double[1];
+                    starTree.visitRecords(new boolean[] { true, true }, record -> {
+                        final String keyword = keywords.lookupOrd(starTree.dimensionValue(keywordDim, record)).utf8ToString();
+                        final long date = starTree.dimensionValue(dateDim, record);
+                        actualDocCounts.merge(keyword + "/" + date, starTree.docCount(record), Long::sum);
+                        segmentSum[0] += starTree.sum(metric, record);
+                    });
+                    actualSum += segmentSum[0];
+                }
+                assertEquals(docCounts, actualDocCounts);
+                assertEquals(sum, actualSum, 0d);
+            }
+
+            final IndexWriterConfig deleteConfig = newIndexWriterConfig(null).setCodec(new StarTreeCodec(new Lucene94Codec(), config));
+            try (IndexWriter writer = new IndexWriter(dir, deleteConfig)) {
+                writer.deleteDocuments(new Term("id", "doc0_0"));
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (LeafReaderContext context : reader.leaves()) {
+                    if (context.reader().hasDeletions()) {
+                        // the tree still counts the deleted document
+                        assertNull(StarTreeDocValuesFormat.getStarTree(context.reader()));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testMultiValuedDimension() throws IOException {
+        final Map<String, MappedFieldType> fieldTypes = new HashMap<>();
+        fieldTypes.put("keyword", new KeywordFieldMapper.KeywordFieldType("keyword"));
+        final StarTreeConfig config = new StarTreeConfig(Arrays.asList("keyword"), Arrays.asList(), HOUR, 10, 100, fieldTypes::get);
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(new StarTreeCodec(new Lucene94Codec(), config));
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                final Document doc = new Document();
+                doc.add(new SortedSetDocValuesField("keyword", new BytesRef("a")));
+                doc.add(new SortedSetDocValuesField("keyword", new BytesRef("b")));
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertNull(StarTreeDocValuesFormat.getStarTree(reader.leaves().get(0).reader()));
+            }
+        }
+    }
+
+    public void testMaxRecords() throws IOException {
+        final Map<String, MappedFieldType> fieldTypes = new HashMap<>();
+        fieldTypes.put("keyword", new KeywordFieldMapper.KeywordFieldType("keyword"));
+        final int maxRecords = randomIntBetween(1, 20);
+        final StarTreeConfig config = new StarTreeConfig(Arrays.asList("keyword"), Arrays.asList(), HOUR, 100, maxRecords, fieldTypes::get);
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(new StarTreeCodec(new Lucene94Codec(), config));
+            final int numValues = randomIntBetween(1, 2 * maxRecords);
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                for (int i = 0; i < numValues; i++) {
+                    final Document doc = new Document();
+                    doc.add(new SortedSetDocValuesField("keyword", new BytesRef("value" + i)));
+                    writer.addDocument(doc);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final StarTree starTree = StarTreeDocValuesFormat.getStarTree(reader.leaves().get(0).reader());
+                if (numValues <= maxRecords) {
+                    assertNotNull(starTree);
+                } else {
+                    assertNull(starTree);
+                    assertEquals(0, StarTreeDocValuesFormat.starTreeRamBytesUsed(reader.leaves().get(0).reader()));
+                }
+            }
+        }
+    }
+}
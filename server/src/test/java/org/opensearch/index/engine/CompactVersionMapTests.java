@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class CompactVersionMapTests extends OpenSearchTestCase {
+
+    public void testRandomOperations() {
+        final CompactVersionMap map = new CompactVersionMap();
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(randomAlphaOfLengthBetween(0, 30)));
+        }
+        final int numOps = randomIntBetween(1, 10000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (randomBoolean()) {
+                final Translog.Location location = randomBoolean()
+                    ? null
+                    : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, 1024));
+                final IndexVersionValue value = new IndexVersionValue(
+                    location,
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong()
+                );
+                map.put(uid, value);
+                expected.put(uid, value);
+            } else {
+                assertEquals(expected.remove(uid) != null, map.remove(uid));
+            }
+            assertEquals(expected.get(uid), map.get(uid));
+            assertEquals(expected.size(), map.size());
+        }
+        for (BytesRef uid : uids) {
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        assertEquals(expected, map.copy());
+    }
+
+    public void testRamBytesUsed() {
+        final CompactVersionMap map = new CompactVersionMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.ramBytesUsed());
+        final IndexVersionValue value = new IndexVersionValue(null, 1, 1, 1);
+        map.put(new BytesRef("1"), value);
+        final long ramBytesUsed = map.ramBytesUsed();
+        assertThat(ramBytesUsed, greaterThan(0L));
+        // updates are done in place
+        map.put(new BytesRef("1"), new IndexVersionValue(new Translog.Location(1, 1, 1), 2, 2, 2));
+        assertEquals(ramBytesUsed, map.ramBytesUsed());
+        for (int i = 2; i < 1000; i++) {
+            map.put(new BytesRef(Integer.toString(i)), value);
+        }
+        assertThat(map.ramBytesUsed(), greaterThan(ramBytesUsed));
+    }
+
+    public void testRemovedEntriesAreReclaimed() {
+        final CompactVersionMap map = new CompactVersionMap();
+        final IndexVersionValue value = new IndexVersionValue(null, 1, 1, 1);
+        final int numUids = randomIntBetween(100, 1000);
+        long ramBytesUsed = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < numUids; i++) {
+                map.put(new BytesRef(String.format(Locale.ROOT, "%02d-%05d", round, i)), value);
+            }
+            if (round == 0) {
+                ramBytesUsed = map.ramBytesUsed();
+            }
+            for (int i = 0; i < numUids; i++) {
+                assertEquals(value, map.get(new BytesRef(String.format(Locale.ROOT, "%02d-%05d", round, i))));
+                assertTrue(map.remove(new BytesRef(String.format(Locale.ROOT, "%02d-%05d", round, i))));
+            }
+            assertTrue(map.isEmpty());
+        }
+        // without reclaiming removed entries the map would hold the entries of every round
+        assertThat(map.ramBytesUsed(), lessThanOrEqualTo(2 * ramBytesUsed));
+    }
+
+    public void testEmpty() {
+        final BytesRef uid = new BytesRef("1");
+        assertTrue(CompactVersionMap.EMPTY.isEmpty());
+        assertNull(CompactVersionMap.EMPTY.get(uid));
+        assertFalse(CompactVersionMap.EMPTY.remove(uid));
+        expectThrows(UnsupportedOperationException.class, () -> CompactVersionMap.EMPTY.put(uid, new IndexVersionValue(null, 1, 1, 1)));
+        assertEquals(0, CompactVersionMap.EMPTY.ramBytesUsed());
+    }
+}
@@ -465,6 +465,29 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testLockAssertionChecksTheUid() {
+        LiveVersionMap map = new LiveVersionMap();
+        BytesRef uid = uid(randomAlphaOfLength(10));
+        // another uid whose lock is shared with the first one
+        BytesRef sameStripe;
+        int i = 0;
+        do {
+            sameStripe = uid("other" + i++);
+        } while ((sameStripe.hashCode() & (LiveVersionMap.LOCK_STRIPES - 1)) != (uid.hashCode() & (LiveVersionMap.LOCK_STRIPES - 1)));
+        final BytesRef otherUid = sameStripe;
+        expectThrows(AssertionError.class, () -> map.assertKeyedLockHeldByCurrentThread(uid));
+        try (Releasable r = map.acquireLock(uid)) {
+            assertTrue(map.assertKeyedLockHeldByCurrentThread(uid));
+            expectThrows(AssertionError.class, () -> map.assertKeyedLockHeldByCurrentThread(otherUid));
+            try (Releasable r2 = map.acquireLock(uid)) {
+                assertTrue(map.assertKeyedLockHeldByCurrentThread(uid));
+            }
+            // the lock is reentrant
+            assertTrue(map.assertKeyedLockHeldByCurrentThread(uid));
+        }
+        expectThrows(AssertionError.class, () -> map.assertKeyedLockHeldByCurrentThread(uid));
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
@@ -35,18 +35,24 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.analysis.core.KeywordAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
+import org.opensearch.index.fielddata.plain.AbstractLeafOrdinalsFieldData;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
 import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
 import org.opensearch.index.mapper.BooleanFieldMapper;
@@ -60,6 +66,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.test.IndexSettingsModule;
@@ -274,6 +281,72 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         ifdService.clear();
     }
 
+    public void testLastOrdinalMapOutlivesItsReader() throws Exception {
+        final IndexService indexService = createIndex("test");
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexFieldDataCache cache = indicesService.getIndicesFieldDataCache()
+            .buildIndexFieldDataCache(new IndexFieldDataCache.Listener() {}, indexService.index(), "s");
+        final SortedSetOrdinalsIndexFieldData ifd = new SortedSetOrdinalsIndexFieldData(
+            cache,
+            "s",
+            CoreValuesSourceType.BYTES,
+            indicesService.getCircuitBreakerService(),
+            AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
+        );
+        final IndexWriter writer = new IndexWriter(
+            new ByteBuffersDirectory(),
+            new IndexWriterConfig(new KeywordAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+        );
+        for (String value : new String[] { "a", "c" }) {
+            Document doc = new Document();
+            doc.add(new SortedSetDocValuesField("s", new BytesRef(value)));
+            writer.addDocument(doc);
+            writer.commit();
+        }
+        final CircuitBreaker breaker = indicesService.getCircuitBreakerService().getBreaker(CircuitBreaker.FIELDDATA);
+        final long usedBefore = breaker.getUsed();
+        final ShardId shardId = new ShardId(indexService.index(), 0);
+        final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        assertNull(cache.lastOrdinalMap(shardId));
+        ifd.loadGlobal(reader);
+        final IncrementalOrdinalMap first = cache.lastOrdinalMap(shardId);
+        assertNotNull(first);
+        assertFalse(first.isExtended());
+        assertEquals(usedBefore + first.ramBytesUsed(), breaker.getUsed());
+
+        // the map outlives its reader and its global ordinals, and stays accounted to the breaker
+        reader.close();
+        assertSame(first, cache.lastOrdinalMap(shardId));
+        assertEquals(usedBefore + first.ramBytesUsed(), breaker.getUsed());
+
+        Document doc = new Document();
+        doc.add(new SortedSetDocValuesField("s", new BytesRef("b")));
+        writer.addDocument(doc);
+        writer.commit();
+        final DirectoryReader next = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        ifd.loadGlobal(next);
+        final IncrementalOrdinalMap second = cache.lastOrdinalMap(shardId);
+        assertNotNull(second);
+        // the next reader only added a segment, so its map extends the one of the closed reader
+        assertTrue(second.isExtended());
+        assertEquals(3, second.getValueCount());
+        // and replaces it
+        assertEquals(usedBefore + second.ramBytesUsed(), breaker.getUsed());
+
+        cache.clear();
+        assertNull(cache.lastOrdinalMap(shardId));
+        assertEquals(usedBefore, breaker.getUsed());
+
+        ifd.loadGlobal(next);
+        assertFalse(cache.lastOrdinalMap(shardId).isExtended());
+        next.close();
+        assertNotNull(cache.lastOrdinalMap(shardId));
+        cache.clearShard(shardId);
+        assertNull(cache.lastOrdinalMap(shardId));
+        assertEquals(usedBefore, breaker.getUsed());
+        writer.close();
+    }
+
     public void testSetCacheListenerTwice() {
         final IndexService indexService = createIndex("test");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
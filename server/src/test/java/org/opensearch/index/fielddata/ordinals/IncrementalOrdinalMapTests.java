@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LogDocMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class IncrementalOrdinalMapTests extends OpenSearchTestCase {
+
+    public void testExtend() throws IOException {
+        try (Directory dir = newDirectory()) {
+            // no natural merges so that refreshes only add segments
+            final LogDocMergePolicy mergePolicy = new LogDocMergePolicy();
+            mergePolicy.setMergeFactor(1000);
+            try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(mergePolicy))) {
+                addSegment(writer);
+                addSegment(writer);
+                IncrementalOrdinalMap map = null;
+                final int numRefreshes = randomIntBetween(1, 10);
+                for (int i = 0; i < numRefreshes; i++) {
+                    final int numSegments = randomIntBetween(0, 3);
+                    for (int j = 0; j < numSegments; j++) {
+                        addSegment(writer);
+                    }
+                    try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                        if (map == null) {
+                            map = IncrementalOrdinalMap.build(segmentKeys(reader), subs(reader));
+                            assertNotNull(map.getOrdinalMap());
+                        } else {
+                            map = IncrementalOrdinalMap.extend(map, segmentKeys(reader), subs(reader));
+                            assertNotNull(map);
+                            assertNull(map.getOrdinalMap());
+                        }
+                        assertSameGlobalOrds(reader, map);
+                    }
+                }
+
+                writer.forceMerge(1);
+                addSegment(writer);
+                try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                    // the terms of the segments that were merged away may not exist anymore
+                    assertNull(IncrementalOrdinalMap.extend(map, segmentKeys(reader), subs(reader)));
+                }
+            }
+        }
+    }
+
+    private static void addSegment(IndexWriter writer) throws IOException {
+        final int numDocs = randomIntBetween(1, 100);
+        for (int i = 0; i < numDocs; i++) {
+            final Document doc = new Document();
+            final int numValues = randomIntBetween(0, 3);
+            for (int j = 0; j < numValues; j++) {
+                doc.add(new SortedSetDocValuesField("field", new BytesRef(randomAlphaOfLengthBetween(1, 3))));
+            }
+            writer.addDocument(doc);
+        }
+        writer.commit();
+    }
+
+    private static IndexReader.CacheKey[] segmentKeys(IndexReader reader) {
+        final IndexReader.CacheKey[] segmentKeys = new IndexReader.CacheKey[reader.leaves().size()];
+        for (int i = 0; i < segmentKeys.length; i++) {
+            segmentKeys[i] = reader.leaves().get(i).reader().getCoreCacheHelper().getKey();
+        }
+        return segmentKeys;
+    }
+
+    private static SortedSetDocValues[] subs(IndexReader reader) throws IOException {
+        final SortedSetDocValues[] subs = new SortedSetDocValues[reader.leaves().size()];
+        for (int i = 0; i < subs.length; i++) {
+            subs[i] = DocValues.getSortedSet(reader.leaves().get(i).reader(), "field");
+        }
+        return subs;
+    }
+
+    private static void assertSameGlobalOrds(IndexReader reader, IncrementalOrdinalMap map) throws IOException {
+        final SortedSetDocValues[] subs = subs(reader);
+        final OrdinalMap expected = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        assertEquals(expected.getValueCount(), map.getValueCount());
+        for (int segment = 0; segment < subs.length; segment++) {
+            final LongValues expectedGlobalOrds = expected.getGlobalOrds(segment);
+            final LongValues globalOrds = map.getGlobalOrds(segment);
+            for (long ord = 0; ord < subs[segment].getValueCount(); ord++) {
+                assertEquals(expectedGlobalOrds.get(ord), globalOrds.get(ord));
+            }
+        }
+        final TermsEnum[] termsEnums = new TermsEnum[subs.length];
+        for (int segment = 0; segment < subs.length; segment++) {
+            termsEnums[segment] = subs[segment].termsEnum();
+        }
+        for (long globalOrd = 0; globalOrd < map.getValueCount(); globalOrd++) {
+            final int expectedSegment = expected.getFirstSegmentNumber(globalOrd);
+            termsEnums[expectedSegment].seekExact(expected.getFirstSegmentOrd(globalOrd));
+            final BytesRef expectedTerm = BytesRef.deepCopyOf(termsEnums[expectedSegment].term());
+            final int segment = map.getFirstSegmentNumber(globalOrd);
+            termsEnums[segment].seekExact(map.getFirstSegmentOrd(globalOrd));
+            assertEquals(expectedTerm, termsEnums[segment].term());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.LeafReader;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class SyntheticSourceLoaderTests extends MapperServiceTestCase {
+
+    public void testRebuildsSource() throws IOException {
+        final DocumentMapper mapper = createDocumentMapper(syntheticMapping(b -> {
+            b.startObject("@timestamp").field("type", "date").endObject();
+            b.startObject("status").field("type", "keyword").endObject();
+            b.startObject("bytes").field("type", "long").endObject();
+            b.startObject("ratio").field("type", "half_float").endObject();
+            b.startObject("cached").field("type", "boolean").endObject();
+            b.startObject("client").startObject("properties");
+            {
+                b.startObject("ip").field("type", "ip").endObject();
+                b.startObject("agent").field("type", "text").field("store", true).endObject();
+            }
+            b.endObject().endObject();
+        }));
+        final Map<String, Object> source = rebuildSource(mapper, b -> {
+            b.field("@timestamp", "2022-10-01T00:00:00.000Z");
+            b.array("status", "500", "200");
+            b.field("bytes", 1234);
+            b.field("ratio", 0.5);
+            b.field("cached", false);
+            b.startObject("client").field("ip", "192.168.1.1").field("agent", "curl/7.85.0").endObject();
+        });
+
+        assertEquals("2022-10-01T00:00:00.000Z", source.get("@timestamp"));
+        // doc values sort the values of a field
+        assertEquals(Arrays.asList("200", "500"), source.get("status"));
+        assertEquals(1234, source.get("bytes"));
+        assertEquals(0.5, source.get("ratio"));
+        assertEquals(false, source.get("cached"));
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> client = (Map<String, Object>) source.get("client");
+        assertEquals("192.168.1.1", client.get("ip"));
+        assertEquals("curl/7.85.0", client.get("agent"));
+    }
+
+    public void testOmitsMissingFields() throws IOException {
+        final DocumentMapper mapper = createDocumentMapper(syntheticMapping(b -> {
+            b.startObject("status").field("type", "keyword").endObject();
+            b.startObject("client").startObject("properties");
+            b.startObject("ip").field("type", "ip").endObject();
+            b.endObject().endObject();
+        }));
+        final Map<String, Object> source = rebuildSource(mapper, b -> b.array("status", "200", "200"));
+        assertEquals(1, source.size());
+        // duplicate keywords are deduplicated by doc values
+        assertEquals("200", source.get("status"));
+    }
+
+    public void testDoesNotStoreSource() throws IOException {
+        final DocumentMapper mapper = createDocumentMapper(syntheticMapping(b -> b.startObject("bytes").field("type", "long").endObject()));
+        final ParsedDocument doc = mapper.parse(source(b -> b.field("bytes", 1)));
+        assertNull(doc.rootDoc().getField(SourceFieldMapper.NAME));
+        assertNotNull(doc.rootDoc().getField(SourceFieldMapper.RECOVERY_SOURCE_NAME));
+    }
+
+    public void testRejectsUnsupportedFields() {
+        assertUnsupported(b -> b.startObject("message").field("type", "text").endObject(), "field [message] of type [text]");
+        assertUnsupported(
+            b -> b.startObject("bytes").field("type", "long").field("doc_values", false).endObject(),
+            "field [bytes] of type [long]"
+        );
+        assertUnsupported(
+            b -> b.startObject("bytes").field("type", "long").field("ignore_malformed", true).endObject(),
+            "field [bytes] of type [long]"
+        );
+        assertUnsupported(
+            b -> b.startObject("status").field("type", "keyword").field("ignore_above", 256).endObject(),
+            "field [status] of type [keyword]"
+        );
+        assertUnsupported(
+            b -> b.startObject("events").field("type", "nested").startObject("properties").endObject().endObject(),
+            "field [events] of type [nested]"
+        );
+        assertUnsupported(b -> {
+            b.startObject("status").field("type", "keyword").field("copy_to", "all").endObject();
+            b.startObject("all").field("type", "keyword").endObject();
+        }, "field [status] uses [copy_to]");
+        assertUnsupported(b -> b.startObject("payload").field("enabled", false).endObject(), "object [payload] is disabled");
+    }
+
+    public void testRejectsSourceFilters() throws IOException {
+        final XContentBuilder mapping = topMapping(
+            b -> b.startObject("_source").field("mode", "synthetic").array("excludes", "a").endObject()
+        );
+        final MapperParsingException e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(mapping));
+        assertThat(e.getMessage(), containsString("includes"));
+    }
+
+    private void assertUnsupported(CheckedConsumer<XContentBuilder, IOException> fields, String message) {
+        final MapperParsingException e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(syntheticMapping(fields)));
+        assertThat(e.getMessage(), containsString(message));
+    }
+
+    private XContentBuilder syntheticMapping(CheckedConsumer<XContentBuilder, IOException> fields) throws IOException {
+        return topMapping(b -> {
+            b.startObject("_source").field("mode", "synthetic").endObject();
+            b.startObject("properties");
+            fields.accept(b);
+            b.endObject();
+        });
+    }
+
+    private Map<String, Object> rebuildSource(DocumentMapper mapper, CheckedConsumer<XContentBuilder, IOException> build)
+        throws IOException {
+        final ParsedDocument doc = mapper.parse(source(build));
+        final BytesReference[] source = new BytesReference[1];
+        withLuceneIndex(createMapperService(mapping(b -> {})), iw -> iw.addDocuments(doc.docs()), reader -> {
+            assertEquals(1, reader.leaves().size());
+            final LeafReader leaf = reader.leaves().get(0).reader();
+            source[0] = mapper.syntheticSourceLoader().leaf(leaf).source(0);
+        });
+        return XContentHelper.convertToMap(source[0], false, XContentType.JSON).v2();
+    }
+}
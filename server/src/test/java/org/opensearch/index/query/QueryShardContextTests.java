@@ -67,6 +67,7 @@ import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
@@ -78,6 +79,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -208,6 +210,68 @@ public class QueryShardContextTests extends OpenSearchTestCase {
         assertFalse(context.indexSortedOnField("non_sort_field"));
     }
 
+    public void testNowInMillis() {
+        QueryShardContext context = createQueryShardContext(IndexMetadata.INDEX_UUID_NA_VALUE, null);
+        context.nowInMillis();
+        assertFalse(context.isNowRounded());
+        assertFalse(context.isCacheable());
+        context.freezeContext();
+        expectThrows(IllegalArgumentException.class, context::nowInMillis);
+    }
+
+    public void testRoundedNowInMillis() {
+        long rounding = randomLongBetween(1, 24 * 60 * 60 * 1000L);
+        QueryShardContext context = createQueryShardContext(
+            IndexMetadata.INDEX_UUID_NA_VALUE,
+            null,
+            null,
+            Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), rounding + "ms").build()
+        );
+        context.allowNowRounding();
+        assertFalse(context.isNowRounded());
+        // copies round too but track their own use of the rounded time
+        QueryShardContext copy = new QueryShardContext(context);
+        long nowInMillis = copy.nowInMillis();
+        assertEquals(0, nowInMillis % rounding);
+        assertTrue(copy.isNowRounded());
+        assertFalse(context.isNowRounded());
+        assertEquals(nowInMillis, context.nowInMillis());
+        assertTrue(context.isNowRounded());
+        assertTrue(context.isCacheable());
+        context.freezeContext();
+        assertEquals(nowInMillis, context.nowInMillis());
+        assertTrue(context.isCacheable());
+    }
+
+    public void testNowInMillisNotRoundedUnlessAllowed() {
+        long nowInMillis = randomLongBetween(1, 1_000_000_000L) * 60_000L + randomLongBetween(1, 59_999);
+        QueryShardContext context = createQueryShardContext(
+            IndexMetadata.INDEX_UUID_NA_VALUE,
+            null,
+            null,
+            Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), "1m").build(),
+            () -> nowInMillis
+        );
+        // the request is not eligible for the request cache, so it must see the exact time
+        assertEquals(nowInMillis, context.nowInMillis());
+        assertFalse(context.isNowRounded());
+        assertFalse(context.isCacheable());
+    }
+
+    public void testRoundedNowInMillisAfterFreeze() {
+        QueryShardContext context = createQueryShardContext(
+            IndexMetadata.INDEX_UUID_NA_VALUE,
+            null,
+            null,
+            Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), "1m").build()
+        );
+        context.allowNowRounding();
+        context.freezeContext();
+        // the request may already be cached without the rounded time in its key
+        expectThrows(IllegalArgumentException.class, context::nowInMillis);
+        assertFalse(context.isNowRounded());
+    }
+
     public void testFielddataLookupSelfReference() {
         QueryShardContext queryShardContext = createQueryShardContext("uuid", null, (field, leafLookup, docId) -> {
             // simulate a runtime field that depends on itself e.g. field: doc['field']
@@ -315,6 +379,26 @@ public class QueryShardContextTests extends OpenSearchTestCase {
         String indexUuid,
         String clusterAlias,
         TriFunction<String, LeafSearchLookup, Integer, String> runtimeDocValues
+    ) {
+        return createQueryShardContext(indexUuid, clusterAlias, runtimeDocValues, Settings.EMPTY);
+    }
+
+    private static QueryShardContext createQueryShardContext(
+        String indexUuid,
+        String clusterAlias,
+        TriFunction<String, LeafSearchLookup, Integer, String> runtimeDocValues,
+        Settings extraSettings
+    ) {
+        final long nowInMillis = randomNonNegativeLong();
+        return createQueryShardContext(indexUuid, clusterAlias, runtimeDocValues, extraSettings, () -> nowInMillis);
+    }
+
+    private static QueryShardContext createQueryShardContext(
+        String indexUuid,
+        String clusterAlias,
+        TriFunction<String, LeafSearchLookup, Integer, String> runtimeDocValues,
+        Settings extraSettings,
+        LongSupplier nowInMillis
     ) {
         IndexMetadata.Builder indexMetadataBuilder = new IndexMetadata.Builder("index");
         indexMetadataBuilder.settings(
@@ -323,6 +407,7 @@ public class QueryShardContextTests extends OpenSearchTestCase {
                 .put("index.number_of_shards", 1)
                 .put("index.number_of_replicas", 1)
                 .put(IndexMetadata.SETTING_INDEX_UUID, indexUuid)
+                .put(extraSettings)
         );
         IndexMetadata indexMetadata = indexMetadataBuilder.build();
         IndexSettings indexSettings = new IndexSettings(indexMetadata, Settings.EMPTY);
@@ -341,7 +426,6 @@ public class QueryShardContextTests extends OpenSearchTestCase {
                 return mockFieldType(fieldName, (leafSearchLookup, docId) -> runtimeDocValues.apply(fieldName, leafSearchLookup, docId));
             });
         }
-        final long nowInMillis = randomNonNegativeLong();
         return new QueryShardContext(
             0,
             indexSettings,
@@ -355,7 +439,7 @@ public class QueryShardContextTests extends OpenSearchTestCase {
             new NamedWriteableRegistry(Collections.emptyList()),
             null,
             null,
-            () -> nowInMillis,
+            nowInMillis,
             clusterAlias,
             null,
             () -> true,
@@ -46,7 +46,11 @@ public class RefreshStatsTests extends OpenSearchTestCase {
             randomNonNegativeLong(),
             randomNonNegativeLong(),
             randomNonNegativeLong(),
-            between(0, Integer.MAX_VALUE)
+            between(0, Integer.MAX_VALUE),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
         );
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
@@ -58,5 +62,9 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats.getAdaptiveDeferred(), read.getAdaptiveDeferred());
+        assertEquals(stats.getAdaptiveStretched(), read.getAdaptiveStretched());
+        assertEquals(stats.getAdaptiveShrunk(), read.getAdaptiveShrunk());
+        assertEquals(stats.getEffectiveIntervalInMillis(), read.getEffectiveIntervalInMillis());
     }
 }
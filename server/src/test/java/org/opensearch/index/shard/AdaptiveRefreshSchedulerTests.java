@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveRefreshSchedulerTests extends OpenSearchTestCase {
+
+    public void testDisabled() {
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler();
+        final long maxInterval = randomBoolean() ? -1 : randomLongBetween(0, 1000);
+        for (long now = 0; now < 100_000; now += 1000) {
+            assertTrue(scheduler.shouldRefresh(now, 1000, maxInterval, 0));
+        }
+        assertEquals(1000, scheduler.effectiveIntervalInMillis());
+        assertEquals(0, scheduler.deferred());
+        assertEquals(0, scheduler.stretched());
+    }
+
+    public void testStretchesWithoutSearches() {
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler();
+        // the shard was searched when it was created, so the first refresh runs at the refresh interval
+        assertTrue(scheduler.shouldRefresh(1000, 1000, 30_000, 0));
+        assertEquals(1000, scheduler.effectiveIntervalInMillis());
+        assertTrue(scheduler.shouldRefresh(2000, 1000, 30_000, 0));
+        assertEquals(2000, scheduler.effectiveIntervalInMillis());
+        assertFalse(scheduler.shouldRefresh(3000, 1000, 30_000, 0));
+        assertTrue(scheduler.shouldRefresh(4000, 1000, 30_000, 0));
+        assertEquals(4000, scheduler.effectiveIntervalInMillis());
+        long now = 4000;
+        for (int i = 0; i < 10; i++) {
+            do {
+                now += 1000;
+            } while (scheduler.shouldRefresh(now, 1000, 30_000, 0) == false);
+        }
+        assertEquals(30_000, scheduler.effectiveIntervalInMillis());
+        assertEquals(5, scheduler.stretched());
+        assertEquals(0, scheduler.shrunk());
+        assertTrue(scheduler.deferred() > 0);
+    }
+
+    public void testShrinksOnSearch() {
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler();
+        assertTrue(scheduler.shouldRefresh(1000, 1000, 30_000, 0));
+        assertTrue(scheduler.shouldRefresh(2000, 1000, 30_000, 0));
+        assertTrue(scheduler.shouldRefresh(4000, 1000, 30_000, 0));
+        assertEquals(4000, scheduler.effectiveIntervalInMillis());
+        assertFalse(scheduler.shouldRefresh(5000, 1000, 30_000, 0));
+        // a search arrives, the next scheduled refresh runs at the refresh interval
+        assertTrue(scheduler.shouldRefresh(6000, 1000, 30_000, 5500));
+        assertEquals(1000, scheduler.effectiveIntervalInMillis());
+        assertEquals(1, scheduler.shrunk());
+        assertTrue(scheduler.shouldRefresh(7000, 1000, 30_000, 6500));
+        assertEquals(1000, scheduler.effectiveIntervalInMillis());
+    }
+
+    public void testShrinksOnMemoryPressure() {
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler();
+        assertTrue(scheduler.shouldRefresh(1000, 1000, 30_000, 0));
+        assertTrue(scheduler.shouldRefresh(2000, 1000, 30_000, 0));
+        assertEquals(2000, scheduler.effectiveIntervalInMillis());
+        scheduler.onMemoryPressure();
+        assertTrue(scheduler.shouldRefresh(3000, 1000, 30_000, 0));
+        assertEquals(1000, scheduler.effectiveIntervalInMillis());
+        assertEquals(1, scheduler.shrunk());
+    }
+
+    public void testAccountsForRefreshCost() {
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler();
+        for (int i = 0; i < 20; i++) {
+            scheduler.afterRefresh(2000);
+        }
+        assertTrue(scheduler.shouldRefresh(1000, 1000, 60_000, 0));
+        assertTrue(scheduler.shouldRefresh(2000, 1000, 60_000, 0));
+        // refreshes take about two seconds so they run at most every twenty seconds
+        assertTrue(scheduler.effectiveIntervalInMillis() > 19_000);
+        assertTrue(scheduler.effectiveIntervalInMillis() <= 20_000);
+    }
+}
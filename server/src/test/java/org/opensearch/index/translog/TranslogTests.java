@@ -161,6 +161,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -522,14 +523,18 @@ public class TranslogTests extends OpenSearchTestCase {
                 builder.endObject();
                 assertThat(
                     Strings.toString(builder),
-                    equalTo(
+                    startsWith(
                         "{\"translog\":{\"operations\":4,\"size_in_bytes\":"
                             + 326
                             + ",\"uncommitted_operations\":4,\"uncommitted_size_in_bytes\":"
                             + 271
                             + ",\"earliest_last_modified_age\":"
                             + stats.getEarliestLastModifiedAge()
-                            + "}}"
+                            + ",\"sync\":{\"total\":"
+                            + copy.getSyncStats().getCount()
+                            + ",\"requests\":"
+                            + copy.getSyncStats().getRequests()
+                            + ","
                     )
                 );
             }
@@ -547,6 +552,62 @@ public class TranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSyncStats() throws IOException {
+        final TranslogStats.SyncStats initial = translog.stats().getSyncStats();
+        final int syncs = randomIntBetween(1, 10);
+        for (int i = 0; i < syncs; i++) {
+            translog.add(new Translog.Index(Integer.toString(i), i, primaryTerm.get(), new byte[] { 1 }));
+            translog.sync();
+        }
+        // nothing to sync
+        translog.sync();
+        final TranslogStats.SyncStats syncStats = stats().getSyncStats();
+        assertThat(syncStats.getCount(), equalTo(initial.getCount() + syncs));
+        assertThat(syncStats.getRequests(), equalTo(initial.getRequests() + syncs));
+        assertThat(syncStats.getGroupSizeHistogram()[0], equalTo(initial.getGroupSizeHistogram()[0] + syncs));
+        assertThat(LongStream.of(syncStats.getLatencyHistogram()).sum(), equalTo(syncStats.getCount()));
+    }
+
+    public void testSyncStatsGroupConcurrentRequests() throws Exception {
+        final int threadCount = randomIntBetween(2, 8);
+        final int opsPerThread = randomIntBetween(10, 100);
+        final TranslogStats.SyncStats initial = translog.stats().getSyncStats();
+        final AtomicLong seqNos = new AtomicLong();
+        final AtomicLong syncedRequests = new AtomicLong();
+        final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        final long seqNo = seqNos.getAndIncrement();
+                        final Translog.Location location = translog.add(
+                            new Translog.Index(Long.toString(seqNo), seqNo, primaryTerm.get(), new byte[] { 1 })
+                        );
+                        translog.ensureSynced(location);
+                        syncedRequests.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final TranslogStats.SyncStats syncStats = translog.stats().getSyncStats();
+        final long syncs = syncStats.getCount() - initial.getCount();
+        final long requests = syncStats.getRequests() - initial.getRequests();
+        assertThat(syncs, greaterThan(0L));
+        assertThat(syncs, lessThanOrEqualTo(syncedRequests.get()));
+        assertThat(requests, greaterThanOrEqualTo(syncs));
+        assertThat(requests, lessThanOrEqualTo(syncedRequests.get()));
+        assertThat(LongStream.of(syncStats.getGroupSizeHistogram()).sum(), equalTo(syncStats.getCount()));
+        assertThat(LongStream.of(syncStats.getLatencyHistogram()).sum(), equalTo(syncStats.getCount()));
+    }
+
     public void testUncommittedOperations() throws Exception {
         final TranslogDeletionPolicy deletionPolicy = translog.getDeletionPolicy();
         deletionPolicy.setRetentionAgeInMillis(randomLong());
@@ -698,6 +759,45 @@ public class TranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMmapSnapshot() throws IOException {
+        final Path path = createTempDir();
+        final TranslogConfig config = getTranslogConfig(
+            path,
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+                .put(IndexSettings.INDEX_TRANSLOG_MMAP_SETTING.getKey(), true)
+                .build()
+        );
+        final List<Translog.Operation> ops = new ArrayList<>();
+        try (Translog mmapTranslog = createTranslog(config)) {
+            final int generations = randomIntBetween(1, 5);
+            int seqNo = 0;
+            for (int gen = 0; gen < generations; gen++) {
+                final int opsInGen = randomIntBetween(1, 20);
+                for (int i = 0; i < opsInGen; i++, seqNo++) {
+                    final byte[] source = randomByteArrayOfLength(randomIntBetween(1, 2048));
+                    addToTranslogAndList(mmapTranslog, ops, new Translog.Index(Integer.toString(seqNo), seqNo, primaryTerm.get(), source));
+                }
+                if (randomBoolean()) {
+                    addToTranslogAndList(mmapTranslog, ops, new Translog.Delete(Integer.toString(seqNo), seqNo, primaryTerm.get()));
+                    seqNo++;
+                }
+                mmapTranslog.rollGeneration();
+            }
+            // the current generation is not mapped
+            addToTranslogAndList(mmapTranslog, ops, new Translog.NoOp(seqNo, primaryTerm.get(), randomAlphaOfLength(16)));
+
+            try (Translog.Snapshot snapshot = mmapTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+            final int from = randomIntBetween(0, seqNo);
+            final int to = randomIntBetween(from, seqNo);
+            try (Translog.Snapshot snapshot = mmapTranslog.newSnapshot(from, to)) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops.subList(from, to + 1)));
+            }
+        }
+    }
+
     public void testSnapshotOnClosedTranslog() throws IOException {
         assertTrue(Files.exists(translogDir.resolve(Translog.getFilename(1))));
         translog.add(new Translog.Index("1", 0, primaryTerm.get(), new byte[] { 1 }));
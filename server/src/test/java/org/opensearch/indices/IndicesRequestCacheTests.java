@@ -55,6 +55,8 @@ import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.cache.request.CacheTier;
+import org.opensearch.index.cache.request.RequestCacheStats;
 import org.opensearch.index.cache.request.ShardRequestCache;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.shard.ShardId;
@@ -280,6 +282,164 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testDiskTier() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            AtomicBoolean indexShard = new AtomicBoolean(true);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+            BytesReference value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+            assertEquals("foo", value.streamInput().readString());
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, writer, dir, cache);
+        }
+        IndicesRequestCache cache = new IndicesRequestCache(
+            Settings.builder()
+                .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+                .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+                .build(),
+            createTempDir()
+        );
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+        // the second entry evicts the first one from the heap, which is demoted to disk
+        BytesReference value1 = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        BytesReference value2 = cache.getOrCompute(
+            new TestEntity(requestCacheStats, indexShard),
+            new Loader(secondReader, 0),
+            secondReader,
+            termBytes
+        );
+        assertEquals("bar", value2.streamInput().readString());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.count(CacheTier.DISK));
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        RequestCacheStats.TierStats diskStats = requestCacheStats.stats().getTierStats(CacheTier.DISK);
+        assertEquals(0, diskStats.getHitCount());
+        assertEquals(2, diskStats.getMissCount());
+        assertEquals(value1.length(), diskStats.getSizeInBytes());
+
+        // a hit on disk promotes the entry back to the heap without computing it
+        Loader loader = new Loader(reader, 0);
+        value1 = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.count(CacheTier.DISK));
+        diskStats = requestCacheStats.stats().getTierStats(CacheTier.DISK);
+        assertEquals(1, diskStats.getHitCount());
+        assertEquals(2, diskStats.getMissCount());
+        assertEquals(value2.length(), diskStats.getSizeInBytes());
+
+        // closing a reader cleans its entries from both tiers
+        IOUtils.close(reader);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(1, cache.count(CacheTier.DISK));
+        IOUtils.close(secondReader);
+        cache.cleanCache();
+        assertEquals(0, cache.count(CacheTier.DISK));
+        assertEquals(0, requestCacheStats.stats().getTierStats(CacheTier.DISK).getSizeInBytes());
+        IOUtils.close(writer, dir, cache);
+    }
+
+    public void testOffHeapTier() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+            cache.getOrCompute(new TestEntity(requestCacheStats, new AtomicBoolean(true)), new Loader(reader, 0), reader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, writer, dir, cache);
+        }
+        // each tier holds a single entry
+        IndicesRequestCache cache = new IndicesRequestCache(
+            Settings.builder()
+                .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+                .put(IndicesRequestCache.INDICES_CACHE_OFF_HEAP_SIZE.getKey(), OffHeapRequestCacheStore.PAGE_SIZE + "b")
+                .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+                .build(),
+            createTempDir()
+        );
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "baz"));
+        DirectoryReader thirdReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+        // the first entry is demoted to the off-heap tier and then to disk
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(thirdReader, 0), thirdReader, termBytes);
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.count(CacheTier.OFF_HEAP));
+        assertEquals(1, cache.count(CacheTier.DISK));
+        RequestCacheStats stats = requestCacheStats.stats();
+        assertEquals(OffHeapRequestCacheStore.PAGE_SIZE, stats.getTierStats(CacheTier.OFF_HEAP).getSizeInBytes());
+        assertEquals(1, stats.getTierStats(CacheTier.OFF_HEAP).getEvictions());
+        assertEquals(3, stats.getTierStats(CacheTier.OFF_HEAP).getMissCount());
+        assertEquals(3, stats.getTierStats(CacheTier.DISK).getMissCount());
+
+        // a hit on disk misses the off-heap tier
+        Loader loader = new Loader(reader, 0);
+        BytesReference value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, reader, termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        stats = requestCacheStats.stats();
+        assertEquals(4, stats.getTierStats(CacheTier.OFF_HEAP).getMissCount());
+        assertEquals(0, stats.getTierStats(CacheTier.OFF_HEAP).getHitCount());
+        assertEquals(1, stats.getTierStats(CacheTier.DISK).getHitCount());
+
+        // the third entry was demoted to the off-heap tier by the promotion
+        loader = new Loader(thirdReader, 0);
+        value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, thirdReader, termBytes);
+        assertEquals("baz", value.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, requestCacheStats.stats().getTierStats(CacheTier.OFF_HEAP).getHitCount());
+
+        IOUtils.close(reader, secondReader, thirdReader);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.count(CacheTier.OFF_HEAP));
+        assertEquals(0, cache.count(CacheTier.DISK));
+        assertEquals(0, requestCacheStats.stats().getTierStats(CacheTier.OFF_HEAP).getSizeInBytes());
+        IOUtils.close(writer, dir, cache);
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard = new AtomicBoolean(true);
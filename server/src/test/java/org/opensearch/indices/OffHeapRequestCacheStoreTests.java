@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OffHeapRequestCacheStoreTests extends OpenSearchTestCase {
+
+    public void testWriteAndRead() throws Exception {
+        OffHeapRequestCacheStore store = new OffHeapRequestCacheStore();
+        List<BytesReference> values = new ArrayList<>();
+        List<RequestCacheStore.StoredValue> storedValues = new ArrayList<>();
+        int numValues = randomIntBetween(1, 50);
+        for (int i = 0; i < numValues; i++) {
+            BytesReference value = randomBoolean()
+                ? new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 3 * OffHeapRequestCacheStore.PAGE_SIZE)))
+                : CompositeBytesReference.of(
+                    new BytesArray(randomByteArrayOfLength(randomIntBetween(0, OffHeapRequestCacheStore.PAGE_SIZE))),
+                    new BytesArray(randomByteArrayOfLength(randomIntBetween(0, OffHeapRequestCacheStore.PAGE_SIZE)))
+                );
+            RequestCacheStore.StoredValue storedValue = store.write(value);
+            int expectedPages = (value.length() + OffHeapRequestCacheStore.PAGE_SIZE - 1) / OffHeapRequestCacheStore.PAGE_SIZE;
+            assertEquals((long) expectedPages * OffHeapRequestCacheStore.PAGE_SIZE, storedValue.sizeInBytes());
+            values.add(value);
+            storedValues.add(storedValue);
+        }
+        for (int i = 0; i < numValues; i++) {
+            assertEquals(values.get(i), storedValues.get(i).read());
+        }
+        store.close();
+    }
+
+    public void testPagesAreRecycled() throws Exception {
+        OffHeapRequestCacheStore store = new OffHeapRequestCacheStore();
+        BytesReference value = new BytesArray(randomByteArrayOfLength(OffHeapRequestCacheStore.PAGE_SIZE));
+        RequestCacheStore.StoredValue first = store.write(value);
+        long allocated = store.allocatedBytes();
+        assertEquals((long) OffHeapRequestCacheStore.PAGES_PER_SLAB * OffHeapRequestCacheStore.PAGE_SIZE, allocated);
+        first.decRef();
+        // writing and releasing many more pages than a slab holds never allocates another slab
+        for (int i = 0; i < 2 * OffHeapRequestCacheStore.PAGES_PER_SLAB; i++) {
+            RequestCacheStore.StoredValue storedValue = store.write(value);
+            assertEquals(value, storedValue.read());
+            storedValue.decRef();
+        }
+        assertEquals(allocated, store.allocatedBytes());
+        store.close();
+    }
+
+    public void testTrimReleasesTrailingSlabs() throws Exception {
+        OffHeapRequestCacheStore store = new OffHeapRequestCacheStore();
+        long slabBytes = (long) OffHeapRequestCacheStore.PAGES_PER_SLAB * OffHeapRequestCacheStore.PAGE_SIZE;
+        BytesReference slab = new BytesArray(randomByteArrayOfLength(Math.toIntExact(slabBytes)));
+        RequestCacheStore.StoredValue first = store.write(slab);
+        RequestCacheStore.StoredValue second = store.write(slab);
+        RequestCacheStore.StoredValue third = store.write(slab);
+        assertEquals(3 * slabBytes, store.allocatedBytes());
+
+        // the slab in the middle can't be released while the last one is in use
+        second.decRef();
+        store.trim();
+        assertEquals(3 * slabBytes, store.allocatedBytes());
+
+        third.decRef();
+        store.trim();
+        assertEquals(slabBytes, store.allocatedBytes());
+        assertEquals(slab, first.read());
+
+        // the released pages are not handed out anymore
+        RequestCacheStore.StoredValue fourth = store.write(slab);
+        assertEquals(2 * slabBytes, store.allocatedBytes());
+        assertEquals(slab, fourth.read());
+        assertEquals(slab, first.read());
+
+        first.decRef();
+        fourth.decRef();
+        store.trim();
+        assertEquals(0L, store.allocatedBytes());
+        store.close();
+    }
+
+    public void testReadAfterCloseIsAMiss() throws Exception {
+        OffHeapRequestCacheStore store = new OffHeapRequestCacheStore();
+        BytesReference value = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 3 * OffHeapRequestCacheStore.PAGE_SIZE)));
+        RequestCacheStore.StoredValue storedValue = store.write(value);
+        store.close();
+        assertNull(storedValue.read());
+        storedValue.decRef();
+        expectThrows(IOException.class, () -> store.write(value));
+        assertEquals(0L, store.allocatedBytes());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.apache.lucene.search.join.ScoreMode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.script.Script;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.BucketUtils;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class SearchCostEstimatorTests extends OpenSearchTestCase {
+
+    public void testQueryCost() {
+        assertEquals(SearchCostEstimator.TERM_COST, SearchCostEstimator.estimate(null));
+        assertEquals(SearchCostEstimator.TERM_COST, SearchCostEstimator.estimate(new SearchSourceBuilder()));
+        assertEquals(
+            SearchCostEstimator.TERM_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.termQuery("f", "v")))
+        );
+        assertEquals(3, SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.termsQuery("f", "a", "b", "c"))));
+        assertEquals(
+            SearchCostEstimator.MULTI_TERM_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.wildcardQuery("f", "ab*")))
+        );
+        assertEquals(
+            SearchCostEstimator.LEADING_WILDCARD_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.wildcardQuery("f", "*ab")))
+        );
+        assertEquals(
+            SearchCostEstimator.LEADING_WILDCARD_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.regexpQuery("f", ".*ab")))
+        );
+        assertEquals(
+            SearchCostEstimator.SCRIPT_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.scriptQuery(new Script("true"))))
+        );
+        assertEquals(
+            SearchCostEstimator.MULTI_TERM_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.queryStringQuery("status:5*")))
+        );
+    }
+
+    public void testCompoundQueryCost() {
+        assertEquals(
+            SearchCostEstimator.MULTI_TERM_COST + 2 * SearchCostEstimator.TERM_COST,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().query(
+                    QueryBuilders.boolQuery()
+                        .must(QueryBuilders.termQuery("f", "v"))
+                        .filter(QueryBuilders.prefixQuery("f", "p"))
+                        .mustNot(QueryBuilders.constantScoreQuery(QueryBuilders.termQuery("f", "w")))
+                )
+            )
+        );
+        assertEquals(
+            SearchCostEstimator.JOIN_FACTOR * SearchCostEstimator.MULTI_TERM_COST,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().query(QueryBuilders.nestedQuery("n", QueryBuilders.fuzzyQuery("n.f", "v"), ScoreMode.None))
+            )
+        );
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.SCRIPT_COST,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().query(QueryBuilders.scriptScoreQuery(QueryBuilders.termQuery("f", "v"), new Script("1")))
+            )
+        );
+        assertEquals(
+            2 * SearchCostEstimator.TERM_COST,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().query(QueryBuilders.termQuery("f", "v")).postFilter(QueryBuilders.termQuery("g", "w"))
+            )
+        );
+    }
+
+    public void testAggregationCost() {
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.CARDINALITY_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().aggregation(AggregationBuilders.cardinality("c").field("f")))
+        );
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.SCRIPT_COST,
+            SearchCostEstimator.estimate(new SearchSourceBuilder().aggregation(AggregationBuilders.sum("s").script(new Script("1"))))
+        );
+        // sub-aggregations are computed for every bucket of their parent
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.TERM_COST + 60 + 60 * SearchCostEstimator.CARDINALITY_COST,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().aggregation(
+                    AggregationBuilders.terms("t")
+                        .field("f")
+                        .size(50)
+                        .shardSize(60)
+                        .subAggregation(AggregationBuilders.cardinality("c").field("g"))
+                )
+            )
+        );
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.TERM_COST + SearchCostEstimator.HISTOGRAM_BUCKETS * 3,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().aggregation(
+                    AggregationBuilders.histogram("h")
+                        .field("f")
+                        .interval(10)
+                        .subAggregation(AggregationBuilders.max("max").field("g"))
+                        .subAggregation(AggregationBuilders.min("min").field("g"))
+                )
+            )
+        );
+    }
+
+    public void testTermsAggregationCost() {
+        // shards build shard_size buckets, which defaults to more than size
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.TERM_COST + BucketUtils.suggestShardSideQueueSize(1000),
+            SearchCostEstimator.estimate(new SearchSourceBuilder().aggregation(AggregationBuilders.terms("t").field("f").size(1000)))
+        );
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.TERM_COST + 5000,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().aggregation(AggregationBuilders.terms("t").field("f").size(1000).shardSize(5000))
+            )
+        );
+        // a shard_size below size is raised to size
+        assertEquals(
+            SearchCostEstimator.TERM_COST + SearchCostEstimator.TERM_COST + 1000,
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().aggregation(AggregationBuilders.terms("t").field("f").size(1000).shardSize(10))
+            )
+        );
+    }
+
+    public void testHeavyRequests() {
+        final long heavyCost = SearchService.ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING.getDefault(Settings.EMPTY);
+        assertThat(
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().query(QueryBuilders.termQuery("f", "v")).aggregation(AggregationBuilders.terms("t").field("f"))
+            ),
+            lessThan(heavyCost)
+        );
+        assertThat(
+            SearchCostEstimator.estimate(new SearchSourceBuilder().query(QueryBuilders.wildcardQuery("f", "*error*"))),
+            greaterThanOrEqualTo(heavyCost)
+        );
+        // a single aggregation returning many buckets
+        assertThat(
+            SearchCostEstimator.estimate(new SearchSourceBuilder().aggregation(AggregationBuilders.terms("t").field("f").size(1000))),
+            greaterThanOrEqualTo(heavyCost)
+        );
+        // nesting high cardinality aggregations under many buckets
+        assertThat(
+            SearchCostEstimator.estimate(
+                new SearchSourceBuilder().aggregation(
+                    AggregationBuilders.terms("t")
+                        .field("f")
+                        .size(1000)
+                        .subAggregation(AggregationBuilders.terms("u").field("g").size(1000))
+                )
+            ),
+            greaterThanOrEqualTo(heavyCost)
+        );
+    }
+
+    public void testParseAdmissionControlMode() {
+        for (SearchService.AdmissionControlMode mode : SearchService.AdmissionControlMode.values()) {
+            assertEquals(mode, SearchService.AdmissionControlMode.parse(mode.toString()));
+        }
+        assertEquals(SearchService.AdmissionControlMode.DISABLED, SearchService.ADMISSION_CONTROL_MODE_SETTING.get(Settings.EMPTY));
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> SearchService.ADMISSION_CONTROL_MODE_SETTING.get(Settings.builder().put("search.admission_control.mode", "x").build())
+        );
+        assertEquals("unknown search admission control mode [x], must be one of [disabled, throttle, reject]", e.getMessage());
+    }
+}
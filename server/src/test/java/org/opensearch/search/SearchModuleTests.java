@@ -33,9 +33,11 @@ package org.opensearch.search;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.util.CharsRefBuilder;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -416,6 +418,28 @@ public class SearchModuleTests extends OpenSearchTestCase {
         );
     }
 
+    public void testRegisterSearchResponseCachePredicates() {
+        SearchModule module = new SearchModule(Settings.EMPTY, Arrays.asList(new SearchPlugin() {
+            @Override
+            public List<SearchResponseCachePredicate> getSearchResponseCachePredicates() {
+                return singletonList((request, threadContext) -> request.routing() == null);
+            }
+        }, new SearchPlugin() {
+            @Override
+            public List<SearchResponseCachePredicate> getSearchResponseCachePredicates() {
+                return singletonList((request, threadContext) -> threadContext.getHeader("tenant") == null);
+            }
+        }));
+        SearchPlugin.SearchResponseCachePredicate predicate = module.getSearchResponseCachePredicate();
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        assertTrue(predicate.canCache(new SearchRequest("index"), threadContext));
+        assertFalse(predicate.canCache(new SearchRequest("index").routing("routing"), threadContext));
+        threadContext.putHeader("tenant", "tenant");
+        assertFalse(predicate.canCache(new SearchRequest("index"), threadContext));
+        SearchModule noPlugins = new SearchModule(Settings.EMPTY, emptyList());
+        assertTrue(noPlugins.getSearchResponseCachePredicate().canCache(new SearchRequest("index"), threadContext));
+    }
+
     private static final String[] NON_DEPRECATED_QUERIES = new String[] {
         "bool",
         "boosting",
@@ -37,8 +37,10 @@ import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.bulk.BulkRequestBuilder;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.DeletePitResponse;
@@ -74,11 +76,13 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.settings.InternalOrPrivateSettingsPlugin;
 import org.opensearch.plugins.Plugin;
@@ -103,6 +107,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.search.suggest.SuggestBuilder;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -110,6 +115,7 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -212,6 +218,8 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
                 public void onQueryPhase(SearchContext context, long tookInNanos) {
                     if ("throttled_threadpool_index".equals(context.indexShard().shardId().getIndex().getName())) {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search_throttled]"));
+                    } else if ("heavy_threadpool_index".equals(context.indexShard().shardId().getIndex().getName())) {
+                        assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search_heavy]"));
                     } else {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search]"));
                     }
@@ -1176,6 +1184,197 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testConcurrentFetchWithoutConcurrentSegmentSearch() throws IOException {
+        IndexService indexService = createIndex("index");
+        BulkRequestBuilder bulk = client().prepareBulk().setRefreshPolicy(IMMEDIATE);
+        for (int i = 0; i < 250; i++) {
+            bulk.add(client().prepareIndex("index").setId(Integer.toString(i)).setSource("field", i));
+        }
+        assertFalse(bulk.get().hasFailures());
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().size(250).sort("field"));
+        ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            new ShardId(indexService.index(), 0),
+            indexService.numberOfShards(),
+            AliasFilter.EMPTY,
+            1f,
+            System.currentTimeMillis(),
+            null,
+            Strings.EMPTY_ARRAY
+        );
+        try (DefaultSearchContext searchContext = service.createSearchContext(request, new TimeValue(System.currentTimeMillis()))) {
+            assertNull(searchContext.fetchExecutor());
+        }
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(
+                Settings.builder()
+                    .put(SearchService.CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), false)
+                    .put(SearchService.CONCURRENT_FETCH_SETTING.getKey(), true)
+            )
+            .get();
+        try {
+            try (DefaultSearchContext searchContext = service.createSearchContext(request, new TimeValue(System.currentTimeMillis()))) {
+                assertNull(searchContext.searcher().getExecutor());
+                assertNotNull(searchContext.fetchExecutor());
+            }
+            SearchResponse response = client().prepareSearch("index").setSize(250).addSort("field", SortOrder.ASC).get();
+            assertEquals(250, response.getHits().getHits().length);
+            for (int i = 0; i < 250; i++) {
+                assertEquals(Integer.toString(i), response.getHits().getAt(i).getId());
+            }
+        } finally {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder()
+                        .putNull(SearchService.CONCURRENT_SEGMENT_SEARCH_SETTING.getKey())
+                        .putNull(SearchService.CONCURRENT_FETCH_SETTING.getKey())
+                )
+                .get();
+        }
+    }
+
+    public void testAdmissionControl() {
+        createIndex("heavy_threadpool_index");
+        client().prepareIndex("heavy_threadpool_index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(
+                Settings.builder()
+                    .put(SearchService.ADMISSION_CONTROL_MODE_SETTING.getKey(), "throttle")
+                    .put(SearchService.ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING.getKey(), 1)
+            )
+            .get();
+        try {
+            // the query phase of every request runs on the search_heavy thread pool, see CustomScriptPlugin
+            SearchResponse response = client().prepareSearch("heavy_threadpool_index").get();
+            assertEquals(0, response.getFailedShards());
+            assertEquals(1L, response.getHits().getTotalHits().value);
+
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder()
+                        .put(SearchService.ADMISSION_CONTROL_MODE_SETTING.getKey(), "reject")
+                        .put(SearchService.ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING.getKey(), 0)
+                )
+                .get();
+            // an empty queue already holds as many requests as allowed
+            SearchPhaseExecutionException e = expectThrows(
+                SearchPhaseExecutionException.class,
+                () -> client().prepareSearch("heavy_threadpool_index").get()
+            );
+            assertNotNull(ExceptionsHelper.unwrap(e.shardFailures()[0].getCause(), OpenSearchRejectedExecutionException.class));
+        } finally {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder()
+                        .putNull(SearchService.ADMISSION_CONTROL_MODE_SETTING.getKey())
+                        .putNull(SearchService.ADMISSION_CONTROL_HEAVY_QUERY_COST_SETTING.getKey())
+                        .putNull(SearchService.ADMISSION_CONTROL_MAX_QUEUE_SIZE_SETTING.getKey())
+                )
+                .get();
+        }
+    }
+
+    public void testNowIsOnlyRoundedForCacheableRequests() throws IOException {
+        final long hour = TimeValue.timeValueHours(1).millis();
+        IndexService indexService = createIndex(
+            "index",
+            Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), "1h").build()
+        );
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        ShardId shardId = new ShardId(indexService.index(), 0);
+        long nowInMillis = System.currentTimeMillis();
+        if (nowInMillis % hour == 0) {
+            nowInMillis++;
+        }
+        SearchRequest cacheableRequest = new SearchRequest().source(new SearchSourceBuilder().size(0));
+        if (randomBoolean()) {
+            cacheableRequest.requestCache(true);
+        }
+        SearchRequest notCachedRequest = randomFrom(
+            new SearchRequest().source(new SearchSourceBuilder().size(0)).requestCache(false),
+            new SearchRequest().source(new SearchSourceBuilder().size(10)),
+            new SearchRequest().source(new SearchSourceBuilder().size(0)).scroll(TimeValue.timeValueMinutes(1))
+        );
+        for (SearchRequest searchRequest : Arrays.asList(cacheableRequest, notCachedRequest)) {
+            ShardSearchRequest request = new ShardSearchRequest(
+                OriginalIndices.NONE,
+                searchRequest,
+                shardId,
+                indexService.numberOfShards(),
+                AliasFilter.EMPTY,
+                1f,
+                nowInMillis,
+                null,
+                Strings.EMPTY_ARRAY
+            );
+            try (DefaultSearchContext searchContext = service.createSearchContext(request, new TimeValue(System.currentTimeMillis()))) {
+                QueryShardContext queryShardContext = searchContext.getQueryShardContext();
+                if (searchRequest == cacheableRequest) {
+                    assertEquals(nowInMillis - nowInMillis % hour, queryShardContext.nowInMillis());
+                    assertTrue(queryShardContext.isNowRounded());
+                    assertTrue(queryShardContext.isCacheable());
+                } else {
+                    // requests that are not cached must see the exact time
+                    assertEquals(nowInMillis, queryShardContext.nowInMillis());
+                    assertFalse(queryShardContext.isNowRounded());
+                    assertFalse(queryShardContext.isCacheable());
+                }
+            }
+        }
+    }
+
+    public void testCanMatchReaderGenerationDependsOnExactNow() throws IOException {
+        createIndex("index", Settings.EMPTY, "_doc", "timestamp", "type=date");
+        client().prepareIndex("index").setId("1").setSource("timestamp", "2020-01-01").setRefreshPolicy(IMMEDIATE).get();
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+
+        final SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true);
+        searchRequest.source(new SearchSourceBuilder().query(new RangeQueryBuilder("timestamp").gte("2019-01-01")));
+        final ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1f,
+            System.currentTimeMillis(),
+            null,
+            null
+        );
+        assertNotNull(service.canMatch(request).readerGeneration());
+
+        // the decision only holds at the exact time of the request
+        searchRequest.source(new SearchSourceBuilder().query(new RangeQueryBuilder("timestamp").gte("now-1d")));
+        final ShardSearchRequest nowRequest = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1f,
+            System.currentTimeMillis(),
+            null,
+            null
+        );
+        final SearchService.CanMatchResponse response = service.canMatch(nowRequest);
+        assertFalse(response.canMatch());
+        assertNull(response.readerGeneration());
+    }
+
     /**
      * While we have no NPE in DefaultContext constructor anymore, we still want to guard against it (or other failures) in the future to
      * avoid leaking searchers.
@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.script.MockScriptEngine;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptModule;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.TooManyBucketsException;
+import org.opensearch.search.aggregations.bucket.sampler.SamplerAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.ScriptedMetricAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class AggregationCollectorManagerTests extends AggregatorTestCase {
+    private static final String KEYWORD_FIELD = "keyword";
+    private static final String NUMBER_FIELD = "number";
+    private static final String VALUE_SCRIPT = "value";
+    private static final String MAP_SCRIPT = "map";
+    private static final String COMBINE_SCRIPT = "combine";
+    private static final String REDUCE_SCRIPT = "reduce";
+
+    public void testReduceSlices() throws IOException {
+        final MappedFieldType keywordFieldType = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+        final MappedFieldType numberFieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD, NumberFieldMapper.NumberType.LONG);
+        final Map<String, Long> expectedDocCounts = new HashMap<>();
+        long expectedSum = 0;
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                final int numSegments = randomIntBetween(2, 8);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    final int numDocs = randomIntBetween(1, 50);
+                    for (int i = 0; i < numDocs; i++) {
+                        final String term = Integer.toString(randomIntBetween(0, 9));
+                        final long value = randomIntBetween(0, 1000);
+                        final Document document = new Document();
+                        document.add(new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef(term)));
+                        document.add(new SortedNumericDocValuesField(NUMBER_FIELD, value));
+                        writer.addDocument(document);
+                        expectedDocCounts.merge(term, 1L, Long::sum);
+                        expectedSum += value;
+                    }
+                    writer.commit();
+                }
+            }
+
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(KEYWORD_FIELD);
+                final SumAggregationBuilder sum = new SumAggregationBuilder("sum").field(NUMBER_FIELD);
+                final SearchContext context = createSearchContext(
+                    reader,
+                    DEFAULT_MAX_BUCKETS,
+                    new SearchSourceBuilder().aggregation(terms).aggregation(sum),
+                    keywordFieldType,
+                    numberFieldType
+                );
+                final AggregationPhase aggregationPhase = new AggregationPhase();
+                searchSlices(aggregationPhase, context, randomIntBetween(2, reader.leaves().size()));
+                aggregationPhase.execute(context);
+
+                assertTrue(context.queryResult().hasAggs());
+                final InternalAggregations result = context.queryResult().aggregations().expand();
+                assertNull(context.queryCollectorManagers().get(AggregationPhase.class));
+                final StringTerms termsResult = result.get("terms");
+                assertEquals(expectedDocCounts.size(), termsResult.getBuckets().size());
+                for (Terms.Bucket bucket : termsResult.getBuckets()) {
+                    assertEquals(expectedDocCounts.get(bucket.getKeyAsString()).longValue(), bucket.getDocCount());
+                }
+                final InternalSum sumResult = result.get("sum");
+                assertEquals(expectedSum, sumResult.getValue(), 0d);
+            }
+        }
+    }
+
+    public void testMaxBucketsAppliesToTheShard() throws IOException {
+        final MappedFieldType keywordFieldType = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // two segments with five distinct terms each
+                for (int segment = 0; segment < 2; segment++) {
+                    for (int i = 0; i < 5; i++) {
+                        final Document document = new Document();
+                        document.add(new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef(segment + "-" + i)));
+                        writer.addDocument(document);
+                    }
+                    writer.commit();
+                }
+            }
+
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final SearchContext context = createSearchContext(
+                    reader,
+                    7,
+                    new SearchSourceBuilder().aggregation(new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)),
+                    keywordFieldType
+                );
+                final AggregationPhase aggregationPhase = new AggregationPhase();
+                searchSlices(aggregationPhase, context, 2);
+                // each slice builds five buckets, which are within the limit, but the shard has ten
+                final TooManyBucketsException e = expectThrows(TooManyBucketsException.class, () -> aggregationPhase.execute(context));
+                assertEquals(7, e.getMaxBuckets());
+                assertThat(e.getMessage(), containsString("but was [10]"));
+            }
+        }
+    }
+
+    public void testSupportsConcurrentSegmentSearch() throws IOException {
+        final MappedFieldType keywordFieldType = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+        try (Directory directory = newDirectory()) {
+            new IndexWriter(directory, newIndexWriterConfig()).close();
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final SearchContext context = createSearchContext(
+                    new IndexSearcher(reader),
+                    createIndexSettings(),
+                    new MatchAllDocsQuery(),
+                    new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)),
+                    keywordFieldType
+                );
+                final AggregatorFactories terms = AggregatorFactories.builder()
+                    .addAggregator(new TermsAggregationBuilder("terms").field(KEYWORD_FIELD))
+                    .build(context.getQueryShardContext(), null);
+                assertTrue(terms.supportsConcurrentSegmentSearch());
+
+                // the sampler needs the top documents of the whole shard, even under another aggregation
+                final AggregatorFactories sampler = AggregatorFactories.builder()
+                    .addAggregator(
+                        new TermsAggregationBuilder("terms").field(KEYWORD_FIELD).subAggregation(new SamplerAggregationBuilder("sampler"))
+                    )
+                    .build(context.getQueryShardContext(), null);
+                assertFalse(sampler.supportsConcurrentSegmentSearch());
+
+                // scripts share the source lookup of the search
+                final AggregatorFactories valueScript = AggregatorFactories.builder()
+                    .addAggregator(new TermsAggregationBuilder("terms").field(KEYWORD_FIELD).script(script(VALUE_SCRIPT)))
+                    .build(context.getQueryShardContext(), null);
+                assertFalse(valueScript.supportsConcurrentSegmentSearch());
+                final AggregatorFactories subAggregationScript = AggregatorFactories.builder()
+                    .addAggregator(
+                        new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+                            .subAggregation(new SumAggregationBuilder("sum").script(script(VALUE_SCRIPT)))
+                    )
+                    .build(context.getQueryShardContext(), null);
+                assertFalse(subAggregationScript.supportsConcurrentSegmentSearch());
+                final AggregatorFactories scriptedMetric = AggregatorFactories.builder()
+                    .addAggregator(
+                        new ScriptedMetricAggregationBuilder("scripted").mapScript(script(MAP_SCRIPT))
+                            .combineScript(script(COMBINE_SCRIPT))
+                            .reduceScript(script(REDUCE_SCRIPT))
+                    )
+                    .build(context.getQueryShardContext(), null);
+                assertFalse(scriptedMetric.supportsConcurrentSegmentSearch());
+            }
+        }
+    }
+
+    @Override
+    protected ScriptService getMockScriptService() {
+        final Map<String, Function<Map<String, Object>, Object>> scripts = new HashMap<>();
+        scripts.put(VALUE_SCRIPT, vars -> vars.get("_value"));
+        scripts.put(MAP_SCRIPT, vars -> null);
+        scripts.put(COMBINE_SCRIPT, vars -> null);
+        scripts.put(REDUCE_SCRIPT, vars -> null);
+        final MockScriptEngine scriptEngine = new MockScriptEngine(MockScriptEngine.NAME, scripts, Collections.emptyMap());
+        return new ScriptService(
+            Settings.EMPTY,
+            Collections.singletonMap(scriptEngine.getType(), scriptEngine),
+            ScriptModule.CORE_CONTEXTS
+        );
+    }
+
+    private static Script script(String name) {
+        return new Script(ScriptType.INLINE, MockScriptEngine.NAME, name, Collections.emptyMap());
+    }
+
+    private SearchContext createSearchContext(IndexReader reader, int maxBuckets, SearchSourceBuilder source, MappedFieldType... fieldTypes)
+        throws IOException {
+        final SearchContext context = createSearchContext(
+            new IndexSearcher(reader),
+            createIndexSettings(),
+            new MatchAllDocsQuery(),
+            new MultiBucketConsumer(maxBuckets, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)),
+            fieldTypes
+        );
+        final AggregatorFactories.Builder builder = AggregatorFactories.builder();
+        source.aggregations().getAggregatorFactories().forEach(builder::addAggregator);
+        final AggregatorFactories factories = builder.build(context.getQueryShardContext(), null);
+        assertTrue(factories.supportsConcurrentSegmentSearch());
+        final SearchContextAggregations aggregations = new SearchContextAggregations(
+            factories,
+            new MultiBucketConsumer(maxBuckets, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST))
+        );
+        final ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(source);
+        when(context.request()).thenReturn(request);
+        when(context.aggregations()).thenReturn(aggregations);
+        when(context.queryCollectorManagers()).thenReturn(new HashMap<>());
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        return context;
+    }
+
+    /**
+     * Collects the segments of the reader of the context into as many slices as the concurrent segment search would, one
+     * segment after the other.
+     */
+    private static void searchSlices(AggregationPhase aggregationPhase, SearchContext context, int numSlices) throws IOException {
+        aggregationPhase.preProcess(context);
+        assertThat(context.queryCollectorManagers().get(AggregationPhase.class), instanceOf(AggregationCollectorManager.class));
+        final AggregationCollectorManager manager = (AggregationCollectorManager) context.queryCollectorManagers()
+            .get(AggregationPhase.class);
+
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<Collector> collectors = new ArrayList<>();
+        for (int i = 0; i < numSlices; i++) {
+            collectors.add(manager.newCollector());
+        }
+        assertEquals(numSlices - 1, manager.sliceAggregators().size());
+        final Query query = context.searcher().rewrite(context.query());
+        for (int i = 0; i < leaves.size(); i++) {
+            final Collector collector = collectors.get(i % numSlices);
+            final Weight weight = context.searcher().createWeight(query, collector.scoreMode(), 1f);
+            final BulkScorer scorer = weight.bulkScorer(leaves.get(i));
+            if (scorer != null) {
+                scorer.score(collector.getLeafCollector(leaves.get(i)), leaves.get(i).reader().getLiveDocs());
+            }
+        }
+        manager.reduce(collectors).reduce(context.queryResult());
+    }
+}
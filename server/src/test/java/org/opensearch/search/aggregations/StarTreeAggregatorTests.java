@@ -0,0 +1,392 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene94.Lucene94Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.codec.startree.StarTreeCodec;
+import org.opensearch.index.codec.startree.StarTreeConfig;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.Aggregator.SubAggCollectionMode;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.LongBounds;
+import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Checks that the aggregations that can be computed from the star trees of the segments return the same results as when
+ * they collect the documents of an index without star trees. Whether the trees were used is told by the numeric doc values
+ * that the aggregations read: none of the fields that the trees hold are read from segments whose tree was used.
+ */
+public class StarTreeAggregatorTests extends AggregatorTestCase {
+
+    private static final String ID_FIELD = "id";
+    private static final String KEYWORD_FIELD = "keyword";
+    private static final String DATE_FIELD = "date";
+    private static final String VALUE_FIELD = "value";
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAYS = 3 * 24 * HOUR;
+
+    private static final MappedFieldType KEYWORD_FIELD_TYPE = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+    private static final MappedFieldType DATE_FIELD_TYPE = new DateFieldMapper.DateFieldType(DATE_FIELD);
+    private static final MappedFieldType VALUE_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        VALUE_FIELD,
+        NumberFieldMapper.NumberType.DOUBLE
+    );
+
+    public void testMetrics() throws IOException {
+        for (AggregationBuilder metric : metrics()) {
+            final Set<String> read = assertSameResult(metric, new MatchAllDocsQuery(), false);
+            assertFalse(metric.getName(), read.contains(VALUE_FIELD));
+        }
+    }
+
+    public void testMetricsWithDeletes() throws IOException {
+        for (AggregationBuilder metric : metrics()) {
+            // the trees of the segments with deletes still count the deleted documents, these segments are collected
+            final Set<String> read = assertSameResult(metric, new MatchAllDocsQuery(), true);
+            assertTrue(metric.getName(), read.contains(VALUE_FIELD));
+        }
+    }
+
+    public void testQueryThatDoesNotMatchAllDocuments() throws IOException {
+        final Set<String> read = assertSameResult(randomMetric(), LongPoint.newRangeQuery(DATE_FIELD, 0, DAYS / 2), false);
+        assertTrue(read.contains(VALUE_FIELD));
+    }
+
+    public void testTerms() throws IOException {
+        assertSameResult(new TermsAggregationBuilder("terms").field(KEYWORD_FIELD), new MatchAllDocsQuery(), randomBoolean());
+        assertSameResult(
+            new TermsAggregationBuilder("terms").field(KEYWORD_FIELD).executionHint("global_ordinals"),
+            new MatchAllDocsQuery(),
+            randomBoolean()
+        );
+    }
+
+    public void testTermsWithSubAggregation() throws IOException {
+        // the segments only hold some of the terms, so their ordinals differ from the global ones
+        final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+            .collectMode(SubAggCollectionMode.DEPTH_FIRST)
+            .subAggregation(randomMetric());
+        final Set<String> read = assertSameResult(terms, new MatchAllDocsQuery(), false);
+        assertFalse(read.contains(VALUE_FIELD));
+    }
+
+    public void testTermsWithDeferredSubAggregation() throws IOException {
+        final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+            .collectMode(SubAggCollectionMode.BREADTH_FIRST)
+            .subAggregation(randomMetric());
+        final Set<String> read = assertSameResult(terms, new MatchAllDocsQuery(), false);
+        // deferred sub-aggregations replay the documents of the segment
+        assertTrue(read.contains(VALUE_FIELD));
+    }
+
+    public void testTermsIncludeExclude() throws IOException {
+        final IncludeExclude includeExclude;
+        switch (randomIntBetween(0, 2)) {
+            case 0:
+                includeExclude = new IncludeExclude(new String[] { "a", "c", "e" }, null);
+                break;
+            case 1:
+                includeExclude = new IncludeExclude(null, new String[] { "b", "c" });
+                break;
+            default:
+                includeExclude = new IncludeExclude("[a-d]", "b");
+                break;
+        }
+        assertSameResult(
+            new TermsAggregationBuilder("terms").field(KEYWORD_FIELD).includeExclude(includeExclude),
+            new MatchAllDocsQuery(),
+            false
+        );
+        final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+            .includeExclude(includeExclude)
+            .collectMode(SubAggCollectionMode.DEPTH_FIRST)
+            .subAggregation(randomMetric());
+        final Set<String> read = assertSameResult(terms, new MatchAllDocsQuery(), false);
+        assertFalse(read.contains(VALUE_FIELD));
+    }
+
+    public void testDateHistogram() throws IOException {
+        assertSameResult(alignedDateHistogram(), new MatchAllDocsQuery(), randomBoolean());
+    }
+
+    public void testDateHistogramWithSubAggregation() throws IOException {
+        final Set<String> read = assertSameResult(
+            alignedDateHistogram().subAggregation(new AvgAggregationBuilder("avg").field(VALUE_FIELD)),
+            new MatchAllDocsQuery(),
+            false
+        );
+        assertFalse(read.contains(DATE_FIELD));
+        assertFalse(read.contains(VALUE_FIELD));
+    }
+
+    public void testUnalignedDateHistogram() throws IOException {
+        final DateHistogramAggregationBuilder histogram = new DateHistogramAggregationBuilder("histogram").field(DATE_FIELD);
+        switch (randomIntBetween(0, 2)) {
+            case 0:
+                histogram.fixedInterval(new DateHistogramInterval("30m"));
+                break;
+            case 1:
+                histogram.fixedInterval(new DateHistogramInterval("90m"));
+                break;
+            default:
+                histogram.calendarInterval(DateHistogramInterval.HOUR).offset("+30m");
+                break;
+        }
+        histogram.subAggregation(randomMetric());
+        final Set<String> read = assertSameResult(histogram, new MatchAllDocsQuery(), false);
+        // the dates that the trees round down to the hour span several buckets
+        assertTrue(read.contains(DATE_FIELD));
+        assertTrue(read.contains(VALUE_FIELD));
+    }
+
+    public void testDateHistogramHardBounds() throws IOException {
+        final long min = randomLongBetween(0, DAYS / 2);
+        final DateHistogramAggregationBuilder histogram = alignedDateHistogram().hardBounds(
+            new LongBounds(min, min + randomLongBetween(1, DAYS / 2))
+        ).subAggregation(randomMetric());
+        final Set<String> read = assertSameResult(histogram, new MatchAllDocsQuery(), false);
+        assertFalse(read.contains(DATE_FIELD));
+        assertFalse(read.contains(VALUE_FIELD));
+    }
+
+    public void testNestedBucketAggregations() throws IOException {
+        final AggregationBuilder aggregation;
+        if (randomBoolean()) {
+            aggregation = alignedDateHistogram().subAggregation(
+                new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+                    .collectMode(SubAggCollectionMode.DEPTH_FIRST)
+                    .subAggregation(randomMetric())
+            );
+        } else {
+            aggregation = new TermsAggregationBuilder("terms").field(KEYWORD_FIELD)
+                .collectMode(SubAggCollectionMode.DEPTH_FIRST)
+                .subAggregation(alignedDateHistogram().subAggregation(randomMetric()));
+        }
+        final Set<String> read = assertSameResult(aggregation, new MatchAllDocsQuery(), false);
+        assertFalse(read.contains(DATE_FIELD));
+        assertFalse(read.contains(VALUE_FIELD));
+    }
+
+    private static List<AggregationBuilder> metrics() {
+        return Arrays.asList(
+            new SumAggregationBuilder("sum").field(VALUE_FIELD),
+            new MinAggregationBuilder("min").field(VALUE_FIELD),
+            new MaxAggregationBuilder("max").field(VALUE_FIELD),
+            new AvgAggregationBuilder("avg").field(VALUE_FIELD),
+            new ValueCountAggregationBuilder("value_count").field(VALUE_FIELD)
+        );
+    }
+
+    private static AggregationBuilder randomMetric() {
+        return randomFrom(metrics());
+    }
+
+    /**
+     * A date histogram whose buckets start at multiples of the one hour interval of the trees.
+     */
+    private static DateHistogramAggregationBuilder alignedDateHistogram() {
+        final DateHistogramAggregationBuilder histogram = new DateHistogramAggregationBuilder("histogram").field(DATE_FIELD);
+        switch (randomIntBetween(0, 2)) {
+            case 0:
+                return histogram.calendarInterval(DateHistogramInterval.HOUR);
+            case 1:
+                return histogram.calendarInterval(DateHistogramInterval.DAY);
+            default:
+                return histogram.fixedInterval(new DateHistogramInterval(randomIntBetween(1, 6) + "h"));
+        }
+    }
+
+    /**
+     * Indexes the same random documents into an index with star trees and into one without, checks that the aggregation
+     * returns the same result on both, and returns the fields whose numeric doc values were read from the index with star
+     * trees.
+     */
+    private Set<String> assertSameResult(AggregationBuilder aggregation, Query query, boolean deletes) throws IOException {
+        final Map<String, MappedFieldType> fieldTypes = new HashMap<>();
+        fieldTypes.put(KEYWORD_FIELD, KEYWORD_FIELD_TYPE);
+        fieldTypes.put(DATE_FIELD, DATE_FIELD_TYPE);
+        fieldTypes.put(VALUE_FIELD, VALUE_FIELD_TYPE);
+        final StarTreeConfig config = new StarTreeConfig(
+            Arrays.asList(KEYWORD_FIELD, DATE_FIELD),
+            Collections.singletonList(VALUE_FIELD),
+            HOUR,
+            randomIntBetween(1, 100),
+            Integer.MAX_VALUE,
+            fieldTypes::get
+        );
+        try (Directory starTreeDirectory = newDirectory(); Directory directory = newDirectory()) {
+            try (
+                IndexWriter starTreeWriter = newWriter(starTreeDirectory, new StarTreeCodec(new Lucene94Codec(), config));
+                IndexWriter writer = newWriter(directory, new Lucene94Codec())
+            ) {
+                final int numSegments = randomIntBetween(1, 5);
+                int numDocs = 0;
+                for (int segment = 0; segment < numSegments; segment++) {
+                    // segments only hold some of the terms, so that their ordinals differ from the global ones
+                    final String[] terms = randomSubsetOf(randomIntBetween(1, 6), "a", "b", "c", "d", "e", "f").toArray(new String[0]);
+                    // more documents than deletions, so that no segment is fully deleted
+                    final int segmentDocs = randomIntBetween(20, 200);
+                    for (int i = 0; i < segmentDocs; i++) {
+                        final Document document = new Document();
+                        document.add(new StringField(ID_FIELD, Integer.toString(numDocs++), Field.Store.NO));
+                        if (rarely() == false) {
+                            document.add(new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef(randomFrom(terms))));
+                        }
+                        if (rarely() == false) {
+                            final long date = randomLongBetween(0, DAYS - 1);
+                            document.add(new LongPoint(DATE_FIELD, date));
+                            document.add(new SortedNumericDocValuesField(DATE_FIELD, date));
+                        }
+                        if (rarely() == false) {
+                            // multiples of 1/8 are summed exactly in any order
+                            final double value = randomIntBetween(-1000, 1000) / 8d;
+                            document.add(new SortedNumericDocValuesField(VALUE_FIELD, NumericUtils.doubleToSortableLong(value)));
+                        }
+                        starTreeWriter.addDocument(document);
+                        writer.addDocument(document);
+                    }
+                    starTreeWriter.commit();
+                    writer.commit();
+                }
+                if (deletes) {
+                    final Term[] ids = new Term[randomIntBetween(1, Math.min(10, numDocs))];
+                    ids[0] = new Term(ID_FIELD, "0");
+                    for (int i = 1; i < ids.length; i++) {
+                        ids[i] = new Term(ID_FIELD, Integer.toString(randomIntBetween(0, numDocs - 1)));
+                    }
+                    starTreeWriter.deleteDocuments(ids);
+                    writer.deleteDocuments(ids);
+                }
+            }
+
+            final Set<String> read = new HashSet<>();
+            try (
+                DirectoryReader starTreeReader = trackNumericDocValues(DirectoryReader.open(starTreeDirectory), read);
+                DirectoryReader reader = DirectoryReader.open(directory)
+            ) {
+                int starTrees = 0;
+                for (LeafReaderContext ctx : starTreeReader.leaves()) {
+                    if (StarTreeDocValuesFormat.getStarTree(ctx.reader()) != null) {
+                        starTrees++;
+                    }
+                }
+                if (deletes == false) {
+                    assertEquals(starTreeReader.leaves().size(), starTrees);
+                }
+                assertThat(starTreeReader.leaves().size(), greaterThan(0));
+
+                final InternalAggregation expected = searchAndReduce(
+                    new IndexSearcher(reader),
+                    query,
+                    aggregation,
+                    KEYWORD_FIELD_TYPE,
+                    DATE_FIELD_TYPE,
+                    VALUE_FIELD_TYPE
+                );
+                final InternalAggregation actual = searchAndReduce(
+                    new IndexSearcher(starTreeReader),
+                    query,
+                    aggregation,
+                    KEYWORD_FIELD_TYPE,
+                    DATE_FIELD_TYPE,
+                    VALUE_FIELD_TYPE
+                );
+                assertEquals(expected.toString(), actual.toString());
+            }
+            return read;
+        }
+    }
+
+    private IndexWriter newWriter(Directory directory, Codec codec) throws IOException {
+        return new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE).setCodec(codec));
+    }
+
+    /**
+     * Wraps the reader to record the fields whose numeric doc values are read. The star trees of the segments are still found
+     * behind the wrapped readers.
+     */
+    private static DirectoryReader trackNumericDocValues(DirectoryReader reader, Set<String> fields) throws IOException {
+        return new FilterDirectoryReader(reader, new FilterDirectoryReader.SubReaderWrapper() {
+            @Override
+            public LeafReader wrap(LeafReader leaf) {
+                return new FilterLeafReader(leaf) {
+                    @Override
+                    public SortedNumericDocValues getSortedNumericDocValues(String field) throws IOException {
+                        fields.add(field);
+                        return super.getSortedNumericDocValues(field);
+                    }
+
+                    @Override
+                    public CacheHelper getCoreCacheHelper() {
+                        return in.getCoreCacheHelper();
+                    }
+
+                    @Override
+                    public CacheHelper getReaderCacheHelper() {
+                        return in.getReaderCacheHelper();
+                    }
+                };
+            }
+        }) {
+            @Override
+            protected DirectoryReader doWrapDirectoryReader(DirectoryReader in) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CacheHelper getReaderCacheHelper() {
+                return in.getReaderCacheHelper();
+            }
+        };
+    }
+}
@@ -37,11 +37,20 @@ import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.index.mapper.DateFieldMapper;
@@ -55,7 +64,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -1178,6 +1189,126 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         );
     }
 
+    public void testHardBoundsWithIndexSort() throws IOException {
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        final List<Long> dates = new ArrayList<>();
+        final long start = asLong("2017-02-01T00:00:00");
+        for (int i = 0; i < 500; i++) {
+            dates.add(start + randomLongBetween(0, 28 * 24 * 60 * 60 * 1000L));
+        }
+        // index in time order, like time-series data
+        Collections.sort(dates);
+        final Consumer<DateHistogramAggregationBuilder> configure = aggregation -> aggregation.calendarInterval(DateHistogramInterval.DAY)
+            .hardBounds(new LongBounds("2017-02-09", "2017-02-17"))
+            .field(AGGREGABLE_DATE);
+        final InternalDateHistogram expected = searchWithIndexSort(dates, null, configure, fieldType);
+        assertFalse(expected.getBuckets().isEmpty());
+        final boolean reverse = randomBoolean();
+        final Sort indexSort = new Sort(
+            new SortedNumericSortField(
+                AGGREGABLE_DATE,
+                SortField.Type.LONG,
+                reverse,
+                reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN
+            )
+        );
+        final InternalDateHistogram actual = searchWithIndexSort(dates, indexSort, configure, fieldType);
+        assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+        for (int i = 0; i < expected.getBuckets().size(); i++) {
+            assertEquals(expected.getBuckets().get(i).getKey(), actual.getBuckets().get(i).getKey());
+            assertEquals(expected.getBuckets().get(i).getDocCount(), actual.getBuckets().get(i).getDocCount());
+        }
+    }
+
+    private InternalDateHistogram searchWithIndexSort(
+        List<Long> dates,
+        Sort indexSort,
+        Consumer<DateHistogramAggregationBuilder> configure,
+        DateFieldMapper.DateFieldType fieldType
+    ) throws IOException {
+        try (Directory directory = newDirectory()) {
+            final IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+            if (indexSort != null) {
+                config.setIndexSort(indexSort);
+            }
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                for (long date : dates) {
+                    final Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, date));
+                    document.add(new LongPoint(AGGREGABLE_DATE, date));
+                    indexWriter.addDocument(document);
+                    if (random().nextInt(20) == 0) {
+                        // some segments fall entirely out of the hard bounds
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name");
+                configure.accept(aggregationBuilder);
+                return searchAndReduce(newSearcher(indexReader, true, true), new MatchAllDocsQuery(), aggregationBuilder, fieldType);
+            }
+        }
+    }
+
+    public void testCountFromPoints() throws IOException {
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        final long start = asLong("2017-02-01T00:00:00");
+        final long end = start + 28 * 24 * 60 * 60 * 1000L;
+        try (Directory directory = newDirectory()) {
+            final IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                for (int i = 0; i < 1000; i++) {
+                    final long date = randomLongBetween(start, end);
+                    final Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, date));
+                    document.add(new LongPoint(AGGREGABLE_DATE, date));
+                    indexWriter.addDocument(document);
+                    if (random().nextInt(100) == 0) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final Query query = randomBoolean()
+                    ? new MatchAllDocsQuery()
+                    : LongPoint.newRangeQuery(AGGREGABLE_DATE, randomLongBetween(start, end), randomLongBetween(end, end + end - start));
+                // the aggregation collects the documents of a query that it cannot count from the points
+                final Query collectedQuery = new BooleanQuery.Builder().add(query, BooleanClause.Occur.FILTER)
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .build();
+                final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(
+                    AGGREGABLE_DATE
+                ).fixedInterval(new DateHistogramInterval(randomFrom("1h", "1d", "7d")));
+
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                final InternalDateHistogram expected = searchAndReduce(indexSearcher, collectedQuery, aggregationBuilder, fieldType);
+                final InternalDateHistogram actual = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+                for (int i = 0; i < expected.getBuckets().size(); i++) {
+                    assertEquals(expected.getBuckets().get(i).getKey(), actual.getBuckets().get(i).getKey());
+                    assertEquals(expected.getBuckets().get(i).getDocCount(), actual.getBuckets().get(i).getDocCount());
+                }
+
+                final IndexSearcher plainSearcher = new IndexSearcher(indexReader);
+                final DateHistogramAggregator aggregator = createAggregator(
+                    query,
+                    aggregationBuilder,
+                    plainSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                aggregator.preCollection();
+                plainSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                final Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(indexReader.leaves().size(), debug.get("optimized_segments"));
+                assertEquals(0, debug.get("unoptimized_segments"));
+            }
+        }
+    }
+
     public void testIllegalInterval() throws IOException {
         IllegalArgumentException e = expectThrows(
             IllegalArgumentException.class,
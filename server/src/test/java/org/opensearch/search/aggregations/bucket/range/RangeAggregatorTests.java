@@ -32,12 +32,19 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -56,7 +63,9 @@ import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singleton;
@@ -309,6 +318,64 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCountFromPoints() throws IOException {
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            final IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                for (int i = 0; i < 1000; i++) {
+                    final long value = randomLongBetween(0, 10000);
+                    final Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, value));
+                    document.add(new LongPoint(NUMBER_FIELD_NAME, value));
+                    indexWriter.addDocument(document);
+                    if (random().nextInt(100) == 0) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final Query query = randomBoolean()
+                    ? new MatchAllDocsQuery()
+                    : LongPoint.newRangeQuery(NUMBER_FIELD_NAME, randomLongBetween(0, 5000), randomLongBetween(5000, 20000));
+                // the aggregation collects the documents of a query that it cannot count from the points
+                final Query collectedQuery = new BooleanQuery.Builder().add(query, BooleanClause.Occur.FILTER)
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .build();
+                // overlapping ranges
+                final RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("range").field(NUMBER_FIELD_NAME)
+                    .addUnboundedTo(1000)
+                    .addRange(500, 2500.5)
+                    .addRange(2000, 7000)
+                    .addUnboundedFrom(6000);
+
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                final InternalRange<?, ?> expected = searchAndReduce(indexSearcher, collectedQuery, aggregationBuilder, fieldType);
+                final InternalRange<?, ?> actual = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+                for (int i = 0; i < expected.getBuckets().size(); i++) {
+                    assertEquals(expected.getBuckets().get(i).getDocCount(), actual.getBuckets().get(i).getDocCount());
+                }
+
+                final IndexSearcher plainSearcher = new IndexSearcher(indexReader);
+                final RangeAggregator aggregator = createAggregator(
+                    query,
+                    aggregationBuilder,
+                    plainSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                aggregator.preCollection();
+                plainSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                final Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(indexReader.leaves().size(), debug.get("optimized_segments"));
+                assertEquals(0, debug.get("unoptimized_segments"));
+            }
+        }
+    }
+
     private void testCase(
         Query query,
         CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
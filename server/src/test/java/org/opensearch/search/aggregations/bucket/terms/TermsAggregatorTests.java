@@ -52,6 +52,8 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.geo.GeoPoint;
 import org.opensearch.common.network.InetAddresses;
@@ -59,6 +61,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.text.Text;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.GeoPointFieldMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
@@ -120,6 +123,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -134,6 +138,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 
 public class TermsAggregatorTests extends AggregatorTestCase {
 
@@ -307,6 +312,147 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testMapCollectsSegmentOrds() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numSegments = randomIntBetween(1, 4);
+                for (int i = 0; i < numSegments; i++) {
+                    final int numDocs = randomIntBetween(1, 50);
+                    for (int j = 0; j < numDocs; j++) {
+                        Document document = new Document();
+                        document.add(new SortedSetDocValuesField("string", new BytesRef("val" + randomIntBetween(0, 20))));
+                        if (randomBoolean()) {
+                            document.add(new SortedSetDocValuesField("string", new BytesRef("val" + randomIntBetween(0, 20))));
+                        }
+                        indexWriter.addDocument(document);
+                    }
+                    indexWriter.commit();
+                }
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                    IncludeExclude includeExclude = randomBoolean() ? null : new IncludeExclude("val1.*", null);
+                    Map<String, Long> expected = new HashMap<>();
+                    for (TermsAggregatorFactory.ExecutionMode executionMode : TermsAggregatorFactory.ExecutionMode.values()) {
+                        TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").executionHint(
+                            executionMode.toString()
+                        ).field("string").includeExclude(includeExclude).size(100);
+                        TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                        if (executionMode == TermsAggregatorFactory.ExecutionMode.MAP) {
+                            assertThat(aggregator, instanceOf(MapStringTermsAggregator.SegmentOrds.class));
+                        }
+                        aggregator.preCollection();
+                        indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                        aggregator.postCollection();
+                        Terms result = reduce(aggregator);
+                        Map<String, Long> actual = new HashMap<>();
+                        for (Terms.Bucket bucket : result.getBuckets()) {
+                            actual.put(bucket.getKeyAsString(), bucket.getDocCount());
+                        }
+                        if (expected.isEmpty()) {
+                            expected = actual;
+                        } else {
+                            assertEquals(expected, actual);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void testSegmentOrdsConsumesNewBuckets() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numTerms = randomIntBetween(1, 50);
+                for (int i = 0; i < numTerms; i++) {
+                    Document document = new Document();
+                    document.add(new SortedSetDocValuesField("string", new BytesRef("val" + i)));
+                    indexWriter.addDocument(document);
+                }
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                    AtomicInteger consumedBuckets = new AtomicInteger();
+                    MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+                        DEFAULT_MAX_BUCKETS,
+                        new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                    ) {
+                        @Override
+                        public void accept(int value) {
+                            consumedBuckets.incrementAndGet();
+                            super.accept(value);
+                        }
+                    };
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").executionHint("map").field("string");
+                    TermsAggregator aggregator = createAggregator(
+                        aggregationBuilder,
+                        indexSearcher,
+                        createIndexSettings(),
+                        bucketConsumer,
+                        fieldType
+                    );
+                    assertThat(aggregator, instanceOf(MapStringTermsAggregator.SegmentOrds.class));
+                    aggregator.preCollection();
+                    indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+                    // every term is a new bucket, whichever segment it is in
+                    assertEquals(numTerms, consumedBuckets.get());
+                }
+            }
+        }
+    }
+
+    public void testGlobalOrdinalsSettingOnlyAppliesToSegmentOrds() throws Exception {
+        IndexSettings indexSettings = new IndexSettings(
+            IndexMetadata.builder("_index")
+                .settings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                        .put(IndexSettings.TERMS_AGGREGATION_GLOBAL_ORDINALS_SETTING.getKey(), false)
+                )
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .creationDate(System.currentTimeMillis())
+                .build(),
+            Settings.EMPTY
+        );
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                Document document = new Document();
+                document.add(new SortedSetDocValuesField("string", new BytesRef("val")));
+                indexWriter.addDocument(document);
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                    MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+                        DEFAULT_MAX_BUCKETS,
+                        new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                    );
+                    TermsAggregator aggregator = createAggregator(
+                        new TermsAggregationBuilder("_name").field("string"),
+                        indexSearcher,
+                        indexSettings,
+                        bucketConsumer,
+                        fieldType
+                    );
+                    assertThat(aggregator, instanceOf(MapStringTermsAggregator.SegmentOrds.class));
+
+                    // sub-aggregations need a bucket per collected document, which segment ordinals can't give without a lookup
+                    TermsAggregationBuilder withSubAggregation = new TermsAggregationBuilder("_name").field("string")
+                        .subAggregation(new TermsAggregationBuilder("_sub").field("string"));
+                    aggregator = createAggregator(
+                        withSubAggregation,
+                        indexSearcher,
+                        indexSettings,
+                        bucketConsumer,
+                        fieldType
+                    );
+                    assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+                }
+            }
+        }
+    }
+
     public void testStringIncludeExclude() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
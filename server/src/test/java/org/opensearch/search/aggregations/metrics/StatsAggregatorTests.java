@@ -137,6 +137,31 @@ public class StatsAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCollectsInBatches() throws IOException {
+        final MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.LONG);
+        final SimpleStatsAggregator expected = new SimpleStatsAggregator();
+        final int maxValuesPerDoc = randomIntBetween(1, 3);
+        testCase(stats("_name").field(ft.name()), iw -> {
+            // more documents than fit in a single batch, some of them without values
+            final int numDocs = randomIntBetween(1000, 3000);
+            for (int i = 0; i < numDocs; i++) {
+                final Document doc = new Document();
+                final int numValues = randomIntBetween(0, maxValuesPerDoc);
+                for (int j = 0; j < numValues; j++) {
+                    final long value = randomIntBetween(-1000, 1000);
+                    doc.add(new SortedNumericDocValuesField(ft.name(), value));
+                    expected.add(value);
+                }
+                iw.addDocument(doc);
+            }
+        }, stats -> {
+            assertEquals(expected.count, stats.getCount(), 0);
+            assertEquals(expected.sum, stats.getSum(), 0);
+            assertEquals(expected.min, stats.getMin(), 0);
+            assertEquals(expected.max, stats.getMax(), 0);
+        }, singleton(ft));
+    }
+
     public void testSummationAccuracy() throws IOException {
         // Summing up a normal array and expect an accurate value
         double[] values = new double[] { 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7 };
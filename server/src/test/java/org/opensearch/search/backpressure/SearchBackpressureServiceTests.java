@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.backpressure.stats.SearchBackpressureStats;
+import org.opensearch.search.backpressure.trackers.NodeDuressTracker;
+import org.opensearch.search.backpressure.trackers.TaskResourceUsageTracker;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.ResourceStats;
+import org.opensearch.tasks.ResourceStatsType;
+import org.opensearch.tasks.ResourceUsageMetric;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private final Map<Long, Task> tasks = new HashMap<>();
+    private final AtomicBoolean aboveThreshold = new AtomicBoolean();
+    private final AtomicLong clock = new AtomicLong(System.nanoTime());
+    private TaskResourceTrackingService taskResourceTrackingService;
+    private TaskManager taskManager;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        taskResourceTrackingService = mock(TaskResourceTrackingService.class);
+        when(taskResourceTrackingService.getResourceAwareTasks()).thenReturn(tasks);
+        taskManager = mock(TaskManager.class);
+    }
+
+    public void testDoesNotCancelWhenNodeIsNotInDuress() {
+        final SearchBackpressureService service = newService(SearchBackpressureMode.ENFORCED, 10);
+        addShardTask(1, TimeUnit.SECONDS.toNanos(20));
+
+        // the node must be in duress for successive checks
+        aboveThreshold.set(true);
+        service.doRun();
+        service.doRun();
+        aboveThreshold.set(false);
+        service.doRun();
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertEquals(0, service.nodeStats().getSearchShardTaskStats().getCancellationCount());
+    }
+
+    public void testCancelsResourceIntensiveTasks() {
+        final SearchBackpressureService service = newService(SearchBackpressureMode.ENFORCED, 3);
+        for (int i = 0; i < 5; i++) {
+            addShardTask(i, TimeUnit.SECONDS.toNanos(20));
+        }
+        addShardTask(10, TimeUnit.MILLISECONDS.toNanos(1));
+        final CancellableTask searchTask = new SearchTask(
+            11,
+            "transport",
+            "indices:data/read/search",
+            () -> "",
+            TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap()
+        );
+        tasks.put(searchTask.getId(), searchTask);
+
+        aboveThreshold.set(true);
+        for (int i = 0; i < 3; i++) {
+            service.doRun();
+        }
+
+        // cancellations are limited by the burst of the token buckets
+        verify(taskManager, times(3)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+        verify(taskManager, never()).cancelTaskAndDescendants(eq((CancellableTask) tasks.get(10L)), anyString(), anyBoolean(), any());
+        verify(taskManager, never()).cancelTaskAndDescendants(eq(searchTask), anyString(), anyBoolean(), any());
+        final SearchBackpressureStats stats = service.nodeStats();
+        assertEquals(3, stats.getSearchShardTaskStats().getCancellationCount());
+        assertEquals(1, stats.getSearchShardTaskStats().getLimitReachedCount());
+        final Map<String, TaskResourceUsageTracker.Stats> trackerStats = stats.getSearchShardTaskStats().getResourceUsageTrackerStats();
+        assertEquals(3, trackerStats.get(TaskResourceUsageTracker.CPU_USAGE_TRACKER).getCancellationCount());
+        assertEquals(0, trackerStats.get(TaskResourceUsageTracker.HEAP_USAGE_TRACKER).getCancellationCount());
+        assertEquals(0, stats.getSearchTaskStats().getCancellationCount());
+
+        // time and completed tasks allow more cancellations
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        service.doRun();
+        verify(taskManager, times(3)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+        for (int i = 0; i < 10; i++) {
+            service.onTaskCompleted(tasks.get(10L));
+        }
+        service.doRun();
+        verify(taskManager, times(4)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+    }
+
+    public void testLimitersDoNotTakeTokensUnlessBothAllow() {
+        final SearchBackpressureService service = newService(SearchBackpressureMode.ENFORCED, 3);
+        for (int i = 0; i < 5; i++) {
+            addShardTask(i, TimeUnit.SECONDS.toNanos(20));
+        }
+        addShardTask(10, TimeUnit.MILLISECONDS.toNanos(1));
+
+        aboveThreshold.set(true);
+        for (int i = 0; i < 3; i++) {
+            service.doRun();
+        }
+        verify(taskManager, times(3)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+
+        // completed tasks refill the ratio limiter, but the rate limiter is still empty
+        for (int i = 0; i < 10; i++) {
+            service.onTaskCompleted(tasks.get(10L));
+        }
+        service.doRun();
+        verify(taskManager, times(3)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+
+        // the ratio token was not taken by the denied attempt, so only time needs to pass
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        service.doRun();
+        verify(taskManager, times(4)).cancelTaskAndDescendants(any(), anyString(), eq(false), any());
+    }
+
+    public void testZeroRatioDisablesCancellations() {
+        final SearchBackpressureService service = newService(
+            Settings.builder()
+                .put(SearchBackpressureSettings.SETTING_MODE.getKey(), SearchBackpressureMode.ENFORCED.getName())
+                .put(SearchBackpressureSettings.SETTING_CANCELLATION_RATIO.getKey(), 0.0)
+                .build()
+        );
+        addShardTask(1, TimeUnit.SECONDS.toNanos(20));
+        aboveThreshold.set(true);
+        for (int i = 0; i < 3; i++) {
+            service.doRun();
+        }
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertEquals(0, service.nodeStats().getSearchShardTaskStats().getCancellationCount());
+        assertEquals(1, service.nodeStats().getSearchShardTaskStats().getLimitReachedCount());
+    }
+
+    public void testMonitorOnly() {
+        final SearchBackpressureService service = newService(SearchBackpressureMode.MONITOR_ONLY, 10);
+        addShardTask(1, TimeUnit.SECONDS.toNanos(20));
+        aboveThreshold.set(true);
+        for (int i = 0; i < 3; i++) {
+            service.doRun();
+        }
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertEquals(1, service.nodeStats().getSearchShardTaskStats().getCancellationCount());
+        assertEquals(SearchBackpressureMode.MONITOR_ONLY, service.nodeStats().getMode());
+    }
+
+    private SearchBackpressureService newService(SearchBackpressureMode mode, int burst) {
+        return newService(
+            Settings.builder()
+                .put(SearchBackpressureSettings.SETTING_MODE.getKey(), mode.getName())
+                .put(SearchBackpressureSettings.SETTING_CANCELLATION_BURST.getKey(), burst)
+                .build()
+        );
+    }
+
+    private SearchBackpressureService newService(Settings settings) {
+        final SearchBackpressureSettings backpressureSettings = new SearchBackpressureSettings(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final List<NodeDuressTracker> nodeDuressTrackers = Collections.singletonList(
+            new NodeDuressTracker("test", aboveThreshold::get, backpressureSettings::getNumSuccessiveBreaches)
+        );
+        return new SearchBackpressureService(
+            backpressureSettings,
+            taskResourceTrackingService,
+            mock(ThreadPool.class),
+            taskManager,
+            clock::get,
+            nodeDuressTrackers
+        );
+    }
+
+    private void addShardTask(long id, long cpuTimeNanos) {
+        final SearchShardTask task = new SearchShardTask(
+            id,
+            "transport",
+            "indices:data/read/search[phase/query]",
+            "",
+            TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap()
+        );
+        task.startThreadResourceTracking(
+            id,
+            ResourceStatsType.WORKER_STATS,
+            new ResourceUsageMetric(ResourceStats.CPU, 0),
+            new ResourceUsageMetric(ResourceStats.MEMORY, 0)
+        );
+        task.updateThreadResourceStats(
+            id,
+            ResourceStatsType.WORKER_STATS,
+            new ResourceUsageMetric(ResourceStats.CPU, cpuTimeNanos),
+            new ResourceUsageMetric(ResourceStats.MEMORY, 0)
+        );
+        tasks.put(id, task);
+    }
+}
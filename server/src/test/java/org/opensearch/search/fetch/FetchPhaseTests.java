@@ -52,4 +52,24 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         }
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
+
+    public void testSequentialDocsRange() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
+        for (int i = 0; i < 10; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(i < 5 ? i : i + 10, i);
+        }
+        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 0, 5));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 5, 10));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 4, 6));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 3, 3));
+    }
+
+    public void testNumPartitions() {
+        assertEquals(1, FetchPhase.numPartitions(10, 8));
+        assertEquals(1, FetchPhase.numPartitions(FetchPhase.MIN_DOCS_PER_PARTITION * 2 - 1, 8));
+        assertEquals(2, FetchPhase.numPartitions(FetchPhase.MIN_DOCS_PER_PARTITION * 2, 8));
+        assertEquals(8, FetchPhase.numPartitions(10_000, 8));
+        assertEquals(1, FetchPhase.numPartitions(10_000, 1));
+    }
 }
@@ -37,6 +37,8 @@ import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
@@ -62,6 +64,9 @@ import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
@@ -87,8 +92,11 @@ import org.opensearch.test.IndexSettingsModule;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
@@ -296,6 +304,99 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         IOUtils.close(reader, w, dir);
     }
 
+    public void testSortLeaves() throws IOException {
+        final Directory directory = newDirectory();
+        final IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        // one segment per range of timestamps, the third one overlaps with the first one
+        for (long start : new long[] { 100, 300, 150, 500 }) {
+            for (long i = 0; i < 100; i++) {
+                iw.addDocument(timestampDocument(start + i));
+            }
+            iw.commit();
+        }
+        DirectoryReader reader = DirectoryReader.open(iw);
+        assertEquals(4, reader.leaves().size());
+
+        assertEquals(Arrays.asList(3, 1, 0, 2), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "timestamp", true)));
+        assertEquals(Arrays.asList(0, 2, 1, 3), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "timestamp", false)));
+        assertEquals(Arrays.asList(0, 1, 2, 3), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "missing", true)));
+        assertSameTopDocs(reader, 10);
+
+        // documents without a timestamp tie on the missing value, which prevents reordering
+        iw.addDocument(new Document());
+        iw.commit();
+        reader.close();
+        reader = DirectoryReader.open(iw);
+        assertEquals(5, reader.leaves().size());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "timestamp", true)));
+        IOUtils.close(reader, iw, directory);
+    }
+
+    public void testSortLeavesBreaksTiesOnDocId() throws IOException {
+        final Directory directory = newDirectory();
+        final IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        // the first two segments have documents with equal values, the second one also has the lowest value
+        for (int i = 0; i < 20; i++) {
+            iw.addDocument(timestampDocument(10));
+        }
+        iw.commit();
+        iw.addDocument(timestampDocument(0));
+        for (int i = 0; i < 19; i++) {
+            iw.addDocument(timestampDocument(10));
+        }
+        iw.commit();
+        for (int i = 0; i < 20; i++) {
+            iw.addDocument(timestampDocument(100));
+        }
+        iw.commit();
+        final DirectoryReader reader = DirectoryReader.open(iw);
+        assertEquals(3, reader.leaves().size());
+
+        assertEquals(Arrays.asList(2, 0, 1), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "timestamp", true)));
+        assertEquals(Arrays.asList(0, 1, 2), ords(ContextIndexSearcher.sortLeaves(reader.leaves(), "timestamp", false)));
+        // the top hits end with ties across the first two segments
+        assertSameTopDocs(reader, 5);
+        assertSameTopDocs(reader, 25);
+        IOUtils.close(reader, iw, directory);
+    }
+
+    private static Document timestampDocument(long timestamp) {
+        final Document document = new Document();
+        document.add(new LongPoint("timestamp", timestamp));
+        document.add(new SortedNumericDocValuesField("timestamp", timestamp));
+        return document;
+    }
+
+    private static void assertSameTopDocs(DirectoryReader reader, int size) throws IOException {
+        final ContextIndexSearcher searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            false,
+            null
+        );
+        final IndexSearcher reference = new IndexSearcher(reader);
+        for (boolean reverse : new boolean[] { true, false }) {
+            final Sort sort = new Sort(new SortedNumericSortField("timestamp", SortField.Type.LONG, reverse));
+            searcher.setLeafOrder("timestamp", reverse);
+            final TopDocs expected = reference.search(new MatchAllDocsQuery(), size, sort);
+            final TopDocs actual = searcher.search(new MatchAllDocsQuery(), size, sort);
+            assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+            for (int i = 0; i < expected.scoreDocs.length; i++) {
+                assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+            }
+        }
+    }
+
+    private static List<Integer> ords(List<LeafReaderContext> leaves) {
+        final List<Integer> ords = new ArrayList<>();
+        for (LeafReaderContext leaf : leaves) {
+            ords.add(leaf.ord);
+        }
+        return ords;
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
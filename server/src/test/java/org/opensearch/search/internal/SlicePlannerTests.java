@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+
+public class SlicePlannerTests extends OpenSearchTestCase {
+
+    public void testCheapQueriesUseASingleSlice() {
+        final long[] costs = { 10_000, 20_000, 5_000, 0 };
+        final int[][] slices = SlicePlanner.plan(costs, 8, 50_000);
+        assertEquals(1, slices.length);
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, slices[0]);
+    }
+
+    public void testNoSegments() {
+        assertEquals(0, SlicePlanner.plan(new long[0], 8, 50_000).length);
+    }
+
+    public void testSliceCountIsBoundedByCost() {
+        final long[] costs = { 100_000, 100_000, 100_000, 100_000, 100_000, 100_000 };
+        assertEquals(3, SlicePlanner.plan(costs, 8, 200_000).length);
+        assertEquals(2, SlicePlanner.plan(costs, 2, 50_000).length);
+        assertEquals(6, SlicePlanner.plan(costs, 8, 50_000).length);
+    }
+
+    public void testBalancesCost() {
+        // one large segment and many small ones, the large segment gets a slice of its own
+        final long[] costs = { 1_000_000, 200_000, 200_000, 200_000, 200_000, 200_000 };
+        final int[][] slices = SlicePlanner.plan(costs, 2, 50_000);
+        assertEquals(2, slices.length);
+        assertArrayEquals(new int[] { 0 }, slices[0]);
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, slices[1]);
+    }
+
+    public void testRandomPlans() {
+        final int numSegments = randomIntBetween(1, 100);
+        final long[] costs = new long[numSegments];
+        long totalCost = 0;
+        long maxCost = 0;
+        for (int i = 0; i < numSegments; i++) {
+            costs[i] = randomBoolean() ? 0 : randomLongBetween(0, 1_000_000);
+            totalCost += costs[i];
+            maxCost = Math.max(maxCost, costs[i]);
+        }
+        final int maxSliceCount = randomIntBetween(1, 16);
+        final long minCostPerSlice = randomLongBetween(1, 1_000_000);
+        final int[][] slices = SlicePlanner.plan(costs, maxSliceCount, minCostPerSlice);
+
+        assertTrue(slices.length >= 1);
+        assertTrue(slices.length <= maxSliceCount);
+        assertTrue(slices.length <= Math.max(1, totalCost / minCostPerSlice));
+        final boolean[] seen = new boolean[numSegments];
+        long maxSliceCost = 0;
+        for (int[] slice : slices) {
+            assertTrue("slices must not be empty", slice.length > 0);
+            final int[] sorted = slice.clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(sorted, slice);
+            long sliceCost = 0;
+            for (int segment : slice) {
+                assertFalse("segment " + segment + " is in two slices", seen[segment]);
+                seen[segment] = true;
+                sliceCost += costs[segment];
+            }
+            maxSliceCost = Math.max(maxSliceCost, sliceCost);
+        }
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+        // the greedy assignment is within the cost of a segment of the ideal balance
+        assertTrue(maxSliceCost <= totalCost / slices.length + maxCost);
+    }
+}
@@ -56,7 +56,7 @@ import java.util.concurrent.TimeUnit;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 
-public class QueryProfilerTests extends OpenSearchTestCase {
+public class ConcurrentQueryProfilerTests extends OpenSearchTestCase {
 
     private Directory dir;
     private IndexReader reader;
@@ -68,7 +68,7 @@ public class QueryProfilerTests extends OpenSearchTestCase {
         return Arrays.asList(new Integer[] { 0 }, new Integer[] { 5 });
     }
 
-    public QueryProfilerTests(int concurrency) {
+    public ConcurrentQueryProfilerTests(int concurrency) {
         this.executor = (concurrency > 0) ? Executors.newFixedThreadPool(concurrency) : null;
     }
 
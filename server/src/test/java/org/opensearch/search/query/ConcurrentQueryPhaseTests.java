@@ -132,7 +132,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.query.TopDocsCollectorContext.hasInfMaxScore;
 
-public class QueryPhaseTests extends IndexShardTestCase {
+public class ConcurrentQueryPhaseTests extends IndexShardTestCase {
 
     private IndexShard indexShard;
     private final ExecutorService executor;
@@ -146,7 +146,7 @@ public class QueryPhaseTests extends IndexShardTestCase {
         );
     }
 
-    public QueryPhaseTests(int concurrency, QueryPhaseSearcher queryPhaseSearcher) {
+    public ConcurrentQueryPhaseTests(int concurrency, QueryPhaseSearcher queryPhaseSearcher) {
         this.executor = (concurrency > 0) ? Executors.newFixedThreadPool(concurrency) : null;
         this.queryPhaseSearcher = queryPhaseSearcher;
     }
@@ -96,7 +96,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.hamcrest.Matchers.hasSize;
 
-public class QueryProfilePhaseTests extends IndexShardTestCase {
+public class ConcurrentQueryProfilePhaseTests extends IndexShardTestCase {
 
     private IndexShard indexShard;
     private final ExecutorService executor;
@@ -110,7 +110,7 @@ public class QueryProfilePhaseTests extends IndexShardTestCase {
         );
     }
 
-    public QueryProfilePhaseTests(int concurrency, QueryPhaseSearcher queryPhaseSearcher) {
+    public ConcurrentQueryProfilePhaseTests(int concurrency, QueryPhaseSearcher queryPhaseSearcher) {
         this.executor = (concurrency > 0) ? Executors.newFixedThreadPool(concurrency) : null;
         this.queryPhaseSearcher = queryPhaseSearcher;
     }
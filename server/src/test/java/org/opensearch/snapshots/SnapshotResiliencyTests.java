@@ -2032,7 +2032,8 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                         clusterService,
                         actionFilters,
                         indexNameExpressionResolver,
-                        namedWriteableRegistry
+                        namedWriteableRegistry,
+                        (request, threadContext) -> true
                     )
                 );
                 actions.put(
@@ -115,6 +115,9 @@ public class RandomSearchRequestGenerator {
         if (randomBoolean()) {
             searchRequest.requestCache(randomBoolean());
         }
+        if (randomBoolean()) {
+            searchRequest.concurrentSegmentSearch(randomBoolean());
+        }
         if (randomBoolean()) {
             searchRequest.routing(randomAlphaOfLengthBetween(3, 10));
         }